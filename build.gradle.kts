@@ -3,6 +3,7 @@ plugins {
     jacoco
     id("org.springframework.boot") version "3.2.1"
     id("io.spring.dependency-management") version "1.1.7"
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "inkidatabase"
@@ -54,6 +55,17 @@ dependencies {
     implementation("org.postgresql:postgresql:42.6.0")
     // Environment configuration
     implementation("me.paulschwarz:spring-dotenv:4.0.0")
+    // Compressed bitmaps for facet filtering
+    implementation("org.roaringbitmap:RoaringBitmap:0.9.45")
+
+    // Benchmarks (src/jmh)
+    jmh("com.h2database:h2")
+}
+
+jmh {
+    warmupIterations = 2
+    iterations = 5
+    fork = 1
 }
 
 tasks.register<Test>("unitTest") {
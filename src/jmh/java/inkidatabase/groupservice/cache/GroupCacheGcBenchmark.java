@@ -0,0 +1,137 @@
+package inkidatabase.groupservice.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import inkidatabase.groupservice.dto.GroupDTO;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GC cost of keeping the full catalogue cached: every group as a {@link GroupDTO} in an
+ * on-heap map, versus the read path of {@code GET /groups/{id}}: a {@link GroupJsonCache} of
+ * default size in front of {@link GroupCache} with its small heap tier over the off-heap store.
+ *
+ * <p>Each iteration runs a read-mostly workload that also allocates short-lived garbage,
+ * the way request handling does, and reports the collections it triggered and their total
+ * pause time as the {@code gcCount} and {@code gcMillis} counters; {@code retainedBytes}
+ * is the heap still in use after a full collection. Run with a fixed heap (for example
+ * {@code -Xmx1g}) and {@code -XX:MaxDirectMemorySize} above {@code groups.cache.off-heap-bytes}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx1g", "-XX:MaxDirectMemorySize=512m"})
+public class GroupCacheGcBenchmark {
+
+    @Param({"500000"})
+    public int groups;
+
+    @Param({"false", "true"})
+    public boolean offHeap;
+
+    private Map<UUID, GroupDTO> heapCatalogue;
+    private GroupCache cache;
+    private GroupJsonCache jsonCache;
+    private UUID[] ids;
+    private int next;
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class GcActivity {
+        public long gcCount;
+        public long gcMillis;
+        public long retainedBytes;
+
+        private long countBefore;
+        private long millisBefore;
+
+        @Setup(Level.Iteration)
+        public void start() {
+            countBefore = totalCount();
+            millisBefore = totalMillis();
+        }
+
+        @TearDown(Level.Iteration)
+        public void stop() {
+            gcCount = totalCount() - countBefore;
+            gcMillis = totalMillis() - millisBefore;
+            retainedBytes = usedHeap();
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        ids = new UUID[groups];
+        List<GroupDTO> catalogue = new ArrayList<>(groups);
+        for (int i = 0; i < groups; i++) {
+            GroupDTO group = GroupDTO.builder()
+                    .groupId(UUID.randomUUID())
+                    .groupName("Group " + i)
+                    .agency("Agency " + random.nextInt(300))
+                    .labels(List.of("kpop", "label-" + random.nextInt(100)))
+                    .members(List.of("Member A" + i, "Member B" + i, "Member C" + i, "Member D" + i))
+                    .formerMembers(List.of("Former " + i))
+                    .debutYear(1990 + random.nextInt(35))
+                    .subunits(List.of())
+                    .socialLinks(List.of("https://example.com/group/" + i))
+                    .build();
+            ids[i] = group.getGroupId();
+            catalogue.add(group);
+        }
+        if (offHeap) {
+            cache = new GroupCache(1_000, 384L << 20, 8 << 20);
+            jsonCache = new GroupJsonCache(new ObjectMapper(), cache, 1_000);
+            for (GroupDTO group : catalogue) {
+                jsonCache.get(group.getGroupId(), id -> cache.get(id, missing -> Optional.of(group)));
+            }
+        } else {
+            heapCatalogue = new HashMap<>(groups * 2);
+            for (GroupDTO group : catalogue) {
+                heapCatalogue.put(group.getGroupId(), group);
+            }
+        }
+    }
+
+    @Benchmark
+    public Object read(GcActivity gc) {
+        UUID id = ids[(next++ & 0x7fffffff) % ids.length];
+        if (offHeap) {
+            return jsonCache.get(id, key -> cache.get(key, missing -> Optional.empty())).orElseThrow();
+        }
+        GroupDTO group = heapCatalogue.get(id);
+        // request-scoped garbage so young collections happen at a realistic rate
+        return new StringBuilder(64).append(group.getGroupName()).append(group.getAgency()).toString();
+    }
+
+    private static long totalCount() {
+        long count = 0;
+        for (GarbageCollectorMXBean bean : ManagementFactory.getGarbageCollectorMXBeans()) {
+            count += Math.max(0, bean.getCollectionCount());
+        }
+        return count;
+    }
+
+    private static long totalMillis() {
+        long millis = 0;
+        for (GarbageCollectorMXBean bean : ManagementFactory.getGarbageCollectorMXBeans()) {
+            millis += Math.max(0, bean.getCollectionTime());
+        }
+        return millis;
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
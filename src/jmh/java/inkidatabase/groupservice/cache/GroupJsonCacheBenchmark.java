@@ -0,0 +1,102 @@
+package inkidatabase.groupservice.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import inkidatabase.groupservice.dto.GroupDTO;
+import inkidatabase.groupservice.mapper.GroupMapper;
+import inkidatabase.groupservice.model.Group;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Response-body cost of GET /groups/{id} and /groups/batch: mapping the loaded entity and
+ * serializing it with Jackson on every request, versus serving {@link GroupJsonCache} bytes.
+ * Entity loading is the same on both paths and left out.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class GroupJsonCacheBenchmark {
+
+    private static final int GROUPS = 10_000;
+
+    @Param({"1", "50"})
+    public int batchSize;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final GroupMapper mapper = new GroupMapper();
+    private final Map<UUID, Group> entities = new HashMap<>();
+    private GroupJsonCache cache;
+    private List<List<UUID>> batches;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        List<UUID> ids = new ArrayList<>(GROUPS);
+        for (int i = 0; i < GROUPS; i++) {
+            Group group = Group.builder("Group " + i, "Agency " + random.nextInt(300), 1990 + random.nextInt(35))
+                    .labels(List.of("kpop", "label-" + random.nextInt(100)))
+                    .members(List.of("Member A" + i, "Member B" + i, "Member C" + i, "Member D" + i))
+                    .formerMembers(List.of("Former " + i))
+                    .subunits(List.of())
+                    .socialLinks(List.of("https://example.com/group/" + i))
+                    .build();
+            entities.put(group.getGroupId(), group);
+            ids.add(group.getGroupId());
+        }
+        cache = new GroupJsonCache(objectMapper, new GroupCache(1, 1 << 20, 1 << 16), GROUPS);
+        cache.getAll(ids, this::loadAll);
+
+        batches = new ArrayList<>(1024);
+        for (int b = 0; b < 1024; b++) {
+            List<UUID> batch = new ArrayList<>(batchSize);
+            for (int i = 0; i < batchSize; i++) {
+                batch.add(ids.get(random.nextInt(ids.size())));
+            }
+            batches.add(batch);
+        }
+    }
+
+    @Benchmark
+    public byte[] mapAndSerialize() throws Exception {
+        List<UUID> batch = nextBatch();
+        if (batchSize == 1) {
+            return objectMapper.writeValueAsBytes(mapper.toDTO(entities.get(batch.get(0))));
+        }
+        List<GroupDTO> groups = new ArrayList<>(batch.size());
+        for (UUID id : batch) {
+            groups.add(mapper.toDTO(entities.get(id)));
+        }
+        return objectMapper.writeValueAsBytes(groups);
+    }
+
+    @Benchmark
+    public byte[] cachedBytes() {
+        List<UUID> batch = nextBatch();
+        if (batchSize == 1) {
+            return cache.get(batch.get(0), this::load).orElseThrow();
+        }
+        return cache.getAll(batch, this::loadAll);
+    }
+
+    private List<UUID> nextBatch() {
+        return batches.get(next++ & (batches.size() - 1));
+    }
+
+    private Optional<GroupDTO> load(UUID id) {
+        return Optional.ofNullable(entities.get(id)).map(mapper::toDTO);
+    }
+
+    private List<GroupDTO> loadAll(Collection<UUID> ids) {
+        return ids.stream().map(entities::get).map(mapper::toDTO).toList();
+    }
+}
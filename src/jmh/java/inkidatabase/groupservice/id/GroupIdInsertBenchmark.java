@@ -0,0 +1,155 @@
+package inkidatabase.groupservice.id;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares random (v4) and time-ordered (v7) primary keys when bulk inserting groups.
+ *
+ * <p>{@code insertBatch} measures JDBC insert throughput into a {@code groups} table and
+ * one collection table indexed on {@code group_id}, mirroring the entity mapping. The
+ * {@code -Djdbc.url} system property points the benchmark at a real Postgres instance;
+ * {@code pgstatindex('groups_pkey')} then shows the leaf density difference.
+ *
+ * <p>{@code indexPageSplits} replays the same key streams through a simple B-tree leaf
+ * model (fixed page capacity, split in half except on the right-most page) and prints
+ * the split count and average leaf fill at the end of each trial.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class GroupIdInsertBenchmark {
+
+    private static final int BATCH_SIZE = 1_000;
+    private static final int MEMBERS_PER_GROUP = 5;
+    private static final int LEAF_CAPACITY = 200;
+
+    @Param({"v4", "v7"})
+    public String strategy;
+
+    private GroupIdGenerator generator;
+    private Connection connection;
+    private PreparedStatement insertGroup;
+    private PreparedStatement insertMember;
+    private LeafModel leaves;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        generator = GroupIds.forStrategy(strategy);
+        String url = System.getProperty("jdbc.url", "jdbc:h2:mem:ids_" + strategy + ";DB_CLOSE_DELAY=-1");
+        connection = DriverManager.getConnection(url,
+                System.getProperty("jdbc.user", "sa"), System.getProperty("jdbc.password", ""));
+        connection.setAutoCommit(false);
+        try (Statement ddl = connection.createStatement()) {
+            ddl.execute("DROP TABLE IF EXISTS bench_group_members");
+            ddl.execute("DROP TABLE IF EXISTS bench_groups");
+            ddl.execute("CREATE TABLE bench_groups (group_id UUID PRIMARY KEY, group_name VARCHAR(255) NOT NULL)");
+            ddl.execute("CREATE TABLE bench_group_members (group_id UUID NOT NULL, member VARCHAR(255))");
+            ddl.execute("CREATE INDEX bench_group_members_group_id ON bench_group_members (group_id)");
+        }
+        connection.commit();
+        insertGroup = connection.prepareStatement("INSERT INTO bench_groups (group_id, group_name) VALUES (?, ?)");
+        insertMember = connection.prepareStatement("INSERT INTO bench_group_members (group_id, member) VALUES (?, ?)");
+        leaves = new LeafModel(LEAF_CAPACITY);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        System.out.printf("%n[%s] leaf splits=%d, leaves=%d, avg fill=%.1f%%%n",
+                strategy, leaves.splits, leaves.pages.size(), leaves.averageFill() * 100);
+        insertGroup.close();
+        insertMember.close();
+        connection.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void insertBatch() throws SQLException {
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            UUID id = generator.nextId();
+            insertGroup.setObject(1, id);
+            insertGroup.setString(2, "group-" + i);
+            insertGroup.addBatch();
+            for (int m = 0; m < MEMBERS_PER_GROUP; m++) {
+                insertMember.setObject(1, id);
+                insertMember.setString(2, "member-" + m);
+                insertMember.addBatch();
+            }
+        }
+        insertGroup.executeBatch();
+        insertMember.executeBatch();
+        connection.commit();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public int indexPageSplits() {
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            leaves.insert(generator.nextId());
+        }
+        return leaves.splits;
+    }
+
+    /**
+     * Leaf level of a B-tree keyed by each page's lowest key.
+     */
+    static final class LeafModel {
+        final TreeMap<UUID, TreeSet<UUID>> pages = new TreeMap<>();
+        final int capacity;
+        int splits;
+
+        LeafModel(int capacity) {
+            this.capacity = capacity;
+        }
+
+        void insert(UUID key) {
+            Map.Entry<UUID, TreeSet<UUID>> entry = pages.floorEntry(key);
+            if (entry == null) {
+                entry = pages.firstEntry();
+                if (entry == null) {
+                    TreeSet<UUID> page = new TreeSet<>();
+                    page.add(key);
+                    pages.put(key, page);
+                    return;
+                }
+                // New minimum: re-key the first page.
+                pages.remove(entry.getKey());
+                entry.getValue().add(key);
+                pages.put(key, entry.getValue());
+                return;
+            }
+            TreeSet<UUID> page = entry.getValue();
+            page.add(key);
+            if (page.size() > capacity) {
+                split(page, entry.getKey().equals(pages.lastKey()) && key.equals(page.last()));
+            }
+        }
+
+        private void split(TreeSet<UUID> page, boolean appendingRightmost) {
+            splits++;
+            // Postgres keeps the left page nearly full when splitting the right-most leaf
+            // on an ascending insert pattern; otherwise the page is split down the middle.
+            int keep = appendingRightmost ? capacity * 9 / 10 : page.size() / 2;
+            TreeSet<UUID> right = new TreeSet<>();
+            while (page.size() > keep) {
+                right.add(page.pollLast());
+            }
+            pages.put(right.first(), right);
+        }
+
+        double averageFill() {
+            long keys = pages.values().stream().mapToLong(TreeSet::size).sum();
+            return pages.isEmpty() ? 0 : (double) keys / ((long) pages.size() * capacity);
+        }
+    }
+}
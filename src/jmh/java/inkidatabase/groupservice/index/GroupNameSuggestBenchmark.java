@@ -0,0 +1,69 @@
+package inkidatabase.groupservice.index;
+
+import inkidatabase.groupservice.dto.GroupDTO;
+import inkidatabase.groupservice.dto.GroupSuggestionDTO;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-keystroke latency of {@link GroupNameSuggestIndex#suggest}. Sample-time mode reports
+ * the p99/p99.9 percentiles the typeahead target (&lt; 1 ms at p99) is stated in.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GroupNameSuggestBenchmark {
+
+    private static final String SYLLABLES = "ka ri na mi so yu ji bo la ne sa ha ro de tu ve xo ze";
+
+    @Param({"10000", "200000"})
+    public int groups;
+
+    @Param({"1", "2", "4"})
+    public int prefixLength;
+
+    private GroupNameSuggestIndex index;
+    private String[] prefixes;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        String[] syllables = SYLLABLES.split(" ");
+        List<GroupDTO> snapshot = new ArrayList<>(groups);
+        List<String> names = new ArrayList<>(groups);
+        for (int i = 0; i < groups; i++) {
+            StringBuilder name = new StringBuilder();
+            int words = 1 + random.nextInt(3);
+            for (int w = 0; w < words; w++) {
+                if (w > 0) {
+                    name.append(' ');
+                }
+                for (int s = 0; s < 2 + random.nextInt(2); s++) {
+                    name.append(syllables[random.nextInt(syllables.length)]);
+                }
+            }
+            names.add(name.toString());
+            snapshot.add(GroupDTO.builder().groupId(UUID.randomUUID()).groupName(name.toString()).build());
+        }
+        index = new GroupNameSuggestIndex();
+        index.rebuild(snapshot);
+
+        prefixes = new String[1024];
+        for (int i = 0; i < prefixes.length; i++) {
+            String name = names.get(random.nextInt(names.size()));
+            prefixes[i] = name.substring(0, Math.min(prefixLength, name.length()));
+        }
+    }
+
+    @Benchmark
+    public List<GroupSuggestionDTO> suggestTop10() {
+        String prefix = prefixes[next++ & (prefixes.length - 1)];
+        return index.suggest(prefix, 10);
+    }
+}
@@ -0,0 +1,102 @@
+package inkidatabase.groupservice.intern;
+
+import inkidatabase.groupservice.dto.GroupDTO;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Retained heap of a large snapshot of groups whose agency and label strings are fresh
+ * instances per row (as JDBC hands them out) versus pooled through {@link StringPool}.
+ *
+ * <p>Each invocation materializes the snapshot, forces a collection and records the heap
+ * still in use as the {@code retainedBytes} counter; the time column is the cost of
+ * building the snapshot. Run with {@code -prof gc} for allocation rates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class GroupStringFootprintBenchmark {
+
+    @Param({"200000"})
+    public int groups;
+
+    @Param({"300"})
+    public int agencies;
+
+    @Param({"false", "true"})
+    public boolean pooled;
+
+    private String[] agencyNames;
+    private String[] labelNames;
+    private List<GroupDTO> retained;
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Footprint {
+        public long retainedBytes;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        agencyNames = new String[agencies];
+        for (int i = 0; i < agencies; i++) {
+            agencyNames[i] = "Agency Entertainment " + i;
+        }
+        labelNames = new String[agencies / 2];
+        for (int i = 0; i < labelNames.length; i++) {
+            labelNames[i] = "label-" + i;
+        }
+    }
+
+    @TearDown(Level.Invocation)
+    public void release() {
+        retained = null;
+    }
+
+    @Benchmark
+    public int buildSnapshot(Footprint footprint) {
+        StringPool pool = new StringPool(GroupStrings.DEFAULT_MAX_ENTRIES);
+        long before = usedHeap();
+
+        Random random = new Random(42);
+        List<GroupDTO> snapshot = new ArrayList<>(groups);
+        for (int i = 0; i < groups; i++) {
+            List<String> labels = new ArrayList<>(3);
+            for (int l = 0; l < 3; l++) {
+                labels.add(fresh(labelNames[random.nextInt(labelNames.length)], pool));
+            }
+            snapshot.add(GroupDTO.builder()
+                    .groupId(UUID.randomUUID())
+                    .groupName("Group " + i)
+                    .agency(fresh(agencyNames[random.nextInt(agencyNames.length)], pool))
+                    .labels(labels)
+                    .debutYear(1990 + random.nextInt(35))
+                    .build());
+        }
+        retained = snapshot;
+
+        footprint.retainedBytes = usedHeap() - before;
+        return retained.size();
+    }
+
+    // A copy stands in for the new String instance each row would get from the driver.
+    private String fresh(String value, StringPool pool) {
+        String copy = new String(value.toCharArray());
+        return pooled ? pool.canonical(copy) : copy;
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
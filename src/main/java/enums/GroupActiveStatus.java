@@ -14,6 +14,17 @@ public enum GroupActiveStatus {
         this.value = value;
     }
 
+    /**
+     * Status rule shared by the entity and structures built from DTOs: a disband year
+     * wins, otherwise a group without current members is inactive.
+     */
+    public static GroupActiveStatus of(int disbandYear, boolean hasMembers) {
+        if (disbandYear > 0) {
+            return DISBANDED;
+        }
+        return hasMembers ? ACTIVE : INACTIVE;
+    }
+
     public static boolean contains(String param) {
         for (GroupActiveStatus status : GroupActiveStatus.values()) {
             if (status.getValue().equals(param)) {
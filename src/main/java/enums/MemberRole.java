@@ -0,0 +1,9 @@
+package enums;
+
+/**
+ * Whether a person is in a group's current or former member list.
+ */
+public enum MemberRole {
+    CURRENT,
+    FORMER
+}
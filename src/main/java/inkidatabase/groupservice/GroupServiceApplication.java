@@ -1,24 +1,131 @@
 package inkidatabase.groupservice;
 
+import inkidatabase.groupservice.bulk.GroupExporter;
+import inkidatabase.groupservice.bulk.GroupImportFormat;
+import inkidatabase.groupservice.bulk.GroupImporter;
+import inkidatabase.groupservice.dto.GroupImportReport;
 import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Map;
 
 @SpringBootApplication
 @ComponentScan(basePackages = {
     "inkidatabase.groupservice.controller",
+    "inkidatabase.groupservice.cache",
     "inkidatabase.groupservice.service",
     "inkidatabase.groupservice.repository",
-    "inkidatabase.groupservice.mapper"
+    "inkidatabase.groupservice.mapper",
+    "inkidatabase.groupservice.id",
+    "inkidatabase.groupservice.intern",
+    "inkidatabase.groupservice.index",
+    "inkidatabase.groupservice.snapshot",
+    "inkidatabase.groupservice.invalidation",
+    "inkidatabase.groupservice.stream",
+    "inkidatabase.groupservice.outbox",
+    "inkidatabase.groupservice.writebehind",
+    "inkidatabase.groupservice.idempotency",
+    "inkidatabase.groupservice.purge",
+    "inkidatabase.groupservice.bulk"
 })
 @EntityScan("inkidatabase.groupservice.model")
 @EnableJpaRepositories("inkidatabase.groupservice.repository")
 public class GroupServiceApplication {
 
+    // The import/export commands are one-off runs against the shared database: no scheduled
+    // jobs (outbox relay, purges, snapshots, reconcile), no startup index build or snapshot
+    // warm-up, and no LISTEN thread. Imports still write outbox rows and announce the rebuild
+    // for the running replicas. Lowest precedence, so --spring.property arguments override.
+    private static final Map<String, Object> CLI_PROPERTIES = Map.of(
+            "groups.scheduling.enabled", "false",
+            "groups.index.enabled", "false",
+            "groups.snapshot.enabled", "false",
+            "groups.invalidation.listen", "false",
+            "groups.purge.enabled", "false",
+            "groups.write-behind.enabled", "false");
+
+    @Configuration(proxyBeanMethods = false)
+    @EnableScheduling
+    @ConditionalOnProperty(name = "groups.scheduling.enabled", havingValue = "true", matchIfMissing = true)
+    static class SchedulingConfig {
+    }
+
     public static void main(String[] args) {
         SpringApplication app = new SpringApplication(GroupServiceApplication.class);
+        if (args.length > 0 && args[0].equals("import")) {
+            System.exit(runImport(app, args));
+        }
+        if (args.length > 0 && args[0].equals("export")) {
+            System.exit(runExport(app, args));
+        }
         app.run(args);
     }
+
+    // Usage: import <file> [csv|jsonl|archive] [--spring.property=value ...]; runs without the web server
+    private static int runImport(SpringApplication app, String[] args) {
+        if (args.length < 2) {
+            System.err.println("Usage: import <file> [csv|jsonl|archive]");
+            return 2;
+        }
+        Path file = Path.of(args[1]);
+        boolean formatGiven = args.length > 2 && !args[2].startsWith("--");
+        GroupImportFormat format;
+        try {
+            format = formatGiven ? GroupImportFormat.of(args[2])
+                    : GroupImportFormat.fromFileName(file.getFileName().toString());
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            return 2;
+        }
+        app.setWebApplicationType(WebApplicationType.NONE);
+        app.setDefaultProperties(CLI_PROPERTIES);
+        try (ConfigurableApplicationContext context = app.run(Arrays.copyOfRange(args, formatGiven ? 3 : 2, args.length));
+             InputStream in = Files.newInputStream(file)) {
+            GroupImportReport report = context.getBean(GroupImporter.class).importGroups(in, format);
+            System.out.printf("Imported %d of %d rows in %d ms (%.0f rows/s), %d invalid, %d duplicates%n",
+                    report.getImported(), report.getRows(), report.getElapsedMillis(), report.getRowsPerSecond(),
+                    report.getInvalid(), report.getDuplicates());
+            report.getErrors().forEach(error ->
+                    System.out.printf("  line %d: %s%n", error.getLine(), error.getMessage()));
+            return 0;
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println("Import of " + file + " failed: " + e.getMessage());
+            return 1;
+        }
+    }
+
+    // Usage: export <file> [--spring.property=value ...]; writes the group archive read by import
+    private static int runExport(SpringApplication app, String[] args) {
+        if (args.length < 2) {
+            System.err.println("Usage: export <file>");
+            return 2;
+        }
+        Path file = Path.of(args[1]);
+        app.setWebApplicationType(WebApplicationType.NONE);
+        app.setDefaultProperties(CLI_PROPERTIES);
+        try (ConfigurableApplicationContext context = app.run(Arrays.copyOfRange(args, 2, args.length));
+             OutputStream out = Files.newOutputStream(file)) {
+            long start = System.nanoTime();
+            long count = context.getBean(GroupExporter.class).exportGroups(out);
+            System.out.printf("Exported %d groups to %s in %d ms%n", count, file, (System.nanoTime() - start) / 1_000_000);
+            return 0;
+        } catch (IOException e) {
+            System.err.println("Export to " + file + " failed: " + e.getMessage());
+            return 1;
+        }
+    }
 }
@@ -0,0 +1,214 @@
+package inkidatabase.groupservice.bulk;
+
+import inkidatabase.groupservice.cache.GroupBinaryCodec;
+import inkidatabase.groupservice.dto.GroupDTO;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * Reads the format written by {@link GroupArchiveWriter} one block at a time. Damaged input
+ * (wrong magic, unsupported version, failed zlib checksum, truncation or a trailer count
+ * that does not match) is reported as {@link IllegalArgumentException}.
+ */
+final class GroupArchiveReader {
+
+    // Far above any block the writer produces; guards against allocating from a corrupt length
+    private static final int MAX_BLOCK_BYTES = 256 * 1024 * 1024;
+
+    private final DataInputStream in;
+    private final Instant capturedAt;
+    private final List<String> dictionary = new ArrayList<>();
+    private final Inflater inflater = new Inflater();
+    private byte[] compressed = new byte[64 * 1024];
+    private List<GroupDTO> block = List.of();
+    private int position;
+    private long count;
+    private boolean finished;
+
+    GroupArchiveReader(InputStream in) throws IOException {
+        this.in = new DataInputStream(new BufferedInputStream(in, 64 * 1024));
+        try {
+            if (this.in.readInt() != GroupArchiveWriter.MAGIC) {
+                throw new IllegalArgumentException("Not a group archive");
+            }
+            int version = this.in.readInt();
+            if (version != GroupArchiveWriter.FORMAT_VERSION) {
+                throw new IllegalArgumentException("Unsupported group archive version: " + version);
+            }
+            this.capturedAt = Instant.ofEpochMilli(this.in.readLong());
+        } catch (EOFException e) {
+            throw new IllegalArgumentException("Not a group archive");
+        }
+    }
+
+    Instant capturedAt() {
+        return capturedAt;
+    }
+
+    /**
+     * The next group, or null after the last one.
+     */
+    GroupDTO next() throws IOException {
+        while (position == block.size()) {
+            if (finished) {
+                return null;
+            }
+            readBlock();
+        }
+        return block.get(position++);
+    }
+
+    private void readBlock() throws IOException {
+        try {
+            int rows = in.readInt();
+            if (rows == 0) {
+                long total = in.readLong();
+                if (total != count) {
+                    throw new IllegalArgumentException(String.format(
+                            "Group archive holds %d groups but its trailer says %d", count, total));
+                }
+                finished = true;
+                inflater.end();
+                block = List.of();
+                position = 0;
+                return;
+            }
+            int rawLength = in.readInt();
+            int compressedLength = in.readInt();
+            if (rows < 0 || rawLength < 0 || rawLength > MAX_BLOCK_BYTES
+                    || compressedLength < 0 || compressedLength > MAX_BLOCK_BYTES) {
+                throw new IllegalArgumentException("Corrupt group archive block header");
+            }
+            if (compressed.length < compressedLength) {
+                compressed = new byte[compressedLength];
+            }
+            in.readFully(compressed, 0, compressedLength);
+            byte[] raw = new byte[rawLength];
+            inflater.reset();
+            inflater.setInput(compressed, 0, compressedLength);
+            if (inflater.inflate(raw) != rawLength || !inflater.finished()) {
+                throw new IllegalArgumentException("Corrupt group archive block");
+            }
+            block = decode(ByteBuffer.wrap(raw), rows);
+            position = 0;
+            count += rows;
+        } catch (EOFException e) {
+            throw new IllegalArgumentException("Group archive is truncated");
+        } catch (DataFormatException | BufferUnderflowException | IndexOutOfBoundsException
+                | NegativeArraySizeException e) {
+            throw new IllegalArgumentException("Corrupt group archive block", e);
+        }
+    }
+
+    private List<GroupDTO> decode(ByteBuffer in, int rows) {
+        int newEntries = GroupBinaryCodec.readVarInt(in);
+        for (int i = 0; i < newEntries; i++) {
+            dictionary.add(readString(in));
+        }
+        UUID[] ids = new UUID[rows];
+        for (int i = 0; i < rows; i++) {
+            ids[i] = new UUID(in.getLong(), in.getLong());
+        }
+        String[] names = new String[rows];
+        for (int i = 0; i < rows; i++) {
+            names[i] = readString(in);
+        }
+        String[] agencies = new String[rows];
+        for (int i = 0; i < rows; i++) {
+            agencies[i] = entry(in);
+        }
+        int[] debutYears = new int[rows];
+        for (int i = 0; i < rows; i++) {
+            debutYears[i] = GroupArchiveWriter.BASE_YEAR + unzigzag(GroupBinaryCodec.readVarInt(in));
+        }
+        int[] disbandYears = new int[rows];
+        for (int i = 0; i < rows; i++) {
+            int value = GroupBinaryCodec.readVarInt(in);
+            disbandYears[i] = value == 0 ? 0 : debutYears[i] + unzigzag(value - 1);
+        }
+        int[] labelCounts = readCounts(in, rows);
+        List<List<String>> labels = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            String[] values = new String[labelCounts[i]];
+            for (int j = 0; j < values.length; j++) {
+                values[j] = entry(in);
+            }
+            labels.add(Arrays.asList(values));
+        }
+        List<List<String>> members = readStrings(in, rows);
+        List<List<String>> formerMembers = readStrings(in, rows);
+        List<List<String>> subunits = readStrings(in, rows);
+        List<List<String>> socialLinks = readStrings(in, rows);
+
+        List<GroupDTO> groups = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            groups.add(GroupDTO.builder()
+                    .groupId(ids[i])
+                    .groupName(names[i])
+                    .agency(agencies[i])
+                    .labels(labels.get(i))
+                    .members(members.get(i))
+                    .formerMembers(formerMembers.get(i))
+                    .debutYear(debutYears[i])
+                    .disbandYear(disbandYears[i] == 0 ? null : disbandYears[i])
+                    .subunits(subunits.get(i))
+                    .socialLinks(socialLinks.get(i))
+                    .build());
+        }
+        return groups;
+    }
+
+    private String entry(ByteBuffer in) {
+        int id = GroupBinaryCodec.readVarInt(in);
+        if (id < 0 || id >= dictionary.size()) {
+            throw new IllegalArgumentException("Corrupt group archive: unknown dictionary entry " + id);
+        }
+        return dictionary.get(id);
+    }
+
+    private static int[] readCounts(ByteBuffer in, int rows) {
+        int[] counts = new int[rows];
+        for (int i = 0; i < rows; i++) {
+            counts[i] = GroupBinaryCodec.readVarInt(in);
+        }
+        return counts;
+    }
+
+    private static List<List<String>> readStrings(ByteBuffer in, int rows) {
+        int[] counts = readCounts(in, rows);
+        List<List<String>> lists = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            String[] values = new String[counts[i]];
+            for (int j = 0; j < values.length; j++) {
+                values[j] = readString(in);
+            }
+            lists.add(Arrays.asList(values));
+        }
+        return lists;
+    }
+
+    private static String readString(ByteBuffer in) {
+        int length = GroupBinaryCodec.readVarInt(in);
+        String value = new String(in.array(), in.arrayOffset() + in.position(), length, StandardCharsets.UTF_8);
+        in.position(in.position() + length);
+        return value;
+    }
+
+    private static int unzigzag(int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
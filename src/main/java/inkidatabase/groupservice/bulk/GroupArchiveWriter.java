@@ -0,0 +1,190 @@
+package inkidatabase.groupservice.bulk;
+
+import inkidatabase.groupservice.cache.GroupBinaryCodec;
+import inkidatabase.groupservice.dto.GroupDTO;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.zip.Deflater;
+
+/**
+ * Writes the group archive format: a header ({@code GRPA} magic, format version, capture
+ * time in epoch millis), blocks of up to {@link #BLOCK_SIZE} groups, and a trailer (a zero
+ * row count followed by the total number of groups).
+ *
+ * <p>Each block is framed as row count, uncompressed length and compressed length, followed
+ * by the zlib-compressed block. Inside, the block is columnar: the dictionary entries it
+ * introduces, then every group's id, name, agency, debut year, disband year, and each list
+ * as a column of counts followed by a column of values. Agencies and labels are dictionary
+ * ids, with the dictionary growing across blocks. Years are zigzag varints relative to
+ * {@link #BASE_YEAR} and to the debut year respectively, so nearly all take one byte.
+ */
+final class GroupArchiveWriter {
+
+    static final int MAGIC = 0x47525041;
+    static final int FORMAT_VERSION = 1;
+    static final int BLOCK_SIZE = 4096;
+    static final int BASE_YEAR = 2000;
+
+    private final DataOutputStream out;
+    private final Map<String, Integer> dictionary = new HashMap<>();
+    private final List<String> newEntries = new ArrayList<>();
+    private final List<GroupDTO> block = new ArrayList<>(BLOCK_SIZE);
+    private final ByteArrayOutputStream raw = new ByteArrayOutputStream(256 * 1024);
+    private final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+    private byte[] compressed = new byte[64 * 1024];
+    private long count;
+
+    GroupArchiveWriter(OutputStream out, Instant capturedAt) throws IOException {
+        this.out = new DataOutputStream(out);
+        this.out.writeInt(MAGIC);
+        this.out.writeInt(FORMAT_VERSION);
+        this.out.writeLong(capturedAt.toEpochMilli());
+    }
+
+    void write(GroupDTO group) throws IOException {
+        block.add(group);
+        if (block.size() == BLOCK_SIZE) {
+            writeBlock();
+        }
+    }
+
+    /**
+     * Writes the last block and the trailer and flushes; returns the number of groups written.
+     * The underlying stream is left open.
+     */
+    long finish() throws IOException {
+        try {
+            writeBlock();
+            out.writeInt(0);
+            out.writeLong(count);
+            out.flush();
+            return count;
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private void writeBlock() throws IOException {
+        if (block.isEmpty()) {
+            return;
+        }
+        for (GroupDTO group : block) {
+            entry(group.getAgency());
+            for (String label : list(group.getLabels())) {
+                entry(label);
+            }
+        }
+        raw.reset();
+        GroupBinaryCodec.writeVarInt(raw, newEntries.size());
+        for (String entry : newEntries) {
+            writeString(entry);
+        }
+        newEntries.clear();
+
+        for (GroupDTO group : block) {
+            UUID id = group.getGroupId();
+            writeLong(id.getMostSignificantBits());
+            writeLong(id.getLeastSignificantBits());
+        }
+        for (GroupDTO group : block) {
+            writeString(group.getGroupName());
+        }
+        for (GroupDTO group : block) {
+            GroupBinaryCodec.writeVarInt(raw, dictionary.get(text(group.getAgency())));
+        }
+        for (GroupDTO group : block) {
+            GroupBinaryCodec.writeVarInt(raw, zigzag(group.getDebutYear() - BASE_YEAR));
+        }
+        for (GroupDTO group : block) {
+            Integer disbandYear = group.getDisbandYear();
+            GroupBinaryCodec.writeVarInt(raw, disbandYear == null || disbandYear == 0
+                    ? 0 : zigzag(disbandYear - group.getDebutYear()) + 1);
+        }
+        writeCounts(GroupDTO::getLabels);
+        for (GroupDTO group : block) {
+            for (String label : list(group.getLabels())) {
+                GroupBinaryCodec.writeVarInt(raw, dictionary.get(text(label)));
+            }
+        }
+        writeStrings(GroupDTO::getMembers);
+        writeStrings(GroupDTO::getFormerMembers);
+        writeStrings(GroupDTO::getSubunits);
+        writeStrings(GroupDTO::getSocialLinks);
+
+        byte[] bytes = raw.toByteArray();
+        deflater.reset();
+        deflater.setInput(bytes);
+        deflater.finish();
+        int length = 0;
+        while (!deflater.finished()) {
+            if (length == compressed.length) {
+                compressed = Arrays.copyOf(compressed, compressed.length * 2);
+            }
+            length += deflater.deflate(compressed, length, compressed.length - length);
+        }
+        out.writeInt(block.size());
+        out.writeInt(bytes.length);
+        out.writeInt(length);
+        out.write(compressed, 0, length);
+        count += block.size();
+        block.clear();
+    }
+
+    private void writeCounts(Function<GroupDTO, List<String>> property) {
+        for (GroupDTO group : block) {
+            GroupBinaryCodec.writeVarInt(raw, list(property.apply(group)).size());
+        }
+    }
+
+    private void writeStrings(Function<GroupDTO, List<String>> property) {
+        writeCounts(property);
+        for (GroupDTO group : block) {
+            for (String value : list(property.apply(group))) {
+                writeString(value);
+            }
+        }
+    }
+
+    private void entry(String value) {
+        dictionary.computeIfAbsent(text(value), key -> {
+            newEntries.add(key);
+            return dictionary.size();
+        });
+    }
+
+    private void writeString(String value) {
+        byte[] utf8 = text(value).getBytes(StandardCharsets.UTF_8);
+        GroupBinaryCodec.writeVarInt(raw, utf8.length);
+        raw.write(utf8, 0, utf8.length);
+    }
+
+    private void writeLong(long value) {
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            raw.write((int) (value >>> shift));
+        }
+    }
+
+    private static int zigzag(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    private static String text(String value) {
+        return value == null ? "" : value;
+    }
+
+    private static List<String> list(List<String> values) {
+        return values == null ? List.of() : values;
+    }
+}
@@ -0,0 +1,167 @@
+package inkidatabase.groupservice.bulk;
+
+import inkidatabase.groupservice.dto.GroupDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Streams every live group into the {@link GroupArchiveWriter} format for backups and for
+ * seeding other environments; {@link GroupImporter} reads the file back.
+ *
+ * <p>The export reads {@code groups} and each collection table through its own
+ * server-side cursor, all ordered by {@code group_id}, and merges them as it goes, so
+ * memory use does not grow with the catalogue. The cursors share one read-only
+ * repeatable-read transaction and therefore one consistent snapshot, which stays open
+ * for as long as the consumer takes to read the stream.
+ */
+@Component
+public class GroupExporter {
+
+    private static final Logger log = LoggerFactory.getLogger(GroupExporter.class);
+
+    private static final String GROUPS = "SELECT group_id, group_name, agency, debut_year, disband_year "
+            + "FROM groups WHERE deleted_at IS NULL ORDER BY group_id";
+    private static final String VALUES = "SELECT c.group_id, c.%s FROM %s c "
+            + "JOIN groups g ON g.group_id = c.group_id WHERE g.deleted_at IS NULL ORDER BY c.group_id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate snapshotTx;
+    private final int fetchSize;
+
+    public GroupExporter(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                         @Value("${groups.export.fetch-size:1000}") int fetchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.snapshotTx = new TransactionTemplate(transactionManager);
+        this.snapshotTx.setReadOnly(true);
+        this.snapshotTx.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * Writes the archive to {@code out}, which is flushed but not closed, and returns the
+     * number of groups written.
+     */
+    public long exportGroups(OutputStream out) throws IOException {
+        long start = System.nanoTime();
+        Instant capturedAt = Instant.now();
+        Long count;
+        try {
+            count = snapshotTx.execute(status -> jdbcTemplate.execute((ConnectionCallback<Long>) connection ->
+                    write(connection, out, capturedAt)));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        log.info("Exported {} groups in {} ms", count, (System.nanoTime() - start) / 1_000_000);
+        return count;
+    }
+
+    private long write(Connection connection, OutputStream out, Instant capturedAt) throws SQLException {
+        GroupValueKind[] kinds = GroupValueKind.values();
+        ValueCursor[] values = new ValueCursor[kinds.length];
+        try (PreparedStatement statement = cursor(connection, GROUPS);
+             ResultSet groups = statement.executeQuery()) {
+            for (GroupValueKind kind : kinds) {
+                values[kind.ordinal()] = new ValueCursor(cursor(connection,
+                        String.format(VALUES, kind.column, kind.table)));
+            }
+            GroupArchiveWriter writer = new GroupArchiveWriter(out, capturedAt);
+            while (groups.next()) {
+                UUID id = groups.getObject(1, UUID.class);
+                int disbandYear = groups.getInt(5);
+                writer.write(GroupDTO.builder()
+                        .groupId(id)
+                        .groupName(groups.getString(2))
+                        .agency(groups.getString(3))
+                        .debutYear(groups.getInt(4))
+                        .disbandYear(disbandYear == 0 ? null : disbandYear)
+                        .labels(values[GroupValueKind.LABEL.ordinal()].take(id))
+                        .members(values[GroupValueKind.MEMBER.ordinal()].take(id))
+                        .formerMembers(values[GroupValueKind.FORMER_MEMBER.ordinal()].take(id))
+                        .subunits(values[GroupValueKind.SUBUNIT.ordinal()].take(id))
+                        .socialLinks(values[GroupValueKind.SOCIAL_LINK.ordinal()].take(id))
+                        .build());
+            }
+            for (ValueCursor cursor : values) {
+                if (cursor.hasRow) {
+                    throw new IllegalStateException("Group export found collection rows out of group order");
+                }
+            }
+            return writer.finish();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            for (ValueCursor cursor : values) {
+                if (cursor != null) {
+                    cursor.close();
+                }
+            }
+        }
+    }
+
+    // Forward-only with a fetch size, which Postgres serves from a cursor inside the transaction
+    private PreparedStatement cursor(Connection connection, String sql) throws SQLException {
+        PreparedStatement statement = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY,
+                ResultSet.CONCUR_READ_ONLY);
+        statement.setFetchSize(fetchSize);
+        return statement;
+    }
+
+    private static final class ValueCursor {
+
+        private final PreparedStatement statement;
+        private final ResultSet rows;
+        private boolean hasRow;
+        private UUID groupId;
+
+        private ValueCursor(PreparedStatement statement) throws SQLException {
+            this.statement = statement;
+            this.rows = statement.executeQuery();
+            advance();
+        }
+
+        // The values of groupId, which must be the next group in order, or none
+        private List<String> take(UUID id) throws SQLException {
+            if (!hasRow || !id.equals(groupId)) {
+                return List.of();
+            }
+            List<String> values = new ArrayList<>();
+            while (hasRow && id.equals(groupId)) {
+                values.add(rows.getString(2));
+                advance();
+            }
+            return values;
+        }
+
+        private void advance() throws SQLException {
+            hasRow = rows.next();
+            groupId = hasRow ? rows.getObject(1, UUID.class) : null;
+        }
+
+        private void close() throws SQLException {
+            try {
+                rows.close();
+            } finally {
+                statement.close();
+            }
+        }
+    }
+}
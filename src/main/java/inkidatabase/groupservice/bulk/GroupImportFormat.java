@@ -0,0 +1,58 @@
+package inkidatabase.groupservice.bulk;
+
+import java.util.Locale;
+
+/**
+ * Input formats accepted by {@link GroupImporter}.
+ *
+ * <p>{@code CSV} needs a header row naming the {@code CreateGroupRequest} properties
+ * (case-insensitive, in any order); list properties hold their values separated by
+ * {@code |}. {@code JSONL} has one {@code CreateGroupRequest} JSON object per line.
+ * {@code ARCHIVE} is the binary format written by {@link GroupExporter}.
+ */
+public enum GroupImportFormat {
+    CSV,
+    JSONL,
+    ARCHIVE;
+
+    public static final String ARCHIVE_MEDIA_TYPE = "application/vnd.inkidatabase.group-archive";
+    public static final String ARCHIVE_EXTENSION = "grpa";
+
+    /**
+     * @throws IllegalArgumentException for anything but {@code csv}, {@code jsonl}, {@code ndjson},
+     *                                  {@code archive} or {@code grpa}
+     */
+    public static GroupImportFormat of(String name) {
+        return switch (name == null ? "" : name.trim().toLowerCase(Locale.ROOT)) {
+            case "csv" -> CSV;
+            case "jsonl", "ndjson" -> JSONL;
+            case "archive", ARCHIVE_EXTENSION -> ARCHIVE;
+            default -> throw new IllegalArgumentException("Unknown import format: " + name);
+        };
+    }
+
+    /**
+     * The format named by a media type such as {@code text/csv} or {@code application/x-ndjson}.
+     *
+     * @throws IllegalArgumentException if the media type is not a supported format
+     */
+    public static GroupImportFormat fromContentType(String contentType) {
+        String type = contentType == null ? "" : contentType.split(";", 2)[0].trim().toLowerCase(Locale.ROOT);
+        return switch (type) {
+            case "text/csv" -> CSV;
+            case "application/jsonl", "application/x-jsonl", "application/x-ndjson", "application/ndjson" -> JSONL;
+            case ARCHIVE_MEDIA_TYPE, "application/octet-stream" -> ARCHIVE;
+            default -> throw new IllegalArgumentException("Unsupported import content type: " + contentType);
+        };
+    }
+
+    /**
+     * The format matching a file's extension.
+     *
+     * @throws IllegalArgumentException if the extension is not a supported format
+     */
+    public static GroupImportFormat fromFileName(String fileName) {
+        int dot = fileName.lastIndexOf('.');
+        return of(dot < 0 ? "" : fileName.substring(dot + 1));
+    }
+}
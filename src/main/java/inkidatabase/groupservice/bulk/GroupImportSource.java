@@ -0,0 +1,188 @@
+package inkidatabase.groupservice.bulk;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import inkidatabase.groupservice.dto.CreateGroupRequest;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Splits an import file into raw records on the reading thread and turns a record into a
+ * {@link CreateGroupRequest} on any thread, so the expensive half of parsing can run in
+ * parallel with reading.
+ */
+final class GroupImportSource implements Closeable {
+
+    static final String LIST_SEPARATOR = "|";
+
+    private static final List<String> COLUMNS = List.of("groupName", "agency", "labels", "members",
+            "formerMembers", "debutYear", "disbandYear", "subunits", "socialLinks");
+    private static final List<String> REQUIRED_COLUMNS = List.of("groupName", "agency", "members", "debutYear");
+
+    private final GroupImportFormat format;
+    private final ObjectMapper objectMapper;
+    private final BufferedReader reader;
+    private final CsvReader csv;
+    // CSV column of each COLUMNS entry, -1 when absent
+    private final int[] columns = new int[COLUMNS.size()];
+    private int width;
+    private long line;
+
+    private GroupImportSource(InputStream in, GroupImportFormat format, ObjectMapper objectMapper) {
+        this.format = format;
+        this.objectMapper = objectMapper;
+        this.reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), 64 * 1024);
+        this.csv = format == GroupImportFormat.CSV ? new CsvReader(reader) : null;
+    }
+
+    /**
+     * Opens the source, reading the CSV header if there is one.
+     *
+     * @throws IllegalArgumentException if the CSV header is missing, names an unknown
+     *                                  column or lacks a required one
+     */
+    static GroupImportSource open(InputStream in, GroupImportFormat format, ObjectMapper objectMapper)
+            throws IOException {
+        GroupImportSource source = new GroupImportSource(in, format, objectMapper);
+        if (format == GroupImportFormat.CSV) {
+            source.readHeader();
+        }
+        return source;
+    }
+
+    /**
+     * The next raw record, or null at the end of the input.
+     */
+    Record next() throws IOException {
+        if (csv != null) {
+            String[] values = csv.next();
+            return values == null ? null : new Record(csv.recordLine(), values);
+        }
+        String text;
+        while ((text = reader.readLine()) != null) {
+            line++;
+            if (!text.isBlank()) {
+                return new Record(line, new String[]{text});
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Parses one record; safe to call from several threads.
+     *
+     * @throws IllegalArgumentException describing why the record cannot be read
+     */
+    CreateGroupRequest parse(Record record) {
+        if (format == GroupImportFormat.JSONL) {
+            try {
+                return objectMapper.readValue(record.values()[0], CreateGroupRequest.class);
+            } catch (JsonProcessingException e) {
+                throw new IllegalArgumentException("Invalid JSON: " + e.getOriginalMessage());
+            }
+        }
+        String[] values = record.values();
+        if (values.length != width) {
+            throw new IllegalArgumentException(
+                    String.format("Expected %d fields but found %d", width, values.length));
+        }
+        return CreateGroupRequest.builder()
+                .groupName(text(values, 0))
+                .agency(text(values, 1))
+                .labels(list(values, 2))
+                .members(list(values, 3))
+                .formerMembers(list(values, 4))
+                .debutYear(number(values, 5))
+                .disbandYear(number(values, 6))
+                .subunits(list(values, 7))
+                .socialLinks(list(values, 8))
+                .build();
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private void readHeader() throws IOException {
+        String[] header = csv.next();
+        if (header == null) {
+            throw new IllegalArgumentException("CSV import needs a header row");
+        }
+        Map<String, Integer> byName = new LinkedHashMap<>();
+        for (int i = 0; i < header.length; i++) {
+            byName.put(header[i].trim().toLowerCase(Locale.ROOT), i);
+        }
+        Arrays.fill(columns, -1);
+        for (int i = 0; i < COLUMNS.size(); i++) {
+            Integer column = byName.remove(COLUMNS.get(i).toLowerCase(Locale.ROOT));
+            if (column != null) {
+                columns[i] = column;
+            }
+        }
+        if (!byName.isEmpty()) {
+            throw new IllegalArgumentException("Unknown CSV columns: " + byName.keySet());
+        }
+        List<String> missing = new ArrayList<>();
+        for (String required : REQUIRED_COLUMNS) {
+            if (columns[COLUMNS.indexOf(required)] < 0) {
+                missing.add(required);
+            }
+        }
+        if (!missing.isEmpty()) {
+            throw new IllegalArgumentException("CSV header is missing required columns: " + missing);
+        }
+        width = header.length;
+    }
+
+    private String text(String[] values, int property) {
+        return columns[property] < 0 ? null : values[columns[property]];
+    }
+
+    private Integer number(String[] values, int property) {
+        String value = text(values, property);
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(COLUMNS.get(property) + ": '" + value + "' is not a number");
+        }
+    }
+
+    private List<String> list(String[] values, int property) {
+        String value = text(values, property);
+        if (value == null) {
+            return null;
+        }
+        List<String> items = new ArrayList<>();
+        int from = 0;
+        while (from <= value.length()) {
+            int to = value.indexOf(LIST_SEPARATOR, from);
+            if (to < 0) {
+                to = value.length();
+            }
+            String item = value.substring(from, to).trim();
+            if (!item.isEmpty()) {
+                items.add(item);
+            }
+            from = to + 1;
+        }
+        return items;
+    }
+
+    record Record(long line, String[] values) {
+    }
+}
@@ -0,0 +1,417 @@
+package inkidatabase.groupservice.bulk;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import inkidatabase.groupservice.dto.CreateGroupRequest;
+import inkidatabase.groupservice.dto.GroupDTO;
+import inkidatabase.groupservice.dto.GroupImportError;
+import inkidatabase.groupservice.dto.GroupImportReport;
+import inkidatabase.groupservice.index.GroupIndexRegistry;
+import inkidatabase.groupservice.invalidation.GroupInvalidationPublisher;
+import inkidatabase.groupservice.mapper.GroupMapper;
+import inkidatabase.groupservice.model.Group;
+import inkidatabase.groupservice.outbox.GroupOutbox;
+import inkidatabase.groupservice.service.GroupChangeSequence;
+import inkidatabase.groupservice.service.SubunitHierarchyService;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * Imports large CSV, JSONL or {@link GroupExporter} archive files of groups in one
+ * transaction without going through JPA one row at a time.
+ *
+ * <p>The calling thread reads the input into chunks of raw records; a worker pool parses
+ * and validates them, keeping at most two chunks per worker in flight, and the calling
+ * thread streams the valid rows into temporary staging tables ({@link GroupStagingWriter},
+ * {@code COPY} on Postgres). A handful of set-based statements then merge the staging
+ * tables into {@code groups}, its collection tables and {@code group_outbox}. Rows whose
+ * name and debut year repeat an earlier row, or match a live group, are skipped and
+ * reported; archived groups keep their ids and are skipped if the id is taken instead.
+ * Imported groups get consecutive {@code change_seq} values reserved in one step, so they
+ * appear in the change feed like any other write.
+ *
+ * <p>Imported groups are not published as individual {@code GroupChangedEvent}s. Instead
+ * the in-memory indexes are rebuilt once after commit, other replicas are told to do the
+ * same with a single {@link GroupInvalidationPublisher#announceRebuild} notification, and
+ * outbox consumers receive the usual {@code CREATED} rows. Live {@code /groups/stream} subscribers only see the
+ * imported groups after reconnecting with their last event id.
+ */
+@Component
+public class GroupImporter {
+
+    private static final Logger log = LoggerFactory.getLogger(GroupImporter.class);
+    private static final int MAX_TEXT_LENGTH = 255;
+
+    private static final String MARK_DUPLICATES = "UPDATE import_groups SET skipped = 'duplicate' WHERE line IN ("
+            + "SELECT line FROM (SELECT line, ROW_NUMBER() OVER (PARTITION BY %s ORDER BY line) AS occurrence "
+            + "FROM import_groups) ranked WHERE occurrence > 1)";
+    private static final String MARK_EXISTING = "UPDATE import_groups s SET skipped = 'exists' "
+            + "WHERE s.skipped IS NULL AND EXISTS (SELECT 1 FROM groups g WHERE %s)";
+    private static final String INSERT_GROUPS = "INSERT INTO groups "
+            + "(group_id, group_name, agency, debut_year, disband_year, status, updated_at, change_seq) "
+            + "SELECT group_id, group_name, agency, debut_year, disband_year, status, ?, "
+            + "CAST(? AS bigint) + ROW_NUMBER() OVER (ORDER BY line) - 1 "
+            + "FROM import_groups WHERE skipped IS NULL";
+    private static final String INSERT_VALUES = "INSERT INTO %s (group_id, %s) "
+            + "SELECT s.group_id, v.value FROM import_group_values v "
+            + "JOIN import_groups s ON s.line = v.line "
+            + "WHERE s.skipped IS NULL AND v.kind = ? ORDER BY s.line, v.position";
+    private static final String INSERT_OUTBOX = "INSERT INTO group_outbox "
+            + "(type, group_id, change_seq, payload, created_at) "
+            + "SELECT 'CREATED', g.group_id, g.change_seq, s.payload, ? "
+            + "FROM import_groups s JOIN groups g ON g.group_id = s.group_id "
+            + "WHERE s.skipped IS NULL ORDER BY g.change_seq";
+    private static final String SKIPPED = "SELECT line, skipped FROM import_groups "
+            + "WHERE skipped IS NOT NULL ORDER BY line FETCH FIRST ? ROWS ONLY";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transaction;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final GroupMapper mapper;
+    private final GroupChangeSequence changeSequence;
+    private final GroupOutbox outbox;
+    private final GroupInvalidationPublisher invalidation;
+    private final GroupIndexRegistry registry;
+    private final SubunitHierarchyService subunitHierarchy;
+    private final int parallelism;
+    private final int chunkSize;
+    private final int maxErrors;
+
+    public GroupImporter(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                         ObjectMapper objectMapper, Validator validator, GroupMapper mapper,
+                         GroupChangeSequence changeSequence, GroupOutbox outbox,
+                         GroupInvalidationPublisher invalidation, GroupIndexRegistry registry,
+                         SubunitHierarchyService subunitHierarchy,
+                         @Value("${groups.import.parallelism:0}") int parallelism,
+                         @Value("${groups.import.chunk-size:1000}") int chunkSize,
+                         @Value("${groups.import.max-errors:1000}") int maxErrors) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.mapper = mapper;
+        this.changeSequence = changeSequence;
+        this.outbox = outbox;
+        this.invalidation = invalidation;
+        this.registry = registry;
+        this.subunitHierarchy = subunitHierarchy;
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.chunkSize = chunkSize;
+        this.maxErrors = maxErrors;
+    }
+
+    /**
+     * Imports every valid row of {@code in}; invalid and duplicate rows are skipped and
+     * listed in the report, up to {@code max-errors} of them. Nothing is imported if the
+     * input cannot be read or a database statement fails.
+     *
+     * @throws IllegalArgumentException if the input is not in {@code format} at all, e.g. a
+     *                                  CSV header names an unknown column
+     */
+    public GroupImportReport importGroups(InputStream in, GroupImportFormat format) throws IOException {
+        long start = System.nanoTime();
+        Outcome outcome;
+        try {
+            if (format == GroupImportFormat.ARCHIVE) {
+                GroupArchiveReader archive = new GroupArchiveReader(in);
+                long[] record = {0};
+                outcome = run(() -> {
+                    GroupDTO group = archive.next();
+                    return group == null ? null : new ArchivedGroup(++record[0], group);
+                }, ArchivedGroup::line, archived -> toStaged(archived.line(), toRequest(archived.group()),
+                        archived.group().getGroupId()), MergeKey.ID);
+            } else {
+                try (GroupImportSource source = GroupImportSource.open(in, format, objectMapper)) {
+                    outcome = run(source::next, GroupImportSource.Record::line,
+                            record -> toStaged(record.line(), source.parse(record), null), MergeKey.NAME_AND_DEBUT_YEAR);
+                }
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        if (outcome.imported > 0) {
+            if (registry.isEnabled()) {
+                registry.rebuild();
+            }
+            subunitHierarchy.invalidateAll();
+        }
+        long elapsedNanos = System.nanoTime() - start;
+        log.info("Imported {} of {} {} rows in {} ms ({} invalid, {} duplicates)", outcome.imported, outcome.rows,
+                format, elapsedNanos / 1_000_000, outcome.invalid, outcome.duplicates);
+        outcome.errors.sort(Comparator.comparingLong(GroupImportError::getLine));
+        return GroupImportReport.builder()
+                .rows(outcome.rows)
+                .imported(outcome.imported)
+                .invalid(outcome.invalid)
+                .duplicates(outcome.duplicates)
+                .elapsedMillis(elapsedNanos / 1_000_000)
+                .rowsPerSecond(elapsedNanos == 0 ? 0 : outcome.rows * 1e9 / elapsedNanos)
+                .errors(outcome.errors.subList(0, Math.min(outcome.errors.size(), maxErrors)))
+                .build();
+    }
+
+    private <T> Outcome run(RecordReader<T> reader, ToLongFunction<T> line, Function<T, StagedGroup> parser,
+                            MergeKey key) {
+        return transaction.execute(status -> jdbcTemplate.execute((ConnectionCallback<Outcome>) connection ->
+                load(reader, line, parser, key, connection)));
+    }
+
+    private <T> Outcome load(RecordReader<T> reader, ToLongFunction<T> line, Function<T, StagedGroup> parser,
+                             MergeKey key, Connection connection) throws SQLException {
+        Outcome outcome = new Outcome();
+        try (GroupStagingWriter writer = GroupStagingWriter.open(connection);
+             ExecutorService workers = Executors.newFixedThreadPool(parallelism)) {
+            Deque<Future<Chunk>> inFlight = new ArrayDeque<>();
+            List<T> records = new ArrayList<>(chunkSize);
+            T record;
+            while ((record = reader.next()) != null) {
+                records.add(record);
+                if (records.size() == chunkSize) {
+                    List<T> chunk = records;
+                    inFlight.addLast(workers.submit(() -> parse(chunk, line, parser)));
+                    records = new ArrayList<>(chunkSize);
+                    if (inFlight.size() >= 2 * parallelism) {
+                        stage(await(inFlight.removeFirst()), writer, outcome);
+                    }
+                }
+            }
+            if (!records.isEmpty()) {
+                List<T> chunk = records;
+                inFlight.addLast(workers.submit(() -> parse(chunk, line, parser)));
+            }
+            while (!inFlight.isEmpty()) {
+                stage(await(inFlight.removeFirst()), writer, outcome);
+            }
+            writer.finish();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        merge(outcome, key);
+        return outcome;
+    }
+
+    private void merge(Outcome outcome, MergeKey key) {
+        Instant now = Instant.now();
+        outcome.duplicates = jdbcTemplate.update(String.format(MARK_DUPLICATES, key.partition));
+        int candidates = (int) (outcome.staged - outcome.duplicates);
+        if (candidates > 0) {
+            // Locks the counter, so rows committed by concurrent writers are visible to the existence check
+            long first = changeSequence.reserve(candidates);
+            outcome.duplicates += jdbcTemplate.update(String.format(MARK_EXISTING, key.match));
+            outcome.imported = jdbcTemplate.update(INSERT_GROUPS, Timestamp.from(now), first);
+            for (GroupValueKind kind : GroupValueKind.values()) {
+                jdbcTemplate.update(String.format(INSERT_VALUES, kind.table, kind.column), kind.ordinal());
+            }
+            if (outbox.isEnabled()) {
+                jdbcTemplate.update(INSERT_OUTBOX, Timestamp.from(now));
+            }
+            invalidation.announceRebuild();
+        }
+        jdbcTemplate.query(SKIPPED, (RowCallbackHandler) rs -> {
+            outcome.errors.add(GroupImportError.builder()
+                    .line(rs.getLong("line"))
+                    .message("duplicate".equals(rs.getString("skipped")) ? key.duplicate : key.exists)
+                    .build());
+        }, maxErrors);
+    }
+
+    private void stage(Chunk chunk, GroupStagingWriter writer, Outcome outcome) throws SQLException {
+        outcome.rows += chunk.rows;
+        outcome.invalid += chunk.errors.size();
+        for (GroupImportError error : chunk.errors) {
+            if (outcome.errors.size() < maxErrors) {
+                outcome.errors.add(error);
+            }
+        }
+        if (!chunk.valid.isEmpty()) {
+            writer.write(chunk.valid);
+            outcome.staged += chunk.valid.size();
+        }
+    }
+
+    private <T> Chunk parse(List<T> records, ToLongFunction<T> line, Function<T, StagedGroup> parser) {
+        Chunk chunk = new Chunk(records.size());
+        for (T record : records) {
+            try {
+                chunk.valid.add(parser.apply(record));
+            } catch (IllegalArgumentException e) {
+                chunk.errors.add(error(line.applyAsLong(record), e.getMessage()));
+            }
+        }
+        return chunk;
+    }
+
+    // groupId keeps an archived group's id; new groups get one from GroupIds
+    private StagedGroup toStaged(long line, CreateGroupRequest request, UUID groupId) {
+        List<String> problems = validate(request);
+        if (!problems.isEmpty()) {
+            throw new IllegalArgumentException(String.join("; ", problems));
+        }
+        Group group = mapper.toEntity(request);
+        if (groupId != null) {
+            group.setGroupId(groupId);
+        }
+        try {
+            String payload = outbox.isEnabled() ? objectMapper.writeValueAsString(mapper.toSnapshot(group)) : null;
+            return new StagedGroup(line, group, payload);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static CreateGroupRequest toRequest(GroupDTO group) {
+        return CreateGroupRequest.builder()
+                .groupName(group.getGroupName())
+                .agency(group.getAgency())
+                .labels(group.getLabels())
+                .members(group.getMembers())
+                .formerMembers(group.getFormerMembers())
+                .debutYear(group.getDebutYear())
+                .disbandYear(group.getDisbandYear())
+                .subunits(group.getSubunits())
+                .socialLinks(group.getSocialLinks())
+                .build();
+    }
+
+    // Bean validation as for POST /groups, plus the column limits the database would enforce
+    private List<String> validate(CreateGroupRequest request) {
+        List<String> problems = new ArrayList<>();
+        for (ConstraintViolation<CreateGroupRequest> violation : validator.validate(request)) {
+            problems.add(violation.getPropertyPath() + ": " + violation.getMessage());
+        }
+        checkLength("groupName", request.getGroupName(), problems);
+        checkLength("agency", request.getAgency(), problems);
+        checkValues("labels", request.getLabels(), problems);
+        checkValues("members", request.getMembers(), problems);
+        checkValues("formerMembers", request.getFormerMembers(), problems);
+        checkValues("subunits", request.getSubunits(), problems);
+        checkValues("socialLinks", request.getSocialLinks(), problems);
+        problems.sort(null);
+        return problems;
+    }
+
+    private static void checkLength(String property, String value, List<String> problems) {
+        if (value != null && value.length() > MAX_TEXT_LENGTH) {
+            problems.add(property + ": must be at most " + MAX_TEXT_LENGTH + " characters");
+        }
+    }
+
+    private static void checkValues(String property, List<String> values, List<String> problems) {
+        if (values == null) {
+            return;
+        }
+        for (String value : values) {
+            if (value == null) {
+                problems.add(property + ": must not contain null values");
+                return;
+            }
+            if (value.length() > MAX_TEXT_LENGTH) {
+                problems.add(property + ": values must be at most " + MAX_TEXT_LENGTH + " characters");
+                return;
+            }
+        }
+    }
+
+    private static GroupImportError error(long line, String message) {
+        return GroupImportError.builder()
+                .line(line)
+                .message(message)
+                .build();
+    }
+
+    private static Chunk await(Future<Chunk> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while importing groups", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    @FunctionalInterface
+    private interface RecordReader<T> {
+        // null at the end of the input
+        T next() throws IOException;
+    }
+
+    private record ArchivedGroup(long line, GroupDTO group) {
+    }
+
+    private enum MergeKey {
+        NAME_AND_DEBUT_YEAR("upper(group_name), debut_year",
+                "upper(g.group_name) = upper(s.group_name) AND g.debut_year = s.debut_year AND g.deleted_at IS NULL",
+                "Same name and debut year as an earlier row",
+                "A group with this name and debut year already exists"),
+        // Archives restore groups under their ids; a soft-deleted group keeps its id until purged
+        ID("group_id", "g.group_id = s.group_id",
+                "Same group id as an earlier record",
+                "A group with this id already exists");
+
+        private final String partition;
+        private final String match;
+        private final String duplicate;
+        private final String exists;
+
+        MergeKey(String partition, String match, String duplicate, String exists) {
+            this.partition = partition;
+            this.match = match;
+            this.duplicate = duplicate;
+            this.exists = exists;
+        }
+    }
+
+    private static final class Chunk {
+        private final int rows;
+        private final List<StagedGroup> valid;
+        private final List<GroupImportError> errors = new ArrayList<>();
+
+        private Chunk(int rows) {
+            this.rows = rows;
+            this.valid = new ArrayList<>(rows);
+        }
+    }
+
+    private static final class Outcome {
+        private long rows;
+        private long staged;
+        private long imported;
+        private long invalid;
+        private long duplicates;
+        private final List<GroupImportError> errors = new ArrayList<>();
+    }
+}
@@ -0,0 +1,51 @@
+package inkidatabase.groupservice.bulk;
+
+import org.postgresql.PGConnection;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Loads validated rows into the session's staging tables, which {@link GroupImporter} then
+ * merges into the real ones with a few set-based statements:
+ * <ul>
+ *     <li>{@code import_groups}: one row per group, keyed by its line in the input;
+ *     {@code skipped} is set during the merge for rows that are not inserted</li>
+ *     <li>{@code import_group_values}: the collection values, by {@link GroupValueKind}
+ *     ordinal and position</li>
+ * </ul>
+ * Both are temporary tables dropped when the import's transaction ends.
+ */
+interface GroupStagingWriter extends AutoCloseable {
+
+    String GROUP_COLUMNS = "(line bigint PRIMARY KEY, group_id uuid NOT NULL, group_name varchar(255) NOT NULL, "
+            + "agency varchar(255) NOT NULL, debut_year integer NOT NULL, disband_year integer NOT NULL, "
+            + "status varchar(16) NOT NULL, payload varchar, skipped varchar(16))";
+    String VALUE_COLUMNS = "(line bigint NOT NULL, kind smallint NOT NULL, position integer NOT NULL, "
+            + "value varchar(255) NOT NULL)";
+
+    /**
+     * Appends one chunk of rows, in input order.
+     */
+    void write(List<StagedGroup> rows) throws SQLException;
+
+    /**
+     * Called once every row is staged, before the merge.
+     */
+    void finish() throws SQLException;
+
+    @Override
+    void close() throws SQLException;
+
+    /**
+     * Creates the staging tables and returns the fastest writer the database supports:
+     * {@code COPY} on Postgres, JDBC batches elsewhere.
+     */
+    static GroupStagingWriter open(Connection connection) throws SQLException {
+        if (connection.isWrapperFor(PGConnection.class)) {
+            return new PostgresCopyStagingWriter(connection);
+        }
+        return new JdbcBatchStagingWriter(connection);
+    }
+}
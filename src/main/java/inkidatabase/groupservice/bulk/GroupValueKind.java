@@ -0,0 +1,31 @@
+package inkidatabase.groupservice.bulk;
+
+import inkidatabase.groupservice.model.Group;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * The group's collection tables; staged values carry the ordinal as their {@code kind}.
+ */
+enum GroupValueKind {
+    LABEL("group_labels", "label", Group::getLabels),
+    MEMBER("group_members", "member", Group::getMembers),
+    FORMER_MEMBER("group_former_members", "former_member", Group::getFormerMembers),
+    SUBUNIT("group_subunits", "subunit", Group::getSubunits),
+    SOCIAL_LINK("group_social_links", "social_link", Group::getSocialLinks);
+
+    final String table;
+    final String column;
+    private final Function<Group, List<String>> values;
+
+    GroupValueKind(String table, String column, Function<Group, List<String>> values) {
+        this.table = table;
+        this.column = column;
+        this.values = values;
+    }
+
+    List<String> valuesOf(Group group) {
+        return values.apply(group);
+    }
+}
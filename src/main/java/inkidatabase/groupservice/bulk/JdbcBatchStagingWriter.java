@@ -0,0 +1,87 @@
+package inkidatabase.groupservice.bulk;
+
+import inkidatabase.groupservice.model.Group;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.List;
+
+/**
+ * Portable fallback that stages each chunk with one JDBC batch per table; used on H2.
+ * The tables are {@code TRANSACTIONAL} so creating them does not commit the import's
+ * transaction, and emptied first in case an earlier import in the same transaction left
+ * rows behind.
+ */
+final class JdbcBatchStagingWriter implements GroupStagingWriter {
+
+    private final PreparedStatement groups;
+    private final PreparedStatement values;
+
+    JdbcBatchStagingWriter(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE LOCAL TEMPORARY TABLE IF NOT EXISTS import_groups " + GROUP_COLUMNS
+                    + " ON COMMIT DROP TRANSACTIONAL");
+            statement.execute("CREATE LOCAL TEMPORARY TABLE IF NOT EXISTS import_group_values " + VALUE_COLUMNS
+                    + " ON COMMIT DROP TRANSACTIONAL");
+            statement.execute("DELETE FROM import_groups");
+            statement.execute("DELETE FROM import_group_values");
+        }
+        groups = connection.prepareStatement("INSERT INTO import_groups "
+                + "(line, group_id, group_name, agency, debut_year, disband_year, status, payload) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)");
+        values = connection.prepareStatement(
+                "INSERT INTO import_group_values (line, kind, position, value) VALUES (?, ?, ?, ?)");
+    }
+
+    @Override
+    public void write(List<StagedGroup> rows) throws SQLException {
+        boolean hasValues = false;
+        for (StagedGroup row : rows) {
+            Group group = row.group();
+            groups.setLong(1, row.line());
+            groups.setObject(2, group.getGroupId());
+            groups.setString(3, group.getGroupName());
+            groups.setString(4, group.getAgency());
+            groups.setInt(5, group.getDebutYear());
+            groups.setInt(6, group.getDisbandYear());
+            groups.setString(7, group.getStatus().name());
+            if (row.payload() == null) {
+                groups.setNull(8, Types.VARCHAR);
+            } else {
+                groups.setString(8, row.payload());
+            }
+            groups.addBatch();
+            for (GroupValueKind kind : GroupValueKind.values()) {
+                List<String> items = kind.valuesOf(group);
+                for (int i = 0; i < items.size(); i++) {
+                    values.setLong(1, row.line());
+                    values.setShort(2, (short) kind.ordinal());
+                    values.setInt(3, i);
+                    values.setString(4, items.get(i));
+                    values.addBatch();
+                    hasValues = true;
+                }
+            }
+        }
+        groups.executeBatch();
+        if (hasValues) {
+            values.executeBatch();
+        }
+    }
+
+    @Override
+    public void finish() {
+    }
+
+    @Override
+    public void close() throws SQLException {
+        try {
+            groups.close();
+        } finally {
+            values.close();
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package inkidatabase.groupservice.bulk;
+
+import inkidatabase.groupservice.model.Group;
+
+/**
+ * A validated import row: the group to insert and, with the outbox enabled, its outbox
+ * payload. The group's {@code change_seq} is only assigned when it is merged.
+ */
+record StagedGroup(long line, Group group, String payload) {
+}
@@ -0,0 +1,155 @@
+package inkidatabase.groupservice.cache;
+
+import inkidatabase.groupservice.dto.GroupDTO;
+import inkidatabase.groupservice.intern.GroupStrings;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Compact binary form of a {@link GroupDTO}: the id as 16 raw bytes, integers as unsigned
+ * varints, strings as a varint byte length followed by UTF-8, and lists as a varint count
+ * followed by their elements. Nullable values are written with a +1 bias so 0 means null.
+ * Decoded agencies and labels go through {@link GroupStrings}.
+ */
+public final class GroupBinaryCodec {
+
+    private static final int FORMAT_VERSION = 1;
+
+    private GroupBinaryCodec() {
+    }
+
+    public static byte[] encode(GroupDTO group) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(128);
+        writeVarInt(out, FORMAT_VERSION);
+        UUID id = group.getGroupId();
+        writeLong(out, id.getMostSignificantBits());
+        writeLong(out, id.getLeastSignificantBits());
+        writeString(out, group.getGroupName());
+        writeString(out, group.getAgency());
+        writeList(out, group.getLabels());
+        writeList(out, group.getMembers());
+        writeList(out, group.getFormerMembers());
+        writeVarInt(out, group.getDebutYear());
+        writeVarInt(out, group.getDisbandYear() == null ? 0 : group.getDisbandYear() + 1);
+        writeList(out, group.getSubunits());
+        writeList(out, group.getSocialLinks());
+        return out.toByteArray();
+    }
+
+    public static GroupDTO decode(byte[] bytes) {
+        return decode(ByteBuffer.wrap(bytes));
+    }
+
+    /**
+     * Reads one group starting at the buffer's position and advances past it.
+     */
+    public static GroupDTO decode(ByteBuffer in) {
+        int version = readVarInt(in);
+        if (version != FORMAT_VERSION) {
+            throw new IllegalArgumentException("Unsupported group encoding version: " + version);
+        }
+        UUID id = new UUID(in.getLong(), in.getLong());
+        GroupDTO.GroupDTOBuilder builder = GroupDTO.builder()
+                .groupId(id)
+                .groupName(readString(in))
+                .agency(GroupStrings.canonical(readString(in)))
+                .labels(canonical(readList(in)))
+                .members(readList(in))
+                .formerMembers(readList(in))
+                .debutYear(readVarInt(in));
+        int disbandYear = readVarInt(in);
+        return builder
+                .disbandYear(disbandYear == 0 ? null : disbandYear - 1)
+                .subunits(readList(in))
+                .socialLinks(readList(in))
+                .build();
+    }
+
+    private static List<String> canonical(List<String> values) {
+        return values == null || values.isEmpty() ? values
+                : Collections.unmodifiableList(GroupStrings.canonical(values));
+    }
+
+    private static void writeList(ByteArrayOutputStream out, List<String> values) {
+        if (values == null) {
+            writeVarInt(out, 0);
+            return;
+        }
+        writeVarInt(out, values.size() + 1);
+        for (String value : values) {
+            writeString(out, value);
+        }
+    }
+
+    private static List<String> readList(ByteBuffer in) {
+        int size = readVarInt(in);
+        if (size == 0) {
+            return null;
+        }
+        if (size == 1) {
+            return Collections.emptyList();
+        }
+        List<String> values = new ArrayList<>(size - 1);
+        for (int i = 1; i < size; i++) {
+            values.add(readString(in));
+        }
+        return Collections.unmodifiableList(values);
+    }
+
+    private static void writeString(ByteArrayOutputStream out, String value) {
+        if (value == null) {
+            writeVarInt(out, 0);
+            return;
+        }
+        byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(out, utf8.length + 1);
+        out.write(utf8, 0, utf8.length);
+    }
+
+    private static String readString(ByteBuffer in) {
+        int length = readVarInt(in);
+        if (length == 0) {
+            return null;
+        }
+        if (in.hasArray()) {
+            String value = new String(in.array(), in.arrayOffset() + in.position(), length - 1, StandardCharsets.UTF_8);
+            in.position(in.position() + length - 1);
+            return value;
+        }
+        byte[] utf8 = new byte[length - 1];
+        in.get(utf8);
+        return new String(utf8, StandardCharsets.UTF_8);
+    }
+
+    private static void writeLong(ByteArrayOutputStream out, long value) {
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            out.write((int) (value >>> shift));
+        }
+    }
+
+    public static void writeVarInt(ByteArrayOutputStream out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+
+    public static int readVarInt(ByteBuffer in) {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            byte b = in.get();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint");
+    }
+}
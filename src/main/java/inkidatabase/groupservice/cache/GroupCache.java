@@ -0,0 +1,214 @@
+package inkidatabase.groupservice.cache;
+
+import inkidatabase.groupservice.dto.GroupDTO;
+import inkidatabase.groupservice.event.GroupChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Two-tier cache of loaded groups: a small LRU map of {@link GroupDTO} objects on the heap
+ * in front of an {@link OffHeapGroupStore} holding every other group in
+ * {@link GroupBinaryCodec} form, so the whole catalogue can stay cached without the
+ * collector having to trace it. Off-heap hits are decoded and promoted to the heap tier;
+ * loaded groups are cached as detached copies, never as the loader's own object.
+ *
+ * <p>A committed change removes the group from both tiers, and {@link LoadVersions}, as
+ * in {@link GroupJsonCache}, keeps a read that raced with the change from storing the
+ * stale group.
+ */
+@Component
+public class GroupCache {
+
+    private final int heapEntries;
+    private final Map<UUID, GroupDTO> heap;
+    private final OffHeapGroupStore offHeap;
+
+    private final LoadVersions versions = new LoadVersions();
+    private final LongAdder heapHits = new LongAdder();
+    private final LongAdder offHeapHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public GroupCache(@Value("${groups.cache.heap-entries:1000}") int heapEntries,
+                      @Value("${groups.cache.off-heap-bytes:268435456}") long offHeapBytes,
+                      @Value("${groups.cache.slab-bytes:8388608}") int slabBytes) {
+        this.heapEntries = heapEntries;
+        this.heap = new LinkedHashMap<>(16, 0.75f, true);
+        this.offHeap = new OffHeapGroupStore(offHeapBytes, slabBytes);
+    }
+
+    /**
+     * The group, loading it on a miss; empty if the loader finds nothing.
+     */
+    public Optional<GroupDTO> get(UUID id, Function<UUID, Optional<GroupDTO>> loader) {
+        GroupDTO cached = lookup(id);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        long version = versions.begin(id);
+        try {
+            return loader.apply(id).map(group -> store(id, version, group));
+        } finally {
+            versions.end(id);
+        }
+    }
+
+    /**
+     * The cached groups among {@code ids}, with the misses loaded by one call to
+     * {@code loader}. Order follows the cached hits and then the loader's result.
+     */
+    public List<GroupDTO> getAll(Collection<UUID> ids, Function<Collection<UUID>, List<GroupDTO>> loader) {
+        List<GroupDTO> found = new ArrayList<>(ids.size());
+        Map<UUID, Long> missing = new LinkedHashMap<>();
+        for (UUID id : ids) {
+            GroupDTO cached = lookup(id);
+            if (cached != null) {
+                found.add(cached);
+            } else {
+                missing.put(id, versions.begin(id));
+            }
+        }
+        if (!missing.isEmpty()) {
+            try {
+                for (GroupDTO group : loader.apply(missing.keySet())) {
+                    Long version = missing.get(group.getGroupId());
+                    if (version != null) {
+                        found.add(store(group.getGroupId(), version, group));
+                    }
+                }
+            } finally {
+                missing.keySet().forEach(versions::end);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Pre-populates the off-heap tier, e.g. from a startup snapshot; the heap tier fills
+     * from traffic as usual.
+     */
+    public void warm(Collection<GroupDTO> groups) {
+        for (GroupDTO group : groups) {
+            UUID id = group.getGroupId();
+            long version = versions.begin(id);
+            try {
+                offHeap.put(id, GroupBinaryCodec.encode(group));
+                if (!versions.isCurrent(id, version)) {
+                    offHeap.remove(id);
+                }
+            } finally {
+                versions.end(id);
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGroupChanged(GroupChangedEvent event) {
+        invalidate(event.getGroupId());
+    }
+
+    public void invalidate(UUID id) {
+        versions.invalidate(id);
+        synchronized (heap) {
+            heap.remove(id);
+        }
+        offHeap.remove(id);
+    }
+
+    public long heapHitCount() {
+        return heapHits.sum();
+    }
+
+    public long offHeapHitCount() {
+        return offHeapHits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    public int heapSize() {
+        synchronized (heap) {
+            return heap.size();
+        }
+    }
+
+    public int offHeapSize() {
+        return offHeap.size();
+    }
+
+    public long offHeapBytes() {
+        return offHeap.storedBytes();
+    }
+
+    int trackedVersions() {
+        return versions.size();
+    }
+
+    private GroupDTO lookup(UUID id) {
+        synchronized (heap) {
+            GroupDTO group = heap.get(id);
+            if (group != null) {
+                heapHits.increment();
+                return group;
+            }
+        }
+        // promoting is a store too: an invalidation after the read must not leave the group on the heap
+        long version = versions.begin(id);
+        try {
+            byte[] record = offHeap.get(id);
+            if (record != null) {
+                GroupDTO group = GroupBinaryCodec.decode(record);
+                promote(id, group);
+                if (!versions.isCurrent(id, version)) {
+                    synchronized (heap) {
+                        heap.remove(id);
+                    }
+                }
+                offHeapHits.increment();
+                return group;
+            }
+        } finally {
+            versions.end(id);
+        }
+        misses.increment();
+        return null;
+    }
+
+    // The loader's lists may still be lazy collections of a managed entity, so both tiers
+    // keep, and callers get, the decoded copy rather than the loader's object
+    private GroupDTO store(UUID id, long version, GroupDTO group) {
+        byte[] record = GroupBinaryCodec.encode(group);
+        GroupDTO detached = GroupBinaryCodec.decode(record);
+        offHeap.put(id, record);
+        promote(id, detached);
+        // an invalidation that landed while loading or storing means group may be stale
+        if (!versions.isCurrent(id, version)) {
+            synchronized (heap) {
+                heap.remove(id);
+            }
+            offHeap.remove(id);
+        }
+        return detached;
+    }
+
+    private void promote(UUID id, GroupDTO group) {
+        synchronized (heap) {
+            heap.put(id, group);
+            if (heap.size() > heapEntries) {
+                UUID eldest = heap.keySet().iterator().next();
+                heap.remove(eldest);
+            }
+        }
+    }
+}
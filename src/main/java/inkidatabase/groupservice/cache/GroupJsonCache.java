@@ -0,0 +1,196 @@
+package inkidatabase.groupservice.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import inkidatabase.groupservice.dto.GroupDTO;
+import inkidatabase.groupservice.event.GroupChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.UncheckedIOException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Serialized UTF-8 JSON of single groups, so hot reads skip both mapping and Jackson.
+ *
+ * <p>A committed change removes the group's entry, and {@link LoadVersions} keeps a read
+ * that raced with the change from storing the old JSON. Misses are usually loaded through
+ * {@link GroupCache}, so the change is first removed from that cache too: otherwise, if
+ * this listener ran before GroupCache's, a read in between would serialize the old group
+ * still held there and keep it. The cache is an LRU of at most {@code maxEntries} groups.
+ */
+@Component
+public class GroupJsonCache {
+
+    private static final byte[] EMPTY_ARRAY = {'[', ']'};
+
+    private final ObjectMapper objectMapper;
+    private final GroupCache groupCache;
+    private final int maxEntries;
+
+    private final Map<UUID, byte[]> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final LoadVersions versions = new LoadVersions();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public GroupJsonCache(ObjectMapper objectMapper, GroupCache groupCache,
+                          @Value("${groups.json-cache.max-entries:1000}") int maxEntries) {
+        this.objectMapper = objectMapper;
+        this.groupCache = groupCache;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * The group's JSON, loading and serializing it on a miss; empty if the loader finds nothing.
+     */
+    public Optional<byte[]> get(UUID id, Function<UUID, Optional<GroupDTO>> loader) {
+        byte[] cached = lookup(id);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        long version = versions.begin(id);
+        try {
+            return loader.apply(id).map(group -> store(id, version, group));
+        } finally {
+            versions.end(id);
+        }
+    }
+
+    /**
+     * A JSON array of the given groups in request order, spliced from cached element bytes.
+     * Misses are loaded with one call to {@code loader}; ids it does not return are skipped.
+     */
+    public byte[] getAll(Collection<UUID> ids, Function<Collection<UUID>, List<GroupDTO>> loader) {
+        Map<UUID, byte[]> found = new HashMap<>();
+        Map<UUID, Long> missing = new HashMap<>();
+        for (UUID id : ids) {
+            byte[] cached = lookup(id);
+            if (cached != null) {
+                found.put(id, cached);
+            } else {
+                missing.put(id, versions.begin(id));
+            }
+        }
+        if (!missing.isEmpty()) {
+            try {
+                for (GroupDTO group : loader.apply(missing.keySet())) {
+                    Long version = missing.get(group.getGroupId());
+                    if (version != null) {
+                        found.put(group.getGroupId(), store(group.getGroupId(), version, group));
+                    }
+                }
+            } finally {
+                missing.keySet().forEach(versions::end);
+            }
+        }
+        return splice(ids, found);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGroupChanged(GroupChangedEvent event) {
+        groupCache.invalidate(event.getGroupId());
+        invalidate(event.getGroupId());
+    }
+
+    public void invalidate(UUID id) {
+        versions.invalidate(id);
+        synchronized (entries) {
+            entries.remove(id);
+        }
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    int trackedVersions() {
+        return versions.size();
+    }
+
+    private byte[] lookup(UUID id) {
+        byte[] json;
+        synchronized (entries) {
+            json = entries.get(id);
+        }
+        if (json != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+        }
+        return json;
+    }
+
+    private byte[] store(UUID id, long version, GroupDTO group) {
+        byte[] json = serialize(group);
+        if (maxEntries <= 0) {
+            return json;
+        }
+        synchronized (entries) {
+            entries.put(id, json);
+            if (entries.size() > maxEntries) {
+                UUID eldest = entries.keySet().iterator().next();
+                entries.remove(eldest);
+            }
+        }
+        // an invalidation that landed while loading, or while storing, means json may be stale
+        if (!versions.isCurrent(id, version)) {
+            synchronized (entries) {
+                entries.remove(id);
+            }
+        }
+        return json;
+    }
+
+    private byte[] serialize(GroupDTO group) {
+        try {
+            return objectMapper.writeValueAsBytes(group);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static byte[] splice(Collection<UUID> ids, Map<UUID, byte[]> found) {
+        if (found.isEmpty()) {
+            return EMPTY_ARRAY.clone();
+        }
+        int length = 1 + found.size();
+        for (byte[] json : found.values()) {
+            length += json.length;
+        }
+        byte[] array = new byte[length];
+        array[0] = '[';
+        int position = 1;
+        for (UUID id : ids) {
+            byte[] json = found.remove(id);
+            if (json == null) {
+                continue;
+            }
+            if (position > 1) {
+                array[position++] = ',';
+            }
+            System.arraycopy(json, 0, array, position, json.length);
+            position += json.length;
+        }
+        array[position] = ']';
+        return array;
+    }
+}
@@ -0,0 +1,47 @@
+package inkidatabase.groupservice.cache;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Detects a committed change that lands while a cache miss is being loaded, so the stale
+ * result is not stored. A group's version is only tracked while at least one load of it
+ * is in flight; invalidating a group nobody is loading costs nothing and leaves no entry.
+ */
+final class LoadVersions {
+
+    private final Map<UUID, Stamp> stamps = new ConcurrentHashMap<>();
+
+    /**
+     * Starts a load of {@code id} and returns the version to pass to {@link #isCurrent};
+     * every call must be paired with {@link #end}.
+     */
+    long begin(UUID id) {
+        return stamps.compute(id, (key, stamp) -> stamp == null
+                ? new Stamp(0, 1)
+                : new Stamp(stamp.version(), stamp.loads() + 1)).version();
+    }
+
+    boolean isCurrent(UUID id, long version) {
+        Stamp stamp = stamps.get(id);
+        return stamp != null && stamp.version() == version;
+    }
+
+    void end(UUID id) {
+        stamps.computeIfPresent(id, (key, stamp) -> stamp.loads() == 1
+                ? null
+                : new Stamp(stamp.version(), stamp.loads() - 1));
+    }
+
+    void invalidate(UUID id) {
+        stamps.computeIfPresent(id, (key, stamp) -> new Stamp(stamp.version() + 1, stamp.loads()));
+    }
+
+    int size() {
+        return stamps.size();
+    }
+
+    private record Stamp(long version, int loads) {
+    }
+}
@@ -0,0 +1,226 @@
+package inkidatabase.groupservice.cache;
+
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Log-structured byte store in direct memory, so cached records add nothing to the heap
+ * the collector has to trace beyond one map entry per group.
+ *
+ * <p>Memory is a fixed set of equally sized slabs, each allocated the first time it is
+ * written to, so an idle or small store reserves little direct memory. Records are appended
+ * to the current slab as {@code [id (16 bytes)][length (4 bytes)][payload]}; replacing or
+ * removing a record only drops its location, leaving dead bytes behind. When no empty slab
+ * is left, the slab with the fewest live bytes is cleaned, and once the live data fills the
+ * store that slab's records are evicted.
+ */
+final class OffHeapGroupStore {
+
+    private static final int HEADER = 16 + 4;
+
+    private final ByteBuffer[] slabs;
+    private final int[] liveBytes;
+    private final int slabSize;
+    // slab index in the high 32 bits, offset of the record header in the low 32 bits
+    private final Map<UUID, Long> locations = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private int writeSlab;
+    private int writePosition;
+    // always empty, the destination when a slab is cleaned
+    private int spareSlab;
+    private long storedBytes;
+
+    OffHeapGroupStore(long capacityBytes, int slabSize) {
+        if (slabSize <= HEADER || capacityBytes < slabSize) {
+            throw new IllegalArgumentException("Off-heap capacity must hold at least one slab");
+        }
+        int slabCount = (int) Math.max(3, capacityBytes / slabSize);
+        this.slabs = new ByteBuffer[slabCount];
+        this.liveBytes = new int[slabCount];
+        this.slabSize = slabSize;
+        this.spareSlab = slabCount - 1;
+    }
+
+    /**
+     * Stores the record, replacing any previous one; false if it is larger than a slab.
+     */
+    boolean put(UUID id, byte[] record) {
+        int size = HEADER + record.length;
+        if (size > slabSize) {
+            return false;
+        }
+        lock.writeLock().lock();
+        try {
+            release(id);
+            reserve(size);
+            append(id, record);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    byte[] get(UUID id) {
+        lock.readLock().lock();
+        try {
+            Long location = locations.get(id);
+            if (location == null) {
+                return null;
+            }
+            ByteBuffer slab = slabs[(int) (location >>> 32)];
+            int offset = (int) (long) location;
+            byte[] record = new byte[slab.getInt(offset + 16)];
+            slab.get(offset + HEADER, record);
+            return record;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    void remove(UUID id) {
+        lock.writeLock().lock();
+        try {
+            release(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return locations.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Payload and header bytes of live records.
+     */
+    long storedBytes() {
+        lock.readLock().lock();
+        try {
+            return storedBytes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    long capacityBytes() {
+        return (long) slabs.length * slabSize;
+    }
+
+    /**
+     * Direct memory taken by the slabs allocated so far.
+     */
+    long allocatedBytes() {
+        lock.readLock().lock();
+        try {
+            long allocated = 0;
+            for (ByteBuffer slab : slabs) {
+                if (slab != null) {
+                    allocated += slabSize;
+                }
+            }
+            return allocated;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void release(UUID id) {
+        Long location = locations.remove(id);
+        if (location != null) {
+            int slab = (int) (location >>> 32);
+            int size = HEADER + slabs[slab].getInt((int) (long) location + 16);
+            liveBytes[slab] -= size;
+            storedBytes -= size;
+        }
+    }
+
+    /**
+     * Makes room for {@code size} bytes at the write position. Cleaning copies the least-live
+     * slab into the spare slab, which becomes the write slab while the cleaned one becomes
+     * the spare; if the copied records would leave no room they are evicted instead.
+     */
+    private void reserve(int size) {
+        if (writePosition + size <= slabSize) {
+            return;
+        }
+        int empty = -1;
+        int victim = -1;
+        for (int i = 0; i < slabs.length; i++) {
+            if (i == writeSlab || i == spareSlab) {
+                continue;
+            }
+            if (liveBytes[i] == 0) {
+                empty = i;
+                break;
+            }
+            if (victim < 0 || liveBytes[i] < liveBytes[victim]) {
+                victim = i;
+            }
+        }
+        if (empty >= 0) {
+            writeSlab = empty;
+            writePosition = 0;
+            return;
+        }
+        boolean keep = liveBytes[victim] + size <= slabSize;
+        if (keep) {
+            writeSlab = spareSlab;
+            writePosition = 0;
+            spareSlab = victim;
+        } else {
+            writeSlab = victim;
+            writePosition = 0;
+        }
+        drain(victim, keep);
+    }
+
+    /**
+     * Walks the slab's records, moving live ones to the write slab or dropping them.
+     */
+    private void drain(int victim, boolean keep) {
+        ByteBuffer slab = slabs[victim];
+        int offset = 0;
+        while (liveBytes[victim] > 0) {
+            UUID id = new UUID(slab.getLong(offset), slab.getLong(offset + 8));
+            int length = slab.getInt(offset + 16);
+            Long location = locations.get(id);
+            if (location != null && location == (((long) victim << 32) | offset)) {
+                locations.remove(id);
+                liveBytes[victim] -= HEADER + length;
+                storedBytes -= HEADER + length;
+                if (keep) {
+                    byte[] payload = new byte[length];
+                    slab.get(offset + HEADER, payload);
+                    append(id, payload);
+                }
+            }
+            offset += HEADER + length;
+        }
+    }
+
+    private void append(UUID id, byte[] payload) {
+        int length = payload.length;
+        if (slabs[writeSlab] == null) {
+            slabs[writeSlab] = ByteBuffer.allocateDirect(slabSize);
+        }
+        ByteBuffer slab = slabs[writeSlab];
+        slab.putLong(writePosition, id.getMostSignificantBits());
+        slab.putLong(writePosition + 8, id.getLeastSignificantBits());
+        slab.putInt(writePosition + 16, length);
+        slab.put(writePosition + HEADER, payload, 0, length);
+        locations.put(id, ((long) writeSlab << 32) | writePosition);
+        liveBytes[writeSlab] += HEADER + length;
+        storedBytes += HEADER + length;
+        writePosition += HEADER + length;
+    }
+}
@@ -1,25 +1,63 @@
 package inkidatabase.groupservice.controller;
 
+import inkidatabase.groupservice.cache.GroupCache;
+import inkidatabase.groupservice.cache.GroupJsonCache;
+import inkidatabase.groupservice.dto.BatchCreateGroupsRequest;
 import inkidatabase.groupservice.dto.CreateGroupRequest;
+import inkidatabase.groupservice.dto.GroupChangeFeedDTO;
 import inkidatabase.groupservice.dto.GroupDTO;
+import inkidatabase.groupservice.dto.GroupSearchCriteria;
+import inkidatabase.groupservice.dto.MembershipDTO;
 import inkidatabase.groupservice.dto.UpdateGroupRequest;
+import inkidatabase.groupservice.idempotency.IdempotencyKeyReusedException;
+import inkidatabase.groupservice.idempotency.IdempotencyStore;
+import inkidatabase.groupservice.idempotency.IdempotentResponse;
+import inkidatabase.groupservice.service.ChangeCursor;
 import inkidatabase.groupservice.service.GroupService;
+import inkidatabase.groupservice.writebehind.GroupWriteBehind;
+import enums.GroupActiveStatus;
 import jakarta.validation.Valid;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 @RestController
 @RequestMapping("/groups")
 public class GroupController {
+
+    private static final int MAX_BATCH_SIZE = 100;
+    private static final int MAX_CHANGES_LIMIT = 1000;
+    private static final String RESPOND_ASYNC = "respond-async";
+    private static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+    // Scalar columns only; anything else would fail in the query as a 500
+    private static final List<String> SORTABLE = List.of("groupName", "agency", "debutYear", "disbandYear", "status");
     
     private final GroupService service;
+    private final GroupJsonCache jsonCache;
+    private final GroupCache groupCache;
+    private final GroupWriteBehind writeBehind;
+    private final IdempotencyStore idempotencyStore;
 
-    public GroupController(GroupService service) {
+    public GroupController(GroupService service, GroupJsonCache jsonCache, GroupCache groupCache,
+                           GroupWriteBehind writeBehind, IdempotencyStore idempotencyStore) {
         this.service = service;
+        this.jsonCache = jsonCache;
+        this.groupCache = groupCache;
+        this.writeBehind = writeBehind;
+        this.idempotencyStore = idempotencyStore;
     }
 
     @GetMapping
@@ -27,24 +65,99 @@ public class GroupController {
         return service.findAll();
     }
 
+    // A retry with the same Idempotency-Key gets the original response instead of a second group
     @PostMapping
-    @ResponseStatus(HttpStatus.CREATED)
-    public GroupDTO createGroup(@Valid @RequestBody CreateGroupRequest request) {
-        return service.create(request);
+    public ResponseEntity<?> createGroup(@Valid @RequestBody CreateGroupRequest request,
+                                         @RequestHeader(name = IDEMPOTENCY_KEY, required = false) String idempotencyKey) {
+        if (idempotencyKey == null) {
+            return ResponseEntity.status(HttpStatus.CREATED).body(service.create(request));
+        }
+        return idempotent("POST /groups", idempotencyKey, request, () -> service.create(request));
+    }
+
+    @PostMapping("/batch")
+    public ResponseEntity<?> createGroups(@Valid @RequestBody BatchCreateGroupsRequest request,
+                                          @RequestHeader(name = IDEMPOTENCY_KEY, required = false) String idempotencyKey) {
+        if (idempotencyKey == null) {
+            return ResponseEntity.status(HttpStatus.CREATED).body(service.createAll(request.getGroups()));
+        }
+        return idempotent("POST /groups/batch", idempotencyKey, request, () -> service.createAll(request.getGroups()));
     }
 
+    // Served as pre-serialized JSON from GroupJsonCache, backed by GroupCache
     @GetMapping("/{id}")
-    public GroupDTO getGroupById(@PathVariable UUID id) {
-        return service.findById(id)
+    public ResponseEntity<byte[]> getGroupById(@PathVariable UUID id) {
+        byte[] json = jsonCache.get(id, key -> groupCache.get(key, service::findById))
                 .orElseThrow(() -> new ResponseStatusException(
                     HttpStatus.NOT_FOUND, 
                     String.format("Group not found with id: %s", id)
                 ));
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(json);
     }
 
+    // Groups in request order; unknown ids are left out
+    @GetMapping("/batch")
+    public ResponseEntity<byte[]> getGroupsByIds(@RequestParam List<UUID> ids) {
+        Set<UUID> distinct = new LinkedHashSet<>(ids);
+        if (distinct.isEmpty() || distinct.size() > MAX_BATCH_SIZE) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    String.format("ids must contain between 1 and %d group ids", MAX_BATCH_SIZE));
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(jsonCache.getAll(distinct, missing -> groupCache.getAll(missing, service::findAllById)));
+    }
+
+    // Incremental sync: pass the previous response's nextCursor as since
+    @GetMapping("/changes")
+    public GroupChangeFeedDTO getChanges(@RequestParam(required = false) String since,
+                                         @RequestParam(defaultValue = "100") int limit) {
+        if (limit < 1 || limit > MAX_CHANGES_LIMIT) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    String.format("limit must be between 1 and %d", MAX_CHANGES_LIMIT));
+        }
+        ChangeCursor cursor;
+        try {
+            cursor = ChangeCursor.decode(since);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+        return service.findChanges(cursor, limit);
+    }
+
+    // With "Prefer: respond-async" and write-behind enabled, the update is queued and 202 returned
     @PutMapping("/{id}")
-    public GroupDTO updateGroup(@PathVariable UUID id, @Valid @RequestBody UpdateGroupRequest request) {
-        return service.update(id, request);
+    public ResponseEntity<GroupDTO> updateGroup(@PathVariable UUID id, @Valid @RequestBody UpdateGroupRequest request,
+                                                @RequestHeader(name = "Prefer", required = false) String prefer) {
+        if (prefer != null && prefer.toLowerCase(Locale.ROOT).contains(RESPOND_ASYNC) && writeBehind.isEnabled()) {
+            if (groupCache.get(id, service::findById).isEmpty()) {
+                throw new ResponseStatusException(HttpStatus.NOT_FOUND,
+                        String.format("Group not found with id: %s", id));
+            }
+            writeBehind.accept(id, request);
+            return ResponseEntity.accepted()
+                    .header("Preference-Applied", RESPOND_ASYNC)
+                    .build();
+        }
+        // an older queued update must not overwrite this one when it is flushed later
+        if (writeBehind.isEnabled() && !writeBehind.flush(id)) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE,
+                    String.format("A queued update to group %s could not be applied yet", id));
+        }
+        return ResponseEntity.ok(service.update(id, request));
+    }
+
+    // Soft delete; the group stays in the change feed as a tombstone until it is purged
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> deleteGroup(@PathVariable UUID id) {
+        try {
+            service.delete(id);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, e.getMessage());
+        }
+        return ResponseEntity.noContent().build();
     }
 
     @GetMapping("/agency/{agency}")
@@ -57,6 +170,24 @@ public class GroupController {
         return service.findByDebutYear(year);
     }
 
+    @GetMapping("/debut-year")
+    public List<GroupDTO> getGroupsByDebutYearRange(@RequestParam int from, @RequestParam int to) {
+        if (from > to) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "from must not be after to");
+        }
+        return service.findByDebutYearRange(from, to);
+    }
+
+    @GetMapping("/active-in/{year}")
+    public List<GroupDTO> getGroupsActiveIn(@PathVariable int year) {
+        return service.findActiveDuring(year);
+    }
+
+    @GetMapping("/disbanded-after/{year}")
+    public List<GroupDTO> getGroupsDisbandedAfter(@PathVariable int year) {
+        return service.findDisbandedAfter(year);
+    }
+
     @GetMapping("/active")
     public List<GroupDTO> getActiveGroups() {
         return service.findActiveGroups();
@@ -72,8 +203,58 @@ public class GroupController {
         return service.findByMember(memberName);
     }
 
+    @GetMapping("/member/{memberName}/memberships")
+    public List<MembershipDTO> getMemberships(@PathVariable String memberName) {
+        return service.findMemberships(memberName);
+    }
+
     @GetMapping("/label/{label}")
     public List<GroupDTO> getGroupsByLabel(@PathVariable String label) {
         return service.findByLabel(label);
     }
+
+    @GetMapping("/search")
+    public Page<GroupDTO> searchGroups(
+            @RequestParam(required = false) String agency,
+            @RequestParam(required = false) Integer debutYearFrom,
+            @RequestParam(required = false) Integer debutYearTo,
+            @RequestParam(required = false) GroupActiveStatus status,
+            @RequestParam(required = false) String label,
+            @RequestParam(required = false) String member,
+            @PageableDefault(size = 20, sort = "groupName", direction = Sort.Direction.ASC) Pageable pageable) {
+        if (debutYearFrom != null && debutYearTo != null && debutYearFrom > debutYearTo) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "debutYearFrom must not be after debutYearTo");
+        }
+        for (Sort.Order order : pageable.getSort()) {
+            if (!SORTABLE.contains(order.getProperty())) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                        "Cannot sort by '" + order.getProperty() + "'; sortable properties are " + SORTABLE);
+            }
+        }
+        GroupSearchCriteria criteria = GroupSearchCriteria.builder()
+                .agency(agency)
+                .debutYearFrom(debutYearFrom)
+                .debutYearTo(debutYearTo)
+                .status(status)
+                .label(label)
+                .member(member)
+                .build();
+        return service.search(criteria, pageable);
+    }
+
+    private ResponseEntity<byte[]> idempotent(String scope, String key, Object request, Supplier<?> action) {
+        IdempotentResponse response;
+        try {
+            response = idempotencyStore.execute(scope, key, request, HttpStatus.CREATED.value(), action);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        } catch (IdempotencyKeyReusedException e) {
+            throw new ResponseStatusException(HttpStatus.UNPROCESSABLE_ENTITY, e.getMessage());
+        }
+        return ResponseEntity.status(response.status())
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("Idempotent-Replayed", String.valueOf(response.replayed()))
+                .body(response.body());
+    }
 }
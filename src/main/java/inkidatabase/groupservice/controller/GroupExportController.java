@@ -0,0 +1,43 @@
+package inkidatabase.groupservice.controller;
+
+import inkidatabase.groupservice.bulk.GroupExporter;
+import inkidatabase.groupservice.bulk.GroupImportFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+
+@RestController
+@RequestMapping("/groups/export")
+public class GroupExportController {
+
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'");
+
+    private final GroupExporter exporter;
+
+    public GroupExportController(GroupExporter exporter) {
+        this.exporter = exporter;
+    }
+
+    // Streamed as it is read; POST the file back to /groups/import to restore it
+    @GetMapping
+    public ResponseEntity<StreamingResponseBody> exportGroups() {
+        String fileName = "groups-" + FILE_TIMESTAMP.format(ZonedDateTime.now(ZoneOffset.UTC))
+                + "." + GroupImportFormat.ARCHIVE_EXTENSION;
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(GroupImportFormat.ARCHIVE_MEDIA_TYPE))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(fileName)
+                        .build()
+                        .toString())
+                .body(exporter::exportGroups);
+    }
+}
@@ -0,0 +1,57 @@
+package inkidatabase.groupservice.controller;
+
+import inkidatabase.groupservice.dto.FacetResultDTO;
+import inkidatabase.groupservice.index.FacetQuery;
+import inkidatabase.groupservice.index.GroupFacetIndex;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Arrays;
+import java.util.List;
+
+@RestController
+@RequestMapping("/groups/facets")
+public class GroupFacetController {
+
+    private static final int MAX_LIMIT = 1000;
+
+    private final GroupFacetIndex facetIndex;
+
+    public GroupFacetController(GroupFacetIndex facetIndex) {
+        this.facetIndex = facetIndex;
+    }
+
+    /**
+     * Example: {@code /groups/facets?filter=label:kpop&filter=status:ACTIVE&exclude=agency:YG&facet=agency}
+     * counts active kpop groups per agency, excluding YG. Terms are read from the raw
+     * parameter values, since a bound list would split a value such as
+     * {@code agency:Big Hit, Inc.} at the comma.
+     */
+    @GetMapping
+    public FacetResultDTO getFacets(
+            @RequestParam(name = "facet", required = false) List<String> facets,
+            @RequestParam(defaultValue = "20") int limit,
+            HttpServletRequest request) {
+        if (!facetIndex.isReady()) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Facet index is not loaded yet");
+        }
+        if (limit < 0 || limit > MAX_LIMIT) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    String.format("limit must be between 0 and %d", MAX_LIMIT));
+        }
+        FacetQuery query;
+        try {
+            query = FacetQuery.parse(values(request, "filter"), values(request, "exclude"), facets);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+        return facetIndex.query(query, limit);
+    }
+
+    private static List<String> values(HttpServletRequest request, String name) {
+        String[] values = request.getParameterValues(name);
+        return values == null ? null : Arrays.asList(values);
+    }
+}
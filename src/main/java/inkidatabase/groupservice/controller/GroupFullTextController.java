@@ -0,0 +1,35 @@
+package inkidatabase.groupservice.controller;
+
+import inkidatabase.groupservice.dto.ScoredGroupDTO;
+import inkidatabase.groupservice.index.GroupFullTextIndex;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/groups/fulltext")
+public class GroupFullTextController {
+
+    private static final int MAX_LIMIT = 100;
+
+    private final GroupFullTextIndex fullTextIndex;
+
+    public GroupFullTextController(GroupFullTextIndex fullTextIndex) {
+        this.fullTextIndex = fullTextIndex;
+    }
+
+    @GetMapping
+    public List<ScoredGroupDTO> fullTextSearch(@RequestParam(name = "q") String query,
+                                               @RequestParam(defaultValue = "20") int limit) {
+        if (!fullTextIndex.isReady()) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Full-text index is not loaded yet");
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    String.format("limit must be between 1 and %d", MAX_LIMIT));
+        }
+        return fullTextIndex.search(query, limit);
+    }
+}
@@ -0,0 +1,53 @@
+package inkidatabase.groupservice.controller;
+
+import inkidatabase.groupservice.dto.FuzzyMatchDTO;
+import inkidatabase.groupservice.index.GroupFuzzyIndex;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+@RestController
+@RequestMapping("/groups/fuzzy")
+public class GroupFuzzyController {
+
+    private static final int MAX_LIMIT = 50;
+
+    private final GroupFuzzyIndex fuzzyIndex;
+
+    public GroupFuzzyController(GroupFuzzyIndex fuzzyIndex) {
+        this.fuzzyIndex = fuzzyIndex;
+    }
+
+    /**
+     * {@code in} narrows the search to {@code name} (group names) or {@code member}
+     * (current and former members); both are searched by default.
+     */
+    @GetMapping
+    public List<FuzzyMatchDTO> fuzzySearch(@RequestParam(name = "q") String query,
+                                           @RequestParam(name = "in", defaultValue = "all") String in,
+                                           @RequestParam(defaultValue = "10") int limit) {
+        if (!fuzzyIndex.isReady()) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Fuzzy index is not loaded yet");
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    String.format("limit must be between 1 and %d", MAX_LIMIT));
+        }
+        return fuzzyIndex.search(query, fieldsFor(in), limit);
+    }
+
+    private static Set<GroupFuzzyIndex.Field> fieldsFor(String in) {
+        return switch (in.toLowerCase(Locale.ROOT)) {
+            case "all" -> EnumSet.allOf(GroupFuzzyIndex.Field.class);
+            case "name" -> EnumSet.of(GroupFuzzyIndex.Field.GROUP_NAME);
+            case "member" -> EnumSet.of(GroupFuzzyIndex.Field.MEMBER, GroupFuzzyIndex.Field.FORMER_MEMBER);
+            default -> throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "in must be one of all, name, member");
+        };
+    }
+}
@@ -0,0 +1,65 @@
+package inkidatabase.groupservice.controller;
+
+import inkidatabase.groupservice.dto.GraphNodeDTO;
+import inkidatabase.groupservice.dto.RelatedGroupDTO;
+import inkidatabase.groupservice.index.GroupGraphIndex;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/groups")
+public class GroupGraphController {
+
+    private static final int MAX_LIMIT = 500;
+    private static final int MAX_DEPTH = 4;
+
+    private final GroupGraphIndex graphIndex;
+
+    public GroupGraphController(GroupGraphIndex graphIndex) {
+        this.graphIndex = graphIndex;
+    }
+
+    @GetMapping("/{id}/related")
+    public List<RelatedGroupDTO> getRelatedGroups(@PathVariable UUID id,
+                                                  @RequestParam(defaultValue = "20") int limit) {
+        checkReady();
+        checkLimit(limit);
+        return graphIndex.related(id, limit)
+                .orElseThrow(() -> notFound(id));
+    }
+
+    @GetMapping("/{id}/neighborhood")
+    public List<GraphNodeDTO> getNeighborhood(@PathVariable UUID id,
+                                              @RequestParam(defaultValue = "2") int depth,
+                                              @RequestParam(defaultValue = "100") int limit) {
+        checkReady();
+        checkLimit(limit);
+        if (depth < 1 || depth > MAX_DEPTH) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    String.format("depth must be between 1 and %d", MAX_DEPTH));
+        }
+        return graphIndex.neighborhood(id, depth, limit)
+                .orElseThrow(() -> notFound(id));
+    }
+
+    private void checkReady() {
+        if (!graphIndex.isReady()) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Group graph is not loaded yet");
+        }
+    }
+
+    private static void checkLimit(int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    String.format("limit must be between 1 and %d", MAX_LIMIT));
+        }
+    }
+
+    private static ResponseStatusException notFound(UUID id) {
+        return new ResponseStatusException(HttpStatus.NOT_FOUND, "Group not found with id: " + id);
+    }
+}
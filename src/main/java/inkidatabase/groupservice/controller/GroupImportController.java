@@ -0,0 +1,36 @@
+package inkidatabase.groupservice.controller;
+
+import inkidatabase.groupservice.bulk.GroupImportFormat;
+import inkidatabase.groupservice.bulk.GroupImporter;
+import inkidatabase.groupservice.dto.GroupImportReport;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+
+@RestController
+@RequestMapping("/groups/import")
+public class GroupImportController {
+
+    private final GroupImporter importer;
+
+    public GroupImportController(GroupImporter importer) {
+        this.importer = importer;
+    }
+
+    // The body is streamed straight into the importer; ?format= overrides the Content-Type
+    @PostMapping
+    public GroupImportReport importGroups(@RequestParam(required = false) String format,
+                                          HttpServletRequest request) throws IOException {
+        try {
+            GroupImportFormat importFormat = format != null
+                    ? GroupImportFormat.of(format)
+                    : GroupImportFormat.fromContentType(request.getContentType());
+            return importer.importGroups(request.getInputStream(), importFormat);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package inkidatabase.groupservice.controller;
+
+import inkidatabase.groupservice.dto.GroupIndexStats;
+import inkidatabase.groupservice.index.GroupIndexRegistry;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/groups/index")
+public class GroupIndexController {
+
+    private final GroupIndexRegistry registry;
+
+    public GroupIndexController(GroupIndexRegistry registry) {
+        this.registry = registry;
+    }
+
+    @GetMapping("/stats")
+    public List<GroupIndexStats> getIndexStats() {
+        return registry.stats();
+    }
+
+    @PostMapping("/rebuild")
+    public List<GroupIndexStats> rebuildIndexes() {
+        if (!registry.isEnabled()) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Group indexes are disabled");
+        }
+        registry.rebuild();
+        return registry.stats();
+    }
+}
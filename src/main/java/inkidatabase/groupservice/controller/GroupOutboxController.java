@@ -0,0 +1,21 @@
+package inkidatabase.groupservice.controller;
+
+import inkidatabase.groupservice.dto.GroupOutboxStats;
+import inkidatabase.groupservice.outbox.GroupOutboxRelay;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/groups/outbox")
+public class GroupOutboxController {
+
+    private final GroupOutboxRelay relay;
+
+    public GroupOutboxController(GroupOutboxRelay relay) {
+        this.relay = relay;
+    }
+
+    @GetMapping("/stats")
+    public GroupOutboxStats getOutboxStats() {
+        return relay.stats();
+    }
+}
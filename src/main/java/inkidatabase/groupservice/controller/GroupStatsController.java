@@ -0,0 +1,27 @@
+package inkidatabase.groupservice.controller;
+
+import inkidatabase.groupservice.dto.GroupStatsDTO;
+import inkidatabase.groupservice.dto.StatsReconciliationDTO;
+import inkidatabase.groupservice.service.GroupStatsService;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/groups/stats")
+public class GroupStatsController {
+
+    private final GroupStatsService statsService;
+
+    public GroupStatsController(GroupStatsService statsService) {
+        this.statsService = statsService;
+    }
+
+    @GetMapping
+    public GroupStatsDTO getStats() {
+        return statsService.getStats();
+    }
+
+    @PostMapping("/reconcile")
+    public StatsReconciliationDTO reconcileStats() {
+        return statsService.reconcile();
+    }
+}
@@ -0,0 +1,36 @@
+package inkidatabase.groupservice.controller;
+
+import inkidatabase.groupservice.service.ChangeCursor;
+import inkidatabase.groupservice.stream.GroupChangeStream;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/groups/stream")
+public class GroupStreamController {
+
+    private final GroupChangeStream stream;
+
+    public GroupStreamController(GroupChangeStream stream) {
+        this.stream = stream;
+    }
+
+    // Live only, unless a cursor is given via ?since= or the EventSource's Last-Event-ID
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges(@RequestParam(required = false) String since,
+                                    @RequestHeader(name = "Last-Event-ID", required = false) String lastEventId) {
+        String token = lastEventId != null && !lastEventId.isBlank() ? lastEventId : since;
+        ChangeCursor cursor;
+        try {
+            cursor = token == null ? null : ChangeCursor.decode(token);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+        return stream.subscribe(cursor)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE,
+                        "Too many stream subscribers"));
+    }
+}
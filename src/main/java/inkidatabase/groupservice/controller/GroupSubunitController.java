@@ -0,0 +1,36 @@
+package inkidatabase.groupservice.controller;
+
+import inkidatabase.groupservice.dto.SubunitHierarchyDTO;
+import inkidatabase.groupservice.service.SubunitHierarchyService;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Optional;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/groups")
+public class GroupSubunitController {
+
+    private final SubunitHierarchyService subunitService;
+
+    public GroupSubunitController(SubunitHierarchyService subunitService) {
+        this.subunitService = subunitService;
+    }
+
+    @GetMapping("/{id}/subunits")
+    public SubunitHierarchyDTO<?> getSubunits(@PathVariable UUID id,
+                                              @RequestParam(defaultValue = "full") String view) {
+        Optional<? extends SubunitHierarchyDTO<?>> hierarchy = switch (view) {
+            case "full" -> subunitService.findSubunits(id);
+            case "summary" -> subunitService.findSubunitSummaries(id);
+            default -> throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "view must be one of: full, summary");
+        };
+        return hierarchy.orElseThrow(() -> new ResponseStatusException(
+                HttpStatus.NOT_FOUND,
+                String.format("Group not found with id: %s", id)
+        ));
+    }
+}
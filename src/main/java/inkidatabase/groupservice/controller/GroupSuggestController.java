@@ -0,0 +1,35 @@
+package inkidatabase.groupservice.controller;
+
+import inkidatabase.groupservice.dto.GroupSuggestionDTO;
+import inkidatabase.groupservice.index.GroupNameSuggestIndex;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/groups/suggest")
+public class GroupSuggestController {
+
+    private static final int MAX_LIMIT = 50;
+
+    private final GroupNameSuggestIndex suggestIndex;
+
+    public GroupSuggestController(GroupNameSuggestIndex suggestIndex) {
+        this.suggestIndex = suggestIndex;
+    }
+
+    @GetMapping
+    public List<GroupSuggestionDTO> suggestGroups(@RequestParam(name = "q") String query,
+                                                  @RequestParam(defaultValue = "10") int limit) {
+        if (!suggestIndex.isReady()) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Suggest index is not loaded yet");
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    String.format("limit must be between 1 and %d", MAX_LIMIT));
+        }
+        return suggestIndex.suggest(query, limit);
+    }
+}
@@ -0,0 +1,21 @@
+package inkidatabase.groupservice.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchCreateGroupsRequest {
+    @NotEmpty(message = "At least one group is required")
+    @Size(max = 100, message = "At most 100 groups can be created per request")
+    private List<@Valid CreateGroupRequest> groups;
+}
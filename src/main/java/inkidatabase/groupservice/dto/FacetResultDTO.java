@@ -0,0 +1,16 @@
+package inkidatabase.groupservice.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+public class FacetResultDTO {
+    private long total;
+    // facet field -> value -> number of matching groups with that value
+    private Map<String, Map<String, Long>> facets;
+    private List<GroupDTO> groups;
+}
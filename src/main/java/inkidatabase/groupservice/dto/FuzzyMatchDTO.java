@@ -0,0 +1,17 @@
+package inkidatabase.groupservice.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.UUID;
+
+@Data
+@Builder
+public class FuzzyMatchDTO {
+    // groupName, member or formerMember
+    private String field;
+    private String matched;
+    private UUID groupId;
+    private String groupName;
+    private double score;
+}
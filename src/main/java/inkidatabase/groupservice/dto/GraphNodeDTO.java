@@ -0,0 +1,16 @@
+package inkidatabase.groupservice.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.UUID;
+
+@Data
+@Builder
+public class GraphNodeDTO {
+    private UUID groupId;
+    private String groupName;
+    private int distance;
+    // the group one hop closer to the start, for drawing the traversal as a tree
+    private UUID via;
+}
@@ -0,0 +1,13 @@
+package inkidatabase.groupservice.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class GroupChangeDTO {
+    private long sequence;
+    // Tombstone of a soft-deleted group; group then holds its last state
+    private boolean deleted;
+    private GroupDTO group;
+}
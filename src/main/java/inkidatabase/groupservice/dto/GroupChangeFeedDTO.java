@@ -0,0 +1,15 @@
+package inkidatabase.groupservice.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class GroupChangeFeedDTO {
+    private List<GroupChangeDTO> changes;
+    // Pass back as ?since= to continue; unchanged when there was nothing new
+    private String nextCursor;
+    private boolean hasMore;
+}
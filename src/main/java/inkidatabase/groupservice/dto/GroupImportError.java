@@ -0,0 +1,12 @@
+package inkidatabase.groupservice.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class GroupImportError {
+    // Line in the file where the record starts, 1-based; the record number for archives
+    private long line;
+    private String message;
+}
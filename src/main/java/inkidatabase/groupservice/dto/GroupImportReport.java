@@ -0,0 +1,22 @@
+package inkidatabase.groupservice.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class GroupImportReport {
+    // Records read from the file
+    private long rows;
+    private long imported;
+    // Rows failing CreateGroupRequest validation or not parseable
+    private long invalid;
+    // Rows repeating an earlier row or a stored group (same name and debut year)
+    private long duplicates;
+    private long elapsedMillis;
+    private double rowsPerSecond;
+    // The first groups.import.max-errors problems, in file order
+    private List<GroupImportError> errors;
+}
@@ -0,0 +1,13 @@
+package inkidatabase.groupservice.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class GroupIndexStats {
+    private String name;
+    private long groups;
+    private long keys;
+    private long estimatedBytes;
+}
@@ -0,0 +1,16 @@
+package inkidatabase.groupservice.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class GroupOutboxStats {
+    private long pending;
+    private long delivered;
+    private long batches;
+    private long failures;
+    private long lastDrainEvents;
+    private long lastDrainMillis;
+    private double lastDrainEventsPerSecond;
+}
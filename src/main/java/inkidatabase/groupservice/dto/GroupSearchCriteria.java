@@ -0,0 +1,19 @@
+package inkidatabase.groupservice.dto;
+
+import enums.GroupActiveStatus;
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * Optional filters for the search endpoint; null fields are not applied.
+ */
+@Data
+@Builder
+public class GroupSearchCriteria {
+    private String agency;
+    private Integer debutYearFrom;
+    private Integer debutYearTo;
+    private GroupActiveStatus status;
+    private String label;
+    private String member;
+}
@@ -0,0 +1,17 @@
+package inkidatabase.groupservice.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.Map;
+
+@Data
+@Builder
+public class GroupStatsDTO {
+    private long total;
+    // group counts keyed by agency, debut year, status and label, each sorted by key
+    private Map<String, Long> byAgency;
+    private Map<String, Long> byDebutYear;
+    private Map<String, Long> byStatus;
+    private Map<String, Long> byLabel;
+}
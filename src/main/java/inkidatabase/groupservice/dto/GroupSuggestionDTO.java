@@ -0,0 +1,13 @@
+package inkidatabase.groupservice.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.UUID;
+
+@Data
+@Builder
+public class GroupSuggestionDTO {
+    private UUID groupId;
+    private String groupName;
+}
@@ -0,0 +1,16 @@
+package inkidatabase.groupservice.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.UUID;
+
+@Data
+@Builder
+public class GroupSummaryDTO {
+    private UUID groupId;
+    private String groupName;
+    private String agency;
+    private int debutYear;
+    private Integer disbandYear;
+}
@@ -0,0 +1,17 @@
+package inkidatabase.groupservice.dto;
+
+import enums.MemberRole;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.UUID;
+
+@Data
+@Builder
+public class MembershipDTO {
+    private UUID groupId;
+    private String groupName;
+    private MemberRole role;
+    private int debutYear;
+    private Integer disbandYear;
+}
@@ -0,0 +1,18 @@
+package inkidatabase.groupservice.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+public class RelatedGroupDTO {
+    private UUID groupId;
+    private String groupName;
+    // number of shared people and subunit links
+    private int weight;
+    private List<String> sharedMembers;
+    private boolean subunitLink;
+}
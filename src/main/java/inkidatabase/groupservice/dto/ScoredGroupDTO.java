@@ -0,0 +1,11 @@
+package inkidatabase.groupservice.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class ScoredGroupDTO {
+    private double score;
+    private GroupDTO group;
+}
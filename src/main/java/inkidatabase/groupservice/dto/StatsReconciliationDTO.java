@@ -0,0 +1,14 @@
+package inkidatabase.groupservice.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class StatsReconciliationDTO {
+    private boolean consistent;
+    // e.g. "byAgency[HYBE]: counters=3, database=4"
+    private List<String> differences;
+}
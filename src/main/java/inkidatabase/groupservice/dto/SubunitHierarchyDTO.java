@@ -0,0 +1,18 @@
+package inkidatabase.groupservice.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+public class SubunitHierarchyDTO<T> {
+    private UUID groupId;
+    private String groupName;
+    // in the order the parent lists its subunits
+    private List<T> subunits;
+    // subunit names with no matching group
+    private List<String> unresolved;
+}
@@ -0,0 +1,47 @@
+package inkidatabase.groupservice.event;
+
+import inkidatabase.groupservice.dto.GroupDTO;
+import lombok.Value;
+
+import java.util.UUID;
+
+/**
+ * Published by the service after a group is written. Listeners that maintain derived
+ * state should use {@code @TransactionalEventListener} so they only see committed data.
+ */
+@Value
+public class GroupChangedEvent {
+
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    ChangeType type;
+    UUID groupId;
+    // The group as written; null for deletions
+    GroupDTO group;
+    // The group's change_seq after this write; 0 when unknown
+    long sequence;
+
+    public static GroupChangedEvent created(UUID groupId, GroupDTO group) {
+        return created(groupId, group, 0);
+    }
+
+    public static GroupChangedEvent created(UUID groupId, GroupDTO group, long sequence) {
+        return new GroupChangedEvent(ChangeType.CREATED, groupId, group, sequence);
+    }
+
+    public static GroupChangedEvent updated(UUID groupId, GroupDTO group) {
+        return updated(groupId, group, 0);
+    }
+
+    public static GroupChangedEvent updated(UUID groupId, GroupDTO group, long sequence) {
+        return new GroupChangedEvent(ChangeType.UPDATED, groupId, group, sequence);
+    }
+
+    public static GroupChangedEvent deleted(UUID groupId, long sequence) {
+        return new GroupChangedEvent(ChangeType.DELETED, groupId, null, sequence);
+    }
+}
@@ -0,0 +1,16 @@
+package inkidatabase.groupservice.id;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class GroupIdConfig {
+
+    @Bean
+    public GroupIdGenerator groupIdGenerator(@Value("${groups.id.strategy:v7}") String strategy) {
+        GroupIdGenerator generator = GroupIds.forStrategy(strategy);
+        GroupIds.use(generator);
+        return generator;
+    }
+}
@@ -0,0 +1,11 @@
+package inkidatabase.groupservice.id;
+
+import java.util.UUID;
+
+/**
+ * Source of primary keys for new {@link inkidatabase.groupservice.model.Group} rows.
+ */
+@FunctionalInterface
+public interface GroupIdGenerator {
+    UUID nextId();
+}
@@ -0,0 +1,44 @@
+package inkidatabase.groupservice.id;
+
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * Static access to the active {@link GroupIdGenerator}.
+ *
+ * <p>Entities are instantiated outside the Spring context (constructors, builder, mapper),
+ * so the generator is held here and replaced once at startup by {@link GroupIdConfig}.
+ */
+public final class GroupIds {
+
+    public static final String TIME_ORDERED = "v7";
+    public static final String RANDOM = "v4";
+
+    private static volatile GroupIdGenerator generator = new TimeOrderedGroupIdGenerator();
+
+    private GroupIds() {
+    }
+
+    public static UUID next() {
+        return generator.nextId();
+    }
+
+    public static GroupIdGenerator generator() {
+        return generator;
+    }
+
+    public static void use(GroupIdGenerator idGenerator) {
+        if (idGenerator == null) {
+            throw new IllegalArgumentException("Group id generator cannot be null");
+        }
+        generator = idGenerator;
+    }
+
+    public static GroupIdGenerator forStrategy(String strategy) {
+        return switch (strategy == null ? "" : strategy.trim().toLowerCase(Locale.ROOT)) {
+            case TIME_ORDERED -> new TimeOrderedGroupIdGenerator();
+            case RANDOM -> new RandomGroupIdGenerator();
+            default -> throw new IllegalArgumentException("Unknown group id strategy: " + strategy);
+        };
+    }
+}
@@ -0,0 +1,15 @@
+package inkidatabase.groupservice.id;
+
+import java.util.UUID;
+
+/**
+ * Random (version 4) identifiers. Kept for compatibility with rows created before
+ * time-ordered identifiers were introduced.
+ */
+public final class RandomGroupIdGenerator implements GroupIdGenerator {
+
+    @Override
+    public UUID nextId() {
+        return UUID.randomUUID();
+    }
+}
@@ -0,0 +1,67 @@
+package inkidatabase.groupservice.id;
+
+import java.security.SecureRandom;
+import java.util.Random;
+import java.util.UUID;
+import java.util.function.LongSupplier;
+
+/**
+ * Time-ordered (version 7, RFC 9562) identifiers.
+ *
+ * <p>The top 48 bits hold the Unix epoch millisecond, so consecutive inserts land on the
+ * right-most leaf of the primary key and collection table indexes instead of random pages.
+ * The 12-bit {@code rand_a} field is used as a counter seeded randomly every millisecond,
+ * which keeps identifiers strictly increasing within one instance even when several are
+ * generated in the same millisecond or the wall clock steps backwards.
+ */
+public final class TimeOrderedGroupIdGenerator implements GroupIdGenerator {
+
+    private static final long TIMESTAMP_MASK = 0xFFFF_FFFF_FFFFL;
+    private static final long MAX_COUNTER = 0xFFFL;
+    // Seed the counter in the lower half so a burst within one millisecond has headroom.
+    private static final int COUNTER_SEED_BOUND = 0x800;
+    private static final long VERSION_7 = 0x7000L;
+    private static final long VARIANT_MASK = 0x3FFF_FFFF_FFFF_FFFFL;
+    private static final long VARIANT_RFC = 0x8000_0000_0000_0000L;
+
+    private final LongSupplier clock;
+    private final Random random;
+
+    private long lastMillis = -1;
+    private long counter;
+
+    public TimeOrderedGroupIdGenerator() {
+        this(System::currentTimeMillis, new SecureRandom());
+    }
+
+    TimeOrderedGroupIdGenerator(LongSupplier clock, Random random) {
+        this.clock = clock;
+        this.random = random;
+    }
+
+    @Override
+    public synchronized UUID nextId() {
+        long millis = clock.getAsLong();
+        if (millis > lastMillis) {
+            lastMillis = millis;
+            counter = random.nextInt(COUNTER_SEED_BOUND);
+        } else if (++counter > MAX_COUNTER) {
+            // Counter exhausted (or clock went backwards): borrow the next millisecond.
+            lastMillis++;
+            counter = 0;
+        }
+        long mostSigBits = ((lastMillis & TIMESTAMP_MASK) << 16) | VERSION_7 | counter;
+        long leastSigBits = (random.nextLong() & VARIANT_MASK) | VARIANT_RFC;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    /**
+     * Extracts the millisecond timestamp embedded in a version 7 identifier.
+     */
+    public static long timestampOf(UUID id) {
+        if (id.version() != 7) {
+            throw new IllegalArgumentException("Not a time-ordered identifier: " + id);
+        }
+        return id.getMostSignificantBits() >>> 16;
+    }
+}
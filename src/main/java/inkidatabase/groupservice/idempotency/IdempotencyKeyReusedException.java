@@ -0,0 +1,12 @@
+package inkidatabase.groupservice.idempotency;
+
+/**
+ * Thrown when an Idempotency-Key is sent again with a request that differs from the one it
+ * was first used for.
+ */
+public class IdempotencyKeyReusedException extends RuntimeException {
+
+    public IdempotencyKeyReusedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,227 @@
+package inkidatabase.groupservice.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import inkidatabase.groupservice.model.IdempotencyRecord;
+import inkidatabase.groupservice.repository.IdempotencyRecordRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Makes writes safe to retry with an {@code Idempotency-Key}.
+ *
+ * <p>The first request with a key runs its action and inserts the key with a snapshot of
+ * the response in the same transaction, so either both commit or neither does. A retry
+ * finds the key and gets the snapshot back without running the action again. Two attempts
+ * racing each other both run the action, but the loser's key insert conflicts, rolling
+ * its writes back, and it answers with the winner's snapshot instead.
+ *
+ * <p>Keys expire after {@code ttl} and are purged periodically. Snapshots are also kept in
+ * a small local LRU; they never change once written, so it needs no invalidation.
+ */
+@Component
+public class IdempotencyStore {
+
+    private static final Logger log = LoggerFactory.getLogger(IdempotencyStore.class);
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final IdempotencyRecordRepository repository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate tx;
+    private final Duration ttl;
+    private final int cacheEntries;
+    private final Map<UUID, Snapshot> cache;
+
+    public IdempotencyStore(IdempotencyRecordRepository repository, ObjectMapper objectMapper,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${groups.idempotency.ttl:PT24H}") Duration ttl,
+                            @Value("${groups.idempotency.cache-entries:10000}") int cacheEntries) {
+        this.repository = repository;
+        this.objectMapper = objectMapper;
+        this.tx = new TransactionTemplate(transactionManager);
+        this.ttl = ttl;
+        this.cacheEntries = cacheEntries;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /**
+     * Runs {@code action} at most once per {@code scope} and {@code key}, answering with its
+     * result serialized as JSON under {@code status}.
+     *
+     * @throws IllegalArgumentException if the key is blank or longer than 255 characters
+     * @throws IdempotencyKeyReusedException if the key was already used for a different request
+     */
+    public IdempotentResponse execute(String scope, String key, Object request, int status, Supplier<?> action) {
+        if (key == null || key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException(
+                    String.format("Idempotency-Key must be between 1 and %d characters", MAX_KEY_LENGTH));
+        }
+        UUID keyHash = hash(scope + '\n' + key);
+        long requestHash = requestHash(request);
+        Instant now = Instant.now();
+
+        Snapshot cached = cached(keyHash, now);
+        if (cached != null) {
+            return cached.replay(requestHash);
+        }
+        AtomicReference<byte[]> freshBody = new AtomicReference<>();
+        Snapshot snapshot;
+        try {
+            snapshot = tx.execute(txStatus -> {
+                Optional<IdempotencyRecord> existing = repository.findById(keyHash);
+                if (existing.isPresent()) {
+                    if (existing.get().getExpiresAt().isAfter(now)) {
+                        return Snapshot.of(existing.get(), true);
+                    }
+                    repository.delete(existing.get());
+                    repository.flush();
+                }
+                byte[] body = serialize(action.get());
+                freshBody.set(body);
+                IdempotencyRecord record = new IdempotencyRecord(keyHash, requestHash, status, deflate(body),
+                        now.plus(ttl));
+                // flushed here so a concurrent attempt with the same key fails inside this transaction
+                repository.saveAndFlush(record);
+                return new Snapshot(requestHash, status, record.getResponse(), record.getExpiresAt(), false);
+            });
+        } catch (DataIntegrityViolationException e) {
+            snapshot = tx.execute(txStatus -> repository.findById(keyHash).map(winner -> Snapshot.of(winner, true)))
+                    .orElseThrow(() -> e);
+            log.debug("Idempotent request lost a race for its key and replays the stored response");
+        }
+        remember(keyHash, snapshot);
+        return snapshot.replayed() ? snapshot.replay(requestHash)
+                : new IdempotentResponse(status, freshBody.get(), false);
+    }
+
+    @Scheduled(initialDelayString = "${groups.idempotency.purge-interval:PT10M}",
+            fixedDelayString = "${groups.idempotency.purge-interval:PT10M}")
+    public void purgeExpired() {
+        Integer purged = tx.execute(status -> repository.deleteExpired(Instant.now()));
+        if (purged != null && purged > 0) {
+            log.info("Purged {} expired idempotency keys", purged);
+        }
+    }
+
+    private Snapshot cached(UUID keyHash, Instant now) {
+        synchronized (cache) {
+            Snapshot snapshot = cache.get(keyHash);
+            if (snapshot != null && !snapshot.expiresAt().isAfter(now)) {
+                cache.remove(keyHash);
+                return null;
+            }
+            return snapshot;
+        }
+    }
+
+    private void remember(UUID keyHash, Snapshot snapshot) {
+        synchronized (cache) {
+            cache.put(keyHash, snapshot);
+            if (cache.size() > cacheEntries) {
+                cache.remove(cache.keySet().iterator().next());
+            }
+        }
+    }
+
+    private byte[] serialize(Object result) {
+        try {
+            return objectMapper.writeValueAsBytes(result);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private long requestHash(Object request) {
+        return ByteBuffer.wrap(sha256(serialize(request))).getLong();
+    }
+
+    private static UUID hash(String value) {
+        ByteBuffer digest = ByteBuffer.wrap(sha256(value.getBytes(StandardCharsets.UTF_8)));
+        return new UUID(digest.getLong(), digest.getLong());
+    }
+
+    private static byte[] sha256(byte[] bytes) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(bytes);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static byte[] deflate(byte[] bytes) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(bytes);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, bytes.length / 2));
+            byte[] buffer = new byte[4096];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    static byte[] inflate(byte[] bytes) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(bytes);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length * 3);
+            byte[] buffer = new byte[4096];
+            while (!inflater.finished()) {
+                int n = inflater.inflate(buffer);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IllegalStateException("Truncated idempotency response snapshot");
+                }
+                out.write(buffer, 0, n);
+            }
+            return out.toByteArray();
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Corrupt idempotency response snapshot", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    // Response kept deflated, as stored
+    private record Snapshot(long requestHash, int status, byte[] deflated, Instant expiresAt, boolean replayed) {
+
+        static Snapshot of(IdempotencyRecord record, boolean replayed) {
+            return new Snapshot(record.getRequestHash(), record.getStatus(), record.getResponse(),
+                    record.getExpiresAt(), replayed);
+        }
+
+        IdempotentResponse replay(long forRequestHash) {
+            if (forRequestHash != requestHash) {
+                throw new IdempotencyKeyReusedException("Idempotency-Key was already used for a different request");
+            }
+            return new IdempotentResponse(status, inflate(deflated), true);
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package inkidatabase.groupservice.idempotency;
+
+/**
+ * A response to send for an idempotent request: JSON {@code body} with HTTP {@code status},
+ * either just produced or {@code replayed} from the stored first attempt.
+ */
+public record IdempotentResponse(int status, byte[] body, boolean replayed) {
+}
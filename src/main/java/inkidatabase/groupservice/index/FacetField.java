@@ -0,0 +1,57 @@
+package inkidatabase.groupservice.index;
+
+import enums.GroupActiveStatus;
+import inkidatabase.groupservice.dto.GroupDTO;
+
+import java.util.List;
+
+/**
+ * Dimensions kept as bitmaps by {@link GroupFacetIndex}.
+ */
+public enum FacetField {
+    AGENCY("agency"),
+    LABEL("label"),
+    STATUS("status"),
+    DEBUT_YEAR("debutYear");
+
+    private final String key;
+
+    FacetField(String key) {
+        this.key = key;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public static FacetField fromKey(String key) {
+        for (FacetField field : values()) {
+            if (field.key.equalsIgnoreCase(key)) {
+                return field;
+            }
+        }
+        throw new IllegalArgumentException("Unknown facet field: " + key);
+    }
+
+    /**
+     * The bitmap key for a value of this field; agencies match case-insensitively, as in
+     * {@code findByAgencyIgnoreCase}, and are counted under their upper-cased name.
+     */
+    String keyOf(String value) {
+        return this == AGENCY ? GroupInvertedIndex.agencyKey(value) : value;
+    }
+
+    List<String> valuesOf(GroupDTO group) {
+        return switch (this) {
+            case AGENCY -> group.getAgency() == null ? List.of() : List.of(keyOf(group.getAgency()));
+            case LABEL -> group.getLabels() == null ? List.of() : group.getLabels();
+            case STATUS -> List.of(statusOf(group).name());
+            case DEBUT_YEAR -> List.of(String.valueOf(group.getDebutYear()));
+        };
+    }
+
+    private static GroupActiveStatus statusOf(GroupDTO group) {
+        int disbandYear = group.getDisbandYear() == null ? 0 : group.getDisbandYear();
+        return GroupActiveStatus.of(disbandYear, group.getMembers() != null && !group.getMembers().isEmpty());
+    }
+}
@@ -0,0 +1,79 @@
+package inkidatabase.groupservice.index;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Boolean filter over facet values: values of the same field are OR-ed, fields are AND-ed,
+ * and excluded values are removed (NOT) from the result.
+ */
+public final class FacetQuery {
+
+    private final Map<FacetField, Set<String>> include = new EnumMap<>(FacetField.class);
+    private final Map<FacetField, Set<String>> exclude = new EnumMap<>(FacetField.class);
+    private final Set<FacetField> facets = EnumSet.noneOf(FacetField.class);
+
+    public FacetQuery include(FacetField field, String value) {
+        include.computeIfAbsent(field, f -> new LinkedHashSet<>()).add(field.keyOf(value));
+        return this;
+    }
+
+    public FacetQuery exclude(FacetField field, String value) {
+        exclude.computeIfAbsent(field, f -> new LinkedHashSet<>()).add(field.keyOf(value));
+        return this;
+    }
+
+    public FacetQuery countBy(FacetField field) {
+        facets.add(field);
+        return this;
+    }
+
+    /**
+     * Parses {@code field:value} terms, e.g. {@code label:kpop}.
+     */
+    public static FacetQuery parse(Collection<String> filters, Collection<String> excludes, Collection<String> facetKeys) {
+        FacetQuery query = new FacetQuery();
+        if (filters != null) {
+            filters.forEach(term -> query.include(fieldOf(term), valueOf(term)));
+        }
+        if (excludes != null) {
+            excludes.forEach(term -> query.exclude(fieldOf(term), valueOf(term)));
+        }
+        if (facetKeys != null) {
+            facetKeys.forEach(key -> query.countBy(FacetField.fromKey(key.trim())));
+        }
+        return query;
+    }
+
+    Map<FacetField, Set<String>> getInclude() {
+        return include;
+    }
+
+    Map<FacetField, Set<String>> getExclude() {
+        return exclude;
+    }
+
+    Set<FacetField> getFacets() {
+        return facets;
+    }
+
+    private static FacetField fieldOf(String term) {
+        return FacetField.fromKey(term.substring(0, separatorOf(term)).trim());
+    }
+
+    private static String valueOf(String term) {
+        return term.substring(separatorOf(term) + 1);
+    }
+
+    private static int separatorOf(String term) {
+        int separator = term.indexOf(':');
+        if (separator <= 0) {
+            throw new IllegalArgumentException("Facet terms must look like field:value, got: " + term);
+        }
+        return separator;
+    }
+}
@@ -0,0 +1,234 @@
+package inkidatabase.groupservice.index;
+
+import inkidatabase.groupservice.dto.FacetResultDTO;
+import inkidatabase.groupservice.dto.GroupDTO;
+import inkidatabase.groupservice.dto.GroupIndexStats;
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Compressed bitmaps per agency, label, status and debut year over dense group ordinals.
+ * A filter is evaluated with bitmap AND/OR/ANDNOT and each facet count is a single
+ * {@code andCardinality}, so neither touches the group records themselves.
+ */
+@Component
+public class GroupFacetIndex implements GroupIndex {
+
+    // HashMap entry + boxed ordinal + list slot per group, for the memory estimate.
+    private static final long ORDINAL_OVERHEAD = 64;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private State state = new State();
+    private volatile boolean ready;
+
+    @Override
+    public String getName() {
+        return "facets";
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    @Override
+    public void rebuild(Collection<GroupDTO> groups) {
+        State fresh = new State();
+        groups.forEach(fresh::put);
+        fresh.optimize();
+        lock.writeLock().lock();
+        try {
+            state = fresh;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void put(GroupDTO group) {
+        lock.writeLock().lock();
+        try {
+            state.put(group);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(UUID groupId) {
+        lock.writeLock().lock();
+        try {
+            state.remove(groupId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public FacetResultDTO query(FacetQuery query, int limit) {
+        lock.readLock().lock();
+        try {
+            RoaringBitmap match = state.evaluate(query);
+            Map<String, Map<String, Long>> facets = new LinkedHashMap<>();
+            for (FacetField field : query.getFacets()) {
+                facets.put(field.getKey(), state.counts(field, match));
+            }
+            return FacetResultDTO.builder()
+                    .total(match.getLongCardinality())
+                    .facets(facets)
+                    .groups(state.groups(match, limit))
+                    .build();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public GroupIndexStats stats() {
+        lock.readLock().lock();
+        try {
+            long keys = 0;
+            long bytes = state.all.getLongSizeInBytes() + (long) state.groups.size() * ORDINAL_OVERHEAD;
+            for (Map<String, RoaringBitmap> values : state.bitmaps.values()) {
+                keys += values.size();
+                for (Map.Entry<String, RoaringBitmap> entry : values.entrySet()) {
+                    bytes += 40 + entry.getKey().length() + entry.getValue().getLongSizeInBytes();
+                }
+            }
+            return GroupIndexStats.builder()
+                    .name(getName())
+                    .groups(state.ordinals.size())
+                    .keys(keys)
+                    .estimatedBytes(bytes)
+                    .build();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static final class State {
+        final Map<UUID, Integer> ordinals = new HashMap<>();
+        final List<GroupDTO> groups = new ArrayList<>();
+        final RoaringBitmap all = new RoaringBitmap();
+        final Map<FacetField, Map<String, RoaringBitmap>> bitmaps = new EnumMap<>(FacetField.class);
+
+        State() {
+            for (FacetField field : FacetField.values()) {
+                bitmaps.put(field, new HashMap<>());
+            }
+        }
+
+        void put(GroupDTO group) {
+            Integer ordinal = ordinals.get(group.getGroupId());
+            if (ordinal == null) {
+                ordinal = groups.size();
+                groups.add(group);
+                ordinals.put(group.getGroupId(), ordinal);
+            } else {
+                unlink(groups.get(ordinal), ordinal);
+                groups.set(ordinal, group);
+            }
+            all.add(ordinal);
+            for (FacetField field : FacetField.values()) {
+                Map<String, RoaringBitmap> values = bitmaps.get(field);
+                for (String value : field.valuesOf(group)) {
+                    if (value != null) {
+                        values.computeIfAbsent(value, v -> new RoaringBitmap()).add(ordinal);
+                    }
+                }
+            }
+        }
+
+        // The ordinal is retired rather than reused; the next rebuild compacts the list
+        void remove(UUID groupId) {
+            Integer ordinal = ordinals.remove(groupId);
+            if (ordinal != null) {
+                unlink(groups.get(ordinal), ordinal);
+                all.remove(ordinal);
+                groups.set(ordinal, null);
+            }
+        }
+
+        void unlink(GroupDTO previous, int ordinal) {
+            for (FacetField field : FacetField.values()) {
+                Map<String, RoaringBitmap> values = bitmaps.get(field);
+                for (String value : field.valuesOf(previous)) {
+                    RoaringBitmap bitmap = value == null ? null : values.get(value);
+                    if (bitmap != null) {
+                        bitmap.remove(ordinal);
+                        if (bitmap.isEmpty()) {
+                            values.remove(value);
+                        }
+                    }
+                }
+            }
+        }
+
+        void optimize() {
+            all.runOptimize();
+            bitmaps.values().forEach(values -> values.values().forEach(RoaringBitmap::runOptimize));
+        }
+
+        RoaringBitmap evaluate(FacetQuery query) {
+            RoaringBitmap match = all.clone();
+            for (Map.Entry<FacetField, Set<String>> term : query.getInclude().entrySet()) {
+                Map<String, RoaringBitmap> values = bitmaps.get(term.getKey());
+                RoaringBitmap any = new RoaringBitmap();
+                for (String value : term.getValue()) {
+                    RoaringBitmap bitmap = values.get(value);
+                    if (bitmap != null) {
+                        any.or(bitmap);
+                    }
+                }
+                match.and(any);
+            }
+            for (Map.Entry<FacetField, Set<String>> term : query.getExclude().entrySet()) {
+                Map<String, RoaringBitmap> values = bitmaps.get(term.getKey());
+                for (String value : term.getValue()) {
+                    RoaringBitmap bitmap = values.get(value);
+                    if (bitmap != null) {
+                        match.andNot(bitmap);
+                    }
+                }
+            }
+            return match;
+        }
+
+        Map<String, Long> counts(FacetField field, RoaringBitmap match) {
+            List<Map.Entry<String, Long>> counts = new ArrayList<>();
+            for (Map.Entry<String, RoaringBitmap> entry : bitmaps.get(field).entrySet()) {
+                long count = RoaringBitmap.andCardinality(match, entry.getValue());
+                if (count > 0) {
+                    counts.add(Map.entry(entry.getKey(), count));
+                }
+            }
+            counts.sort(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder())
+                    .thenComparing(Map.Entry.<String, Long>comparingByKey()));
+            Map<String, Long> sorted = new LinkedHashMap<>();
+            counts.forEach(entry -> sorted.put(entry.getKey(), entry.getValue()));
+            return sorted;
+        }
+
+        List<GroupDTO> groups(RoaringBitmap match, int limit) {
+            List<GroupDTO> result = new ArrayList<>(Math.min(limit, match.getCardinality()));
+            IntIterator ordinals = match.getIntIterator();
+            while (ordinals.hasNext() && result.size() < limit) {
+                result.add(groups.get(ordinals.next()));
+            }
+            return result;
+        }
+    }
+}
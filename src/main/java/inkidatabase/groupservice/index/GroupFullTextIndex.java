@@ -0,0 +1,219 @@
+package inkidatabase.groupservice.index;
+
+import inkidatabase.groupservice.dto.GroupDTO;
+import inkidatabase.groupservice.dto.GroupIndexStats;
+import inkidatabase.groupservice.dto.ScoredGroupDTO;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Relevance-ranked search over every textual field of a group. Each group is one document;
+ * field term frequencies are weighted by a per-field boost and scored with BM25, so a query
+ * hitting a group name outranks the same word found in a label.
+ */
+@Component
+public class GroupFullTextIndex implements GroupIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private static final float NAME_BOOST = 3.0f;
+    private static final float MEMBER_BOOST = 2.0f;
+    private static final float SUBUNIT_BOOST = 1.5f;
+    private static final float AGENCY_BOOST = 1.0f;
+    private static final float LABEL_BOOST = 1.0f;
+    private static final float FORMER_MEMBER_BOOST = 1.0f;
+
+    private static final long DOC_OVERHEAD = 96;
+    private static final long POSTING_OVERHEAD = 48;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private State state = new State();
+    private volatile boolean ready;
+
+    @Override
+    public String getName() {
+        return "fulltext";
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    @Override
+    public void rebuild(Collection<GroupDTO> groups) {
+        State fresh = new State();
+        groups.forEach(fresh::put);
+        lock.writeLock().lock();
+        try {
+            state = fresh;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void put(GroupDTO group) {
+        lock.writeLock().lock();
+        try {
+            state.put(group);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(UUID groupId) {
+        lock.writeLock().lock();
+        try {
+            state.remove(groupId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<ScoredGroupDTO> search(String query, int limit) {
+        Set<String> terms = new LinkedHashSet<>(TextNormalizer.words(query));
+        if (terms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            return state.search(terms, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public GroupIndexStats stats() {
+        lock.readLock().lock();
+        try {
+            long bytes = 0;
+            for (Map.Entry<String, Map<UUID, Float>> entry : state.postings.entrySet()) {
+                bytes += 40 + entry.getKey().length() + POSTING_OVERHEAD * (1 + entry.getValue().size());
+            }
+            bytes += state.docs.size() * DOC_OVERHEAD;
+            return GroupIndexStats.builder()
+                    .name(getName())
+                    .groups(state.docs.size())
+                    .keys(state.postings.size())
+                    .estimatedBytes(bytes)
+                    .build();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static final class Doc {
+        final GroupDTO group;
+        final Map<String, Float> termWeights;
+        final float length;
+
+        Doc(GroupDTO group, Map<String, Float> termWeights) {
+            this.group = group;
+            this.termWeights = termWeights;
+            float total = 0;
+            for (float weight : termWeights.values()) {
+                total += weight;
+            }
+            this.length = total;
+        }
+    }
+
+    private static final class State {
+        final Map<UUID, Doc> docs = new HashMap<>();
+        final Map<String, Map<UUID, Float>> postings = new HashMap<>();
+        double totalLength;
+
+        void put(GroupDTO group) {
+            UUID id = group.getGroupId();
+            remove(id);
+            Doc doc = new Doc(group, termWeights(group));
+            docs.put(id, doc);
+            totalLength += doc.length;
+            doc.termWeights.forEach((term, weight) -> postings.computeIfAbsent(term, t -> new HashMap<>()).put(id, weight));
+        }
+
+        void remove(UUID id) {
+            Doc previous = docs.remove(id);
+            if (previous == null) {
+                return;
+            }
+            totalLength -= previous.length;
+            for (String term : previous.termWeights.keySet()) {
+                Map<UUID, Float> posting = postings.get(term);
+                if (posting != null) {
+                    posting.remove(id);
+                    if (posting.isEmpty()) {
+                        postings.remove(term);
+                    }
+                }
+            }
+        }
+
+        List<ScoredGroupDTO> search(Set<String> terms, int limit) {
+            int documents = docs.size();
+            if (documents == 0) {
+                return List.of();
+            }
+            double averageLength = totalLength / documents;
+            Map<UUID, Double> scores = new HashMap<>();
+            for (String term : terms) {
+                Map<UUID, Float> posting = postings.get(term);
+                if (posting == null) {
+                    continue;
+                }
+                double idf = Math.log(1 + (documents - posting.size() + 0.5) / (posting.size() + 0.5));
+                for (Map.Entry<UUID, Float> entry : posting.entrySet()) {
+                    double tf = entry.getValue();
+                    double norm = K1 * (1 - B + B * docs.get(entry.getKey()).length / averageLength);
+                    scores.merge(entry.getKey(), idf * tf * (K1 + 1) / (tf + norm), Double::sum);
+                }
+            }
+            return scores.entrySet().stream()
+                    .sorted(Map.Entry.<UUID, Double>comparingByValue().reversed())
+                    .limit(limit)
+                    .map(entry -> ScoredGroupDTO.builder()
+                            .score(Math.round(entry.getValue() * 1000) / 1000.0)
+                            .group(docs.get(entry.getKey()).group)
+                            .build())
+                    .toList();
+        }
+
+        private static Map<String, Float> termWeights(GroupDTO group) {
+            Map<String, Float> weights = new HashMap<>();
+            add(weights, group.getGroupName(), NAME_BOOST);
+            add(weights, group.getAgency(), AGENCY_BOOST);
+            addAll(weights, group.getLabels(), LABEL_BOOST);
+            addAll(weights, group.getMembers(), MEMBER_BOOST);
+            addAll(weights, group.getFormerMembers(), FORMER_MEMBER_BOOST);
+            addAll(weights, group.getSubunits(), SUBUNIT_BOOST);
+            return weights;
+        }
+
+        private static void addAll(Map<String, Float> weights, List<String> values, float boost) {
+            if (values != null) {
+                values.forEach(value -> add(weights, value, boost));
+            }
+        }
+
+        private static void add(Map<String, Float> weights, String value, float boost) {
+            if (value != null) {
+                for (String word : TextNormalizer.words(value)) {
+                    weights.merge(word, boost, Float::sum);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,301 @@
+package inkidatabase.groupservice.index;
+
+import inkidatabase.groupservice.dto.FuzzyMatchDTO;
+import inkidatabase.groupservice.dto.GroupDTO;
+import inkidatabase.groupservice.dto.GroupIndexStats;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiConsumer;
+
+/**
+ * Typo-tolerant lookup of group and member names. Distinct normalized names are indexed by
+ * their trigrams (padded like pg_trgm); a query collects candidates sharing trigrams, keeps
+ * those above a Dice similarity threshold, and ranks the best of them by edit distance.
+ */
+@Component
+public class GroupFuzzyIndex implements GroupIndex {
+
+    public enum Field {
+        GROUP_NAME("groupName"),
+        MEMBER("member"),
+        FORMER_MEMBER("formerMember");
+
+        private final String key;
+
+        Field(String key) {
+            this.key = key;
+        }
+
+        public String getKey() {
+            return key;
+        }
+    }
+
+    private static final double MIN_SIMILARITY = 0.3;
+    // Edit distance is only computed for the best candidates by trigram similarity.
+    private static final int CANDIDATES_PER_RESULT = 5;
+    private static final long TERM_OVERHEAD = 160;
+    private static final long POSTING_OVERHEAD = 36;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private State state = new State();
+    private volatile boolean ready;
+
+    @Override
+    public String getName() {
+        return "fuzzy";
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    @Override
+    public void rebuild(Collection<GroupDTO> groups) {
+        State fresh = new State();
+        groups.forEach(fresh::put);
+        lock.writeLock().lock();
+        try {
+            state = fresh;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void put(GroupDTO group) {
+        lock.writeLock().lock();
+        try {
+            state.put(group);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(UUID groupId) {
+        lock.writeLock().lock();
+        try {
+            state.remove(groupId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<FuzzyMatchDTO> search(String query, Set<Field> fields, int limit) {
+        String normalized = TextNormalizer.normalize(query);
+        if (normalized.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        List<String> grams = trigrams(normalized);
+        lock.readLock().lock();
+        try {
+            return state.search(normalized, grams, fields, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public GroupIndexStats stats() {
+        lock.readLock().lock();
+        try {
+            long bytes = 0;
+            for (Term term : state.terms.values()) {
+                bytes += TERM_OVERHEAD + 2L * term.normalized.length() + POSTING_OVERHEAD * term.grams.size()
+                        + POSTING_OVERHEAD * term.groupIds.size();
+            }
+            bytes += state.postings.size() * (TERM_OVERHEAD / 2);
+            return GroupIndexStats.builder()
+                    .name(getName())
+                    .groups(state.groups.size())
+                    .keys(state.terms.size())
+                    .estimatedBytes(bytes)
+                    .build();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    static List<String> trigrams(String normalized) {
+        String padded = "  " + normalized + " ";
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            grams.add(padded.substring(i, i + 3));
+        }
+        return new ArrayList<>(grams);
+    }
+
+    /**
+     * Levenshtein distance with a two-row table.
+     */
+    static int editDistance(String a, String b) {
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            for (int j = 1; j <= b.length(); j++) {
+                int substitution = previous[j - 1] + (a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[b.length()];
+    }
+
+    private static final class Term {
+        final Field field;
+        final String normalized;
+        final String display;
+        final List<String> grams;
+        final Set<UUID> groupIds = new HashSet<>();
+
+        Term(Field field, String normalized, String display) {
+            this.field = field;
+            this.normalized = normalized;
+            this.display = display;
+            this.grams = trigrams(normalized);
+        }
+    }
+
+    private record Candidate(Term term, double similarity, double score) {
+    }
+
+    private static final class State {
+        final Map<UUID, GroupDTO> groups = new HashMap<>();
+        final Map<String, Term> terms = new HashMap<>();
+        final Map<String, Set<Term>> postings = new HashMap<>();
+
+        void put(GroupDTO group) {
+            GroupDTO previous = groups.put(group.getGroupId(), group);
+            if (previous != null) {
+                forEachTerm(previous, (field, text) -> unlink(field, text, previous.getGroupId()));
+            }
+            forEachTerm(group, (field, text) -> link(field, text, group.getGroupId()));
+        }
+
+        void remove(UUID groupId) {
+            GroupDTO previous = groups.remove(groupId);
+            if (previous != null) {
+                forEachTerm(previous, (field, text) -> unlink(field, text, groupId));
+            }
+        }
+
+        List<FuzzyMatchDTO> search(String query, List<String> grams, Set<Field> fields, int limit) {
+            Map<Term, Integer> overlap = new HashMap<>();
+            for (String gram : grams) {
+                for (Term term : postings.getOrDefault(gram, Set.of())) {
+                    if (fields.contains(term.field)) {
+                        overlap.merge(term, 1, Integer::sum);
+                    }
+                }
+            }
+            List<Candidate> candidates = new ArrayList<>();
+            for (Map.Entry<Term, Integer> entry : overlap.entrySet()) {
+                Term term = entry.getKey();
+                double similarity = 2.0 * entry.getValue() / (grams.size() + term.grams.size());
+                if (similarity >= MIN_SIMILARITY) {
+                    candidates.add(new Candidate(term, similarity, 0));
+                }
+            }
+            candidates.sort(Comparator.comparingDouble(Candidate::similarity).reversed());
+            List<Candidate> ranked = new ArrayList<>();
+            for (Candidate candidate : candidates.subList(0, Math.min(candidates.size(), limit * CANDIDATES_PER_RESULT))) {
+                String text = candidate.term().normalized;
+                int distance = editDistance(query, text);
+                double score = 1.0 - (double) distance / Math.max(query.length(), text.length());
+                ranked.add(new Candidate(candidate.term(), candidate.similarity(), score));
+            }
+            ranked.sort(Comparator.comparingDouble(Candidate::score)
+                    .thenComparingDouble(Candidate::similarity)
+                    .reversed());
+
+            List<FuzzyMatchDTO> results = new ArrayList<>();
+            for (Candidate candidate : ranked) {
+                for (UUID groupId : candidate.term().groupIds) {
+                    GroupDTO group = groups.get(groupId);
+                    results.add(FuzzyMatchDTO.builder()
+                            .field(candidate.term().field.getKey())
+                            .matched(candidate.term().display)
+                            .groupId(groupId)
+                            .groupName(group == null ? null : group.getGroupName())
+                            .score(Math.round(candidate.score() * 1000) / 1000.0)
+                            .build());
+                    if (results.size() >= limit) {
+                        return results;
+                    }
+                }
+            }
+            return results;
+        }
+
+        private void link(Field field, String text, UUID groupId) {
+            String normalized = TextNormalizer.normalize(text);
+            if (normalized.isEmpty()) {
+                return;
+            }
+            Term term = terms.computeIfAbsent(field + ":" + normalized, key -> {
+                Term created = new Term(field, normalized, text);
+                created.grams.forEach(gram -> postings.computeIfAbsent(gram, g -> new HashSet<>()).add(created));
+                return created;
+            });
+            term.groupIds.add(groupId);
+        }
+
+        private void unlink(Field field, String text, UUID groupId) {
+            String normalized = TextNormalizer.normalize(text);
+            String key = field + ":" + normalized;
+            Term term = terms.get(key);
+            if (term == null || !term.groupIds.remove(groupId) || !term.groupIds.isEmpty()) {
+                return;
+            }
+            terms.remove(key);
+            for (String gram : term.grams) {
+                Set<Term> posting = postings.get(gram);
+                if (posting != null) {
+                    posting.remove(term);
+                    if (posting.isEmpty()) {
+                        postings.remove(gram);
+                    }
+                }
+            }
+        }
+
+        private static void forEachTerm(GroupDTO group, BiConsumer<Field, String> action) {
+            if (group.getGroupName() != null) {
+                action.accept(Field.GROUP_NAME, group.getGroupName());
+            }
+            forEach(group.getMembers(), Field.MEMBER, action);
+            forEach(group.getFormerMembers(), Field.FORMER_MEMBER, action);
+        }
+
+        private static void forEach(List<String> values, Field field, BiConsumer<Field, String> action) {
+            if (values == null) {
+                return;
+            }
+            for (String value : values) {
+                if (value != null) {
+                    action.accept(field, value);
+                }
+            }
+        }
+    }
+}
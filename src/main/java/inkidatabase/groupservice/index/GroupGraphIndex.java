@@ -0,0 +1,412 @@
+package inkidatabase.groupservice.index;
+
+import inkidatabase.groupservice.dto.GraphNodeDTO;
+import inkidatabase.groupservice.dto.GroupDTO;
+import inkidatabase.groupservice.dto.GroupIndexStats;
+import inkidatabase.groupservice.dto.RelatedGroupDTO;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Groups linked by a shared current or former member, or by a subunit name matching another
+ * group's name. Every group gets a dense ordinal; postings and adjacency rows are sorted
+ * {@code int[]} arrays over those ordinals, and a change only recomputes the rows of the
+ * groups that share a key with the old or new version.
+ */
+@Component
+public class GroupGraphIndex implements GroupIndex {
+
+    private static final String MEMBER_KEY = "member:";
+    private static final String GROUP_KEY = "group:";
+
+    private static final int[] NO_ORDINALS = new int[0];
+    private static final long ARRAY_OVERHEAD = 16;
+    private static final long MAP_ENTRY = 32;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private State state = new State();
+    private volatile boolean ready;
+
+    @Override
+    public String getName() {
+        return "graph";
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    @Override
+    public void rebuild(Collection<GroupDTO> groups) {
+        State fresh = new State();
+        fresh.load(groups);
+        lock.writeLock().lock();
+        try {
+            state = fresh;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void put(GroupDTO group) {
+        lock.writeLock().lock();
+        try {
+            state.put(group);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(UUID groupId) {
+        lock.writeLock().lock();
+        try {
+            state.remove(groupId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Direct neighbours of the group, strongest link first; empty if the group is unknown.
+     */
+    public Optional<List<RelatedGroupDTO>> related(UUID groupId, int limit) {
+        lock.readLock().lock();
+        try {
+            Integer ordinal = state.ordinals.get(groupId);
+            return ordinal == null ? Optional.empty() : Optional.of(state.related(ordinal, limit));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Groups reachable within {@code depth} hops in breadth-first order, excluding the start;
+     * empty if the group is unknown.
+     */
+    public Optional<List<GraphNodeDTO>> neighborhood(UUID groupId, int depth, int limit) {
+        lock.readLock().lock();
+        try {
+            Integer ordinal = state.ordinals.get(groupId);
+            return ordinal == null ? Optional.empty() : Optional.of(state.neighborhood(ordinal, depth, limit));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public GroupIndexStats stats() {
+        lock.readLock().lock();
+        try {
+            long bytes = 0;
+            for (Map.Entry<String, int[]> entry : state.postings.entrySet()) {
+                bytes += MAP_ENTRY + 40 + entry.getKey().length() + ARRAY_OVERHEAD + 4L * entry.getValue().length;
+            }
+            for (int ordinal = 0; ordinal < state.size; ordinal++) {
+                bytes += 2 * (ARRAY_OVERHEAD + 4L * state.neighbors[ordinal].length) + MAP_ENTRY;
+            }
+            return GroupIndexStats.builder()
+                    .name(getName())
+                    .groups(state.ordinals.size())
+                    .keys(state.postings.size())
+                    .estimatedBytes(bytes)
+                    .build();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    static Set<String> linkKeys(GroupDTO group) {
+        Set<String> keys = new LinkedHashSet<>();
+        addKeys(keys, MEMBER_KEY, group.getMembers());
+        addKeys(keys, MEMBER_KEY, group.getFormerMembers());
+        addKey(keys, GROUP_KEY, group.getGroupName());
+        addKeys(keys, GROUP_KEY, group.getSubunits());
+        return keys;
+    }
+
+    private static void addKeys(Set<String> keys, String prefix, List<String> values) {
+        if (values != null) {
+            values.forEach(value -> addKey(keys, prefix, value));
+        }
+    }
+
+    private static void addKey(Set<String> keys, String prefix, String value) {
+        String normalized = TextNormalizer.normalize(value);
+        if (!normalized.isEmpty()) {
+            keys.add(prefix + normalized);
+        }
+    }
+
+    private static final class State {
+        final Map<UUID, Integer> ordinals = new HashMap<>();
+        final Map<String, int[]> postings = new HashMap<>();
+        GroupDTO[] groups = new GroupDTO[16];
+        String[][] keys = new String[16][];
+        int[][] neighbors = new int[16][];
+        int[][] weights = new int[16][];
+        int size;
+
+        // Reused by computeRow; only touched under the write lock or before publication.
+        int[] scratch = new int[16];
+
+        void load(Collection<GroupDTO> all) {
+            for (GroupDTO group : all) {
+                int ordinal = ordinalFor(group);
+                String[] previous = keys[ordinal];
+                if (previous != null) {
+                    for (String key : previous) {
+                        unlink(key, ordinal);
+                    }
+                }
+                groups[ordinal] = group;
+                keys[ordinal] = linkKeys(group).toArray(String[]::new);
+                for (String key : keys[ordinal]) {
+                    link(key, ordinal);
+                }
+            }
+            for (int ordinal = 0; ordinal < size; ordinal++) {
+                computeRow(ordinal);
+            }
+        }
+
+        void put(GroupDTO group) {
+            int ordinal = ordinalFor(group);
+            String[] previous = keys[ordinal] == null ? new String[0] : keys[ordinal];
+            String[] current = linkKeys(group).toArray(String[]::new);
+            groups[ordinal] = group;
+            if (neighbors[ordinal] != null && Set.of(previous).equals(Set.of(current))) {
+                return;
+            }
+
+            BitSet affected = new BitSet(size);
+            affected.set(ordinal);
+            collect(previous, affected);
+            Set<String> currentSet = Set.of(current);
+            Set<String> previousSet = Set.of(previous);
+            for (String key : previous) {
+                if (!currentSet.contains(key)) {
+                    unlink(key, ordinal);
+                }
+            }
+            for (String key : current) {
+                if (!previousSet.contains(key)) {
+                    link(key, ordinal);
+                }
+            }
+            keys[ordinal] = current;
+            collect(current, affected);
+            for (int i = affected.nextSetBit(0); i >= 0; i = affected.nextSetBit(i + 1)) {
+                computeRow(i);
+            }
+        }
+
+        // The ordinal is retired with empty rows rather than reused; the next rebuild compacts
+        void remove(UUID groupId) {
+            Integer ordinal = ordinals.remove(groupId);
+            if (ordinal == null) {
+                return;
+            }
+            BitSet affected = new BitSet(size);
+            collect(keys[ordinal], affected);
+            for (String key : keys[ordinal]) {
+                unlink(key, ordinal);
+            }
+            affected.clear(ordinal);
+            groups[ordinal] = null;
+            keys[ordinal] = new String[0];
+            neighbors[ordinal] = NO_ORDINALS;
+            weights[ordinal] = NO_ORDINALS;
+            for (int i = affected.nextSetBit(0); i >= 0; i = affected.nextSetBit(i + 1)) {
+                computeRow(i);
+            }
+        }
+
+        List<RelatedGroupDTO> related(int ordinal, int limit) {
+            int[] row = neighbors[ordinal];
+            int[] rowWeights = weights[ordinal];
+            Integer[] order = new Integer[row.length];
+            for (int i = 0; i < row.length; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, Comparator.<Integer>comparingInt(i -> -rowWeights[i])
+                    .thenComparing(i -> String.valueOf(groups[row[i]].getGroupName())));
+
+            Set<String> sourceKeys = Set.of(keys[ordinal]);
+            List<RelatedGroupDTO> result = new ArrayList<>();
+            for (int i = 0; i < order.length && result.size() < limit; i++) {
+                int other = row[order[i]];
+                GroupDTO group = groups[other];
+                boolean subunitLink = false;
+                for (String key : keys[other]) {
+                    if (key.startsWith(GROUP_KEY) && sourceKeys.contains(key)) {
+                        subunitLink = true;
+                        break;
+                    }
+                }
+                result.add(RelatedGroupDTO.builder()
+                        .groupId(group.getGroupId())
+                        .groupName(group.getGroupName())
+                        .weight(rowWeights[order[i]])
+                        .sharedMembers(sharedMembers(group, sourceKeys))
+                        .subunitLink(subunitLink)
+                        .build());
+            }
+            return result;
+        }
+
+        List<GraphNodeDTO> neighborhood(int start, int depth, int limit) {
+            BitSet visited = new BitSet(size);
+            visited.set(start);
+            int[] queue = new int[Math.min(size, limit + 1)];
+            int head = 0;
+            int tail = 0;
+            queue[tail++] = start;
+
+            List<GraphNodeDTO> result = new ArrayList<>();
+            int levelEnd = tail;
+            for (int distance = 1; distance <= depth && head < tail; distance++) {
+                for (; head < levelEnd; head++) {
+                    int from = queue[head];
+                    for (int next : neighbors[from]) {
+                        if (visited.get(next)) {
+                            continue;
+                        }
+                        visited.set(next);
+                        GroupDTO group = groups[next];
+                        result.add(GraphNodeDTO.builder()
+                                .groupId(group.getGroupId())
+                                .groupName(group.getGroupName())
+                                .distance(distance)
+                                .via(groups[from].getGroupId())
+                                .build());
+                        if (result.size() >= limit) {
+                            return result;
+                        }
+                        queue[tail++] = next;
+                    }
+                }
+                levelEnd = tail;
+            }
+            return result;
+        }
+
+        private static List<String> sharedMembers(GroupDTO group, Set<String> sourceKeys) {
+            Set<String> shared = new LinkedHashSet<>();
+            for (List<String> names : Arrays.asList(group.getMembers(), group.getFormerMembers())) {
+                if (names == null) {
+                    continue;
+                }
+                for (String name : names) {
+                    if (name != null && sourceKeys.contains(MEMBER_KEY + TextNormalizer.normalize(name))) {
+                        shared.add(name);
+                    }
+                }
+            }
+            return List.copyOf(shared);
+        }
+
+        private int ordinalFor(GroupDTO group) {
+            Integer existing = ordinals.get(group.getGroupId());
+            if (existing != null) {
+                return existing;
+            }
+            if (size == groups.length) {
+                int capacity = size * 2;
+                groups = Arrays.copyOf(groups, capacity);
+                keys = Arrays.copyOf(keys, capacity);
+                neighbors = Arrays.copyOf(neighbors, capacity);
+                weights = Arrays.copyOf(weights, capacity);
+            }
+            ordinals.put(group.getGroupId(), size);
+            return size++;
+        }
+
+        private void collect(String[] linkKeys, BitSet into) {
+            for (String key : linkKeys) {
+                for (int ordinal : postings.getOrDefault(key, NO_ORDINALS)) {
+                    into.set(ordinal);
+                }
+            }
+        }
+
+        private void link(String key, int ordinal) {
+            int[] posting = postings.getOrDefault(key, NO_ORDINALS);
+            int at = Arrays.binarySearch(posting, ordinal);
+            if (at >= 0) {
+                return;
+            }
+            int insert = -at - 1;
+            int[] grown = new int[posting.length + 1];
+            System.arraycopy(posting, 0, grown, 0, insert);
+            grown[insert] = ordinal;
+            System.arraycopy(posting, insert, grown, insert + 1, posting.length - insert);
+            postings.put(key, grown);
+        }
+
+        private void unlink(String key, int ordinal) {
+            int[] posting = postings.get(key);
+            int at = posting == null ? -1 : Arrays.binarySearch(posting, ordinal);
+            if (at < 0) {
+                return;
+            }
+            if (posting.length == 1) {
+                postings.remove(key);
+                return;
+            }
+            int[] shrunk = new int[posting.length - 1];
+            System.arraycopy(posting, 0, shrunk, 0, at);
+            System.arraycopy(posting, at + 1, shrunk, at, posting.length - at - 1);
+            postings.put(key, shrunk);
+        }
+
+        /**
+         * Rebuilds the sorted neighbour and weight arrays of one group from its postings.
+         */
+        private void computeRow(int ordinal) {
+            if (scratch.length < size) {
+                scratch = new int[groups.length];
+            }
+            int[] touched = new int[16];
+            int count = 0;
+            for (String key : keys[ordinal]) {
+                for (int other : postings.getOrDefault(key, NO_ORDINALS)) {
+                    if (other == ordinal) {
+                        continue;
+                    }
+                    if (scratch[other]++ == 0) {
+                        if (count == touched.length) {
+                            touched = Arrays.copyOf(touched, count * 2);
+                        }
+                        touched[count++] = other;
+                    }
+                }
+            }
+            int[] row = Arrays.copyOf(touched, count);
+            Arrays.sort(row);
+            int[] rowWeights = new int[count];
+            for (int i = 0; i < count; i++) {
+                rowWeights[i] = scratch[row[i]];
+                scratch[row[i]] = 0;
+            }
+            neighbors[ordinal] = row;
+            weights[ordinal] = rowWeights;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package inkidatabase.groupservice.index;
+
+import inkidatabase.groupservice.dto.GroupDTO;
+import inkidatabase.groupservice.dto.GroupIndexStats;
+
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * In-memory structure derived from the groups table. Implementations are loaded and kept
+ * current by {@link GroupIndexRegistry}; {@link #put} and {@link #remove} must be idempotent because changes
+ * committed while a rebuild is running are replayed on top of the new state.
+ */
+public interface GroupIndex {
+
+    String getName();
+
+    /**
+     * Replaces the whole index with the given groups.
+     */
+    void rebuild(Collection<GroupDTO> groups);
+
+    /**
+     * Inserts the group or replaces the previously indexed version of it.
+     */
+    void put(GroupDTO group);
+
+    /**
+     * Drops the group; a no-op if it is not indexed.
+     */
+    void remove(UUID groupId);
+
+    GroupIndexStats stats();
+}
@@ -0,0 +1,236 @@
+package inkidatabase.groupservice.index;
+
+import inkidatabase.groupservice.dto.GroupDTO;
+import inkidatabase.groupservice.dto.GroupIndexStats;
+import inkidatabase.groupservice.event.GroupChangedEvent;
+import inkidatabase.groupservice.mapper.GroupMapper;
+import inkidatabase.groupservice.model.Group;
+import inkidatabase.groupservice.repository.GroupRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Loads every {@link GroupIndex} from a single repository scan at startup, unless they were
+ * already restored from a snapshot, and applies committed changes to all of them.
+ *
+ * <p>After-commit callbacks of two transactions can run in either order, so changes are
+ * applied by {@code change_seq}: an event older than the last one applied to its group is
+ * ignored. The last sequence is kept per group changed since the latest rebuild, including
+ * deleted ones, so a late update cannot bring a deleted group back.
+ */
+@Component
+public class GroupIndexRegistry {
+
+    private static final Logger log = LoggerFactory.getLogger(GroupIndexRegistry.class);
+
+    private final List<GroupIndex> indexes;
+    private final GroupRepository repository;
+    private final GroupMapper mapper;
+    private final TransactionTemplate readOnlyTx;
+    private final boolean enabled;
+
+    private final Object rebuildLock = new Object();
+    private final List<GroupChangedEvent> pending = new ArrayList<>();
+    private final Map<UUID, Long> appliedSequences = new HashMap<>();
+    private boolean rebuilding;
+    private volatile boolean loaded;
+
+    public GroupIndexRegistry(List<GroupIndex> indexes, GroupRepository repository, GroupMapper mapper,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${groups.index.enabled:true}") boolean enabled) {
+        this.indexes = List.copyOf(indexes);
+        this.repository = repository;
+        this.mapper = mapper;
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (enabled && !loaded) {
+            rebuild();
+        }
+    }
+
+    public void rebuild() {
+        rebuild(indexes);
+    }
+
+    /**
+     * Reloads a single index, e.g. after a consistency check found it out of date.
+     */
+    public void rebuild(GroupIndex index) {
+        rebuild(List.of(index));
+    }
+
+    /**
+     * Loads every index from groups captured earlier instead of scanning the table, then
+     * applies the groups written after {@code changedSince}. Returns false, leaving the
+     * indexes to the regular startup scan, if the result does not account for every
+     * stored group.
+     */
+    public boolean restore(Collection<GroupDTO> groups, Instant changedSince) {
+        if (!enabled) {
+            return false;
+        }
+        synchronized (rebuildLock) {
+            synchronized (this) {
+                rebuilding = true;
+                pending.clear();
+            }
+            Map<UUID, Long> loadedSequences = new HashMap<>();
+            try {
+                long start = System.nanoTime();
+                for (GroupIndex index : indexes) {
+                    index.rebuild(groups);
+                }
+                Set<UUID> ids = new HashSet<>(groups.size() * 4 / 3 + 1);
+                groups.forEach(group -> ids.add(group.getGroupId()));
+                long stored = readOnlyTx.execute(status -> {
+                    for (Group group : repository.findByUpdatedAtAfter(changedSince)) {
+                        dispatch(mapper.toSnapshot(group));
+                        loadedSequences.put(group.getGroupId(), group.getChangeSeq());
+                        ids.add(group.getGroupId());
+                    }
+                    for (UUID deleted : repository.findIdsDeletedAfter(changedSince)) {
+                        remove(deleted);
+                        ids.remove(deleted);
+                    }
+                    return repository.count();
+                });
+                if (ids.size() != stored) {
+                    log.warn("Group snapshot covers {} groups but {} are stored; rebuilding indexes from the database",
+                            ids.size(), stored);
+                    return false;
+                }
+                loaded = true;
+                log.info("Restored {} group indexes from {} snapshot groups in {} ms",
+                        indexes.size(), groups.size(), (System.nanoTime() - start) / 1_000_000);
+                return true;
+            } finally {
+                replayPending(loadedSequences, true);
+            }
+        }
+    }
+
+    private void rebuild(List<GroupIndex> targets) {
+        synchronized (rebuildLock) {
+            synchronized (this) {
+                rebuilding = true;
+                pending.clear();
+            }
+            Map<UUID, Long> loadedSequences = new HashMap<>();
+            try {
+                long start = System.nanoTime();
+                List<GroupDTO> groups = readOnlyTx.execute(status -> {
+                    List<GroupDTO> snapshots = new ArrayList<>();
+                    for (Group group : repository.findAll()) {
+                        snapshots.add(mapper.toSnapshot(group));
+                        loadedSequences.put(group.getGroupId(), group.getChangeSeq());
+                    }
+                    return snapshots;
+                });
+                for (GroupIndex index : targets) {
+                    index.rebuild(groups);
+                }
+                loaded = true;
+                log.info("Rebuilt {} group indexes from {} groups in {} ms",
+                        targets.size(), groups.size(), (System.nanoTime() - start) / 1_000_000);
+            } finally {
+                replayPending(loadedSequences, targets.containsAll(indexes));
+            }
+        }
+    }
+
+    // Changes committed during the scan may be missing from it; replay those newer than what it loaded.
+    // After a partial rebuild the other indexes still hold what was applied to them, so their
+    // sequences are kept and only raised to what the scan loaded.
+    private synchronized void replayPending(Map<UUID, Long> loadedSequences, boolean full) {
+        if (full) {
+            appliedSequences.clear();
+            for (GroupChangedEvent event : pending) {
+                Long loaded = loadedSequences.get(event.getGroupId());
+                if (loaded != null && loaded > 0) {
+                    appliedSequences.putIfAbsent(event.getGroupId(), loaded);
+                }
+            }
+        } else {
+            loadedSequences.forEach((id, loaded) -> {
+                if (loaded != null && loaded > 0) {
+                    appliedSequences.merge(id, loaded, Math::max);
+                }
+            });
+        }
+        pending.forEach(this::apply);
+        pending.clear();
+        rebuilding = false;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onGroupChanged(GroupChangedEvent event) {
+        if (!enabled || (event.getGroup() == null && event.getType() != GroupChangedEvent.ChangeType.DELETED)) {
+            return;
+        }
+        if (rebuilding) {
+            pending.add(event);
+        } else {
+            apply(event);
+        }
+    }
+
+    public List<GroupIndexStats> stats() {
+        return indexes.stream()
+                .map(GroupIndex::stats)
+                .toList();
+    }
+
+    private void apply(GroupChangedEvent event) {
+        long sequence = event.getSequence();
+        if (sequence > 0) {
+            Long last = appliedSequences.get(event.getGroupId());
+            if (last != null && sequence < last) {
+                return;
+            }
+            appliedSequences.put(event.getGroupId(), sequence);
+        }
+        if (event.getType() == GroupChangedEvent.ChangeType.DELETED) {
+            remove(event.getGroupId());
+        } else {
+            dispatch(event.getGroup());
+        }
+    }
+
+    private void remove(UUID groupId) {
+        for (GroupIndex index : indexes) {
+            index.remove(groupId);
+        }
+    }
+
+    private void dispatch(GroupDTO group) {
+        for (GroupIndex index : indexes) {
+            index.put(group);
+        }
+    }
+}
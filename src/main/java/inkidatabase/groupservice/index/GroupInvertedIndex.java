@@ -0,0 +1,212 @@
+package inkidatabase.groupservice.index;
+
+import inkidatabase.groupservice.dto.GroupDTO;
+import inkidatabase.groupservice.dto.GroupIndexStats;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Member, former member, label and agency postings over a snapshot of every group, so the most frequent
+ * lookups are answered without a join over the collection tables. Agency keys are
+ * upper-cased to match {@code findByAgencyIgnoreCase}.
+ */
+@Component
+public class GroupInvertedIndex implements GroupIndex {
+
+    // Rough HotSpot sizes (compressed oops) used for the memory estimate.
+    private static final long STRING_OVERHEAD = 40;
+    private static final long MAP_ENTRY = 32;
+    private static final long KEY_SET_OVERHEAD = 80;
+    private static final long GROUP_OVERHEAD = 64 + 5 * 48;
+
+    private volatile State state = new State();
+    private volatile boolean ready;
+
+    @Override
+    public String getName() {
+        return "inverted";
+    }
+
+    @Override
+    public void rebuild(Collection<GroupDTO> groups) {
+        State fresh = new State();
+        groups.forEach(fresh::put);
+        synchronized (this) {
+            state = fresh;
+            ready = true;
+        }
+    }
+
+    /**
+     * False until the first rebuild; callers fall back to the repository meanwhile.
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    @Override
+    public synchronized void put(GroupDTO group) {
+        state.put(group);
+    }
+
+    @Override
+    public synchronized void remove(UUID groupId) {
+        state.remove(groupId);
+    }
+
+    public List<GroupDTO> findByMember(String member) {
+        return state.lookup(state.byMember, member);
+    }
+
+    public List<GroupDTO> findByFormerMember(String member) {
+        return state.lookup(state.byFormerMember, member);
+    }
+
+    public List<GroupDTO> findByLabel(String label) {
+        return state.lookup(state.byLabel, label);
+    }
+
+    public List<GroupDTO> findByAgency(String agency) {
+        return agency == null ? List.of() : state.lookup(state.byAgency, agencyKey(agency));
+    }
+
+    @Override
+    public GroupIndexStats stats() {
+        State current = state;
+        long bytes = current.groups.values().stream().mapToLong(GroupInvertedIndex::estimateGroup).sum()
+                + estimatePostings(current.byMember)
+                + estimatePostings(current.byFormerMember)
+                + estimatePostings(current.byLabel)
+                + estimatePostings(current.byAgency);
+        return GroupIndexStats.builder()
+                .name(getName())
+                .groups(current.groups.size())
+                .keys(current.byMember.size() + current.byFormerMember.size() + current.byLabel.size()
+                        + current.byAgency.size())
+                .estimatedBytes(bytes)
+                .build();
+    }
+
+    static String agencyKey(String agency) {
+        return agency.toUpperCase(Locale.ROOT);
+    }
+
+    private static long estimateGroup(GroupDTO group) {
+        return GROUP_OVERHEAD + MAP_ENTRY
+                + estimateString(group.getGroupName())
+                + estimateString(group.getAgency())
+                + estimateStrings(group.getLabels())
+                + estimateStrings(group.getMembers())
+                + estimateStrings(group.getFormerMembers())
+                + estimateStrings(group.getSubunits())
+                + estimateStrings(group.getSocialLinks());
+    }
+
+    private static long estimatePostings(Map<String, Set<UUID>> postings) {
+        long bytes = 0;
+        for (Map.Entry<String, Set<UUID>> entry : postings.entrySet()) {
+            bytes += MAP_ENTRY + KEY_SET_OVERHEAD + estimateString(entry.getKey())
+                    + (long) entry.getValue().size() * MAP_ENTRY;
+        }
+        return bytes;
+    }
+
+    private static long estimateStrings(List<String> values) {
+        if (values == null) {
+            return 0;
+        }
+        long bytes = 8L * values.size();
+        for (String value : values) {
+            bytes += estimateString(value);
+        }
+        return bytes;
+    }
+
+    private static long estimateString(String value) {
+        return value == null ? 0 : STRING_OVERHEAD + value.length();
+    }
+
+    private static final class State {
+        final Map<UUID, GroupDTO> groups = new ConcurrentHashMap<>();
+        final Map<String, Set<UUID>> byMember = new ConcurrentHashMap<>();
+        final Map<String, Set<UUID>> byFormerMember = new ConcurrentHashMap<>();
+        final Map<String, Set<UUID>> byLabel = new ConcurrentHashMap<>();
+        final Map<String, Set<UUID>> byAgency = new ConcurrentHashMap<>();
+
+        void put(GroupDTO group) {
+            UUID id = group.getGroupId();
+            GroupDTO previous = groups.put(id, group);
+            if (previous != null) {
+                unlink(byMember, previous.getMembers(), group.getMembers(), id);
+                unlink(byFormerMember, previous.getFormerMembers(), group.getFormerMembers(), id);
+                unlink(byLabel, previous.getLabels(), group.getLabels(), id);
+                unlink(byAgency, agencyKeys(previous), agencyKeys(group), id);
+            }
+            link(byMember, group.getMembers(), id);
+            link(byFormerMember, group.getFormerMembers(), id);
+            link(byLabel, group.getLabels(), id);
+            link(byAgency, agencyKeys(group), id);
+        }
+
+        void remove(UUID id) {
+            GroupDTO previous = groups.remove(id);
+            if (previous != null) {
+                unlink(byMember, previous.getMembers(), null, id);
+                unlink(byFormerMember, previous.getFormerMembers(), null, id);
+                unlink(byLabel, previous.getLabels(), null, id);
+                unlink(byAgency, agencyKeys(previous), null, id);
+            }
+        }
+
+        List<GroupDTO> lookup(Map<String, Set<UUID>> postings, String key) {
+            Set<UUID> ids = key == null ? null : postings.get(key);
+            if (ids == null) {
+                return List.of();
+            }
+            return ids.stream()
+                    .map(groups::get)
+                    .filter(Objects::nonNull)
+                    .toList();
+        }
+
+        private static List<String> agencyKeys(GroupDTO group) {
+            return group.getAgency() == null ? List.of() : List.of(agencyKey(group.getAgency()));
+        }
+
+        private static void link(Map<String, Set<UUID>> postings, List<String> keys, UUID id) {
+            if (keys == null) {
+                return;
+            }
+            Function<String, Set<UUID>> newSet = k -> ConcurrentHashMap.newKeySet();
+            for (String key : keys) {
+                if (key != null) {
+                    postings.computeIfAbsent(key, newSet).add(id);
+                }
+            }
+        }
+
+        private static void unlink(Map<String, Set<UUID>> postings, List<String> keys,
+                                   List<String> retained, UUID id) {
+            if (keys == null) {
+                return;
+            }
+            for (String key : keys) {
+                if (key != null && (retained == null || !retained.contains(key))) {
+                    postings.computeIfPresent(key, (k, ids) -> {
+                        ids.remove(id);
+                        return ids.isEmpty() ? null : ids;
+                    });
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package inkidatabase.groupservice.index;
+
+import inkidatabase.groupservice.dto.GroupDTO;
+import inkidatabase.groupservice.dto.GroupIndexStats;
+import inkidatabase.groupservice.dto.GroupSuggestionDTO;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Prefix index over group names for typeahead. Keys are normalized names (and every word
+ * start within them) suffixed with the group id, kept in sorted skip lists, so a prefix is
+ * one range seek followed by reading at most {@code limit} entries.
+ *
+ * <p>Suggestions whose full name starts with the prefix rank ahead of those matching a later
+ * word ("gen" suggests "Gen1es" before "Girls' Generation").
+ */
+@Component
+public class GroupNameSuggestIndex implements GroupIndex {
+
+    private static final char KEY_SEPARATOR = '\u0000';
+    private static final char RANGE_END = '\uffff';
+    private static final long ENTRY_OVERHEAD = 48 + 40 + 36;
+
+    private volatile State state = new State();
+    private volatile boolean ready;
+
+    @Override
+    public String getName() {
+        return "suggest";
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    @Override
+    public void rebuild(Collection<GroupDTO> groups) {
+        State fresh = new State();
+        groups.forEach(fresh::put);
+        synchronized (this) {
+            state = fresh;
+            ready = true;
+        }
+    }
+
+    @Override
+    public synchronized void put(GroupDTO group) {
+        state.put(group);
+    }
+
+    @Override
+    public synchronized void remove(UUID groupId) {
+        state.remove(groupId);
+    }
+
+    public List<GroupSuggestionDTO> suggest(String query, int limit) {
+        String prefix = TextNormalizer.normalize(query);
+        if (prefix.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        State current = state;
+        Map<UUID, GroupSuggestionDTO> results = new LinkedHashMap<>();
+        collect(current.byName, prefix, limit, results);
+        if (results.size() < limit) {
+            collect(current.byWord, prefix, limit, results);
+        }
+        return new ArrayList<>(results.values());
+    }
+
+    @Override
+    public GroupIndexStats stats() {
+        State current = state;
+        long bytes = 0;
+        for (String key : current.byName.keySet()) {
+            bytes += ENTRY_OVERHEAD + key.length();
+        }
+        for (String key : current.byWord.keySet()) {
+            bytes += ENTRY_OVERHEAD + key.length();
+        }
+        return GroupIndexStats.builder()
+                .name(getName())
+                .groups(current.names.size())
+                .keys(current.byName.size() + current.byWord.size())
+                .estimatedBytes(bytes)
+                .build();
+    }
+
+    private static void collect(NavigableMap<String, GroupSuggestionDTO> keys, String prefix, int limit,
+                                Map<UUID, GroupSuggestionDTO> results) {
+        for (GroupSuggestionDTO suggestion : keys.subMap(prefix, true, prefix + RANGE_END, false).values()) {
+            results.putIfAbsent(suggestion.getGroupId(), suggestion);
+            if (results.size() >= limit) {
+                return;
+            }
+        }
+    }
+
+    private static String key(String normalized, UUID groupId) {
+        return normalized + KEY_SEPARATOR + groupId;
+    }
+
+    private static final class State {
+        final Map<UUID, String> names = new ConcurrentHashMap<>();
+        final ConcurrentSkipListMap<String, GroupSuggestionDTO> byName = new ConcurrentSkipListMap<>();
+        final ConcurrentSkipListMap<String, GroupSuggestionDTO> byWord = new ConcurrentSkipListMap<>();
+
+        void put(GroupDTO group) {
+            UUID id = group.getGroupId();
+            String name = group.getGroupName();
+            String previous = name == null ? names.remove(id) : names.put(id, name);
+            if (previous != null) {
+                if (previous.equals(name)) {
+                    return;
+                }
+                unlink(previous, id);
+            }
+            if (name == null) {
+                return;
+            }
+            GroupSuggestionDTO suggestion = GroupSuggestionDTO.builder()
+                    .groupId(id)
+                    .groupName(name)
+                    .build();
+            byName.put(key(TextNormalizer.normalize(name), id), suggestion);
+            for (String suffix : wordSuffixes(name)) {
+                byWord.put(key(suffix, id), suggestion);
+            }
+        }
+
+        void remove(UUID id) {
+            String previous = names.remove(id);
+            if (previous != null) {
+                unlink(previous, id);
+            }
+        }
+
+        private void unlink(String name, UUID id) {
+            byName.remove(key(TextNormalizer.normalize(name), id));
+            for (String suffix : wordSuffixes(name)) {
+                byWord.remove(key(suffix, id));
+            }
+        }
+
+        /**
+         * The normalized name from each word after the first onwards, e.g. "girls' generation"
+         * yields "generation".
+         */
+        private static List<String> wordSuffixes(String name) {
+            String normalized = TextNormalizer.normalize(name);
+            List<String> suffixes = new ArrayList<>();
+            int from = 0;
+            for (String word : TextNormalizer.words(name)) {
+                int at = normalized.indexOf(word, from);
+                if (at > 0) {
+                    suffixes.add(normalized.substring(at));
+                }
+                from = at + word.length();
+            }
+            return suffixes;
+        }
+    }
+}
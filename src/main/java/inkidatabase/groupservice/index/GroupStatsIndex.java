@@ -0,0 +1,137 @@
+package inkidatabase.groupservice.index;
+
+import enums.GroupActiveStatus;
+import inkidatabase.groupservice.dto.GroupDTO;
+import inkidatabase.groupservice.dto.GroupIndexStats;
+import inkidatabase.groupservice.dto.GroupStatsDTO;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Group counts per agency, debut year, status and label. Each group's contribution is
+ * remembered so an update moves exactly one count from the old key to the new one.
+ */
+@Component
+public class GroupStatsIndex implements GroupIndex {
+
+    private static final long COUNTER_ENTRY = 32 + 40 + 16;
+    private static final long CONTRIBUTION = 32 + 64;
+
+    private State state = new State();
+    private volatile boolean ready;
+
+    @Override
+    public String getName() {
+        return "stats";
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    @Override
+    public void rebuild(Collection<GroupDTO> groups) {
+        State fresh = new State();
+        groups.forEach(fresh::put);
+        synchronized (this) {
+            state = fresh;
+            ready = true;
+        }
+    }
+
+    @Override
+    public synchronized void put(GroupDTO group) {
+        state.put(group);
+    }
+
+    @Override
+    public synchronized void remove(UUID groupId) {
+        state.remove(groupId);
+    }
+
+    public synchronized GroupStatsDTO snapshot() {
+        return GroupStatsDTO.builder()
+                .total(state.contributions.size())
+                .byAgency(new TreeMap<>(state.byAgency))
+                .byDebutYear(new TreeMap<>(state.byDebutYear))
+                .byStatus(new TreeMap<>(state.byStatus))
+                .byLabel(new TreeMap<>(state.byLabel))
+                .build();
+    }
+
+    @Override
+    public synchronized GroupIndexStats stats() {
+        long keys = state.byAgency.size() + state.byDebutYear.size() + state.byStatus.size() + state.byLabel.size();
+        return GroupIndexStats.builder()
+                .name(getName())
+                .groups(state.contributions.size())
+                .keys(keys)
+                .estimatedBytes(keys * COUNTER_ENTRY + state.contributions.size() * CONTRIBUTION)
+                .build();
+    }
+
+    static String statusOf(GroupDTO group) {
+        int disbandYear = group.getDisbandYear() == null ? 0 : group.getDisbandYear();
+        boolean hasMembers = group.getMembers() != null && !group.getMembers().isEmpty();
+        return GroupActiveStatus.of(disbandYear, hasMembers).getValue();
+    }
+
+    private record Contribution(String agency, String debutYear, String status, Set<String> labels) {
+
+        static Contribution of(GroupDTO group) {
+            Set<String> labels = new LinkedHashSet<>();
+            if (group.getLabels() != null) {
+                group.getLabels().stream().filter(Objects::nonNull).forEach(labels::add);
+            }
+            return new Contribution(group.getAgency(), String.valueOf(group.getDebutYear()), statusOf(group),
+                    labels);
+        }
+    }
+
+    private static final class State {
+        final Map<UUID, Contribution> contributions = new HashMap<>();
+        final Map<String, Long> byAgency = new HashMap<>();
+        final Map<String, Long> byDebutYear = new HashMap<>();
+        final Map<String, Long> byStatus = new HashMap<>();
+        final Map<String, Long> byLabel = new HashMap<>();
+
+        void put(GroupDTO group) {
+            Contribution current = Contribution.of(group);
+            Contribution previous = contributions.put(group.getGroupId(), current);
+            if (previous != null) {
+                apply(previous, -1);
+            }
+            apply(current, 1);
+        }
+
+        void remove(UUID groupId) {
+            Contribution previous = contributions.remove(groupId);
+            if (previous != null) {
+                apply(previous, -1);
+            }
+        }
+
+        private void apply(Contribution contribution, long delta) {
+            add(byAgency, contribution.agency(), delta);
+            add(byDebutYear, contribution.debutYear(), delta);
+            add(byStatus, contribution.status(), delta);
+            for (String label : contribution.labels()) {
+                add(byLabel, label, delta);
+            }
+        }
+
+        private static void add(Map<String, Long> counters, String key, long delta) {
+            if (key != null) {
+                counters.merge(key, delta, (count, change) -> count + change == 0 ? null : count + change);
+            }
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package inkidatabase.groupservice.intern;
+
+import java.util.List;
+
+/**
+ * Static access to the {@link StringPool} shared by entity hydration and DTO mapping.
+ *
+ * <p>JPA converters and the mapper's static helpers run outside Spring's control, so the
+ * pool is held here and replaced once at startup by {@link StringPoolConfig}.
+ */
+public final class GroupStrings {
+
+    public static final int DEFAULT_MAX_ENTRIES = 65_536;
+
+    private static volatile StringPool pool = new StringPool(DEFAULT_MAX_ENTRIES);
+
+    private GroupStrings() {
+    }
+
+    public static String canonical(String value) {
+        return pool.canonical(value);
+    }
+
+    public static List<String> canonical(List<String> values) {
+        return pool.canonical(values);
+    }
+
+    public static StringPool pool() {
+        return pool;
+    }
+
+    public static void use(StringPool stringPool) {
+        if (stringPool == null) {
+            throw new IllegalArgumentException("String pool cannot be null");
+        }
+        pool = stringPool;
+    }
+}
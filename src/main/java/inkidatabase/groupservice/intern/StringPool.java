@@ -0,0 +1,90 @@
+package inkidatabase.groupservice.intern;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.WeakHashMap;
+
+/**
+ * Canonicalizing pool for strings that repeat across many groups (agencies, labels).
+ *
+ * <p>Entries are weakly referenced, so a value no longer used by any group is collected
+ * and drops out of the pool. The pool is bounded: once full, unseen values are returned
+ * as they are instead of being added. It is split into independently locked segments so
+ * concurrent hydration does not contend on one monitor.
+ */
+public final class StringPool {
+
+    private static final int SEGMENTS = 16;
+
+    private final Segment[] segments = new Segment[SEGMENTS];
+    private final int maxEntriesPerSegment;
+
+    public StringPool(int maxEntries) {
+        if (maxEntries < 0) {
+            throw new IllegalArgumentException("maxEntries must not be negative");
+        }
+        this.maxEntriesPerSegment = (maxEntries + SEGMENTS - 1) / SEGMENTS;
+        for (int i = 0; i < SEGMENTS; i++) {
+            segments[i] = new Segment();
+        }
+    }
+
+    /**
+     * The pooled instance equal to {@code value}, pooling {@code value} itself if there is
+     * none yet and the pool has room.
+     */
+    public String canonical(String value) {
+        if (value == null || maxEntriesPerSegment == 0) {
+            return value;
+        }
+        int hash = value.hashCode();
+        return segments[(hash ^ (hash >>> 16)) & (SEGMENTS - 1)].canonical(value, maxEntriesPerSegment);
+    }
+
+    /**
+     * A new list with every element canonicalized; {@code null} stays {@code null}.
+     */
+    public List<String> canonical(List<String> values) {
+        if (values == null) {
+            return null;
+        }
+        List<String> canonical = new ArrayList<>(values.size());
+        for (String value : values) {
+            canonical.add(canonical(value));
+        }
+        return canonical;
+    }
+
+    /**
+     * Number of pooled values, including ones collected but not yet expunged.
+     */
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    private static final class Segment {
+        // The value refers to the key weakly, so a pooled string is only kept alive by its users.
+        private final WeakHashMap<String, WeakReference<String>> entries = new WeakHashMap<>();
+
+        synchronized String canonical(String value, int maxEntries) {
+            WeakReference<String> reference = entries.get(value);
+            String pooled = reference == null ? null : reference.get();
+            if (pooled != null) {
+                return pooled;
+            }
+            if (entries.size() < maxEntries) {
+                entries.put(value, new WeakReference<>(value));
+            }
+            return value;
+        }
+
+        synchronized int size() {
+            return entries.size();
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package inkidatabase.groupservice.intern;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class StringPoolConfig {
+
+    @Bean
+    public StringPool groupStringPool(
+            @Value("${groups.intern.max-entries:" + GroupStrings.DEFAULT_MAX_ENTRIES + "}") int maxEntries) {
+        StringPool pool = new StringPool(maxEntries);
+        GroupStrings.use(pool);
+        return pool;
+    }
+}
@@ -0,0 +1,214 @@
+package inkidatabase.groupservice.invalidation;
+
+import inkidatabase.groupservice.event.GroupChangedEvent;
+import inkidatabase.groupservice.index.GroupIndexRegistry;
+import inkidatabase.groupservice.mapper.GroupMapper;
+import inkidatabase.groupservice.model.Group;
+import inkidatabase.groupservice.repository.GroupRepository;
+import inkidatabase.groupservice.service.SubunitHierarchyService;
+import jakarta.annotation.PreDestroy;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Listens on the {@code group_changes} channel and applies other replicas' writes locally:
+ * the changed groups are re-read a thousand ids per query and republished as
+ * {@link GroupChangedEvent}s, so caches, indexes and other derived state update exactly as
+ * for a local write. A {@code REBUILD} notification, sent once for a bulk import, rebuilds
+ * the indexes and drops the subunit hierarchies instead, as the importing replica does.
+ *
+ * <p>The listener holds its own connection outside the pool. Notifications sent while it
+ * is not listening are lost, so on every (re)connect it re-reads the groups written since
+ * the last successful poll, or since the JVM started, minus {@code resync-overlap}.
+ */
+@Component
+public class GroupInvalidationListener {
+
+    private static final Logger log = LoggerFactory.getLogger(GroupInvalidationListener.class);
+    private static final int POLL_TIMEOUT_MILLIS = 1_000;
+    private static final long MAX_BACKOFF_MILLIS = 30_000;
+    // well below the bind parameter limit of a single findAllById
+    private static final int LOAD_CHUNK = 1_000;
+
+    private final DataSourceProperties dataSource;
+    private final GroupRepository repository;
+    private final GroupMapper mapper;
+    private final ApplicationEventPublisher events;
+    private final GroupIndexRegistry registry;
+    private final SubunitHierarchyService subunitHierarchy;
+    private final TransactionTemplate readOnlyTx;
+    private final String instanceId;
+    private final boolean enabled;
+    private final boolean listen;
+    private final Duration resyncOverlap;
+
+    private volatile boolean running;
+    private volatile Thread thread;
+
+    public GroupInvalidationListener(DataSourceProperties dataSource, GroupRepository repository, GroupMapper mapper,
+                                     ApplicationEventPublisher events, PlatformTransactionManager transactionManager,
+                                     GroupInvalidationPublisher publisher, GroupIndexRegistry registry,
+                                     SubunitHierarchyService subunitHierarchy,
+                                     @Value("${groups.invalidation.enabled:false}") boolean enabled,
+                                     @Value("${groups.invalidation.listen:true}") boolean listen,
+                                     @Value("${groups.invalidation.resync-overlap:PT1M}") Duration resyncOverlap) {
+        this.dataSource = dataSource;
+        this.repository = repository;
+        this.mapper = mapper;
+        this.events = events;
+        this.registry = registry;
+        this.subunitHierarchy = subunitHierarchy;
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+        this.instanceId = publisher.getInstanceId();
+        this.enabled = enabled;
+        this.listen = listen;
+        this.resyncOverlap = resyncOverlap;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled || !listen || running) {
+            return;
+        }
+        running = true;
+        thread = Thread.ofPlatform()
+                .name("group-invalidation-listener")
+                .daemon()
+                .start(this::run);
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        Thread current = thread;
+        if (current != null) {
+            current.interrupt();
+        }
+    }
+
+    private void run() {
+        // Writes from other replicas may have landed while this one was loading its state
+        Instant lastPolled = Instant.ofEpochMilli(ManagementFactory.getRuntimeMXBean().getStartTime());
+        long backoff = 1_000;
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(
+                    dataSource.determineUrl(), dataSource.determineUsername(), dataSource.determinePassword())) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + GroupInvalidationMessage.CHANNEL);
+                }
+                PGConnection notifications = connection.unwrap(PGConnection.class);
+                resync(lastPolled.minus(resyncOverlap));
+                backoff = 1_000;
+                while (running) {
+                    Instant polledAt = Instant.now();
+                    PGNotification[] received = notifications.getNotifications(POLL_TIMEOUT_MILLIS);
+                    if (received != null && received.length > 0) {
+                        handle(Arrays.stream(received).map(PGNotification::getParameter).toList());
+                    }
+                    lastPolled = polledAt;
+                }
+            } catch (SQLException | RuntimeException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Group invalidation listener lost its connection, retrying in {} ms: {}", backoff, e.getMessage());
+                try {
+                    Thread.sleep(backoff);
+                } catch (InterruptedException interrupted) {
+                    return;
+                }
+                backoff = Math.min(backoff * 2, MAX_BACKOFF_MILLIS);
+            }
+        }
+    }
+
+    /**
+     * Applies one batch of notification payloads; changes made by this instance and
+     * unrecognized payloads are skipped.
+     */
+    void handle(List<String> payloads) {
+        Map<UUID, GroupChangedEvent.ChangeType> changed = new LinkedHashMap<>();
+        boolean rebuild = false;
+        for (String payload : payloads) {
+            GroupInvalidationMessage message = GroupInvalidationMessage.decode(payload);
+            if (message == null || message.instanceId().equals(instanceId)) {
+                continue;
+            }
+            if (message.isRebuild()) {
+                rebuild = true;
+            } else {
+                changed.merge(message.groupId(), message.type(),
+                        (first, later) -> first == GroupChangedEvent.ChangeType.CREATED ? first : later);
+            }
+        }
+        if (rebuild) {
+            log.info("Rebuilding group indexes after a bulk write on another replica");
+            if (registry.isEnabled()) {
+                registry.rebuild();
+            }
+            subunitHierarchy.invalidateAll();
+        }
+        if (changed.isEmpty()) {
+            return;
+        }
+        List<UUID> ids = new ArrayList<>(changed.keySet());
+        Map<UUID, Group> loaded = new LinkedHashMap<>();
+        List<GroupChangedEvent> replay = readOnlyTx.execute(status -> {
+            for (int from = 0; from < ids.size(); from += LOAD_CHUNK) {
+                for (Group group : repository.findAllById(ids.subList(from, Math.min(from + LOAD_CHUNK, ids.size())))) {
+                    loaded.put(group.getGroupId(), group);
+                }
+            }
+            return changed.entrySet().stream()
+                    .map(entry -> toEvent(entry.getKey(), entry.getValue(), loaded.get(entry.getKey())))
+                    .toList();
+        });
+        replay.forEach(events::publishEvent);
+    }
+
+    void resync(Instant since) {
+        List<GroupChangedEvent> replay = readOnlyTx.execute(status -> {
+            List<GroupChangedEvent> changes = new ArrayList<>();
+            for (Group group : repository.findByUpdatedAtAfter(since)) {
+                changes.add(GroupChangedEvent.updated(group.getGroupId(), mapper.toSnapshot(group), group.getChangeSeq()));
+            }
+            for (UUID deleted : repository.findIdsDeletedAfter(since)) {
+                changes.add(GroupChangedEvent.deleted(deleted, 0));
+            }
+            return changes;
+        });
+        log.info("Group invalidation listener connected, replaying {} groups written since {}", replay.size(), since);
+        replay.forEach(events::publishEvent);
+    }
+
+    // A group that no longer loads was deleted meanwhile, so caches and indexes drop it by id
+    private GroupChangedEvent toEvent(UUID id, GroupChangedEvent.ChangeType type, Group group) {
+        return group == null ? GroupChangedEvent.deleted(id, 0)
+                : new GroupChangedEvent(type, id, mapper.toSnapshot(group), group.getChangeSeq());
+    }
+}
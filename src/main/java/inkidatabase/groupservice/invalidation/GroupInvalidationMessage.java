@@ -0,0 +1,46 @@
+package inkidatabase.groupservice.invalidation;
+
+import inkidatabase.groupservice.event.GroupChangedEvent.ChangeType;
+
+import java.util.UUID;
+
+/**
+ * Payload of a {@code group_changes} notification: {@code <instance>:<type>:<groupId>}, or
+ * {@code <instance>:REBUILD} after a bulk write, for which {@code type} and {@code groupId}
+ * are null. The instance id lets a replica skip the changes it made itself.
+ */
+record GroupInvalidationMessage(String instanceId, ChangeType type, UUID groupId) {
+
+    static final String CHANNEL = "group_changes";
+    static final String REBUILD = "REBUILD";
+
+    static GroupInvalidationMessage rebuild(String instanceId) {
+        return new GroupInvalidationMessage(instanceId, null, null);
+    }
+
+    boolean isRebuild() {
+        return groupId == null;
+    }
+
+    String encode() {
+        return isRebuild() ? instanceId + ":" + REBUILD : instanceId + ":" + type + ":" + groupId;
+    }
+
+    /**
+     * The decoded message, or null if the payload is not one of ours.
+     */
+    static GroupInvalidationMessage decode(String payload) {
+        String[] parts = payload == null ? new String[0] : payload.split(":", 3);
+        if (parts.length == 2 && parts[1].equals(REBUILD)) {
+            return rebuild(parts[0]);
+        }
+        if (parts.length != 3) {
+            return null;
+        }
+        try {
+            return new GroupInvalidationMessage(parts[0], ChangeType.valueOf(parts[1]), UUID.fromString(parts[2]));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
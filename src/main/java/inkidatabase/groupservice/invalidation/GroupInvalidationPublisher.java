@@ -0,0 +1,58 @@
+package inkidatabase.groupservice.invalidation;
+
+import inkidatabase.groupservice.event.GroupChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.UUID;
+
+/**
+ * Announces every group write to the other replicas with {@code pg_notify}. The call runs
+ * inside the writing transaction, and Postgres only delivers notifications once that
+ * transaction commits, so a rolled-back write is never announced.
+ *
+ * <p>Events published outside a transaction, such as the ones
+ * {@link GroupInvalidationListener} replays for remote changes, are not re-announced.
+ */
+@Component
+public class GroupInvalidationPublisher {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final String instanceId = UUID.randomUUID().toString();
+
+    public GroupInvalidationPublisher(JdbcTemplate jdbcTemplate,
+                                      @Value("${groups.invalidation.enabled:false}") boolean enabled) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+    }
+
+    public String getInstanceId() {
+        return instanceId;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onGroupChanged(GroupChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        String payload = new GroupInvalidationMessage(instanceId, event.getType(), event.getGroupId()).encode();
+        jdbcTemplate.queryForList("SELECT pg_notify(?, ?)", GroupInvalidationMessage.CHANNEL, payload);
+    }
+
+    /**
+     * Announces a bulk write that bypassed the event pipeline with a single notification,
+     * on which the other replicas rebuild their derived state instead of reloading each
+     * group. Like single writes, must be called from the writing transaction.
+     */
+    public void announceRebuild() {
+        if (!enabled) {
+            return;
+        }
+        jdbcTemplate.queryForList("SELECT pg_notify(?, ?)", GroupInvalidationMessage.CHANNEL,
+                GroupInvalidationMessage.rebuild(instanceId).encode());
+    }
+}
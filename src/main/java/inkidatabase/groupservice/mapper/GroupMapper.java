@@ -2,11 +2,15 @@ package inkidatabase.groupservice.mapper;
 
 import inkidatabase.groupservice.dto.CreateGroupRequest;
 import inkidatabase.groupservice.dto.GroupDTO;
+import inkidatabase.groupservice.dto.GroupSummaryDTO;
 import inkidatabase.groupservice.dto.UpdateGroupRequest;
+import inkidatabase.groupservice.intern.GroupStrings;
 import inkidatabase.groupservice.model.Group;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 @Component
 public class GroupMapper {
@@ -15,7 +19,7 @@ public class GroupMapper {
         return GroupDTO.builder()
                 .groupId(group.getGroupId())
                 .groupName(group.getGroupName())
-                .agency(group.getAgency())
+                .agency(GroupStrings.canonical(group.getAgency()))
                 .labels(group.getLabels())
                 .members(group.getMembers())
                 .formerMembers(group.getFormerMembers())
@@ -26,14 +30,46 @@ public class GroupMapper {
                 .build();
     }
     
+    /**
+     * Like {@link #toDTO} but copies the collections, so the result does not hold on to the
+     * entity and can be kept in long-lived in-memory structures. Agency and labels are
+     * pooled, since every index keeps its own reference to them.
+     */
+    public GroupDTO toSnapshot(Group group) {
+        return GroupDTO.builder()
+                .groupId(group.getGroupId())
+                .groupName(group.getGroupName())
+                .agency(GroupStrings.canonical(group.getAgency()))
+                .labels(copyOf(GroupStrings.canonical(group.getLabels())))
+                .members(copyOf(group.getMembers()))
+                .formerMembers(copyOf(group.getFormerMembers()))
+                .debutYear(group.getDebutYear())
+                .disbandYear(group.getDisbandYear())
+                .subunits(copyOf(group.getSubunits()))
+                .socialLinks(copyOf(group.getSocialLinks()))
+                .build();
+    }
+
+    public GroupSummaryDTO toSummary(GroupDTO group) {
+        return GroupSummaryDTO.builder()
+                .groupId(group.getGroupId())
+                .groupName(group.getGroupName())
+                .agency(group.getAgency())
+                .debutYear(group.getDebutYear())
+                .disbandYear(group.getDisbandYear())
+                .build();
+    }
+
+    private static List<String> copyOf(List<String> values) {
+        return values.isEmpty() ? Collections.emptyList() : Collections.unmodifiableList(new ArrayList<>(values));
+    }
+
     public Group toEntity(CreateGroupRequest request) {
-        Group group = new Group();
-        group.setGroupName(request.getGroupName());
-        group.setAgency(request.getAgency());
-        group.setLabels(request.getLabels() != null ? request.getLabels() : new ArrayList<>());
+        Group group = new Group(request.getGroupName(), GroupStrings.canonical(request.getAgency()),
+                request.getDebutYear());
+        group.setLabels(request.getLabels() != null ? GroupStrings.canonical(request.getLabels()) : new ArrayList<>());
         group.setMembers(request.getMembers() != null ? request.getMembers() : new ArrayList<>());
         group.setFormerMembers(request.getFormerMembers() != null ? request.getFormerMembers() : new ArrayList<>());
-        group.setDebutYear(request.getDebutYear());
         if (request.getDisbandYear() != null) {
             group.setDisbandYear(request.getDisbandYear());
         }
@@ -47,10 +83,10 @@ public class GroupMapper {
             group.setGroupName(request.getGroupName());
         }
         if (request.getAgency() != null) {
-            group.setAgency(request.getAgency());
+            group.setAgency(GroupStrings.canonical(request.getAgency()));
         }
         if (request.getLabels() != null) {
-            group.setLabels(request.getLabels());
+            group.setLabels(GroupStrings.canonical(request.getLabels()));
         }
         if (request.getMembers() != null) {
             group.setMembers(request.getMembers());
@@ -0,0 +1,23 @@
+package inkidatabase.groupservice.model;
+
+import inkidatabase.groupservice.intern.GroupStrings;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Stores the string unchanged and hands back the pooled instance on load, so the few
+ * hundred distinct agencies and labels are shared by every hydrated {@link Group}.
+ */
+@Converter
+public class CanonicalStringConverter implements AttributeConverter<String, String> {
+
+    @Override
+    public String convertToDatabaseColumn(String attribute) {
+        return attribute;
+    }
+
+    @Override
+    public String convertToEntityAttribute(String dbData) {
+        return GroupStrings.canonical(dbData);
+    }
+}
@@ -1,44 +1,84 @@
 package inkidatabase.groupservice.model;
 
+import inkidatabase.groupservice.id.GroupIds;
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Builder;
 import lombok.ToString;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
 import enums.GroupActiveStatus;
+import org.hibernate.annotations.SQLRestriction;
+import org.springframework.data.domain.Persistable;
 
 @Entity
-@Table(name = "groups")
+@Table(name = "groups", indexes = {
+    // Serves exact/range debut lookups and the "active during year" interval query
+    @Index(name = "idx_groups_debut_disband", columnList = "debut_year, disband_year"),
+    @Index(name = "idx_groups_status", columnList = "status"),
+    @Index(name = "idx_groups_updated_at", columnList = "updated_at"),
+    // Keyset pagination of the change feed
+    @Index(name = "idx_groups_change_seq", columnList = "change_seq, group_id")
+})
+// Soft-deleted groups are invisible to every entity query; only the change feed and the
+// purge job read them, through native SQL served by idx_groups_deleted_at (schema-postgresql.sql).
+@SQLRestriction("deleted_at IS NULL")
 @Getter 
-@NoArgsConstructor
-@ToString(exclude = "groupId")
-public class Group {
+@NoArgsConstructor(access = AccessLevel.PROTECTED)  // For Hibernate; leaves the id unset, see onPersist
+@ToString(exclude = {"groupId", "persisted", "idAssigned"})
+public class Group implements Persistable<UUID> {
     @Id
     @Column(name = "group_id")
-    private UUID groupId = UUID.randomUUID();  // Initialize with a default value
+    private UUID groupId;  // From GroupIds (time-ordered by default) when built, not when loaded
+
+    // Assigned ids make Spring Data treat every entity as detached; track newness so
+    // save() persists new groups directly instead of issuing a merge SELECT first.
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private boolean persisted;
+
+    // Set by setGroupId: the group may already exist under that id, so save() merges it
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private boolean idAssigned;
 
     @Column(name = "group_name", nullable = false)
     private String groupName;
 
     @Column(nullable = false)
+    @Convert(converter = CanonicalStringConverter.class)
     private String agency;
 
     @ElementCollection
-    @CollectionTable(name = "group_labels", joinColumns = @JoinColumn(name = "group_id"))
+    @CollectionTable(name = "group_labels", joinColumns = @JoinColumn(name = "group_id"),
+            indexes = {
+                @Index(name = "idx_group_labels_group_id", columnList = "group_id"),
+                @Index(name = "idx_group_labels_label", columnList = "label, group_id")
+            })
     @Column(name = "label")
+    @Convert(converter = CanonicalStringConverter.class)
     private List<String> labels = new ArrayList<>();
 
     @ElementCollection
-    @CollectionTable(name = "group_members", joinColumns = @JoinColumn(name = "group_id"))
+    @CollectionTable(name = "group_members", joinColumns = @JoinColumn(name = "group_id"),
+            indexes = {
+                @Index(name = "idx_group_members_group_id", columnList = "group_id"),
+                @Index(name = "idx_group_members_member", columnList = "member, group_id")
+            })
     @Column(name = "member")
     private List<String> members = new ArrayList<>();
 
     @ElementCollection
-    @CollectionTable(name = "group_former_members", joinColumns = @JoinColumn(name = "group_id"))
+    @CollectionTable(name = "group_former_members", joinColumns = @JoinColumn(name = "group_id"),
+            indexes = {
+                @Index(name = "idx_group_former_members_group_id", columnList = "group_id"),
+                @Index(name = "idx_group_former_members_member", columnList = "former_member, group_id")
+            })
     @Column(name = "former_member")
     private List<String> formerMembers = new ArrayList<>();
 
@@ -49,12 +89,14 @@ public class Group {
     private int disbandYear;
 
     @ElementCollection
-    @CollectionTable(name = "group_subunits", joinColumns = @JoinColumn(name = "group_id"))
+    @CollectionTable(name = "group_subunits", joinColumns = @JoinColumn(name = "group_id"),
+            indexes = @Index(name = "idx_group_subunits_group_id", columnList = "group_id"))
     @Column(name = "subunit")
     private List<String> subunits = new ArrayList<>();
 
     @ElementCollection
-    @CollectionTable(name = "group_social_links", joinColumns = @JoinColumn(name = "group_id"))
+    @CollectionTable(name = "group_social_links", joinColumns = @JoinColumn(name = "group_id"),
+            indexes = @Index(name = "idx_group_social_links_group_id", columnList = "group_id"))
     @Column(name = "social_link")
     private List<String> socialLinks = new ArrayList<>();
 
@@ -62,10 +104,22 @@ public class Group {
     @Column(nullable = false)
     private GroupActiveStatus status = GroupActiveStatus.ACTIVE;
 
+    // Last write; lets a warm start fetch only the groups changed since its snapshot.
+    // Collection-only changes don't dirty the entity, so writers call touch() explicitly.
+    @Column(name = "updated_at")
+    private Instant updatedAt;
+
+    // Position in the change feed, see GroupChangeSequence; 0 for groups never written since
+    @Column(name = "change_seq", nullable = false, columnDefinition = "bigint default 0 not null")
+    private long changeSeq;
+
+    // Set by DELETE /groups/{id}; the row stays as a tombstone until GroupPurgeJob hard-deletes it
+    @Column(name = "deleted_at")
+    private Instant deletedAt;
+
     // Simple constructor for testing
     public Group(String groupName, String agency, int debutYear) {
-        this();
-        this.groupId = UUID.randomUUID();
+        this.groupId = GroupIds.next();
         this.groupName = groupName;
         this.agency = agency;
         this.debutYear = debutYear;
@@ -85,7 +139,7 @@ public class Group {
     @Builder(builderMethodName = "internalBuilder")
     private Group(String groupName, String agency, int debutYear, List<String> labels, 
                 List<String> members, List<String> formerMembers, int disbandYear, List<String> subunits, List<String> socialLinks) {
-        this.groupId = UUID.randomUUID();
+        this.groupId = GroupIds.next();
         this.groupName = groupName;
         this.agency = agency;
         this.debutYear = debutYear;
@@ -106,6 +160,50 @@ public class Group {
                 .debutYear(debutYear);
     }
 
+    @Override
+    public UUID getId() {
+        return groupId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return !persisted && !idAssigned;
+    }
+
+    @PrePersist
+    void onPersist() {
+        if (groupId == null) {
+            groupId = GroupIds.next();
+        }
+        if (updatedAt == null) {
+            updatedAt = Instant.now();
+        }
+    }
+
+    public void touch() {
+        this.updatedAt = Instant.now();
+    }
+
+    public void recordChange(long changeSeq) {
+        this.changeSeq = changeSeq;
+        touch();
+    }
+
+    public void markDeleted(long changeSeq) {
+        recordChange(changeSeq);
+        this.deletedAt = updatedAt;
+    }
+
+    public boolean isDeleted() {
+        return deletedAt != null;
+    }
+
+    @PostPersist
+    @PostLoad
+    void markPersisted() {
+        this.persisted = true;
+    }
+
     // Collection getters that provide immutable views
     public List<String> getLabels() {
         return Collections.unmodifiableList(labels);
@@ -130,6 +228,7 @@ public class Group {
     // Setters for non-collection fields
     public void setGroupId(UUID groupId) {
         this.groupId = groupId;
+        this.idAssigned = true;
     }
 
     public void setGroupName(String groupName) {
@@ -196,12 +295,6 @@ public class Group {
     }
 
     void updateStatus() {
-        if (disbandYear > 0) {
-            status = GroupActiveStatus.DISBANDED;
-        } else if (members == null || members.isEmpty()) {
-            status = GroupActiveStatus.INACTIVE;
-        } else {
-            status = GroupActiveStatus.ACTIVE;
-        }
+        status = GroupActiveStatus.of(disbandYear, members != null && !members.isEmpty());
     }
 }
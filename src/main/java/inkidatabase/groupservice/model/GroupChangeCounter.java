@@ -0,0 +1,46 @@
+package inkidatabase.groupservice.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Single-row counter behind {@code groups.change_seq}. Writers lock the row to take the
+ * next value and hold the lock until they commit, so sequence numbers become visible in
+ * order and a change feed reader never skips a change that commits late.
+ */
+@Entity
+@Table(name = "group_change_counter")
+@Getter
+@NoArgsConstructor
+public class GroupChangeCounter {
+
+    public static final int ID = 1;
+
+    @Id
+    private int id;
+
+    @Column(nullable = false)
+    private long value;
+
+    public GroupChangeCounter(int id, long value) {
+        this.id = id;
+        this.value = value;
+    }
+
+    public long increment() {
+        return ++value;
+    }
+
+    /**
+     * Takes {@code count} consecutive values at once; returns the first of them.
+     */
+    public long advance(int count) {
+        long first = value + 1;
+        value += count;
+        return first;
+    }
+}
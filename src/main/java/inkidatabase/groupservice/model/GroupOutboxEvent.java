@@ -0,0 +1,61 @@
+package inkidatabase.groupservice.model;
+
+import inkidatabase.groupservice.event.GroupChangedEvent;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A group change waiting to be relayed downstream. Rows are inserted in the transaction
+ * that writes the group, so one exists exactly when the change committed, and are deleted
+ * once the relay has delivered them.
+ */
+@Entity
+@Table(name = "group_outbox")
+@Getter
+@NoArgsConstructor
+public class GroupOutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private GroupChangedEvent.ChangeType type;
+
+    @Column(name = "group_id", nullable = false)
+    private UUID groupId;
+
+    @Column(name = "change_seq", nullable = false)
+    private long changeSeq;
+
+    // The group as JSON, in the shape GET /groups/{id} returns
+    @JdbcTypeCode(SqlTypes.LONG32VARCHAR)
+    @Column(nullable = false)
+    private String payload;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    public GroupOutboxEvent(GroupChangedEvent.ChangeType type, UUID groupId, long changeSeq, String payload,
+                            Instant createdAt) {
+        this.type = type;
+        this.groupId = groupId;
+        this.changeSeq = changeSeq;
+        this.payload = payload;
+        this.createdAt = createdAt;
+    }
+}
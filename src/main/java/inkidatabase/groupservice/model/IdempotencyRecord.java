@@ -0,0 +1,80 @@
+package inkidatabase.groupservice.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+import org.springframework.data.domain.Persistable;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * The stored outcome of a request made with an {@code Idempotency-Key}. The key is kept
+ * only as a 128-bit hash of endpoint and key, and the response as deflated JSON, so a
+ * row costs little more than the response itself.
+ */
+@Entity
+@Table(name = "idempotency_keys", indexes = {
+    @Index(name = "idx_idempotency_keys_expires_at", columnList = "expires_at")
+})
+@Getter
+@NoArgsConstructor
+public class IdempotencyRecord implements Persistable<UUID> {
+
+    @Id
+    @Column(name = "key_hash")
+    private UUID keyHash;
+
+    // Keys are always inserted, never merged; skip the SELECT save() would issue first
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private boolean persisted;
+
+    // Detects a key reused for a different request body
+    @Column(name = "request_hash", nullable = false)
+    private long requestHash;
+
+    @Column(nullable = false)
+    private int status;
+
+    @JdbcTypeCode(SqlTypes.LONG32VARBINARY)
+    @Column(nullable = false)
+    private byte[] response;
+
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+
+    public IdempotencyRecord(UUID keyHash, long requestHash, int status, byte[] response, Instant expiresAt) {
+        this.keyHash = keyHash;
+        this.requestHash = requestHash;
+        this.status = status;
+        this.response = response;
+        this.expiresAt = expiresAt;
+    }
+
+    @Override
+    public UUID getId() {
+        return keyHash;
+    }
+
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    @PostPersist
+    @PostLoad
+    void markPersisted() {
+        this.persisted = true;
+    }
+}
@@ -0,0 +1,53 @@
+package inkidatabase.groupservice.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import inkidatabase.groupservice.event.GroupChangedEvent;
+import inkidatabase.groupservice.model.GroupOutboxEvent;
+import inkidatabase.groupservice.repository.GroupOutboxRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.UncheckedIOException;
+import java.time.Instant;
+
+/**
+ * Records group changes in the {@code group_outbox} table for {@link GroupOutboxRelay}.
+ * Must be called from the transaction that writes the group, so the change and its
+ * outbox row commit or roll back together.
+ */
+@Component
+public class GroupOutbox {
+
+    private final GroupOutboxRepository repository;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+
+    public GroupOutbox(GroupOutboxRepository repository, ObjectMapper objectMapper,
+                       @Value("${groups.outbox.enabled:true}") boolean enabled) {
+        this.repository = repository;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(GroupChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(event.getGroup());
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+        repository.save(new GroupOutboxEvent(event.getType(), event.getGroupId(), event.getSequence(), payload,
+                Instant.now()));
+    }
+}
@@ -0,0 +1,38 @@
+package inkidatabase.groupservice.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Locale;
+
+@Configuration
+public class GroupOutboxConfig {
+
+    public static final String FILE = "file";
+    public static final String WEBHOOK = "webhook";
+    public static final String MEMORY = "memory";
+
+    @Bean
+    public GroupOutboxSink groupOutboxSink(@Value("${groups.outbox.sink:file}") String sink,
+                                           @Value("${groups.outbox.file-path:data/group-changes.jsonl}") Path filePath,
+                                           @Value("${groups.outbox.webhook-url:}") String webhookUrl,
+                                           @Value("${groups.outbox.webhook-timeout:PT10S}") Duration webhookTimeout,
+                                           ObjectMapper objectMapper) {
+        return switch (sink == null ? "" : sink.trim().toLowerCase(Locale.ROOT)) {
+            case FILE -> new FileGroupOutboxSink(filePath, objectMapper);
+            case WEBHOOK -> {
+                if (webhookUrl.isBlank()) {
+                    throw new IllegalArgumentException("groups.outbox.webhook-url is required for the webhook sink");
+                }
+                yield new WebhookGroupOutboxSink(URI.create(webhookUrl), webhookTimeout, objectMapper);
+            }
+            case MEMORY -> new InMemoryGroupOutboxSink();
+            default -> throw new IllegalArgumentException("Unknown group outbox sink: " + sink);
+        };
+    }
+}
@@ -0,0 +1,23 @@
+package inkidatabase.groupservice.outbox;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import inkidatabase.groupservice.event.GroupChangedEvent;
+import inkidatabase.groupservice.model.GroupOutboxEvent;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * One relayed change as handed to a {@link GroupOutboxSink}; serializes to
+ * {@code {"id":..,"type":..,"groupId":..,"sequence":..,"createdAt":..,"group":{..}}}.
+ * {@code id} is unique per change and lets consumers discard redeliveries; order changes
+ * to the same group by {@code sequence}, the group's change feed sequence.
+ */
+public record GroupOutboxMessage(long id, GroupChangedEvent.ChangeType type, UUID groupId, long sequence,
+                                 Instant createdAt, @JsonRawValue String group) {
+
+    static GroupOutboxMessage of(GroupOutboxEvent event) {
+        return new GroupOutboxMessage(event.getId(), event.getType(), event.getGroupId(), event.getChangeSeq(),
+                event.getCreatedAt(), event.getPayload());
+    }
+}
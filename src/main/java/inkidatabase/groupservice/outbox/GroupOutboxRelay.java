@@ -0,0 +1,126 @@
+package inkidatabase.groupservice.outbox;
+
+import inkidatabase.groupservice.dto.GroupOutboxStats;
+import inkidatabase.groupservice.model.GroupOutboxEvent;
+import inkidatabase.groupservice.repository.GroupOutboxRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Drains the {@code group_outbox} table into the configured {@link GroupOutboxSink}.
+ *
+ * <p>Each batch is locked with {@code FOR UPDATE SKIP LOCKED}, delivered and deleted in one
+ * transaction, so every replica can run a relay without two of them taking the same rows.
+ * A failed delivery rolls the batch back for the next poll. Batches from different
+ * replicas may interleave, so consumers order changes to a group by its sequence.
+ */
+@Component
+public class GroupOutboxRelay {
+
+    private static final Logger log = LoggerFactory.getLogger(GroupOutboxRelay.class);
+
+    private final GroupOutboxRepository repository;
+    private final GroupOutboxSink sink;
+    private final TransactionTemplate tx;
+    private final boolean enabled;
+    private final int batchSize;
+
+    private final LongAdder delivered = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private volatile long lastDrainEvents;
+    private volatile long lastDrainNanos;
+
+    public GroupOutboxRelay(GroupOutboxRepository repository, GroupOutboxSink sink,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${groups.outbox.enabled:true}") boolean enabled,
+                            @Value("${groups.outbox.batch-size:500}") int batchSize) {
+        this.repository = repository;
+        this.sink = sink;
+        this.tx = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(initialDelayString = "${groups.outbox.poll-interval:PT1S}",
+            fixedDelayString = "${groups.outbox.poll-interval:PT1S}")
+    public void poll() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            drain();
+        } catch (RuntimeException e) {
+            failures.increment();
+            log.warn("Group outbox delivery failed, retrying on the next poll: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Relays batches until a partial batch shows the outbox is drained; returns the number
+     * of changes delivered.
+     */
+    public long drain() {
+        long start = System.nanoTime();
+        long total = 0;
+        int relayed;
+        do {
+            relayed = relayBatch();
+            total += relayed;
+        } while (relayed == batchSize);
+        if (total > 0) {
+            long elapsed = System.nanoTime() - start;
+            lastDrainEvents = total;
+            lastDrainNanos = elapsed;
+            log.debug("Relayed {} group changes in {} ms", total, elapsed / 1_000_000);
+        }
+        return total;
+    }
+
+    public GroupOutboxStats stats() {
+        long events = lastDrainEvents;
+        long nanos = lastDrainNanos;
+        return GroupOutboxStats.builder()
+                .pending(repository.count())
+                .delivered(delivered.sum())
+                .batches(batches.sum())
+                .failures(failures.sum())
+                .lastDrainEvents(events)
+                .lastDrainMillis(nanos / 1_000_000)
+                .lastDrainEventsPerSecond(nanos == 0 ? 0 : events * 1e9 / nanos)
+                .build();
+    }
+
+    private int relayBatch() {
+        Integer relayed = tx.execute(status -> {
+            List<GroupOutboxEvent> batch = repository.lockNextBatch(PageRequest.of(0, batchSize));
+            if (batch.isEmpty()) {
+                return 0;
+            }
+            try {
+                sink.deliver(batch.stream().map(GroupOutboxMessage::of).toList());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            repository.deleteAllInBatch(batch);
+            return batch.size();
+        });
+        int count = relayed == null ? 0 : relayed;
+        if (count > 0) {
+            delivered.add(count);
+            batches.increment();
+        }
+        return count;
+    }
+}
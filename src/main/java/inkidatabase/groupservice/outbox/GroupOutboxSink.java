@@ -0,0 +1,15 @@
+package inkidatabase.groupservice.outbox;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Destination of relayed group changes, selected with {@code groups.outbox.sink}.
+ *
+ * <p>Delivery is at least once: a batch is removed from the outbox only after
+ * {@link #deliver} returns, and redelivered in full if it throws.
+ */
+public interface GroupOutboxSink {
+
+    void deliver(List<GroupOutboxMessage> batch) throws IOException;
+}
@@ -0,0 +1,32 @@
+package inkidatabase.groupservice.outbox;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keeps delivered changes in memory; a stand-in for tests and local runs.
+ */
+public class InMemoryGroupOutboxSink implements GroupOutboxSink {
+
+    private final List<GroupOutboxMessage> delivered = new ArrayList<>();
+    private int batches;
+
+    @Override
+    public synchronized void deliver(List<GroupOutboxMessage> batch) {
+        delivered.addAll(batch);
+        batches++;
+    }
+
+    public synchronized List<GroupOutboxMessage> delivered() {
+        return List.copyOf(delivered);
+    }
+
+    public synchronized int batchCount() {
+        return batches;
+    }
+
+    public synchronized void clear() {
+        delivered.clear();
+        batches = 0;
+    }
+}
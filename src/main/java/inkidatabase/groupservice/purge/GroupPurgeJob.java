@@ -0,0 +1,95 @@
+package inkidatabase.groupservice.purge;
+
+import inkidatabase.groupservice.repository.GroupRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Hard-deletes groups soft-deleted longer than {@code retention} ago, together with their
+ * rows in the five collection tables.
+ *
+ * <p>Work is split into batches of {@code batch-size} groups, each purged in its own short
+ * transaction, so row locks are held only for one batch and concurrent writers and the
+ * change feed are never blocked behind the whole backlog. The retention period is how long
+ * change feed consumers have to see a deletion's tombstone.
+ */
+@Component
+public class GroupPurgeJob {
+
+    private static final Logger log = LoggerFactory.getLogger(GroupPurgeJob.class);
+
+    private final GroupRepository repository;
+    private final TransactionTemplate tx;
+    private final boolean enabled;
+    private final Duration retention;
+    private final int batchSize;
+
+    public GroupPurgeJob(GroupRepository repository, PlatformTransactionManager transactionManager,
+                         @Value("${groups.purge.enabled:true}") boolean enabled,
+                         @Value("${groups.purge.retention:P7D}") Duration retention,
+                         @Value("${groups.purge.batch-size:500}") int batchSize) {
+        this.repository = repository;
+        this.tx = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.retention = retention;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(initialDelayString = "${groups.purge.interval:PT5M}",
+            fixedDelayString = "${groups.purge.interval:PT5M}")
+    public void run() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            purge(Instant.now().minus(retention));
+        } catch (RuntimeException e) {
+            log.warn("Group purge failed, retrying on the next run: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Purges, batch by batch, every group soft-deleted before {@code cutoff}; returns the
+     * number of groups removed.
+     */
+    public long purge(Instant cutoff) {
+        long start = System.nanoTime();
+        long total = 0;
+        int purged;
+        do {
+            purged = purgeBatch(cutoff);
+            total += purged;
+        } while (purged == batchSize);
+        if (total > 0) {
+            log.info("Purged {} deleted groups in {} ms", total, (System.nanoTime() - start) / 1_000_000);
+        }
+        return total;
+    }
+
+    private int purgeBatch(Instant cutoff) {
+        Integer purged = tx.execute(status -> {
+            List<UUID> ids = repository.findIdsDeletedBefore(cutoff, batchSize);
+            if (ids.isEmpty()) {
+                return 0;
+            }
+            repository.purgeLabels(ids);
+            repository.purgeMembers(ids);
+            repository.purgeFormerMembers(ids);
+            repository.purgeSubunits(ids);
+            repository.purgeSocialLinks(ids);
+            repository.purgeGroups(ids);
+            return ids.size();
+        });
+        return purged == null ? 0 : purged;
+    }
+}
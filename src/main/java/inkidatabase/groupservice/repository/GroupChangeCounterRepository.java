@@ -0,0 +1,20 @@
+package inkidatabase.groupservice.repository;
+
+import inkidatabase.groupservice.model.GroupChangeCounter;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface GroupChangeCounterRepository extends JpaRepository<GroupChangeCounter, Integer> {
+
+    // SELECT ... FOR UPDATE; the row stays locked until the writing transaction ends
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM GroupChangeCounter c WHERE c.id = :id")
+    Optional<GroupChangeCounter> lockById(@Param("id") int id);
+}
@@ -0,0 +1,23 @@
+package inkidatabase.groupservice.repository;
+
+import inkidatabase.groupservice.model.GroupOutboxEvent;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface GroupOutboxRepository extends JpaRepository<GroupOutboxEvent, Long> {
+
+    // SELECT ... FOR UPDATE SKIP LOCKED (lock timeout -2): concurrent relays take disjoint batches
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT e FROM GroupOutboxEvent e ORDER BY e.id")
+    List<GroupOutboxEvent> lockNextBatch(Pageable pageable);
+}
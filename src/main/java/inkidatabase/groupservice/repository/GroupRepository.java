@@ -1,24 +1,94 @@
 package inkidatabase.groupservice.repository;
 
 import inkidatabase.groupservice.model.Group;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 @Repository
-public interface GroupRepository extends JpaRepository<Group, UUID> {
+public interface GroupRepository extends JpaRepository<Group, UUID>, JpaSpecificationExecutor<Group> {
     
     List<Group> findByAgencyIgnoreCase(String agency);
     
     List<Group> findByDebutYear(int year);
 
+    // Resolves many names in one round trip; callers pass upper-cased names so the
+    // comparison is case-insensitive and can use idx_groups_name_upper.
+    @Query("SELECT g FROM Group g WHERE upper(g.groupName) IN :names")
+    List<Group> findByUpperGroupNameIn(@Param("names") Collection<String> names);
+
+    List<Group> findByDebutYearBetweenOrderByDebutYearAsc(int fromYear, int toYear);
+
+    // A group is active during a year from its debut through its disband year (inclusive);
+    // disbandYear = 0 means still active. Both bounds are covered by idx_groups_debut_disband.
+    @Query("SELECT g FROM Group g WHERE g.debutYear <= :year AND (g.disbandYear = 0 OR g.disbandYear >= :year) ORDER BY g.debutYear")
+    List<Group> findActiveDuring(@Param("year") int year);
+
     List<Group> findByLabelsContaining(String label);
 
     List<Group> findByMembersContaining(String member);
+
+    // Current and former memberships of one person in a single round trip; each branch is
+    // served by its collection table's (member, group_id) index. Rows are
+    // [groupId, groupName, debutYear, disbandYear, role].
+    @Query("SELECT g.groupId, g.groupName, g.debutYear, g.disbandYear, 'CURRENT' FROM Group g JOIN g.members m WHERE m = :member "
+            + "UNION ALL "
+            + "SELECT g.groupId, g.groupName, g.debutYear, g.disbandYear, 'FORMER' FROM Group g JOIN g.formerMembers f WHERE f = :member")
+    List<Object[]> findMemberships(@Param("member") String member);
     
+    // Groups written after a snapshot was captured; served by idx_groups_updated_at
+    List<Group> findByUpdatedAtAfter(Instant since);
+
+    // Change feed page after the (changeSeq, groupId) cursor, served by idx_groups_change_seq.
+    // Native so that soft-deleted groups come back as tombstones.
+    @Query(value = "SELECT * FROM groups g WHERE g.change_seq > :seq OR (g.change_seq = :seq AND g.group_id > :groupId) "
+            + "ORDER BY g.change_seq, g.group_id", nativeQuery = true)
+    List<Group> findChangedAfter(@Param("seq") long seq, @Param("groupId") UUID groupId, Pageable pageable);
+
+    // Groups soft-deleted after a snapshot was captured, served by idx_groups_deleted_at
+    @Query(value = "SELECT g.group_id FROM groups g WHERE g.deleted_at > :since", nativeQuery = true)
+    List<UUID> findIdsDeletedAfter(@Param("since") Instant since);
+
+    // Oldest purge candidates first, served by idx_groups_deleted_at
+    @Query(value = "SELECT g.group_id FROM groups g WHERE g.deleted_at < :cutoff ORDER BY g.deleted_at LIMIT :limit",
+            nativeQuery = true)
+    List<UUID> findIdsDeletedBefore(@Param("cutoff") Instant cutoff, @Param("limit") int limit);
+
+    // Hard delete of purged groups: the collection tables first, each by its group_id index
+    @Modifying
+    @Query(value = "DELETE FROM group_labels WHERE group_id IN (:ids)", nativeQuery = true)
+    int purgeLabels(@Param("ids") Collection<UUID> ids);
+
+    @Modifying
+    @Query(value = "DELETE FROM group_members WHERE group_id IN (:ids)", nativeQuery = true)
+    int purgeMembers(@Param("ids") Collection<UUID> ids);
+
+    @Modifying
+    @Query(value = "DELETE FROM group_former_members WHERE group_id IN (:ids)", nativeQuery = true)
+    int purgeFormerMembers(@Param("ids") Collection<UUID> ids);
+
+    @Modifying
+    @Query(value = "DELETE FROM group_subunits WHERE group_id IN (:ids)", nativeQuery = true)
+    int purgeSubunits(@Param("ids") Collection<UUID> ids);
+
+    @Modifying
+    @Query(value = "DELETE FROM group_social_links WHERE group_id IN (:ids)", nativeQuery = true)
+    int purgeSocialLinks(@Param("ids") Collection<UUID> ids);
+
+    // Re-checks deleted_at so a purge can never remove a live group
+    @Modifying
+    @Query(value = "DELETE FROM groups WHERE group_id IN (:ids) AND deleted_at IS NOT NULL", nativeQuery = true)
+    int purgeGroups(@Param("ids") Collection<UUID> ids);
+
     @Query("SELECT g FROM Group g WHERE g.disbandYear = 0")
     List<Group> findActiveGroups();
 
@@ -26,4 +96,18 @@ public interface GroupRepository extends JpaRepository<Group, UUID> {
 
     @Query("SELECT g FROM Group g WHERE g.disbandYear > 0")
     List<Group> findDisbandedGroups();
+
+    // Aggregates behind GET /groups/stats when the in-memory counters are not loaded,
+    // and the reference side of the counter reconciliation. Rows are [key, count].
+    @Query("SELECT g.agency, COUNT(g) FROM Group g GROUP BY g.agency")
+    List<Object[]> countGroupsByAgency();
+
+    @Query("SELECT g.debutYear, COUNT(g) FROM Group g GROUP BY g.debutYear")
+    List<Object[]> countGroupsByDebutYear();
+
+    @Query("SELECT g.status, COUNT(g) FROM Group g GROUP BY g.status")
+    List<Object[]> countGroupsByStatus();
+
+    @Query("SELECT l, COUNT(DISTINCT g) FROM Group g JOIN g.labels l GROUP BY l")
+    List<Object[]> countGroupsByLabel();
 }
@@ -0,0 +1,70 @@
+package inkidatabase.groupservice.repository;
+
+import enums.GroupActiveStatus;
+import inkidatabase.groupservice.dto.GroupSearchCriteria;
+import inkidatabase.groupservice.model.Group;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Collection;
+import java.util.Locale;
+
+/**
+ * Composable predicates over {@link Group}. Every filter is a plain column comparison or a
+ * {@code MEMBER OF} subquery, so combining them yields a single SQL statement that can use
+ * the column indexes declared on the entity and never multiplies rows through joins.
+ */
+public final class GroupSpecifications {
+
+    private GroupSpecifications() {
+    }
+
+    public static Specification<Group> matching(GroupSearchCriteria criteria) {
+        Specification<Group> spec = Specification.where(null);
+        if (criteria == null) {
+            return spec;
+        }
+        if (criteria.getAgency() != null && !criteria.getAgency().isBlank()) {
+            spec = spec.and(hasAgency(criteria.getAgency()));
+        }
+        if (criteria.getDebutYearFrom() != null) {
+            spec = spec.and(debutedFrom(criteria.getDebutYearFrom()));
+        }
+        if (criteria.getDebutYearTo() != null) {
+            spec = spec.and(debutedTo(criteria.getDebutYearTo()));
+        }
+        if (criteria.getStatus() != null) {
+            spec = spec.and(hasStatus(criteria.getStatus()));
+        }
+        if (criteria.getLabel() != null && !criteria.getLabel().isBlank()) {
+            spec = spec.and(hasLabel(criteria.getLabel()));
+        }
+        if (criteria.getMember() != null && !criteria.getMember().isBlank()) {
+            spec = spec.and(hasMember(criteria.getMember()));
+        }
+        return spec;
+    }
+
+    public static Specification<Group> hasAgency(String agency) {
+        return (root, query, cb) -> cb.equal(cb.upper(root.<String>get("agency")), agency.toUpperCase(Locale.ROOT));
+    }
+
+    public static Specification<Group> debutedFrom(int year) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("debutYear"), year);
+    }
+
+    public static Specification<Group> debutedTo(int year) {
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("debutYear"), year);
+    }
+
+    public static Specification<Group> hasStatus(GroupActiveStatus status) {
+        return (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+
+    public static Specification<Group> hasLabel(String label) {
+        return (root, query, cb) -> cb.isMember(label, root.<Collection<String>>get("labels"));
+    }
+
+    public static Specification<Group> hasMember(String member) {
+        return (root, query, cb) -> cb.isMember(member, root.<Collection<String>>get("members"));
+    }
+}
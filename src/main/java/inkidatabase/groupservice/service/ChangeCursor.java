@@ -0,0 +1,36 @@
+package inkidatabase.groupservice.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position in the change feed: the last change a client has seen. Encoded as an opaque
+ * URL-safe token so clients don't build cursors themselves.
+ */
+public record ChangeCursor(long sequence, UUID groupId) {
+
+    public static final ChangeCursor START = new ChangeCursor(-1, new UUID(0, 0));
+
+    public String encode() {
+        String plain = sequence + ":" + groupId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(plain.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a token from {@link #encode()}; a missing token means the start of the feed.
+     */
+    public static ChangeCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return START;
+        }
+        try {
+            String plain = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = plain.indexOf(':');
+            return new ChangeCursor(Long.parseLong(plain.substring(0, separator)),
+                    UUID.fromString(plain.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Invalid change cursor: " + token);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package inkidatabase.groupservice.service;
+
+import inkidatabase.groupservice.model.GroupChangeCounter;
+import inkidatabase.groupservice.repository.GroupChangeCounterRepository;
+import jakarta.annotation.PostConstruct;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Hands out {@code change_seq} values for group writes from {@link GroupChangeCounter}.
+ *
+ * <p>Taking a value locks the counter row for the rest of the caller's transaction, which
+ * serializes group writes; callers should take it as late as possible. The row is seeded
+ * at startup, before any write can race to create it.
+ */
+@Component
+public class GroupChangeSequence {
+
+    private final GroupChangeCounterRepository repository;
+    private final TransactionTemplate transaction;
+
+    public GroupChangeSequence(GroupChangeCounterRepository repository, PlatformTransactionManager transactionManager) {
+        this.repository = repository;
+        this.transaction = new TransactionTemplate(transactionManager);
+    }
+
+    @PostConstruct
+    void seed() {
+        try {
+            transaction.executeWithoutResult(status -> {
+                if (!repository.existsById(GroupChangeCounter.ID)) {
+                    repository.saveAndFlush(new GroupChangeCounter(GroupChangeCounter.ID, 0));
+                }
+            });
+        } catch (DataIntegrityViolationException e) {
+            // another replica starting at the same time seeded it first
+        }
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public long next() {
+        return lock().increment();
+    }
+
+    /**
+     * Reserves {@code count} consecutive values for a bulk write and returns the first.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public long reserve(int count) {
+        return lock().advance(count);
+    }
+
+    private GroupChangeCounter lock() {
+        return repository.lockById(GroupChangeCounter.ID)
+                .orElseThrow(() -> new IllegalStateException("The group change counter row is missing"));
+    }
+}
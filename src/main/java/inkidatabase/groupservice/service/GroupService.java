@@ -1,10 +1,17 @@
 package inkidatabase.groupservice.service;
 
 import inkidatabase.groupservice.dto.CreateGroupRequest;
+import inkidatabase.groupservice.dto.GroupChangeFeedDTO;
 import inkidatabase.groupservice.dto.GroupDTO;
+import inkidatabase.groupservice.dto.GroupSearchCriteria;
+import inkidatabase.groupservice.dto.MembershipDTO;
 import inkidatabase.groupservice.dto.UpdateGroupRequest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -12,20 +19,61 @@ public interface GroupService {
     List<GroupDTO> findAll();
     
     Optional<GroupDTO> findById(UUID id);
+
+    List<GroupDTO> findAllById(Collection<UUID> ids);
     
     GroupDTO create(CreateGroupRequest request);
+
+    /**
+     * Creates the groups in one transaction, returned in request order.
+     */
+    List<GroupDTO> createAll(List<CreateGroupRequest> requests);
     
     GroupDTO update(UUID id, UpdateGroupRequest request);
+
+    /**
+     * Applies the updates in one transaction; ids of groups that do not exist are skipped.
+     */
+    List<GroupDTO> updateAll(Map<UUID, UpdateGroupRequest> updates);
+
+    /**
+     * Soft-deletes the group: it disappears from every query at once and is hard-deleted
+     * by {@code GroupPurgeJob} after the retention period.
+     *
+     * @throws IllegalArgumentException if no live group has the id
+     */
+    void delete(UUID id);
     
     List<GroupDTO> findByAgency(String agency);
     
     List<GroupDTO> findByDebutYear(int year);
+
+    List<GroupDTO> findByDebutYearRange(int fromYear, int toYear);
+
+    List<GroupDTO> findActiveDuring(int year);
+
+    List<GroupDTO> findDisbandedAfter(int year);
     
     List<GroupDTO> findActiveGroups();
     
     List<GroupDTO> findDisbandedGroups();
     
     List<GroupDTO> findByMember(String memberName);
+
+    /**
+     * Every group the person is or was in, oldest debut first; a group listing the person
+     * as both current and former member is reported once as current.
+     */
+    List<MembershipDTO> findMemberships(String memberName);
     
     List<GroupDTO> findByLabel(String label);
+
+    Page<GroupDTO> search(GroupSearchCriteria criteria, Pageable pageable);
+
+    /**
+     * Up to {@code limit} groups written after {@code after}, in change order; a group
+     * written several times appears once, at its latest position. Deleted groups appear as
+     * tombstones until they are purged.
+     */
+    GroupChangeFeedDTO findChanges(ChangeCursor after, int limit);
 }
@@ -1,15 +1,32 @@
 package inkidatabase.groupservice.service;
 
+import enums.MemberRole;
 import inkidatabase.groupservice.dto.CreateGroupRequest;
+import inkidatabase.groupservice.dto.GroupChangeDTO;
+import inkidatabase.groupservice.dto.GroupChangeFeedDTO;
 import inkidatabase.groupservice.dto.GroupDTO;
+import inkidatabase.groupservice.dto.GroupSearchCriteria;
+import inkidatabase.groupservice.dto.MembershipDTO;
 import inkidatabase.groupservice.dto.UpdateGroupRequest;
+import inkidatabase.groupservice.event.GroupChangedEvent;
+import inkidatabase.groupservice.index.GroupInvertedIndex;
 import inkidatabase.groupservice.mapper.GroupMapper;
 import inkidatabase.groupservice.model.Group;
+import inkidatabase.groupservice.outbox.GroupOutbox;
 import inkidatabase.groupservice.repository.GroupRepository;
+import inkidatabase.groupservice.repository.GroupSpecifications;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -19,10 +36,20 @@ public class GroupServiceImpl implements GroupService {
     
     private final GroupRepository repository;
     private final GroupMapper mapper;
+    private final ApplicationEventPublisher events;
+    private final GroupInvertedIndex invertedIndex;
+    private final GroupChangeSequence changeSequence;
+    private final GroupOutbox outbox;
 
-    public GroupServiceImpl(GroupRepository repository, GroupMapper mapper) {
+    public GroupServiceImpl(GroupRepository repository, GroupMapper mapper,
+                            ApplicationEventPublisher events, GroupInvertedIndex invertedIndex,
+                            GroupChangeSequence changeSequence, GroupOutbox outbox) {
         this.repository = repository;
         this.mapper = mapper;
+        this.events = events;
+        this.invertedIndex = invertedIndex;
+        this.changeSequence = changeSequence;
+        this.outbox = outbox;
     }
 
     @Override
@@ -38,25 +65,84 @@ public class GroupServiceImpl implements GroupService {
                 .map(mapper::toDTO);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<GroupDTO> findAllById(Collection<UUID> ids) {
+        return repository.findAllById(ids).stream()
+                .map(mapper::toDTO)
+                .toList();
+    }
+
     @Override
     public GroupDTO create(CreateGroupRequest request) {
         Group group = mapper.toEntity(request);
+        group.recordChange(changeSequence.next());
         Group savedGroup = repository.save(group);
+        publish(GroupChangedEvent.created(savedGroup.getGroupId(), mapper.toSnapshot(savedGroup),
+                savedGroup.getChangeSeq()));
         return mapper.toDTO(savedGroup);
     }
 
+    @Override
+    public List<GroupDTO> createAll(List<CreateGroupRequest> requests) {
+        List<Group> groups = requests.stream()
+                .map(mapper::toEntity)
+                .toList();
+        for (Group group : groups) {
+            group.recordChange(changeSequence.next());
+        }
+        List<Group> savedGroups = repository.saveAll(groups);
+        for (Group group : savedGroups) {
+            publish(GroupChangedEvent.created(group.getGroupId(), mapper.toSnapshot(group), group.getChangeSeq()));
+        }
+        return savedGroups.stream()
+                .map(mapper::toDTO)
+                .toList();
+    }
+
     @Override
     public GroupDTO update(UUID id, UpdateGroupRequest request) {
         Group existingGroup = repository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Group not found with id: " + id));
         
         mapper.updateEntityFromRequest(existingGroup, request);
+        existingGroup.recordChange(changeSequence.next());
         Group updatedGroup = repository.save(existingGroup);
+        publish(GroupChangedEvent.updated(updatedGroup.getGroupId(), mapper.toSnapshot(updatedGroup),
+                updatedGroup.getChangeSeq()));
         return mapper.toDTO(updatedGroup);
     }
 
+    @Override
+    public List<GroupDTO> updateAll(Map<UUID, UpdateGroupRequest> updates) {
+        List<Group> groups = repository.findAllById(updates.keySet());
+        for (Group group : groups) {
+            mapper.updateEntityFromRequest(group, updates.get(group.getGroupId()));
+            group.recordChange(changeSequence.next());
+        }
+        List<Group> updatedGroups = repository.saveAll(groups);
+        for (Group group : updatedGroups) {
+            publish(GroupChangedEvent.updated(group.getGroupId(), mapper.toSnapshot(group), group.getChangeSeq()));
+        }
+        return updatedGroups.stream()
+                .map(mapper::toDTO)
+                .toList();
+    }
+
+    @Override
+    public void delete(UUID id) {
+        Group group = repository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("Group not found with id: " + id));
+        group.markDeleted(changeSequence.next());
+        repository.save(group);
+        publish(GroupChangedEvent.deleted(id, group.getChangeSeq()));
+    }
+
     @Override
     public List<GroupDTO> findByAgency(String agency) {
+        if (invertedIndex.isReady()) {
+            return invertedIndex.findByAgency(agency);
+        }
         return repository.findByAgencyIgnoreCase(agency).stream()
                 .map(mapper::toDTO)
                 .toList();
@@ -69,6 +155,27 @@ public class GroupServiceImpl implements GroupService {
                 .toList();
     }
 
+    @Override
+    public List<GroupDTO> findByDebutYearRange(int fromYear, int toYear) {
+        return repository.findByDebutYearBetweenOrderByDebutYearAsc(fromYear, toYear).stream()
+                .map(mapper::toDTO)
+                .toList();
+    }
+
+    @Override
+    public List<GroupDTO> findActiveDuring(int year) {
+        return repository.findActiveDuring(year).stream()
+                .map(mapper::toDTO)
+                .toList();
+    }
+
+    @Override
+    public List<GroupDTO> findDisbandedAfter(int year) {
+        return repository.findByDisbandYearGreaterThan(year).stream()
+                .map(mapper::toDTO)
+                .toList();
+    }
+
     @Override
     public List<GroupDTO> findActiveGroups() {
         return repository.findActiveGroups().stream()
@@ -85,15 +192,96 @@ public class GroupServiceImpl implements GroupService {
 
     @Override
     public List<GroupDTO> findByMember(String memberName) {
+        if (invertedIndex.isReady()) {
+            return invertedIndex.findByMember(memberName);
+        }
         return repository.findByMembersContaining(memberName).stream()
                 .map(mapper::toDTO)
                 .toList();
     }
 
+    @Override
+    public List<MembershipDTO> findMemberships(String memberName) {
+        Map<UUID, MembershipDTO> memberships = new LinkedHashMap<>();
+        if (invertedIndex.isReady()) {
+            invertedIndex.findByMember(memberName)
+                    .forEach(group -> addMembership(memberships, membership(group, MemberRole.CURRENT)));
+            invertedIndex.findByFormerMember(memberName)
+                    .forEach(group -> addMembership(memberships, membership(group, MemberRole.FORMER)));
+        } else {
+            for (Object[] row : repository.findMemberships(memberName)) {
+                addMembership(memberships, MembershipDTO.builder()
+                        .groupId((UUID) row[0])
+                        .groupName((String) row[1])
+                        .debutYear((Integer) row[2])
+                        .disbandYear((Integer) row[3])
+                        .role(MemberRole.valueOf((String) row[4]))
+                        .build());
+            }
+        }
+        return memberships.values().stream()
+                .sorted(Comparator.comparingInt(MembershipDTO::getDebutYear)
+                        .thenComparing(MembershipDTO::getGroupName))
+                .toList();
+    }
+
+    // The outbox row commits with the write; listeners see the event once it has committed
+    private void publish(GroupChangedEvent event) {
+        outbox.append(event);
+        events.publishEvent(event);
+    }
+
+    private static MembershipDTO membership(GroupDTO group, MemberRole role) {
+        return MembershipDTO.builder()
+                .groupId(group.getGroupId())
+                .groupName(group.getGroupName())
+                .debutYear(group.getDebutYear())
+                .disbandYear(group.getDisbandYear())
+                .role(role)
+                .build();
+    }
+
+    private static void addMembership(Map<UUID, MembershipDTO> memberships, MembershipDTO membership) {
+        memberships.merge(membership.getGroupId(), membership,
+                (existing, added) -> existing.getRole() == MemberRole.CURRENT ? existing : added);
+    }
+
     @Override
     public List<GroupDTO> findByLabel(String label) {
+        if (invertedIndex.isReady()) {
+            return invertedIndex.findByLabel(label);
+        }
         return repository.findByLabelsContaining(label).stream()
                 .map(mapper::toDTO)
                 .toList();
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<GroupDTO> search(GroupSearchCriteria criteria, Pageable pageable) {
+        return repository.findAll(GroupSpecifications.matching(criteria), pageable)
+                .map(mapper::toDTO);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public GroupChangeFeedDTO findChanges(ChangeCursor after, int limit) {
+        List<Group> page = repository.findChangedAfter(after.sequence(), after.groupId(), PageRequest.of(0, limit + 1));
+        boolean hasMore = page.size() > limit;
+        List<Group> returned = hasMore ? page.subList(0, limit) : page;
+        List<GroupChangeDTO> changes = returned.stream()
+                .map(group -> GroupChangeDTO.builder()
+                        .sequence(group.getChangeSeq())
+                        .deleted(group.isDeleted())
+                        .group(mapper.toDTO(group))
+                        .build())
+                .toList();
+        Group last = returned.isEmpty() ? null : returned.get(returned.size() - 1);
+        ChangeCursor next = last == null ? after : new ChangeCursor(last.getChangeSeq(), last.getGroupId());
+        return GroupChangeFeedDTO.builder()
+                .changes(changes)
+                .nextCursor(next.encode())
+                .hasMore(hasMore)
+                .build();
+    }
 }
@@ -0,0 +1,112 @@
+package inkidatabase.groupservice.service;
+
+import enums.GroupActiveStatus;
+import inkidatabase.groupservice.dto.GroupStatsDTO;
+import inkidatabase.groupservice.dto.StatsReconciliationDTO;
+import inkidatabase.groupservice.index.GroupIndexRegistry;
+import inkidatabase.groupservice.index.GroupStatsIndex;
+import inkidatabase.groupservice.repository.GroupRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Function;
+
+/**
+ * Serves group counts from {@link GroupStatsIndex}, falling back to GROUP BY queries while
+ * the counters are not loaded, and periodically checks the counters against those queries.
+ */
+@Service
+public class GroupStatsService {
+
+    private static final Logger log = LoggerFactory.getLogger(GroupStatsService.class);
+
+    private final GroupRepository repository;
+    private final GroupStatsIndex statsIndex;
+    private final GroupIndexRegistry registry;
+
+    public GroupStatsService(GroupRepository repository, GroupStatsIndex statsIndex, GroupIndexRegistry registry) {
+        this.repository = repository;
+        this.statsIndex = statsIndex;
+        this.registry = registry;
+    }
+
+    public GroupStatsDTO getStats() {
+        return statsIndex.isReady() ? statsIndex.snapshot() : fromDatabase();
+    }
+
+    /**
+     * Compares the counters with the database and reloads them if they drifted. A write
+     * committed between the two reads can show up as a difference; the reload is harmless.
+     */
+    @Scheduled(initialDelayString = "${groups.stats.reconcile-interval:PT15M}",
+            fixedDelayString = "${groups.stats.reconcile-interval:PT15M}")
+    public StatsReconciliationDTO reconcile() {
+        if (!statsIndex.isReady()) {
+            return StatsReconciliationDTO.builder()
+                    .consistent(true)
+                    .differences(List.of())
+                    .build();
+        }
+        GroupStatsDTO expected = fromDatabase();
+        GroupStatsDTO actual = statsIndex.snapshot();
+
+        List<String> differences = new ArrayList<>();
+        if (expected.getTotal() != actual.getTotal()) {
+            differences.add(String.format("total: counters=%d, database=%d", actual.getTotal(), expected.getTotal()));
+        }
+        compare("byAgency", actual.getByAgency(), expected.getByAgency(), differences);
+        compare("byDebutYear", actual.getByDebutYear(), expected.getByDebutYear(), differences);
+        compare("byStatus", actual.getByStatus(), expected.getByStatus(), differences);
+        compare("byLabel", actual.getByLabel(), expected.getByLabel(), differences);
+
+        if (!differences.isEmpty()) {
+            log.warn("Group stats counters drifted from the database, reloading: {}", differences);
+            registry.rebuild(statsIndex);
+        }
+        return StatsReconciliationDTO.builder()
+                .consistent(differences.isEmpty())
+                .differences(differences)
+                .build();
+    }
+
+    private GroupStatsDTO fromDatabase() {
+        return GroupStatsDTO.builder()
+                .total(repository.count())
+                .byAgency(toCounts(repository.countGroupsByAgency(), String::valueOf))
+                .byDebutYear(toCounts(repository.countGroupsByDebutYear(), String::valueOf))
+                .byStatus(toCounts(repository.countGroupsByStatus(), status -> ((GroupActiveStatus) status).getValue()))
+                .byLabel(toCounts(repository.countGroupsByLabel(), String::valueOf))
+                .build();
+    }
+
+    private static Map<String, Long> toCounts(List<Object[]> rows, Function<Object, String> key) {
+        Map<String, Long> counts = new TreeMap<>();
+        for (Object[] row : rows) {
+            if (row[0] != null) {
+                counts.put(key.apply(row[0]), ((Number) row[1]).longValue());
+            }
+        }
+        return counts;
+    }
+
+    private static void compare(String dimension, Map<String, Long> actual, Map<String, Long> expected,
+                                List<String> differences) {
+        TreeSet<String> keys = new TreeSet<>(actual.keySet());
+        keys.addAll(expected.keySet());
+        for (String key : keys) {
+            Long counted = actual.getOrDefault(key, 0L);
+            Long stored = expected.getOrDefault(key, 0L);
+            if (!Objects.equals(counted, stored)) {
+                differences.add(String.format("%s[%s]: counters=%d, database=%d", dimension, key, counted, stored));
+            }
+        }
+    }
+}
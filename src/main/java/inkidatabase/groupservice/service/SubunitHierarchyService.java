@@ -0,0 +1,156 @@
+package inkidatabase.groupservice.service;
+
+import inkidatabase.groupservice.dto.GroupDTO;
+import inkidatabase.groupservice.dto.GroupSummaryDTO;
+import inkidatabase.groupservice.dto.SubunitHierarchyDTO;
+import inkidatabase.groupservice.event.GroupChangedEvent;
+import inkidatabase.groupservice.mapper.GroupMapper;
+import inkidatabase.groupservice.model.Group;
+import inkidatabase.groupservice.repository.GroupRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Resolves a group's subunit names to the groups carrying those names with one batched
+ * query, and caches the result per parent. An entry is dropped when the parent, one of its
+ * resolved subunits, or any group named like one of its subunits changes.
+ */
+@Service
+public class SubunitHierarchyService {
+
+    private static final int MAX_CACHED = 10_000;
+
+    private final GroupRepository repository;
+    private final GroupMapper mapper;
+
+    private final Map<UUID, Hierarchy> cache = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<UUID, Hierarchy> eldest) {
+            return size() > MAX_CACHED;
+        }
+    };
+    // Bumped on every invalidation so a load that raced with a commit is not cached.
+    private final AtomicLong generation = new AtomicLong();
+
+    public SubunitHierarchyService(GroupRepository repository, GroupMapper mapper) {
+        this.repository = repository;
+        this.mapper = mapper;
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<SubunitHierarchyDTO<GroupDTO>> findSubunits(UUID groupId) {
+        return resolve(groupId).map(hierarchy -> toDTO(hierarchy, hierarchy.subunits()));
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<SubunitHierarchyDTO<GroupSummaryDTO>> findSubunitSummaries(UUID groupId) {
+        return resolve(groupId).map(hierarchy -> toDTO(hierarchy, hierarchy.subunits().stream()
+                .map(mapper::toSummary)
+                .toList()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGroupChanged(GroupChangedEvent event) {
+        generation.incrementAndGet();
+        synchronized (cache) {
+            if (event.getGroup() == null) {
+                cache.clear();
+            } else {
+                String nameKey = nameKey(event.getGroup().getGroupName());
+                cache.values().removeIf(hierarchy -> hierarchy.dependsOn(event.getGroupId(), nameKey));
+            }
+        }
+    }
+
+    /**
+     * Drops every cached hierarchy, e.g. after a bulk import that published no events.
+     */
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        synchronized (cache) {
+            cache.clear();
+        }
+    }
+
+    private Optional<Hierarchy> resolve(UUID groupId) {
+        synchronized (cache) {
+            Hierarchy cached = cache.get(groupId);
+            if (cached != null) {
+                return Optional.of(cached);
+            }
+        }
+        long loadedAt = generation.get();
+        Optional<Hierarchy> loaded = repository.findById(groupId).map(this::load);
+        loaded.ifPresent(hierarchy -> {
+            synchronized (cache) {
+                if (generation.get() == loadedAt) {
+                    cache.put(groupId, hierarchy);
+                }
+            }
+        });
+        return loaded;
+    }
+
+    private Hierarchy load(Group parent) {
+        Set<String> nameKeys = parent.getSubunits().stream()
+                .map(SubunitHierarchyService::nameKey)
+                .filter(key -> !key.isEmpty())
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        Map<String, List<Group>> byName = nameKeys.isEmpty() ? Map.of()
+                : repository.findByUpperGroupNameIn(nameKeys).stream()
+                        .filter(group -> !group.getGroupId().equals(parent.getGroupId()))
+                        .collect(Collectors.groupingBy(group -> nameKey(group.getGroupName())));
+
+        List<GroupDTO> subunits = new ArrayList<>();
+        List<String> unresolved = new ArrayList<>();
+        Set<UUID> subunitIds = new LinkedHashSet<>();
+        for (String name : parent.getSubunits()) {
+            List<Group> matches = byName.get(nameKey(name));
+            if (matches == null) {
+                unresolved.add(name);
+                continue;
+            }
+            for (Group match : matches) {
+                if (subunitIds.add(match.getGroupId())) {
+                    subunits.add(mapper.toSnapshot(match));
+                }
+            }
+        }
+        return new Hierarchy(parent.getGroupId(), parent.getGroupName(), List.copyOf(subunits),
+                List.copyOf(unresolved), subunitIds, nameKeys);
+    }
+
+    private static <T> SubunitHierarchyDTO<T> toDTO(Hierarchy hierarchy, List<T> subunits) {
+        return SubunitHierarchyDTO.<T>builder()
+                .groupId(hierarchy.groupId())
+                .groupName(hierarchy.groupName())
+                .subunits(subunits)
+                .unresolved(hierarchy.unresolved())
+                .build();
+    }
+
+    private static String nameKey(String name) {
+        return name == null ? "" : name.toUpperCase(Locale.ROOT);
+    }
+
+    private record Hierarchy(UUID groupId, String groupName, List<GroupDTO> subunits, List<String> unresolved,
+                             Set<UUID> subunitIds, Set<String> nameKeys) {
+
+        boolean dependsOn(UUID changedId, String changedNameKey) {
+            return groupId.equals(changedId) || subunitIds.contains(changedId) || nameKeys.contains(changedNameKey);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package inkidatabase.groupservice.snapshot;
+
+import inkidatabase.groupservice.dto.GroupDTO;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Groups as read at {@code capturedAt}; anything written later is missing or stale.
+ */
+public record GroupSnapshot(Instant capturedAt, List<GroupDTO> groups) {
+}
@@ -0,0 +1,106 @@
+package inkidatabase.groupservice.snapshot;
+
+import inkidatabase.groupservice.cache.GroupBinaryCodec;
+import inkidatabase.groupservice.dto.GroupDTO;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * On-disk snapshot of the catalogue: a header ({@code GSNP} magic, format version, capture
+ * time in epoch millis, group count), one length-prefixed {@link GroupBinaryCodec} record
+ * per group, and a CRC32 of the records. Files are written next to the target and moved
+ * into place, and read through a read-only memory mapping.
+ */
+public final class GroupSnapshotFile {
+
+    private static final int MAGIC = 0x47534E50;
+    private static final int FORMAT_VERSION = 1;
+    private static final int HEADER = 4 + 4 + 8 + 4;
+
+    private GroupSnapshotFile() {
+    }
+
+    public static void write(Path path, Instant capturedAt, Collection<GroupDTO> groups) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path temp = Files.createTempFile(parent, path.getFileName().toString(), ".tmp");
+        try {
+            try (OutputStream file = Files.newOutputStream(temp);
+                 DataOutputStream out = new DataOutputStream(new BufferedOutputStream(file, 1 << 16))) {
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT_VERSION);
+                out.writeLong(capturedAt.toEpochMilli());
+                out.writeInt(groups.size());
+                CRC32 crc = new CRC32();
+                DataOutputStream records = new DataOutputStream(new CheckedOutputStream(out, crc));
+                for (GroupDTO group : groups) {
+                    byte[] record = GroupBinaryCodec.encode(group);
+                    records.writeInt(record.length);
+                    records.write(record);
+                }
+                records.flush();
+                out.writeLong(crc.getValue());
+            }
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Maps and decodes the file; throws {@link IOException} if it is truncated or corrupt.
+     */
+    public static GroupSnapshot read(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER + 8 || size > Integer.MAX_VALUE) {
+                throw new IOException("Unexpected group snapshot size: " + size);
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            if (buffer.getInt() != MAGIC) {
+                throw new IOException("Not a group snapshot: " + path);
+            }
+            int version = buffer.getInt();
+            if (version != FORMAT_VERSION) {
+                throw new IOException("Unsupported group snapshot version: " + version);
+            }
+            Instant capturedAt = Instant.ofEpochMilli(buffer.getLong());
+            int count = buffer.getInt();
+
+            CRC32 crc = new CRC32();
+            crc.update(buffer.slice(HEADER, (int) size - HEADER - 8));
+            if (crc.getValue() != buffer.getLong((int) size - 8)) {
+                throw new IOException("Group snapshot checksum mismatch: " + path);
+            }
+            try {
+                List<GroupDTO> groups = new ArrayList<>(count);
+                for (int i = 0; i < count; i++) {
+                    int length = buffer.getInt();
+                    ByteBuffer record = buffer.slice(buffer.position(), length);
+                    groups.add(GroupBinaryCodec.decode(record));
+                    buffer.position(buffer.position() + length);
+                }
+                return new GroupSnapshot(capturedAt, Collections.unmodifiableList(groups));
+            } catch (RuntimeException e) {
+                throw new IOException("Malformed group snapshot: " + path, e);
+            }
+        }
+    }
+}
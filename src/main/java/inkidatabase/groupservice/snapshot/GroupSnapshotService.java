@@ -0,0 +1,142 @@
+package inkidatabase.groupservice.snapshot;
+
+import inkidatabase.groupservice.cache.GroupCache;
+import inkidatabase.groupservice.dto.GroupDTO;
+import inkidatabase.groupservice.index.GroupIndexRegistry;
+import inkidatabase.groupservice.mapper.GroupMapper;
+import inkidatabase.groupservice.model.Group;
+import inkidatabase.groupservice.repository.GroupRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Periodically writes every group to a local {@link GroupSnapshotFile} and, at startup,
+ * loads it into the indexes and {@link GroupCache} before the service reports ready.
+ *
+ * <p>The snapshot is then reconciled with the database by re-reading the groups whose
+ * {@code updated_at} is later than the capture time minus {@code reconcile-overlap}; the
+ * overlap absorbs clock skew between replicas and transactions that were still open when
+ * the snapshot was taken. A group deleted since capture and already purged matches neither
+ * query, so a snapshot older than {@code groups.purge.retention} is not used, and if the
+ * reconciled snapshot still does not cover exactly the stored groups its groups are dropped
+ * from the cache again. Without a usable snapshot the indexes do their usual full scan.
+ */
+@Component
+public class GroupSnapshotService {
+
+    private static final Logger log = LoggerFactory.getLogger(GroupSnapshotService.class);
+
+    private final GroupRepository repository;
+    private final GroupMapper mapper;
+    private final GroupIndexRegistry registry;
+    private final GroupCache cache;
+    private final TransactionTemplate readOnlyTx;
+    private final boolean enabled;
+    private final Path path;
+    private final Duration overlap;
+    private final Duration retention;
+
+    public GroupSnapshotService(GroupRepository repository, GroupMapper mapper, GroupIndexRegistry registry,
+                                GroupCache cache, PlatformTransactionManager transactionManager,
+                                @Value("${groups.snapshot.enabled:true}") boolean enabled,
+                                @Value("${groups.snapshot.path:data/groups.snapshot}") Path path,
+                                @Value("${groups.snapshot.reconcile-overlap:PT1M}") Duration overlap,
+                                @Value("${groups.purge.retention:P7D}") Duration retention) {
+        this.repository = repository;
+        this.mapper = mapper;
+        this.registry = registry;
+        this.cache = cache;
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+        this.enabled = enabled;
+        this.path = path;
+        this.overlap = overlap;
+        this.retention = retention;
+    }
+
+    // Runs ahead of the registry's own startup scan, which it makes unnecessary
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void warmUp() {
+        if (!enabled || !Files.exists(path)) {
+            return;
+        }
+        GroupSnapshot snapshot;
+        try {
+            snapshot = GroupSnapshotFile.read(path);
+        } catch (IOException e) {
+            log.warn("Ignoring unreadable group snapshot {}: {}", path, e.getMessage());
+            return;
+        }
+        if (snapshot.capturedAt().isBefore(Instant.now().minus(retention))) {
+            log.warn("Ignoring group snapshot {} captured at {}, before the purge retention of {}",
+                    path, snapshot.capturedAt(), retention);
+            return;
+        }
+        Instant changedSince = snapshot.capturedAt().minus(overlap);
+        cache.warm(snapshot.groups());
+        Set<UUID> ids = new HashSet<>(snapshot.groups().size() * 4 / 3 + 1);
+        snapshot.groups().forEach(group -> ids.add(group.getGroupId()));
+        long stored = readOnlyTx.execute(status -> {
+            for (Group group : repository.findByUpdatedAtAfter(changedSince)) {
+                cache.invalidate(group.getGroupId());
+                ids.add(group.getGroupId());
+            }
+            for (UUID deleted : repository.findIdsDeletedAfter(changedSince)) {
+                cache.invalidate(deleted);
+                ids.remove(deleted);
+            }
+            return repository.count();
+        });
+        boolean consistent = ids.size() == stored;
+        if (registry.isEnabled() && !registry.restore(snapshot.groups(), changedSince)) {
+            consistent = false;
+        }
+        if (!consistent) {
+            snapshot.groups().forEach(group -> cache.invalidate(group.getGroupId()));
+            log.warn("Group snapshot {} does not match the {} stored groups; not using it for the cache", path, stored);
+            return;
+        }
+        log.info("Warmed caches from group snapshot of {} groups captured at {}",
+                snapshot.groups().size(), snapshot.capturedAt());
+    }
+
+    @Scheduled(initialDelayString = "${groups.snapshot.interval:PT10M}",
+            fixedDelayString = "${groups.snapshot.interval:PT10M}")
+    public void write() {
+        if (!enabled) {
+            return;
+        }
+        long start = System.nanoTime();
+        Instant capturedAt = Instant.now();
+        List<GroupDTO> groups = readOnlyTx.execute(status -> repository.findAll().stream()
+                .map(mapper::toSnapshot)
+                .toList());
+        try {
+            GroupSnapshotFile.write(path, capturedAt, groups);
+            log.info("Wrote group snapshot of {} groups to {} in {} ms",
+                    groups.size(), path, (System.nanoTime() - start) / 1_000_000);
+        } catch (IOException e) {
+            log.warn("Could not write group snapshot to {}", path, e);
+        }
+    }
+}
@@ -0,0 +1,289 @@
+package inkidatabase.groupservice.stream;
+
+import inkidatabase.groupservice.dto.GroupChangeDTO;
+import inkidatabase.groupservice.dto.GroupChangeFeedDTO;
+import inkidatabase.groupservice.event.GroupChangedEvent;
+import inkidatabase.groupservice.service.ChangeCursor;
+import inkidatabase.groupservice.service.GroupService;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Fans committed group changes out to Server-Sent Events subscribers.
+ *
+ * <p>Writers only offer the event to each subscriber's bounded queue, so a slow consumer
+ * never holds up a commit. A subscriber whose queue overflows is sent an {@code overflow}
+ * event and disconnected; events carry change feed cursors as ids, so the client resumes
+ * with {@code Last-Event-ID} and catches up from the database before going live again.
+ *
+ * <p>The counter lock is released at commit, before after-commit listeners run, so two
+ * racing commits can reach subscribers out of sequence order. Live events are sent in
+ * arrival order, but the id they carry never moves past a lower sequence that has not
+ * been sent yet: it is the highest position up to which every change has been sent, so
+ * resuming from it can repeat changes but not lose one. A gap that stays open for a
+ * second belongs to a change that is committed, since a higher sequence was delivered, but
+ * is not delivered live, such as a bulk import; it is filled from the change feed. Live events the backfill or such a catch-up already sent are skipped.
+ */
+@Component
+public class GroupChangeStream {
+
+    private static final Logger log = LoggerFactory.getLogger(GroupChangeStream.class);
+    private static final int BACKFILL_PAGE_SIZE = 500;
+    private static final long GAP_WAIT_MILLIS = 1_000;
+
+    private final GroupService service;
+    private final int bufferSize;
+    private final int maxSubscribers;
+    private final Duration heartbeat;
+
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+    private final AtomicLong dropped = new AtomicLong();
+
+    public GroupChangeStream(GroupService service,
+                             @Value("${groups.stream.buffer-size:256}") int bufferSize,
+                             @Value("${groups.stream.max-subscribers:1000}") int maxSubscribers,
+                             @Value("${groups.stream.heartbeat:PT15S}") Duration heartbeat) {
+        this.service = service;
+        this.bufferSize = bufferSize;
+        this.maxSubscribers = maxSubscribers;
+        this.heartbeat = heartbeat;
+    }
+
+    /**
+     * Opens a stream that first replays the changes after {@code cursor} (none when null)
+     * and then follows live changes; empty if the subscriber limit is reached.
+     */
+    public Optional<SseEmitter> subscribe(ChangeCursor cursor) {
+        if (subscribers.size() >= maxSubscribers) {
+            return Optional.empty();
+        }
+        // No async timeout; the heartbeat detects clients that went away
+        SseEmitter emitter = new SseEmitter(0L);
+        subscribe(cursor, emitter);
+        return Optional.of(emitter);
+    }
+
+    Subscriber subscribe(ChangeCursor cursor, SseEmitter emitter) {
+        Subscriber subscriber = new Subscriber(emitter, cursor);
+        subscribers.add(subscriber);
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(error -> subscriber.close());
+        subscriber.thread = Thread.ofVirtual().name("group-stream-subscriber").start(subscriber::run);
+        return subscriber;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGroupChanged(GroupChangedEvent event) {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.offer(event);
+        }
+    }
+
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    /**
+     * Subscribers disconnected so far because they fell too far behind.
+     */
+    public long droppedCount() {
+        return dropped.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.close();
+            subscriber.emitter.complete();
+            Thread thread = subscriber.thread;
+            if (thread != null) {
+                thread.interrupt();
+            }
+        }
+    }
+
+    final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final BlockingQueue<GroupChangedEvent> queue = new ArrayBlockingQueue<>(bufferSize);
+        private final AtomicBoolean overflowed = new AtomicBoolean();
+        private final ChangeCursor from;
+        private volatile boolean open = true;
+        private volatile Thread thread;
+        // Every change up to this position has been sent; the id of each event
+        private ChangeCursor last;
+        // Highest position sent from the change feed; live events at or below it were already sent
+        private ChangeCursor covered;
+        // Live events sent beyond a gap after last, by sequence
+        private final NavigableMap<Long, ChangeCursor> ahead = new TreeMap<>();
+        private long gapSince;
+
+        private Subscriber(SseEmitter emitter, ChangeCursor from) {
+            this.emitter = emitter;
+            this.from = from;
+            this.last = from;
+            this.covered = from;
+        }
+
+        private void offer(GroupChangedEvent event) {
+            // a full queue means the drain loop is busy sending and will see the flag next
+            if (open && !queue.offer(event) && overflowed.compareAndSet(false, true)) {
+                dropped.incrementAndGet();
+            }
+        }
+
+        private void run() {
+            try {
+                if (from != null) {
+                    backfill();
+                }
+                while (open && !overflowed.get()) {
+                    long wait = ahead.isEmpty() ? heartbeat.toMillis()
+                            : Math.max(0, GAP_WAIT_MILLIS - (System.currentTimeMillis() - gapSince));
+                    GroupChangedEvent event = queue.poll(wait, TimeUnit.MILLISECONDS);
+                    if (event != null) {
+                        if (!isCovered(event)) {
+                            send(event);
+                        }
+                    } else if (ahead.isEmpty()) {
+                        emitter.send(SseEmitter.event().comment("heartbeat"));
+                    }
+                    if (!ahead.isEmpty() && System.currentTimeMillis() - gapSince >= GAP_WAIT_MILLIS) {
+                        catchUp();
+                    }
+                }
+            } catch (InterruptedException e) {
+                open = false;
+            } catch (IOException | IllegalStateException e) {
+                // client went away
+                open = false;
+            } catch (RuntimeException e) {
+                log.warn("Group change stream subscriber failed", e);
+                emitter.completeWithError(e);
+                open = false;
+            }
+            if (overflowed.get() && open) {
+                try {
+                    emitter.send(SseEmitter.event().name("overflow").id(last == null ? "" : last.encode())
+                            .data("Subscriber fell behind; reconnect with Last-Event-ID to resume"));
+                    emitter.complete();
+                } catch (IOException | IllegalStateException e) {
+                    log.debug("Could not notify lagging stream subscriber", e);
+                }
+            }
+            close();
+        }
+
+        // Pages the change feed until caught up; live events queued meanwhile are deduplicated
+        private void backfill() throws IOException {
+            ChangeCursor cursor = from;
+            GroupChangeFeedDTO page;
+            do {
+                page = service.findChanges(cursor, BACKFILL_PAGE_SIZE);
+                for (GroupChangeDTO change : page.getChanges()) {
+                    last = send(change);
+                    covered = last;
+                }
+                cursor = ChangeCursor.decode(page.getNextCursor());
+            } while (page.isHasMore() && open);
+        }
+
+        // Every sequence below a delivered one has committed, as the counter lock is held until
+        // commit, so the feed up to the highest sequence sent holds every change not yet sent
+        private void catchUp() throws IOException {
+            long upTo = ahead.lastKey();
+            ChangeCursor cursor = last;
+            GroupChangeFeedDTO page;
+            boolean done = false;
+            do {
+                page = service.findChanges(cursor, BACKFILL_PAGE_SIZE);
+                for (GroupChangeDTO change : page.getChanges()) {
+                    if (change.getSequence() > upTo) {
+                        done = true;
+                        break;
+                    }
+                    if (!ahead.containsKey(change.getSequence())) {
+                        send(change);
+                    }
+                }
+                cursor = ChangeCursor.decode(page.getNextCursor());
+            } while (!done && page.isHasMore() && open);
+            last = ahead.lastEntry().getValue();
+            covered = last;
+            ahead.clear();
+        }
+
+        private boolean isCovered(GroupChangedEvent event) {
+            if (covered == null || event.getSequence() == 0) {
+                return false;
+            }
+            return event.getSequence() < covered.sequence()
+                    || (event.getSequence() == covered.sequence() && event.getGroupId().equals(covered.groupId()));
+        }
+
+        // A change read from the feed, with its own position as id since the feed is in order
+        private ChangeCursor send(GroupChangeDTO change) throws IOException {
+            ChangeCursor position = new ChangeCursor(change.getSequence(), change.getGroup().getGroupId());
+            emitter.send(SseEmitter.event()
+                    .id(position.encode())
+                    .name(change.isDeleted() ? "deleted" : "updated")
+                    .data(change.isDeleted() ? change.getGroup().getGroupId() : change.getGroup()));
+            return position;
+        }
+
+        private void send(GroupChangedEvent event) throws IOException {
+            if (event.getSequence() > 0) {
+                advance(new ChangeCursor(event.getSequence(), event.getGroupId()));
+            }
+            SseEmitter.SseEventBuilder builder = SseEmitter.event()
+                    .name(event.getType().name().toLowerCase(Locale.ROOT))
+                    .data(event.getGroup() != null ? event.getGroup() : event.getGroupId());
+            if (last != null) {
+                builder.id(last.encode());
+            }
+            emitter.send(builder);
+        }
+
+        // Without a starting cursor the first live event is the starting point
+        private void advance(ChangeCursor position) {
+            if (last == null) {
+                last = position;
+            } else if (position.sequence() == last.sequence() + 1) {
+                last = position;
+                while (!ahead.isEmpty() && ahead.firstKey() == last.sequence() + 1) {
+                    last = ahead.pollFirstEntry().getValue();
+                }
+            } else if (position.sequence() > last.sequence()) {
+                if (ahead.isEmpty()) {
+                    gapSince = System.currentTimeMillis();
+                }
+                ahead.put(position.sequence(), position);
+            }
+        }
+
+        private void close() {
+            open = false;
+            subscribers.remove(this);
+        }
+    }
+}
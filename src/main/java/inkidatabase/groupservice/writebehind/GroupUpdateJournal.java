@@ -0,0 +1,280 @@
+package inkidatabase.groupservice.writebehind;
+
+import inkidatabase.groupservice.dto.UpdateGroupRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only log of accepted write-behind updates, split into numbered segment files.
+ *
+ * <p>Each record is {@code length, CRC32, payload} and is written (and, with {@code fsync},
+ * forced to disk) before the update is acknowledged. {@link #rotate()} closes the current
+ * segment when its updates are handed to a flush; the flusher deletes the closed segments
+ * once they are applied. Segments left behind by a crash are replayed on startup, up to
+ * the first torn or corrupt record. Not thread-safe.
+ */
+final class GroupUpdateJournal implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(GroupUpdateJournal.class);
+    private static final String PREFIX = "updates-";
+    private static final String SUFFIX = ".journal";
+    private static final int MAX_RECORD_BYTES = 16 << 20;
+
+    private static final int GROUP_NAME = 1;
+    private static final int AGENCY = 1 << 1;
+    private static final int LABELS = 1 << 2;
+    private static final int MEMBERS = 1 << 3;
+    private static final int FORMER_MEMBERS = 1 << 4;
+    private static final int DEBUT_YEAR = 1 << 5;
+    private static final int DISBAND_YEAR = 1 << 6;
+    private static final int SUBUNITS = 1 << 7;
+    private static final int SOCIAL_LINKS = 1 << 8;
+
+    private final Path dir;
+    private final boolean fsync;
+    private final List<Path> closed = new ArrayList<>();
+    private long nextSegment;
+    private Path currentPath;
+    private FileChannel current;
+    private long currentRecords;
+
+    GroupUpdateJournal(Path dir, boolean fsync) throws IOException {
+        this.dir = dir;
+        this.fsync = fsync;
+        Files.createDirectories(dir);
+        try (Stream<Path> files = Files.list(dir)) {
+            files.filter(GroupUpdateJournal::isSegment)
+                    .sorted(Comparator.comparingLong(GroupUpdateJournal::segmentNumber))
+                    .forEach(closed::add);
+        }
+        nextSegment = closed.isEmpty() ? 1 : segmentNumber(closed.get(closed.size() - 1)) + 1;
+        openSegment();
+    }
+
+    /**
+     * Updates recorded in segments from a previous run, oldest first.
+     */
+    List<Entry> replay() throws IOException {
+        List<Entry> entries = new ArrayList<>();
+        for (Path segment : closed) {
+            try (DataInputStream in = new DataInputStream(Files.newInputStream(segment))) {
+                readSegment(segment, in, entries);
+            }
+        }
+        return entries;
+    }
+
+    void append(UUID groupId, UpdateGroupRequest request) throws IOException {
+        byte[] payload = encode(groupId, request);
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        ByteBuffer record = ByteBuffer.allocate(8 + payload.length);
+        record.putInt(payload.length).putInt((int) crc.getValue()).put(payload).flip();
+        while (record.hasRemaining()) {
+            current.write(record);
+        }
+        if (fsync) {
+            current.force(false);
+        }
+        currentRecords++;
+    }
+
+    /**
+     * Closes the current segment and starts a new one; returns every closed segment, which
+     * the caller deletes once their updates are applied.
+     */
+    List<Path> rotate() throws IOException {
+        current.close();
+        if (currentRecords > 0) {
+            closed.add(currentPath);
+        } else {
+            Files.deleteIfExists(currentPath);
+        }
+        List<Path> handedOff = List.copyOf(closed);
+        closed.clear();
+        openSegment();
+        return handedOff;
+    }
+
+    void delete(List<Path> segments) throws IOException {
+        for (Path segment : segments) {
+            Files.deleteIfExists(segment);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        current.close();
+        if (currentRecords == 0) {
+            Files.deleteIfExists(currentPath);
+        }
+    }
+
+    private void openSegment() throws IOException {
+        currentPath = dir.resolve(String.format("%s%08d%s", PREFIX, nextSegment++, SUFFIX));
+        current = FileChannel.open(currentPath, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        currentRecords = 0;
+    }
+
+    private static void readSegment(Path segment, DataInputStream in, List<Entry> entries) throws IOException {
+        while (true) {
+            int length;
+            try {
+                length = in.readInt();
+            } catch (EOFException e) {
+                return;
+            }
+            try {
+                int checksum = in.readInt();
+                if (length < 0 || length > MAX_RECORD_BYTES) {
+                    log.warn("Stopping replay of {} at a corrupt record", segment);
+                    return;
+                }
+                byte[] payload = in.readNBytes(length);
+                if (payload.length != length) {
+                    throw new EOFException();
+                }
+                CRC32 crc = new CRC32();
+                crc.update(payload);
+                if ((int) crc.getValue() != checksum) {
+                    log.warn("Stopping replay of {} at a corrupt record", segment);
+                    return;
+                }
+                entries.add(decode(payload));
+            } catch (EOFException e) {
+                log.warn("Stopping replay of {} at a torn record", segment);
+                return;
+            }
+        }
+    }
+
+    static byte[] encode(UUID groupId, UpdateGroupRequest request) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeLong(groupId.getMostSignificantBits());
+            out.writeLong(groupId.getLeastSignificantBits());
+            int mask = (request.getGroupName() != null ? GROUP_NAME : 0)
+                    | (request.getAgency() != null ? AGENCY : 0)
+                    | (request.getLabels() != null ? LABELS : 0)
+                    | (request.getMembers() != null ? MEMBERS : 0)
+                    | (request.getFormerMembers() != null ? FORMER_MEMBERS : 0)
+                    | (request.getDebutYear() != null ? DEBUT_YEAR : 0)
+                    | (request.getDisbandYear() != null ? DISBAND_YEAR : 0)
+                    | (request.getSubunits() != null ? SUBUNITS : 0)
+                    | (request.getSocialLinks() != null ? SOCIAL_LINKS : 0);
+            out.writeShort(mask);
+            if (request.getGroupName() != null) {
+                writeString(out, request.getGroupName());
+            }
+            if (request.getAgency() != null) {
+                writeString(out, request.getAgency());
+            }
+            writeList(out, request.getLabels());
+            writeList(out, request.getMembers());
+            writeList(out, request.getFormerMembers());
+            if (request.getDebutYear() != null) {
+                out.writeInt(request.getDebutYear());
+            }
+            if (request.getDisbandYear() != null) {
+                out.writeInt(request.getDisbandYear());
+            }
+            writeList(out, request.getSubunits());
+            writeList(out, request.getSocialLinks());
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    static Entry decode(byte[] payload) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload));
+        UUID groupId = new UUID(in.readLong(), in.readLong());
+        int mask = in.readUnsignedShort();
+        UpdateGroupRequest request = UpdateGroupRequest.builder()
+                .groupName((mask & GROUP_NAME) != 0 ? readString(in) : null)
+                .agency((mask & AGENCY) != 0 ? readString(in) : null)
+                .labels((mask & LABELS) != 0 ? readList(in) : null)
+                .members((mask & MEMBERS) != 0 ? readList(in) : null)
+                .formerMembers((mask & FORMER_MEMBERS) != 0 ? readList(in) : null)
+                .debutYear((mask & DEBUT_YEAR) != 0 ? in.readInt() : null)
+                .disbandYear((mask & DISBAND_YEAR) != 0 ? in.readInt() : null)
+                .subunits((mask & SUBUNITS) != 0 ? readList(in) : null)
+                .socialLinks((mask & SOCIAL_LINKS) != 0 ? readList(in) : null)
+                .build();
+        return new Entry(groupId, request);
+    }
+
+    // -1 marks a null list element
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(utf8.length);
+        out.write(utf8);
+    }
+
+    private static void writeList(DataOutputStream out, List<String> values) throws IOException {
+        if (values != null) {
+            out.writeInt(values.size());
+            for (String value : values) {
+                writeString(out, value);
+            }
+        }
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] utf8 = in.readNBytes(length);
+        if (utf8.length != length) {
+            throw new EOFException();
+        }
+        return new String(utf8, StandardCharsets.UTF_8);
+    }
+
+    private static List<String> readList(DataInputStream in) throws IOException {
+        int size = in.readInt();
+        List<String> values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            values.add(readString(in));
+        }
+        return values;
+    }
+
+    private static boolean isSegment(Path path) {
+        String name = path.getFileName().toString();
+        return name.startsWith(PREFIX) && name.endsWith(SUFFIX);
+    }
+
+    private static long segmentNumber(Path path) {
+        String name = path.getFileName().toString();
+        return Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length()));
+    }
+
+    record Entry(UUID groupId, UpdateGroupRequest request) {
+    }
+}
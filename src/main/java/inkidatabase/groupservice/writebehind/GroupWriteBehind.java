@@ -0,0 +1,299 @@
+package inkidatabase.groupservice.writebehind;
+
+import inkidatabase.groupservice.dto.UpdateGroupRequest;
+import inkidatabase.groupservice.service.GroupService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Opt-in write-behind for group updates ({@code groups.write-behind.enabled}).
+ *
+ * <p>Accepted updates are journaled to disk and then coalesced per group: scalar fields are
+ * last-write-wins and collections are merged as ordered sets, so an update can add
+ * members or links but not remove them. Every {@code flush-interval} the coalesced
+ * updates are applied through {@link GroupService#updateAll} in batches of
+ * {@code batch-size}. A batch that fails is retried one group at a time, so a single bad
+ * update does not hold back the rest; an update that still fails is journaled again and
+ * retried with the next flush, and after {@code max-attempts} failed flushes it is moved
+ * to the {@code dead-letter} journal under the journal directory and dropped. Journal
+ * segments are deleted only once their updates are applied or re-journaled, and segments
+ * left by a crash are replayed at startup. Reads do not see an accepted update until it
+ * has been flushed; a synchronous update first flushes the group's queued update, see
+ * {@link #flush(UUID)}.
+ */
+@Component
+public class GroupWriteBehind {
+
+    private static final Logger log = LoggerFactory.getLogger(GroupWriteBehind.class);
+
+    private final GroupService service;
+    private final boolean enabled;
+    private final Path journalDir;
+    private final boolean fsync;
+    private final int batchSize;
+    private final int maxAttempts;
+
+    private final Object lock = new Object();
+    private final Object flushLock = new Object();
+    private final Map<UUID, UpdateGroupRequest> pending = new LinkedHashMap<>();
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder applied = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder deadLettered = new LongAdder();
+    // flushes each group's update has failed, and segments not yet deleted; guarded by flushLock
+    private final Map<UUID, Integer> attempts = new HashMap<>();
+    private final List<Path> retainedSegments = new ArrayList<>();
+    private GroupUpdateJournal journal;
+    private GroupUpdateJournal deadLetters;
+
+    public GroupWriteBehind(GroupService service,
+                            @Value("${groups.write-behind.enabled:false}") boolean enabled,
+                            @Value("${groups.write-behind.journal-dir:data/write-behind}") Path journalDir,
+                            @Value("${groups.write-behind.fsync:true}") boolean fsync,
+                            @Value("${groups.write-behind.batch-size:200}") int batchSize,
+                            @Value("${groups.write-behind.max-attempts:10}") int maxAttempts) {
+        this.service = service;
+        this.enabled = enabled;
+        this.journalDir = journalDir;
+        this.fsync = fsync;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+    }
+
+    @PostConstruct
+    public void open() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        synchronized (lock) {
+            journal = new GroupUpdateJournal(journalDir, fsync);
+            deadLetters = new GroupUpdateJournal(journalDir.resolve("dead-letter"), fsync);
+            List<GroupUpdateJournal.Entry> recovered = journal.replay();
+            for (GroupUpdateJournal.Entry entry : recovered) {
+                pending.merge(entry.groupId(), entry.request(), GroupWriteBehind::merge);
+            }
+            if (!recovered.isEmpty()) {
+                log.info("Recovered {} journaled updates to {} groups from {}",
+                        recovered.size(), pending.size(), journalDir);
+            }
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Durably records the update and queues it; returns once it is on disk.
+     */
+    public void accept(UUID id, UpdateGroupRequest request) {
+        if (!enabled) {
+            throw new IllegalStateException("Write-behind is disabled");
+        }
+        synchronized (lock) {
+            try {
+                journal.append(id, request);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            pending.merge(id, request, GroupWriteBehind::merge);
+        }
+        accepted.increment();
+    }
+
+    @Scheduled(initialDelayString = "${groups.write-behind.flush-interval:PT1S}",
+            fixedDelayString = "${groups.write-behind.flush-interval:PT1S}")
+    public void flush() {
+        if (!enabled) {
+            return;
+        }
+        synchronized (flushLock) {
+            Map<UUID, UpdateGroupRequest> drained;
+            List<Path> segments = new ArrayList<>(retainedSegments);
+            synchronized (lock) {
+                if (pending.isEmpty() && segments.isEmpty()) {
+                    return;
+                }
+                try {
+                    segments.addAll(journal.rotate());
+                } catch (IOException e) {
+                    log.warn("Could not rotate write-behind journal, retrying on the next flush", e);
+                    return;
+                }
+                drained = new LinkedHashMap<>(pending);
+                pending.clear();
+            }
+            Map<UUID, UpdateGroupRequest> failed = new LinkedHashMap<>();
+            List<UUID> ids = new ArrayList<>(drained.keySet());
+            for (int from = 0; from < ids.size(); from += batchSize) {
+                Map<UUID, UpdateGroupRequest> batch = new LinkedHashMap<>();
+                for (UUID id : ids.subList(from, Math.min(from + batchSize, ids.size()))) {
+                    batch.put(id, drained.get(id));
+                }
+                if (apply(batch)) {
+                    continue;
+                }
+                if (batch.size() == 1) {
+                    failed.putAll(batch);
+                    continue;
+                }
+                log.warn("Retrying a failed write-behind batch of {} group updates one at a time", batch.size());
+                batch.forEach((id, request) -> {
+                    if (!apply(Map.of(id, request))) {
+                        failed.put(id, request);
+                    }
+                });
+            }
+            Map<UUID, UpdateGroupRequest> exhausted = new LinkedHashMap<>();
+            for (Map.Entry<UUID, UpdateGroupRequest> update : failed.entrySet()) {
+                if (attempts.merge(update.getKey(), 1, Integer::sum) >= maxAttempts) {
+                    exhausted.put(update.getKey(), update.getValue());
+                }
+            }
+            synchronized (lock) {
+                try {
+                    for (Map.Entry<UUID, UpdateGroupRequest> retry : failed.entrySet()) {
+                        if (!exhausted.containsKey(retry.getKey())) {
+                            journal.append(retry.getKey(), retry.getValue());
+                        }
+                    }
+                    for (Map.Entry<UUID, UpdateGroupRequest> dead : exhausted.entrySet()) {
+                        deadLetters.append(dead.getKey(), dead.getValue());
+                    }
+                    journal.delete(segments);
+                    retainedSegments.clear();
+                } catch (IOException e) {
+                    // the kept segments still hold these updates; they are deleted by a later
+                    // flush, or replayed on restart
+                    retainedSegments.clear();
+                    retainedSegments.addAll(segments);
+                    exhausted.clear();
+                    log.warn("Could not re-journal failed write-behind updates, keeping {} journal segments",
+                            segments.size(), e);
+                }
+                exhausted.forEach((id, request) -> {
+                    failed.remove(id);
+                    attempts.remove(id);
+                    deadLettered.increment();
+                    log.error("Moved the update to group {} to the write-behind dead letters after {} failed flushes",
+                            id, maxAttempts);
+                });
+                failed.forEach((id, request) -> pending.merge(id, request, (newer, older) -> merge(older, newer)));
+            }
+        }
+    }
+
+    /**
+     * Flushes the queue if it holds an update to {@code id}, so that a synchronous update
+     * accepted after it is not overwritten when it is applied later; returns {@code false}
+     * if the queued update could not be applied and is still pending.
+     */
+    public boolean flush(UUID id) {
+        if (!enabled) {
+            return true;
+        }
+        // holding flushLock, no drained update can be in flight
+        synchronized (flushLock) {
+            synchronized (lock) {
+                if (!pending.containsKey(id)) {
+                    return true;
+                }
+            }
+            flush();
+            synchronized (lock) {
+                return !pending.containsKey(id);
+            }
+        }
+    }
+
+    private boolean apply(Map<UUID, UpdateGroupRequest> batch) {
+        try {
+            service.updateAll(batch);
+        } catch (RuntimeException e) {
+            failures.increment();
+            log.warn("Write-behind flush of {} group updates failed: {}", batch.size(), e.getMessage());
+            return false;
+        }
+        applied.add(batch.size());
+        batch.keySet().forEach(attempts::remove);
+        return true;
+    }
+
+    @PreDestroy
+    public void shutdown() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        flush();
+        synchronized (lock) {
+            journal.close();
+            deadLetters.close();
+        }
+    }
+
+    public int pendingCount() {
+        synchronized (lock) {
+            return pending.size();
+        }
+    }
+
+    public long acceptedCount() {
+        return accepted.sum();
+    }
+
+    /**
+     * Group updates written to the database; lower than {@link #acceptedCount()} by the
+     * updates coalesced into others and those still pending.
+     */
+    public long appliedCount() {
+        return applied.sum();
+    }
+
+    public long failureCount() {
+        return failures.sum();
+    }
+
+    public long deadLetteredCount() {
+        return deadLettered.sum();
+    }
+
+    static UpdateGroupRequest merge(UpdateGroupRequest earlier, UpdateGroupRequest later) {
+        return UpdateGroupRequest.builder()
+                .groupName(later.getGroupName() != null ? later.getGroupName() : earlier.getGroupName())
+                .agency(later.getAgency() != null ? later.getAgency() : earlier.getAgency())
+                .labels(union(earlier.getLabels(), later.getLabels()))
+                .members(union(earlier.getMembers(), later.getMembers()))
+                .formerMembers(union(earlier.getFormerMembers(), later.getFormerMembers()))
+                .debutYear(later.getDebutYear() != null ? later.getDebutYear() : earlier.getDebutYear())
+                .disbandYear(later.getDisbandYear() != null ? later.getDisbandYear() : earlier.getDisbandYear())
+                .subunits(union(earlier.getSubunits(), later.getSubunits()))
+                .socialLinks(union(earlier.getSocialLinks(), later.getSocialLinks()))
+                .build();
+    }
+
+    private static List<String> union(List<String> earlier, List<String> later) {
+        if (earlier == null || later == null) {
+            return later != null ? later : earlier;
+        }
+        LinkedHashSet<String> merged = new LinkedHashSet<>(earlier);
+        merged.addAll(later);
+        return new ArrayList<>(merged);
+    }
+}
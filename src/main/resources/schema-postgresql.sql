@@ -0,0 +1,13 @@
+-- Postgres-only objects that cannot be declared through JPA annotations.
+-- Runs after Hibernate's schema update (spring.jpa.defer-datasource-initialization),
+-- so every statement must be idempotent.
+
+-- Case-insensitive agency lookups (findByAgencyIgnoreCase, /groups/search?agency=)
+CREATE INDEX IF NOT EXISTS idx_groups_agency_upper ON groups (upper(agency));
+
+-- Case-insensitive subunit name resolution (findByUpperGroupNameIn)
+CREATE INDEX IF NOT EXISTS idx_groups_name_upper ON groups (upper(group_name));
+
+-- Soft-deleted tombstones only, so the index stays as small as the purge backlog
+-- (findIdsDeletedBefore, findIdsDeletedAfter); live rows never enter it
+CREATE INDEX IF NOT EXISTS idx_groups_deleted_at ON groups (deleted_at) WHERE deleted_at IS NOT NULL;
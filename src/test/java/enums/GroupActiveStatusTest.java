@@ -57,4 +57,12 @@ class GroupActiveStatusTest {
             values[index++] = status.getValue();
         }
     }
+
+    @Test
+    void testOfMethod() {
+        assertEquals(GroupActiveStatus.DISBANDED, GroupActiveStatus.of(2016, true));
+        assertEquals(GroupActiveStatus.ACTIVE, GroupActiveStatus.of(0, true));
+        assertEquals(GroupActiveStatus.INACTIVE, GroupActiveStatus.of(0, false));
+        assertEquals(GroupActiveStatus.INACTIVE, GroupActiveStatus.of(-1, false));
+    }
 }
@@ -0,0 +1,44 @@
+package inkidatabase.groupservice.bulk;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CsvReaderTest {
+
+    @Test
+    void next_ShouldSplitQuotedFieldsAndTrackRecordLines() throws IOException {
+        CsvReader reader = new CsvReader(new StringReader(
+                "a,b\r\n\r\n\"x,1\",\"multi\nline\"\n\"q\"\"t\",\n\n\nlast,\"\""));
+
+        assertThat(reader.next()).containsExactly("a", "b");
+        assertThat(reader.recordLine()).isEqualTo(1);
+        assertThat(reader.next()).containsExactly("x,1", "multi\nline");
+        assertThat(reader.recordLine()).isEqualTo(3);
+        assertThat(reader.next()).containsExactly("q\"t", "");
+        assertThat(reader.recordLine()).isEqualTo(5);
+        assertThat(reader.next()).containsExactly("last", "");
+        assertThat(reader.recordLine()).isEqualTo(8);
+        assertThat(reader.next()).isNull();
+    }
+
+    @Test
+    void next_ShouldKeepQuotesInsideUnquotedFields() throws IOException {
+        CsvReader reader = new CsvReader(new StringReader("SM|\"Dream\",2007\n"));
+
+        assertThat(reader.next()).containsExactly("SM|\"Dream\"", "2007");
+    }
+
+    @Test
+    void next_WithUnterminatedQuote_ShouldThrow() {
+        CsvReader reader = new CsvReader(new StringReader("a,\"open\nb"));
+
+        assertThatThrownBy(reader::next)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("line 1");
+    }
+}
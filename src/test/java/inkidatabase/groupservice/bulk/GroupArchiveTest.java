@@ -0,0 +1,113 @@
+package inkidatabase.groupservice.bulk;
+
+import inkidatabase.groupservice.dto.GroupDTO;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GroupArchiveTest {
+
+    private static final Instant CAPTURED_AT = Instant.parse("2026-10-19T08:30:00Z");
+
+    @Test
+    void roundTrip_ShouldRestoreEveryGroupAcrossBlocks() throws IOException {
+        List<GroupDTO> groups = new ArrayList<>();
+        for (int i = 0; i < GroupArchiveWriter.BLOCK_SIZE + 10; i++) {
+            groups.add(GroupDTO.builder()
+                    .groupId(UUID.randomUUID())
+                    .groupName("Group " + i)
+                    .agency("Agency " + i % 7)
+                    .labels(List.of("Label " + i % 3, "Label " + i % 5))
+                    .members(List.of("Member " + i, "아이돌 " + i))
+                    .formerMembers(List.of())
+                    .debutYear(1990 + i % 40)
+                    .disbandYear(i % 4 == 0 ? 1995 + i % 40 : null)
+                    .subunits(i % 2 == 0 ? List.of("Unit " + i) : List.of())
+                    .socialLinks(List.of("https://example.com/" + i))
+                    .build());
+        }
+
+        byte[] archive = write(groups);
+        GroupArchiveReader reader = new GroupArchiveReader(new ByteArrayInputStream(archive));
+
+        assertThat(reader.capturedAt()).isEqualTo(CAPTURED_AT);
+        assertThat(readAll(reader)).isEqualTo(groups);
+    }
+
+    @Test
+    void roundTrip_ShouldTreatMissingListsAsEmpty() throws IOException {
+        GroupDTO group = GroupDTO.builder()
+                .groupId(UUID.randomUUID())
+                .groupName("BTS")
+                .agency("HYBE")
+                .debutYear(2013)
+                .build();
+
+        List<GroupDTO> read = readAll(new GroupArchiveReader(new ByteArrayInputStream(write(List.of(group)))));
+
+        assertThat(read).singleElement().satisfies(restored -> {
+            assertThat(restored.getGroupId()).isEqualTo(group.getGroupId());
+            assertThat(restored.getDisbandYear()).isNull();
+            assertThat(restored.getMembers()).isEmpty();
+            assertThat(restored.getLabels()).isEmpty();
+        });
+    }
+
+    @Test
+    void emptyArchive_ShouldHaveNoGroups() throws IOException {
+        assertThat(new GroupArchiveReader(new ByteArrayInputStream(write(List.of()))).next()).isNull();
+    }
+
+    @Test
+    void reader_WithDamagedInput_ShouldRejectIt() throws IOException {
+        byte[] archive = write(List.of(GroupDTO.builder()
+                .groupId(UUID.randomUUID())
+                .groupName("IVE")
+                .agency("Starship")
+                .debutYear(2021)
+                .members(List.of("Yujin", "Wonyoung"))
+                .build()));
+
+        assertThatThrownBy(() -> new GroupArchiveReader(new ByteArrayInputStream("groupName\n".getBytes())))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Not a group archive");
+        byte[] truncated = Arrays.copyOf(archive, archive.length - 12);
+        assertThatThrownBy(() -> readAll(new GroupArchiveReader(new ByteArrayInputStream(truncated))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Group archive is truncated");
+        byte[] corrupt = archive.clone();
+        corrupt[30] ^= 0x5a;
+        assertThatThrownBy(() -> readAll(new GroupArchiveReader(new ByteArrayInputStream(corrupt))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageStartingWith("Corrupt group archive");
+    }
+
+    private static byte[] write(List<GroupDTO> groups) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        GroupArchiveWriter writer = new GroupArchiveWriter(out, CAPTURED_AT);
+        for (GroupDTO group : groups) {
+            writer.write(group);
+        }
+        assertThat(writer.finish()).isEqualTo(groups.size());
+        return out.toByteArray();
+    }
+
+    private static List<GroupDTO> readAll(GroupArchiveReader reader) throws IOException {
+        List<GroupDTO> groups = new ArrayList<>();
+        GroupDTO group;
+        while ((group = reader.next()) != null) {
+            groups.add(group);
+        }
+        return groups;
+    }
+}
@@ -0,0 +1,95 @@
+package inkidatabase.groupservice.bulk;
+
+import inkidatabase.groupservice.dto.GroupDTO;
+import inkidatabase.groupservice.model.Group;
+import inkidatabase.groupservice.repository.GroupRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@TestPropertySource(locations = "classpath:application-test.properties")
+class GroupExporterTest {
+
+    @Autowired
+    private GroupRepository repository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void exportGroups_ShouldWriteLiveGroupsWithTheirCollections() throws IOException {
+        Group bts = new Group("BTS", "HYBE", 2013, List.of("Big Hit"), List.of("RM", "Jin", "SUGA"));
+        bts.setSubunits(List.of("RM", "Jin"));
+        bts.setSocialLinks(List.of("https://twitter.com/bts_bighit"));
+        Group twoNe1 = new Group("2NE1", "YG Entertainment", 2009);
+        twoNe1.setDisbandYear(2016);
+        twoNe1.setFormerMembers(List.of("Minzy"));
+        Group gone = new Group("Gone", "Nowhere", 2015, List.of("Nowhere"), List.of("Someone"));
+        repository.save(bts);
+        repository.save(twoNe1);
+        repository.save(gone);
+        gone.markDeleted(1);
+        entityManager.flush();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long count = exporter(2).exportGroups(out);
+
+        List<GroupDTO> groups = readAll(out.toByteArray());
+        assertThat(count).isEqualTo(2);
+        assertThat(groups).extracting(GroupDTO::getGroupId)
+                .containsExactlyInAnyOrder(bts.getGroupId(), twoNe1.getGroupId());
+        GroupDTO exportedBts = groups.stream().filter(group -> group.getGroupName().equals("BTS")).findFirst().orElseThrow();
+        assertThat(exportedBts.getAgency()).isEqualTo("HYBE");
+        assertThat(exportedBts.getMembers()).containsExactlyInAnyOrder("RM", "Jin", "SUGA");
+        assertThat(exportedBts.getLabels()).containsExactly("Big Hit");
+        assertThat(exportedBts.getSubunits()).containsExactlyInAnyOrder("RM", "Jin");
+        assertThat(exportedBts.getSocialLinks()).containsExactly("https://twitter.com/bts_bighit");
+        assertThat(exportedBts.getDisbandYear()).isNull();
+        GroupDTO exported2ne1 = groups.stream().filter(group -> group.getGroupName().equals("2NE1")).findFirst().orElseThrow();
+        assertThat(exported2ne1.getDisbandYear()).isEqualTo(2016);
+        assertThat(exported2ne1.getFormerMembers()).containsExactly("Minzy");
+        assertThat(exported2ne1.getMembers()).isEmpty();
+    }
+
+    @Test
+    void exportGroups_WithNoGroups_ShouldWriteAnEmptyArchive() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        assertThat(exporter(1000).exportGroups(out)).isZero();
+        assertThat(readAll(out.toByteArray())).isEmpty();
+    }
+
+    private GroupExporter exporter(int fetchSize) {
+        return new GroupExporter(new JdbcTemplate(dataSource), transactionManager, fetchSize);
+    }
+
+    private static List<GroupDTO> readAll(byte[] archive) throws IOException {
+        GroupArchiveReader reader = new GroupArchiveReader(new ByteArrayInputStream(archive));
+        List<GroupDTO> groups = new ArrayList<>();
+        GroupDTO group;
+        while ((group = reader.next()) != null) {
+            groups.add(group);
+        }
+        return groups;
+    }
+}
@@ -0,0 +1,235 @@
+package inkidatabase.groupservice.bulk;
+
+import inkidatabase.groupservice.dto.GroupDTO;
+import inkidatabase.groupservice.dto.GroupImportError;
+import inkidatabase.groupservice.dto.GroupImportReport;
+import inkidatabase.groupservice.index.GroupIndexRegistry;
+import inkidatabase.groupservice.invalidation.GroupInvalidationPublisher;
+import inkidatabase.groupservice.mapper.GroupMapper;
+import inkidatabase.groupservice.model.Group;
+import inkidatabase.groupservice.model.GroupOutboxEvent;
+import inkidatabase.groupservice.outbox.GroupOutbox;
+import inkidatabase.groupservice.repository.GroupOutboxRepository;
+import inkidatabase.groupservice.repository.GroupRepository;
+import inkidatabase.groupservice.service.GroupChangeSequence;
+import inkidatabase.groupservice.service.SubunitHierarchyService;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@DataJpaTest
+@TestPropertySource(locations = "classpath:application-test.properties")
+@Import(GroupChangeSequence.class)
+class GroupImporterTest {
+
+    private static final String CSV_HEADER = "groupName,agency,debutYear,members,labels,disbandYear\n";
+
+    @Autowired
+    private GroupRepository repository;
+
+    @Autowired
+    private GroupOutboxRepository outboxRepository;
+
+    @Autowired
+    private GroupChangeSequence changeSequence;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final GroupIndexRegistry registry = mock(GroupIndexRegistry.class);
+    private final SubunitHierarchyService subunitHierarchy = mock(SubunitHierarchyService.class);
+    private final GroupInvalidationPublisher invalidation = mock(GroupInvalidationPublisher.class);
+
+    private GroupImporter importer;
+
+    @BeforeEach
+    void setUp() {
+        importer = importer(true);
+        when(registry.isEnabled()).thenReturn(true);
+    }
+
+    @Test
+    void importCsv_ShouldInsertGroupsWithCollectionsAndConsecutiveChangeSeqs() throws IOException {
+        GroupImportReport report = importer.importGroups(input(CSV_HEADER
+                + "BTS,HYBE,2013,\"RM|Jin|SUGA\",Big Hit,\n"
+                + "\"Girls' Generation, SNSD\",SM Entertainment,2007,Taeyeon|Yoona,\"SM|Dream\",\n"
+                + "2NE1,YG Entertainment,2009,,,2016\n"), GroupImportFormat.CSV);
+
+        assertThat(report.getRows()).isEqualTo(3);
+        assertThat(report.getImported()).isEqualTo(3);
+        assertThat(report.getInvalid()).isZero();
+        assertThat(report.getErrors()).isEmpty();
+
+        entityManager.flush();
+        entityManager.clear();
+        List<Group> groups = repository.findAll().stream()
+                .sorted(Comparator.comparingLong(Group::getChangeSeq))
+                .toList();
+        assertThat(groups).extracting(Group::getGroupName)
+                .containsExactly("BTS", "Girls' Generation, SNSD", "2NE1");
+        assertThat(groups).extracting(Group::getChangeSeq).containsExactly(1L, 2L, 3L);
+        assertThat(groups.get(0).getMembers()).containsExactlyInAnyOrder("RM", "Jin", "SUGA");
+        assertThat(groups.get(1).getLabels()).containsExactlyInAnyOrder("SM", "Dream");
+        assertThat(groups.get(2).getMembers()).isEmpty();
+        assertThat(groups.get(2).getDisbandYear()).isEqualTo(2016);
+        assertThat(groups.get(2).getStatus().name()).isEqualTo("DISBANDED");
+        assertThat(outboxRepository.findAll()).extracting(GroupOutboxEvent::getChangeSeq)
+                .containsExactlyInAnyOrder(1L, 2L, 3L);
+        assertThat(changeSequence.next()).isEqualTo(4);
+        verify(registry).rebuild();
+        verify(subunitHierarchy).invalidateAll();
+        verify(invalidation).announceRebuild();
+    }
+
+    @Test
+    void importJsonl_ShouldReportInvalidAndDuplicateRowsByLine() throws IOException {
+        repository.save(new Group("BTS", "HYBE", 2013));
+        entityManager.flush();
+
+        GroupImportReport report = importer.importGroups(input("""
+                {"groupName":"IVE","agency":"Starship","debutYear":2021,"members":["Yujin","Wonyoung"]}
+                {"groupName":"bts","agency":"HYBE","debutYear":2013,"members":[]}
+                {"groupName":"aespa","agency":"SM","debutYear":1850,"members":[]}
+
+                {"groupName":"IVE","agency":"Starship","debutYear":2021,"members":[]}
+                not json
+                """), GroupImportFormat.JSONL);
+
+        assertThat(report.getRows()).isEqualTo(5);
+        assertThat(report.getImported()).isEqualTo(1);
+        assertThat(report.getInvalid()).isEqualTo(2);
+        assertThat(report.getDuplicates()).isEqualTo(2);
+        assertThat(report.getErrors()).extracting(GroupImportError::getLine).containsExactly(2L, 3L, 5L, 6L);
+        assertThat(report.getErrors().get(1).getMessage()).startsWith("debutYear:");
+        assertThat(report.getErrors().get(3).getMessage()).startsWith("Invalid JSON");
+        entityManager.flush();
+        entityManager.clear();
+        assertThat(repository.findAll()).extracting(Group::getGroupName).containsExactlyInAnyOrder("BTS", "IVE");
+    }
+
+    @Test
+    void importCsv_WithBadNumberOrFieldCount_ShouldReportRowAndImportTheRest() throws IOException {
+        GroupImportReport report = importer.importGroups(input(CSV_HEADER
+                + "BTS,HYBE,twenty,RM,,\n"
+                + "IVE,Starship,2021,Yujin\n"
+                + "aespa,SM,2020,Karina,,\n"), GroupImportFormat.CSV);
+
+        assertThat(report.getImported()).isEqualTo(1);
+        assertThat(report.getErrors()).extracting(GroupImportError::getMessage)
+                .containsExactly("debutYear: 'twenty' is not a number", "Expected 6 fields but found 4");
+    }
+
+    @Test
+    void importCsv_WithUnknownColumn_ShouldFailWithoutImporting() {
+        assertThatThrownBy(() -> importer.importGroups(input("groupName,agency,debutYear,members,fandom\n"),
+                GroupImportFormat.CSV))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("fandom");
+        assertThatThrownBy(() -> importer.importGroups(input("groupName,agency\n"), GroupImportFormat.CSV))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("debutYear");
+        verifyNoInteractions(registry);
+    }
+
+    @Test
+    void import_WithOutboxDisabledAndNothingValid_ShouldWriteNothing() throws IOException {
+        importer = importer(false);
+
+        GroupImportReport report = importer.importGroups(input(CSV_HEADER + "BTS,,2013,RM,,\n"),
+                GroupImportFormat.CSV);
+
+        assertThat(report.getImported()).isZero();
+        assertThat(report.getErrors()).extracting(GroupImportError::getMessage)
+                .containsExactly("agency: Agency is required");
+        assertThat(outboxRepository.count()).isZero();
+        verifyNoInteractions(registry, subunitHierarchy);
+    }
+
+    @Test
+    void importArchive_ShouldKeepGroupIdsAndSkipTakenOnes() throws IOException {
+        Group existing = repository.save(new Group("BTS", "HYBE", 2013));
+        entityManager.flush();
+        GroupDTO restored = GroupDTO.builder()
+                .groupId(UUID.randomUUID())
+                .groupName("2NE1")
+                .agency("YG Entertainment")
+                .members(List.of("CL", "Dara"))
+                .labels(List.of("YG"))
+                .debutYear(2009)
+                .disbandYear(2016)
+                .build();
+        ByteArrayOutputStream archive = new ByteArrayOutputStream();
+        GroupArchiveWriter writer = new GroupArchiveWriter(archive, Instant.now());
+        writer.write(GroupDTO.builder().groupId(existing.getGroupId()).groupName("BTS").agency("HYBE").debutYear(2013).build());
+        writer.write(restored);
+        writer.write(GroupDTO.builder().groupId(UUID.randomUUID()).groupName("IVE").agency("").debutYear(2021).build());
+        writer.finish();
+
+        GroupImportReport report = importer.importGroups(new ByteArrayInputStream(archive.toByteArray()),
+                GroupImportFormat.ARCHIVE);
+
+        assertThat(report.getRows()).isEqualTo(3);
+        assertThat(report.getImported()).isEqualTo(1);
+        assertThat(report.getInvalid()).isEqualTo(1);
+        assertThat(report.getDuplicates()).isEqualTo(1);
+        assertThat(report.getErrors()).extracting(GroupImportError::getLine).containsExactly(1L, 3L);
+        assertThat(report.getErrors().get(0).getMessage()).isEqualTo("A group with this id already exists");
+        entityManager.flush();
+        entityManager.clear();
+        Group imported = repository.findById(restored.getGroupId()).orElseThrow();
+        assertThat(imported.getGroupName()).isEqualTo("2NE1");
+        assertThat(imported.getMembers()).containsExactlyInAnyOrder("CL", "Dara");
+        assertThat(imported.getLabels()).containsExactly("YG");
+        assertThat(imported.getDisbandYear()).isEqualTo(2016);
+        assertThat(imported.getChangeSeq()).isEqualTo(1);
+        assertThat(repository.count()).isEqualTo(2);
+    }
+
+    @Test
+    void importArchive_WithOtherInput_ShouldFailWithoutImporting() {
+        assertThatThrownBy(() -> importer.importGroups(input(CSV_HEADER), GroupImportFormat.ARCHIVE))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Not a group archive");
+        verifyNoInteractions(registry);
+    }
+
+    private GroupImporter importer(boolean outboxEnabled) {
+        var objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        return new GroupImporter(new JdbcTemplate(dataSource), transactionManager, objectMapper,
+                Validation.buildDefaultValidatorFactory().getValidator(), new GroupMapper(), changeSequence,
+                new GroupOutbox(outboxRepository, objectMapper, outboxEnabled), invalidation, registry,
+                subunitHierarchy, 2, 2, 100);
+    }
+
+    private static ByteArrayInputStream input(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,18 @@
+package inkidatabase.groupservice.bulk;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostgresCopyStagingWriterTest {
+
+    @Test
+    void appendText_ShouldEscapeCopyControlCharactersAndNull() {
+        StringBuilder out = new StringBuilder();
+
+        PostgresCopyStagingWriter.appendText(out, "a\\b\tc\nd\re").append('|');
+        PostgresCopyStagingWriter.appendText(out, null);
+
+        assertThat(out).hasToString("a\\\\b\\tc\\nd\\re|\\N");
+    }
+}
@@ -0,0 +1,72 @@
+package inkidatabase.groupservice.cache;
+
+import inkidatabase.groupservice.dto.GroupDTO;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GroupBinaryCodecTest {
+
+    @Test
+    void decode_ShouldRestoreEncodedGroup() {
+        GroupDTO group = GroupDTO.builder()
+                .groupId(UUID.randomUUID())
+                .groupName("방탄소년단")
+                .agency("HYBE")
+                .labels(List.of("Big Hit Music"))
+                .members(List.of("RM", "Jin", "SUGA", "j-hope", "Jimin", "V", "Jung Kook"))
+                .formerMembers(List.of())
+                .debutYear(2013)
+                .subunits(List.of("Agust D"))
+                .socialLinks(List.of("https://twitter.com/BTS_twt"))
+                .build();
+
+        assertThat(GroupBinaryCodec.decode(GroupBinaryCodec.encode(group))).isEqualTo(group);
+    }
+
+    @Test
+    void decode_ShouldKeepNullsDistinctFromEmptyValues() {
+        GroupDTO group = GroupDTO.builder()
+                .groupId(UUID.randomUUID())
+                .groupName("")
+                .labels(List.of())
+                .debutYear(0)
+                .disbandYear(0)
+                .build();
+
+        GroupDTO decoded = GroupBinaryCodec.decode(GroupBinaryCodec.encode(group));
+
+        assertThat(decoded.getGroupName()).isEmpty();
+        assertThat(decoded.getAgency()).isNull();
+        assertThat(decoded.getLabels()).isEmpty();
+        assertThat(decoded.getMembers()).isNull();
+        assertThat(decoded.getDisbandYear()).isZero();
+    }
+
+    @Test
+    void decode_FromBuffer_ShouldAdvancePastEachGroup() {
+        GroupDTO first = GroupDTO.builder().groupId(UUID.randomUUID()).groupName("TWICE").debutYear(2015).build();
+        GroupDTO second = GroupDTO.builder().groupId(UUID.randomUUID()).groupName("ITZY").debutYear(2019).build();
+        byte[] a = GroupBinaryCodec.encode(first);
+        byte[] b = GroupBinaryCodec.encode(second);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(a.length + b.length).put(a).put(b).flip();
+
+        assertThat(GroupBinaryCodec.decode(buffer)).isEqualTo(first);
+        assertThat(GroupBinaryCodec.decode(buffer)).isEqualTo(second);
+        assertThat(buffer.hasRemaining()).isFalse();
+    }
+
+    @Test
+    void decode_WithUnknownVersion_ShouldThrow() {
+        byte[] bytes = GroupBinaryCodec.encode(GroupDTO.builder().groupId(UUID.randomUUID()).build());
+        bytes[0] = 9;
+
+        assertThatThrownBy(() -> GroupBinaryCodec.decode(bytes))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,134 @@
+package inkidatabase.groupservice.cache;
+
+import inkidatabase.groupservice.dto.GroupDTO;
+import inkidatabase.groupservice.event.GroupChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GroupCacheTest {
+
+    private GroupCache cache;
+    private GroupDTO bts;
+    private GroupDTO blackpink;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        cache = new GroupCache(1, 1 << 16, 1 << 12);
+        bts = GroupDTO.builder().groupId(UUID.randomUUID()).groupName("BTS").agency("HYBE").debutYear(2013).build();
+        blackpink = GroupDTO.builder().groupId(UUID.randomUUID()).groupName("BLACKPINK").agency("YG").build();
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    void get_ShouldServeRepeatedReadsFromHeapTier() {
+        GroupDTO first = cache.get(bts.getGroupId(), this::load).orElseThrow();
+        GroupDTO second = cache.get(bts.getGroupId(), this::load).orElseThrow();
+
+        assertThat(second).isSameAs(first);
+        assertThat(loads).hasValue(1);
+        assertThat(cache.heapHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void get_ShouldCacheDetachedCopyOfLoadedGroup() {
+        List<String> members = new ArrayList<>(List.of("RM", "Jin"));
+        bts.setMembers(members);
+
+        GroupDTO cached = cache.get(bts.getGroupId(), this::load).orElseThrow();
+        members.add("SUGA");
+
+        assertThat(cached).isNotSameAs(bts);
+        assertThat(cache.get(bts.getGroupId(), this::load).orElseThrow().getMembers()).containsExactly("RM", "Jin");
+    }
+
+    @Test
+    void get_AfterHeapEviction_ShouldDecodeFromOffHeapTier() {
+        cache.get(bts.getGroupId(), this::load);
+        cache.get(blackpink.getGroupId(), this::load);
+
+        GroupDTO decoded = cache.get(bts.getGroupId(), this::load).orElseThrow();
+
+        assertThat(decoded).isEqualTo(bts).isNotSameAs(bts);
+        assertThat(loads).hasValue(2);
+        assertThat(cache.offHeapHitCount()).isEqualTo(1);
+        assertThat(cache.heapSize()).isEqualTo(1);
+        assertThat(cache.offHeapSize()).isEqualTo(2);
+    }
+
+    @Test
+    void get_WhenLoaderFindsNothing_ShouldReturnEmpty() {
+        assertThat(cache.get(UUID.randomUUID(), id -> Optional.empty())).isEmpty();
+        assertThat(cache.offHeapSize()).isZero();
+    }
+
+    @Test
+    void onGroupChanged_ShouldInvalidateBothTiers() {
+        cache.get(bts.getGroupId(), this::load);
+        cache.get(blackpink.getGroupId(), this::load);
+        bts = GroupDTO.builder().groupId(bts.getGroupId()).groupName("Bangtan Boys").agency("HYBE").debutYear(2013).build();
+
+        cache.onGroupChanged(GroupChangedEvent.updated(bts.getGroupId(), bts));
+
+        assertThat(cache.get(bts.getGroupId(), this::load).orElseThrow().getGroupName()).isEqualTo("Bangtan Boys");
+        assertThat(loads).hasValue(3);
+    }
+
+    @Test
+    void get_WhenChangedWhileLoading_ShouldNotKeepStaleGroup() {
+        cache.get(bts.getGroupId(), id -> {
+            cache.invalidate(id);
+            return load(id);
+        });
+
+        cache.get(bts.getGroupId(), this::load);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void invalidate_ShouldNotRetainVersionsOfGroupsNotBeingLoaded() {
+        cache.get(bts.getGroupId(), this::load);
+        cache.get(blackpink.getGroupId(), this::load);
+
+        for (int i = 0; i < 1000; i++) {
+            cache.invalidate(UUID.randomUUID());
+        }
+        cache.invalidate(bts.getGroupId());
+
+        assertThat(cache.trackedVersions()).isZero();
+        assertThat(cache.offHeapSize()).isEqualTo(1);
+    }
+
+    @Test
+    void getAll_ShouldLoadOnlyMissesInOneCall() {
+        cache.get(bts.getGroupId(), this::load);
+        List<Collection<UUID>> calls = new ArrayList<>();
+
+        List<GroupDTO> groups = cache.getAll(List.of(bts.getGroupId(), blackpink.getGroupId(), UUID.randomUUID()), ids -> {
+            calls.add(List.copyOf(ids));
+            return ids.contains(blackpink.getGroupId()) ? List.of(blackpink) : List.of();
+        });
+
+        assertThat(groups).extracting(GroupDTO::getGroupName).containsExactlyInAnyOrder("BTS", "BLACKPINK");
+        assertThat(calls).hasSize(1);
+        assertThat(calls.get(0)).hasSize(2).doesNotContain(bts.getGroupId());
+    }
+
+    private Optional<GroupDTO> load(UUID id) {
+        loads.incrementAndGet();
+        if (id.equals(bts.getGroupId())) {
+            return Optional.of(bts);
+        }
+        return id.equals(blackpink.getGroupId()) ? Optional.of(blackpink) : Optional.empty();
+    }
+}
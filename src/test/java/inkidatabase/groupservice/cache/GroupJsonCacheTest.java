@@ -0,0 +1,149 @@
+package inkidatabase.groupservice.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import inkidatabase.groupservice.dto.GroupDTO;
+import inkidatabase.groupservice.event.GroupChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GroupJsonCacheTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private GroupCache groupCache;
+    private GroupJsonCache cache;
+    private GroupDTO bts;
+    private GroupDTO blackpink;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        groupCache = new GroupCache(10, 1 << 16, 1 << 12);
+        cache = new GroupJsonCache(objectMapper, groupCache, 100);
+        bts = GroupDTO.builder().groupId(UUID.randomUUID()).groupName("BTS").agency("HYBE").debutYear(2013).build();
+        blackpink = GroupDTO.builder().groupId(UUID.randomUUID()).groupName("BLACKPINK").agency("YG").build();
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    void get_ShouldSerializeOnceAndServeCachedBytes() throws Exception {
+        byte[] first = cache.get(bts.getGroupId(), this::load).orElseThrow();
+        byte[] second = cache.get(bts.getGroupId(), this::load).orElseThrow();
+
+        assertThat(second).isSameAs(first);
+        assertThat(first).isEqualTo(objectMapper.writeValueAsBytes(bts));
+        assertThat(loads).hasValue(1);
+        assertThat(cache.hitCount()).isEqualTo(1);
+        assertThat(cache.missCount()).isEqualTo(1);
+    }
+
+    @Test
+    void get_WhenLoaderFindsNothing_ShouldReturnEmpty() {
+        assertThat(cache.get(UUID.randomUUID(), id -> Optional.empty())).isEmpty();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void onGroupChanged_ShouldInvalidateEntry() {
+        cache.get(bts.getGroupId(), this::load);
+        bts.setGroupName("Bangtan Boys");
+
+        cache.onGroupChanged(GroupChangedEvent.updated(bts.getGroupId(), bts));
+
+        assertThat(json(cache.get(bts.getGroupId(), this::load).orElseThrow())).contains("Bangtan Boys");
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void onGroupChanged_WhenRunBeforeGroupCacheListener_ShouldNotCacheStaleJson() {
+        groupCache.get(bts.getGroupId(), this::load);
+        bts = GroupDTO.builder().groupId(bts.getGroupId()).groupName("Bangtan Boys").agency("HYBE").debutYear(2013).build();
+        GroupChangedEvent event = GroupChangedEvent.updated(bts.getGroupId(), bts);
+
+        cache.onGroupChanged(event);
+        byte[] between = cache.get(bts.getGroupId(), id -> groupCache.get(id, this::load)).orElseThrow();
+        groupCache.onGroupChanged(event);
+
+        assertThat(json(between)).contains("Bangtan Boys");
+        assertThat(json(cache.get(bts.getGroupId(), id -> groupCache.get(id, this::load)).orElseThrow()))
+                .contains("Bangtan Boys");
+    }
+
+    @Test
+    void get_ShouldNotServeEntryStoredByLoadThatRacedWithAnUpdate() {
+        cache.get(bts.getGroupId(), id -> {
+            // the update commits while this read is still serializing the old version
+            cache.invalidate(id);
+            return load(id);
+        });
+
+        cache.get(bts.getGroupId(), this::load);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void getAll_ShouldSpliceCachedAndLoadedGroupsInRequestOrder() throws Exception {
+        cache.get(bts.getGroupId(), this::load);
+        List<Collection<UUID>> batches = new ArrayList<>();
+
+        byte[] array = cache.getAll(List.of(blackpink.getGroupId(), UUID.randomUUID(), bts.getGroupId()), ids -> {
+            batches.add(List.copyOf(ids));
+            return List.of(blackpink);
+        });
+
+        assertThat(objectMapper.readTree(array).findValuesAsText("groupName")).containsExactly("BLACKPINK", "BTS");
+        assertThat(batches).hasSize(1);
+        assertThat(batches.get(0)).hasSize(2).doesNotContain(bts.getGroupId());
+    }
+
+    @Test
+    void getAll_WhenNothingFound_ShouldReturnEmptyArray() {
+        assertThat(json(cache.getAll(List.of(UUID.randomUUID()), ids -> List.of()))).isEqualTo("[]");
+    }
+
+    @Test
+    void get_WhenFull_ShouldEvictLeastRecentlyUsedGroup() {
+        GroupJsonCache tiny = new GroupJsonCache(objectMapper, groupCache, 1);
+        tiny.get(bts.getGroupId(), this::load);
+        tiny.get(blackpink.getGroupId(), this::load);
+        tiny.get(blackpink.getGroupId(), this::load);
+        tiny.get(bts.getGroupId(), this::load);
+
+        assertThat(tiny.size()).isEqualTo(1);
+        assertThat(loads).hasValue(3);
+        assertThat(tiny.hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void invalidate_ShouldNotRetainVersionsOfGroupsNotBeingLoaded() {
+        cache.get(bts.getGroupId(), this::load);
+
+        for (int i = 0; i < 1000; i++) {
+            cache.invalidate(UUID.randomUUID());
+        }
+        cache.invalidate(bts.getGroupId());
+
+        assertThat(cache.trackedVersions()).isZero();
+        assertThat(cache.size()).isZero();
+    }
+
+    private Optional<GroupDTO> load(UUID id) {
+        loads.incrementAndGet();
+        return id.equals(bts.getGroupId()) ? Optional.of(bts)
+                : id.equals(blackpink.getGroupId()) ? Optional.of(blackpink) : Optional.empty();
+    }
+
+    private static String json(byte[] bytes) {
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,100 @@
+package inkidatabase.groupservice.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OffHeapGroupStoreTest {
+
+    @Test
+    void put_ShouldReplaceAndRemoveRecords() {
+        OffHeapGroupStore store = new OffHeapGroupStore(4096, 1024);
+        UUID id = UUID.randomUUID();
+
+        store.put(id, new byte[]{1, 2, 3});
+        store.put(id, new byte[]{4, 5});
+
+        assertThat(store.get(id)).containsExactly(4, 5);
+        assertThat(store.size()).isEqualTo(1);
+        assertThat(store.storedBytes()).isEqualTo(20 + 2);
+
+        store.remove(id);
+
+        assertThat(store.get(id)).isNull();
+        assertThat(store.storedBytes()).isZero();
+    }
+
+    @Test
+    void put_ShouldAllocateSlabsOnlyAsTheStoreFills() {
+        OffHeapGroupStore store = new OffHeapGroupStore(4096, 1024);
+        assertThat(store.allocatedBytes()).isZero();
+
+        for (int i = 0; i < 3; i++) {
+            store.put(UUID.randomUUID(), new byte[300]);
+        }
+        assertThat(store.allocatedBytes()).isEqualTo(1024);
+
+        store.put(UUID.randomUUID(), new byte[300]);
+        assertThat(store.allocatedBytes()).isEqualTo(2048);
+        assertThat(store.capacityBytes()).isEqualTo(4096);
+    }
+
+    @Test
+    void put_UnderChurn_ShouldKeepEveryLiveRecordWhileCleaningSlabs() {
+        OffHeapGroupStore store = new OffHeapGroupStore(4096, 1024);
+        Random random = new Random(7);
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            ids.add(UUID.randomUUID());
+        }
+        Map<UUID, byte[]> expected = new HashMap<>();
+
+        for (int i = 0; i < 5_000; i++) {
+            UUID id = ids.get(random.nextInt(ids.size()));
+            byte[] record = new byte[10 + random.nextInt(100)];
+            random.nextBytes(record);
+            assertThat(store.put(id, record)).isTrue();
+            expected.put(id, record);
+        }
+
+        expected.forEach((id, record) -> assertThat(store.get(id)).isEqualTo(record));
+        assertThat(store.size()).isEqualTo(expected.size());
+    }
+
+    @Test
+    void put_WhenLiveDataFillsStore_ShouldEvictInsteadOfGrowing() {
+        OffHeapGroupStore store = new OffHeapGroupStore(3072, 1024);
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            UUID id = UUID.randomUUID();
+            ids.add(id);
+            store.put(id, new byte[200]);
+        }
+
+        assertThat(store.size()).isBetween(1, 12);
+        assertThat(store.storedBytes()).isLessThanOrEqualTo(store.capacityBytes());
+        assertThat(store.get(ids.get(99))).hasSize(200);
+    }
+
+    @Test
+    void put_LargerThanSlab_ShouldBeRejected() {
+        OffHeapGroupStore store = new OffHeapGroupStore(4096, 1024);
+
+        assertThat(store.put(UUID.randomUUID(), new byte[1024])).isFalse();
+        assertThat(store.size()).isZero();
+    }
+
+    @Test
+    void constructor_WithCapacityBelowOneSlab_ShouldThrow() {
+        assertThatThrownBy(() -> new OffHeapGroupStore(512, 1024))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -1,23 +1,48 @@
 package inkidatabase.groupservice.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import enums.MemberRole;
+import inkidatabase.groupservice.cache.GroupCache;
+import inkidatabase.groupservice.cache.GroupJsonCache;
+import inkidatabase.groupservice.dto.BatchCreateGroupsRequest;
 import inkidatabase.groupservice.dto.CreateGroupRequest;
+import inkidatabase.groupservice.dto.GroupChangeDTO;
+import inkidatabase.groupservice.dto.GroupChangeFeedDTO;
 import inkidatabase.groupservice.dto.GroupDTO;
+import inkidatabase.groupservice.dto.GroupSearchCriteria;
+import inkidatabase.groupservice.dto.MembershipDTO;
 import inkidatabase.groupservice.dto.UpdateGroupRequest;
+import inkidatabase.groupservice.idempotency.IdempotencyKeyReusedException;
+import inkidatabase.groupservice.idempotency.IdempotencyStore;
+import inkidatabase.groupservice.idempotency.IdempotentResponse;
+import inkidatabase.groupservice.service.ChangeCursor;
 import inkidatabase.groupservice.service.GroupService;
+import inkidatabase.groupservice.writebehind.GroupWriteBehind;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import java.util.*;
 
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -28,7 +53,12 @@ class GroupControllerTest {
     @Mock
     private GroupService groupService;
 
-    @InjectMocks
+    @Mock
+    private GroupWriteBehind writeBehind;
+
+    @Mock
+    private IdempotencyStore idempotencyStore;
+
     private GroupController groupController;
 
     private MockMvc mockMvc;
@@ -38,7 +68,11 @@ class GroupControllerTest {
 
     @BeforeEach
     void setUp() {
+        GroupCache groupCache = new GroupCache(10, 1 << 20, 1 << 16);
+        groupController = new GroupController(groupService, new GroupJsonCache(new ObjectMapper(), groupCache, 100),
+                groupCache, writeBehind, idempotencyStore);
         mockMvc = MockMvcBuilders.standaloneSetup(groupController)
+                .setCustomArgumentResolvers(new PageableHandlerMethodArgumentResolver())
                 .build();
         
         objectMapper = new ObjectMapper();
@@ -83,6 +117,99 @@ class GroupControllerTest {
                 .andExpect(jsonPath("$.groupName").value("BTS"));
     }
 
+    @Test
+    void createGroup_WithIdempotencyKey_ShouldReturnStoredResponse() throws Exception {
+        CreateGroupRequest request = CreateGroupRequest.builder()
+                .groupName("BTS")
+                .agency("HYBE")
+                .debutYear(2013)
+                .members(List.of("RM"))
+                .build();
+        byte[] stored = objectMapper.writeValueAsBytes(testGroupDTO);
+        when(idempotencyStore.execute(eq("POST /groups"), eq("retry-1"), any(), eq(201), any()))
+                .thenReturn(new IdempotentResponse(201, stored, true));
+
+        mockMvc.perform(post("/groups")
+                .header("Idempotency-Key", "retry-1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andExpect(header().string("Idempotent-Replayed", "true"))
+                .andExpect(jsonPath("$.groupName").value("BTS"));
+
+        verify(groupService, never()).create(any(CreateGroupRequest.class));
+    }
+
+    @Test
+    void createGroup_WithIdempotencyKeyReusedForOtherRequest_ShouldReturnUnprocessableEntity() throws Exception {
+        CreateGroupRequest request = CreateGroupRequest.builder()
+                .groupName("TWICE")
+                .agency("JYP")
+                .debutYear(2015)
+                .members(List.of("Nayeon"))
+                .build();
+        when(idempotencyStore.execute(eq("POST /groups"), eq("retry-1"), any(), eq(201), any()))
+                .thenThrow(new IdempotencyKeyReusedException("Idempotency-Key was already used for a different request"));
+
+        mockMvc.perform(post("/groups")
+                .header("Idempotency-Key", "retry-1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isUnprocessableEntity());
+    }
+
+    @Test
+    void createGroup_WhenIdempotentCreateFailsWithStateError_ShouldNotReportKeyReuse() {
+        CreateGroupRequest request = CreateGroupRequest.builder()
+                .groupName("TWICE")
+                .agency("JYP")
+                .debutYear(2015)
+                .members(List.of("Nayeon"))
+                .build();
+        when(idempotencyStore.execute(eq("POST /groups"), eq("retry-1"), any(), eq(201), any()))
+                .thenThrow(new IllegalStateException("Corrupt idempotency response snapshot"));
+
+        assertThatThrownBy(() -> mockMvc.perform(post("/groups")
+                .header("Idempotency-Key", "retry-1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request))))
+                .hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void createGroups_ReturnsCreatedGroupsInOrder() throws Exception {
+        BatchCreateGroupsRequest request = BatchCreateGroupsRequest.builder()
+                .groups(List.of(
+                        CreateGroupRequest.builder().groupName("BTS").agency("HYBE").debutYear(2013)
+                                .members(List.of("RM")).build(),
+                        CreateGroupRequest.builder().groupName("TWICE").agency("JYP").debutYear(2015)
+                                .members(List.of("Nayeon")).build()))
+                .build();
+        GroupDTO twice = GroupDTO.builder().groupId(UUID.randomUUID()).groupName("TWICE").build();
+        when(groupService.createAll(any())).thenReturn(List.of(testGroupDTO, twice));
+
+        mockMvc.perform(post("/groups/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$[0].groupName").value("BTS"))
+                .andExpect(jsonPath("$[1].groupName").value("TWICE"));
+    }
+
+    @Test
+    void createGroups_WithInvalidGroup_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(post("/groups/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"groups\":[{\"groupName\":\"\",\"agency\":\"HYBE\"}]}"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(post("/groups/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"groups\":[]}"))
+                .andExpect(status().isBadRequest());
+
+        verify(groupService, never()).createAll(any());
+    }
+
     @Test
     void getGroupById_ReturnsGroup() throws Exception {
         UUID testId = testGroupDTO.getGroupId();
@@ -102,6 +229,81 @@ class GroupControllerTest {
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    void getGroupById_SecondRequest_IsServedFromCache() throws Exception {
+        UUID testId = testGroupDTO.getGroupId();
+        when(groupService.findById(testId)).thenReturn(Optional.of(testGroupDTO));
+
+        mockMvc.perform(get("/groups/" + testId)).andExpect(status().isOk());
+        mockMvc.perform(get("/groups/" + testId))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.members[0]").value("RM"));
+
+        verify(groupService, times(1)).findById(testId);
+    }
+
+    @Test
+    void getGroupsByIds_ReturnsArrayInRequestOrder() throws Exception {
+        GroupDTO blackpink = GroupDTO.builder().groupId(UUID.randomUUID()).groupName("BLACKPINK").build();
+        UUID unknown = UUID.randomUUID();
+        when(groupService.findAllById(any())).thenReturn(Arrays.asList(testGroupDTO, blackpink));
+
+        mockMvc.perform(get("/groups/batch")
+                        .param("ids", blackpink.getGroupId() + "," + unknown + "," + testGroupDTO.getGroupId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].groupName").value("BLACKPINK"))
+                .andExpect(jsonPath("$[1].groupName").value("BTS"));
+    }
+
+    @Test
+    void getGroupsByIds_WithTooManyIds_Returns400() throws Exception {
+        StringJoiner joiner = new StringJoiner(",");
+        for (int i = 0; i < 101; i++) {
+            joiner.add(UUID.randomUUID().toString());
+        }
+
+        mockMvc.perform(get("/groups/batch").param("ids", joiner.toString()))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getChanges_WithoutCursor_StartsFromBeginning() throws Exception {
+        GroupChangeFeedDTO feed = GroupChangeFeedDTO.builder()
+                .changes(List.of(GroupChangeDTO.builder().sequence(3).group(testGroupDTO).build()))
+                .nextCursor(new ChangeCursor(3, testGroupDTO.getGroupId()).encode())
+                .hasMore(false)
+                .build();
+        when(groupService.findChanges(ChangeCursor.START, 100)).thenReturn(feed);
+
+        mockMvc.perform(get("/groups/changes"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changes[0].sequence").value(3))
+                .andExpect(jsonPath("$.changes[0].group.groupName").value("BTS"))
+                .andExpect(jsonPath("$.nextCursor").value(feed.getNextCursor()))
+                .andExpect(jsonPath("$.hasMore").value(false));
+    }
+
+    @Test
+    void getChanges_WithCursor_PassesDecodedPosition() throws Exception {
+        ChangeCursor cursor = new ChangeCursor(17, UUID.randomUUID());
+        when(groupService.findChanges(cursor, 50)).thenReturn(GroupChangeFeedDTO.builder()
+                .changes(List.of()).nextCursor(cursor.encode()).build());
+
+        mockMvc.perform(get("/groups/changes").param("since", cursor.encode()).param("limit", "50"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changes").isEmpty());
+    }
+
+    @Test
+    void getChanges_WithInvalidCursorOrLimit_Returns400() throws Exception {
+        mockMvc.perform(get("/groups/changes").param("since", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/groups/changes").param("limit", "0"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void updateGroup_ReturnsUpdatedGroup() throws Exception {
         UUID testId = testGroupDTO.getGroupId();
@@ -121,6 +323,104 @@ class GroupControllerTest {
                 .andExpect(jsonPath("$.groupName").value("BTS"));
     }
 
+    @Test
+    void updateGroup_WithRespondAsync_ShouldQueueUpdateAndReturnAccepted() throws Exception {
+        UUID testId = testGroupDTO.getGroupId();
+        UpdateGroupRequest request = UpdateGroupRequest.builder().socialLinks(List.of("https://x.com/bts_bighit")).build();
+        when(writeBehind.isEnabled()).thenReturn(true);
+        when(groupService.findById(testId)).thenReturn(Optional.of(testGroupDTO));
+
+        mockMvc.perform(put("/groups/" + testId)
+                .header("Prefer", "respond-async")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Preference-Applied", "respond-async"));
+
+        verify(writeBehind).accept(eq(testId), any(UpdateGroupRequest.class));
+        verify(groupService, never()).update(any(UUID.class), any(UpdateGroupRequest.class));
+    }
+
+    @Test
+    void updateGroup_WithRespondAsync_WhenGroupMissing_ShouldReturnNotFound() throws Exception {
+        UUID missingId = UUID.randomUUID();
+        when(writeBehind.isEnabled()).thenReturn(true);
+        when(groupService.findById(missingId)).thenReturn(Optional.empty());
+
+        mockMvc.perform(put("/groups/" + missingId)
+                .header("Prefer", "respond-async")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"groupName\":\"BTS\"}"))
+                .andExpect(status().isNotFound());
+
+        verify(writeBehind, never()).accept(any(), any());
+    }
+
+    @Test
+    void updateGroup_WithRespondAsync_WhenWriteBehindDisabled_ShouldUpdateSynchronously() throws Exception {
+        UUID testId = testGroupDTO.getGroupId();
+        when(writeBehind.isEnabled()).thenReturn(false);
+        when(groupService.update(eq(testId), any(UpdateGroupRequest.class))).thenReturn(testGroupDTO);
+
+        mockMvc.perform(put("/groups/" + testId)
+                .header("Prefer", "respond-async")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"groupName\":\"BTS\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.groupName").value("BTS"));
+    }
+
+    @Test
+    void updateGroup_WithQueuedUpdate_ShouldFlushItBeforeUpdatingSynchronously() throws Exception {
+        UUID testId = testGroupDTO.getGroupId();
+        when(writeBehind.isEnabled()).thenReturn(true);
+        when(writeBehind.flush(testId)).thenReturn(true);
+        when(groupService.update(eq(testId), any(UpdateGroupRequest.class))).thenReturn(testGroupDTO);
+
+        mockMvc.perform(put("/groups/" + testId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"groupName\":\"BTS\"}"))
+                .andExpect(status().isOk());
+
+        InOrder order = inOrder(writeBehind, groupService);
+        order.verify(writeBehind).flush(testId);
+        order.verify(groupService).update(eq(testId), any(UpdateGroupRequest.class));
+    }
+
+    @Test
+    void updateGroup_WhenQueuedUpdateCannotBeFlushed_ReturnsServiceUnavailable() throws Exception {
+        UUID testId = testGroupDTO.getGroupId();
+        when(writeBehind.isEnabled()).thenReturn(true);
+        when(writeBehind.flush(testId)).thenReturn(false);
+
+        mockMvc.perform(put("/groups/" + testId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"groupName\":\"BTS\"}"))
+                .andExpect(status().isServiceUnavailable());
+
+        verify(groupService, never()).update(any(UUID.class), any(UpdateGroupRequest.class));
+    }
+
+    @Test
+    void deleteGroup_ReturnsNoContent() throws Exception {
+        UUID testId = testGroupDTO.getGroupId();
+
+        mockMvc.perform(delete("/groups/" + testId))
+                .andExpect(status().isNoContent());
+
+        verify(groupService).delete(testId);
+    }
+
+    @Test
+    void deleteGroup_WhenGroupMissing_ReturnsNotFound() throws Exception {
+        UUID missingId = UUID.randomUUID();
+        doThrow(new IllegalArgumentException("Group not found with id: " + missingId))
+                .when(groupService).delete(missingId);
+
+        mockMvc.perform(delete("/groups/" + missingId))
+                .andExpect(status().isNotFound());
+    }
+
     @Test
     void getGroupsByAgency_ReturnsGroupList() throws Exception {
         when(groupService.findByAgency("HYBE")).thenReturn(groupDTOs);
@@ -140,6 +440,39 @@ class GroupControllerTest {
                 .andExpect(jsonPath("$[0].groupName").value("BTS"));
     }
 
+    @Test
+    void getGroupsByDebutYearRange_ReturnsGroupList() throws Exception {
+        when(groupService.findByDebutYearRange(2010, 2015)).thenReturn(groupDTOs);
+
+        mockMvc.perform(get("/groups/debut-year").param("from", "2010").param("to", "2015"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].groupName").value("BTS"));
+    }
+
+    @Test
+    void getGroupsByDebutYearRange_WithInvertedRange_Returns400() throws Exception {
+        mockMvc.perform(get("/groups/debut-year").param("from", "2015").param("to", "2010"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getGroupsActiveIn_ReturnsGroupList() throws Exception {
+        when(groupService.findActiveDuring(2015)).thenReturn(groupDTOs);
+
+        mockMvc.perform(get("/groups/active-in/2015"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].groupName").value("BTS"));
+    }
+
+    @Test
+    void getGroupsDisbandedAfter_ReturnsGroupList() throws Exception {
+        when(groupService.findDisbandedAfter(2015)).thenReturn(groupDTOs);
+
+        mockMvc.perform(get("/groups/disbanded-after/2015"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].groupName").value("BTS"));
+    }
+
     @Test
     void getActiveGroups_ReturnsGroupList() throws Exception {
         when(groupService.findActiveGroups()).thenReturn(Collections.singletonList(testGroupDTO));
@@ -175,6 +508,21 @@ class GroupControllerTest {
                 .andExpect(jsonPath("$[0].groupName").value("BTS"));
     }
 
+    @Test
+    void getMemberships_ReturnsRolePerGroup() throws Exception {
+        when(groupService.findMemberships("Jin")).thenReturn(Collections.singletonList(MembershipDTO.builder()
+                .groupId(testGroupDTO.getGroupId())
+                .groupName("BTS")
+                .debutYear(2013)
+                .role(MemberRole.CURRENT)
+                .build()));
+
+        mockMvc.perform(get("/groups/member/Jin/memberships"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].groupName").value("BTS"))
+                .andExpect(jsonPath("$[0].role").value("CURRENT"));
+    }
+
     @Test
     void getGroupsByLabel_ReturnsGroupList() throws Exception {
         when(groupService.findByLabel("kpop")).thenReturn(Collections.singletonList(testGroupDTO));
@@ -183,4 +531,40 @@ class GroupControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$[0].groupName").value("BTS"));
     }
+
+    @Test
+    void searchGroups_ReturnsPageOfMatches() throws Exception {
+        when(groupService.search(
+                argThat((GroupSearchCriteria c) -> "HYBE".equals(c.getAgency())
+                        && Integer.valueOf(2010).equals(c.getDebutYearFrom())
+                        && "kpop".equals(c.getLabel())),
+                any(Pageable.class)))
+                .thenReturn(new PageImpl<>(groupDTOs, PageRequest.of(0, 20), 1));
+
+        mockMvc.perform(get("/groups/search")
+                        .param("agency", "HYBE")
+                        .param("debutYearFrom", "2010")
+                        .param("status", "ACTIVE")
+                        .param("label", "kpop"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].groupName").value("BTS"))
+                .andExpect(jsonPath("$.totalElements").value(1));
+    }
+
+    @Test
+    void searchGroups_WithInvertedYearRange_Returns400() throws Exception {
+        mockMvc.perform(get("/groups/search")
+                        .param("debutYearFrom", "2020")
+                        .param("debutYearTo", "2010"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void searchGroups_WithUnknownSortProperty_Returns400() throws Exception {
+        mockMvc.perform(get("/groups/search")
+                        .param("sort", "members,desc"))
+                .andExpect(status().isBadRequest());
+
+        verify(groupService, never()).search(any(), any());
+    }
 }
@@ -0,0 +1,56 @@
+package inkidatabase.groupservice.controller;
+
+import inkidatabase.groupservice.bulk.GroupExporter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.io.OutputStream;
+
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class GroupExportControllerTest {
+
+    @Mock
+    private GroupExporter exporter;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(new GroupExportController(exporter)).build();
+    }
+
+    @Test
+    void exportGroups_ShouldStreamArchiveAsAttachment() throws Exception {
+        when(exporter.exportGroups(any())).thenAnswer(invocation -> {
+            invocation.getArgument(0, OutputStream.class).write(new byte[]{0x47, 0x52, 0x50, 0x41});
+            return 0L;
+        });
+
+        MvcResult result = mockMvc.perform(get("/groups/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/vnd.inkidatabase.group-archive"))
+                .andExpect(header().string("Content-Disposition",
+                        matchesPattern("attachment; filename=\"groups-\\d{8}T\\d{6}Z\\.grpa\"")))
+                .andExpect(content().bytes(new byte[]{0x47, 0x52, 0x50, 0x41}));
+    }
+}
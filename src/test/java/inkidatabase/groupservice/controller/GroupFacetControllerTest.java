@@ -0,0 +1,92 @@
+package inkidatabase.groupservice.controller;
+
+import inkidatabase.groupservice.dto.FacetResultDTO;
+import inkidatabase.groupservice.dto.GroupDTO;
+import inkidatabase.groupservice.index.FacetQuery;
+import inkidatabase.groupservice.index.GroupFacetIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+class GroupFacetControllerTest {
+
+    @Mock
+    private GroupFacetIndex facetIndex;
+
+    @InjectMocks
+    private GroupFacetController controller;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+    }
+
+    @Test
+    void getFacets_ReturnsCounts() throws Exception {
+        when(facetIndex.isReady()).thenReturn(true);
+        when(facetIndex.query(any(FacetQuery.class), eq(20))).thenReturn(FacetResultDTO.builder()
+                .total(2)
+                .facets(Map.of("agency", Map.of("HYBE", 1L, "YG", 1L)))
+                .groups(Collections.emptyList())
+                .build());
+
+        mockMvc.perform(get("/groups/facets")
+                        .param("filter", "label:kpop")
+                        .param("filter", "status:ACTIVE")
+                        .param("facet", "agency"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(2))
+                .andExpect(jsonPath("$.facets.agency.HYBE").value(1));
+    }
+
+    @Test
+    void getFacets_ShouldNotSplitTermsOnCommas() throws Exception {
+        GroupFacetIndex index = new GroupFacetIndex();
+        index.rebuild(List.of(
+                GroupDTO.builder().groupId(UUID.randomUUID()).groupName("BTS").agency("Big Hit, Inc.").debutYear(2013).build(),
+                GroupDTO.builder().groupId(UUID.randomUUID()).groupName("TWICE").agency("JYP").debutYear(2015).build()));
+        MockMvc realIndex = MockMvcBuilders.standaloneSetup(new GroupFacetController(index)).build();
+
+        realIndex.perform(get("/groups/facets").param("filter", "agency:big hit, inc."))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(1))
+                .andExpect(jsonPath("$.groups[0].groupName").value("BTS"));
+    }
+
+    @Test
+    void getFacets_WithMalformedTerm_Returns400() throws Exception {
+        when(facetIndex.isReady()).thenReturn(true);
+
+        mockMvc.perform(get("/groups/facets").param("filter", "kpop"))
+                .andExpect(status().isBadRequest());
+
+        verify(facetIndex, never()).query(any(), anyInt());
+    }
+
+    @Test
+    void getFacets_WhenIndexNotLoaded_Returns503() throws Exception {
+        when(facetIndex.isReady()).thenReturn(false);
+
+        mockMvc.perform(get("/groups/facets"))
+                .andExpect(status().isServiceUnavailable());
+    }
+}
@@ -0,0 +1,58 @@
+package inkidatabase.groupservice.controller;
+
+import inkidatabase.groupservice.dto.GroupDTO;
+import inkidatabase.groupservice.dto.ScoredGroupDTO;
+import inkidatabase.groupservice.index.GroupFullTextIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.Collections;
+import java.util.UUID;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+class GroupFullTextControllerTest {
+
+    @Mock
+    private GroupFullTextIndex fullTextIndex;
+
+    @InjectMocks
+    private GroupFullTextController controller;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+    }
+
+    @Test
+    void fullTextSearch_ReturnsRankedGroups() throws Exception {
+        GroupDTO bts = GroupDTO.builder().groupId(UUID.randomUUID()).groupName("BTS").agency("HYBE").build();
+        when(fullTextIndex.isReady()).thenReturn(true);
+        when(fullTextIndex.search("hybe", 20)).thenReturn(Collections.singletonList(
+                ScoredGroupDTO.builder().score(1.5).group(bts).build()));
+
+        mockMvc.perform(get("/groups/fulltext").param("q", "hybe"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].group.groupName").value("BTS"))
+                .andExpect(jsonPath("$[0].score").value(1.5));
+    }
+
+    @Test
+    void fullTextSearch_WhenIndexNotLoaded_Returns503() throws Exception {
+        when(fullTextIndex.isReady()).thenReturn(false);
+
+        mockMvc.perform(get("/groups/fulltext").param("q", "hybe"))
+                .andExpect(status().isServiceUnavailable());
+    }
+}
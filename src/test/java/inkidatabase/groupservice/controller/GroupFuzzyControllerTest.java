@@ -0,0 +1,66 @@
+package inkidatabase.groupservice.controller;
+
+import inkidatabase.groupservice.dto.FuzzyMatchDTO;
+import inkidatabase.groupservice.index.GroupFuzzyIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+class GroupFuzzyControllerTest {
+
+    @Mock
+    private GroupFuzzyIndex fuzzyIndex;
+
+    @InjectMocks
+    private GroupFuzzyController controller;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+    }
+
+    @Test
+    void fuzzySearch_ReturnsScoredMatches() throws Exception {
+        when(fuzzyIndex.isReady()).thenReturn(true);
+        when(fuzzyIndex.search("jeni", EnumSet.of(GroupFuzzyIndex.Field.MEMBER, GroupFuzzyIndex.Field.FORMER_MEMBER), 10))
+                .thenReturn(Collections.singletonList(FuzzyMatchDTO.builder()
+                        .field("member")
+                        .matched("Jennie")
+                        .groupId(UUID.randomUUID())
+                        .groupName("BLACKPINK")
+                        .score(0.667)
+                        .build()));
+
+        mockMvc.perform(get("/groups/fuzzy").param("q", "jeni").param("in", "member"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].matched").value("Jennie"))
+                .andExpect(jsonPath("$[0].score").value(0.667));
+    }
+
+    @Test
+    void fuzzySearch_WithUnknownField_Returns400() throws Exception {
+        when(fuzzyIndex.isReady()).thenReturn(true);
+
+        mockMvc.perform(get("/groups/fuzzy").param("q", "jeni").param("in", "agency"))
+                .andExpect(status().isBadRequest());
+
+        verify(fuzzyIndex, never()).search(anyString(), anySet(), anyInt());
+    }
+}
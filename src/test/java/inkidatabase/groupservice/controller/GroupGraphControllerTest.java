@@ -0,0 +1,103 @@
+package inkidatabase.groupservice.controller;
+
+import inkidatabase.groupservice.dto.GraphNodeDTO;
+import inkidatabase.groupservice.dto.RelatedGroupDTO;
+import inkidatabase.groupservice.index.GroupGraphIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+class GroupGraphControllerTest {
+
+    @Mock
+    private GroupGraphIndex graphIndex;
+
+    @InjectMocks
+    private GroupGraphController controller;
+
+    private MockMvc mockMvc;
+    private UUID groupId;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+        groupId = UUID.randomUUID();
+    }
+
+    @Test
+    void getRelatedGroups_ReturnsNeighbours() throws Exception {
+        when(graphIndex.isReady()).thenReturn(true);
+        when(graphIndex.related(groupId, 20)).thenReturn(Optional.of(List.of(RelatedGroupDTO.builder()
+                .groupId(UUID.randomUUID())
+                .groupName("BSS")
+                .weight(4)
+                .sharedMembers(List.of("Hoshi"))
+                .subunitLink(true)
+                .build())));
+
+        mockMvc.perform(get("/groups/{id}/related", groupId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].groupName").value("BSS"))
+                .andExpect(jsonPath("$[0].weight").value(4))
+                .andExpect(jsonPath("$[0].subunitLink").value(true));
+    }
+
+    @Test
+    void getRelatedGroups_WhenGroupUnknown_Returns404() throws Exception {
+        when(graphIndex.isReady()).thenReturn(true);
+        when(graphIndex.related(eq(groupId), anyInt())).thenReturn(Optional.empty());
+
+        mockMvc.perform(get("/groups/{id}/related", groupId))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void getNeighborhood_PassesDepthAndLimit() throws Exception {
+        when(graphIndex.isReady()).thenReturn(true);
+        when(graphIndex.neighborhood(groupId, 3, 50)).thenReturn(Optional.of(List.of(GraphNodeDTO.builder()
+                .groupId(UUID.randomUUID())
+                .groupName("iKON")
+                .distance(2)
+                .via(groupId)
+                .build())));
+
+        mockMvc.perform(get("/groups/{id}/neighborhood", groupId).param("depth", "3").param("limit", "50"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].groupName").value("iKON"))
+                .andExpect(jsonPath("$[0].distance").value(2));
+    }
+
+    @Test
+    void getNeighborhood_WithDepthOutOfRange_Returns400() throws Exception {
+        when(graphIndex.isReady()).thenReturn(true);
+
+        mockMvc.perform(get("/groups/{id}/neighborhood", groupId).param("depth", "9"))
+                .andExpect(status().isBadRequest());
+
+        verify(graphIndex, never()).neighborhood(any(), anyInt(), anyInt());
+    }
+
+    @Test
+    void getNeighborhood_WhenGraphNotLoaded_Returns503() throws Exception {
+        when(graphIndex.isReady()).thenReturn(false);
+
+        mockMvc.perform(get("/groups/{id}/neighborhood", groupId))
+                .andExpect(status().isServiceUnavailable());
+    }
+}
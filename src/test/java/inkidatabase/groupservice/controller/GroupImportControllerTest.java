@@ -0,0 +1,95 @@
+package inkidatabase.groupservice.controller;
+
+import inkidatabase.groupservice.bulk.GroupImportFormat;
+import inkidatabase.groupservice.bulk.GroupImporter;
+import inkidatabase.groupservice.dto.GroupImportError;
+import inkidatabase.groupservice.dto.GroupImportReport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class GroupImportControllerTest {
+
+    @Mock
+    private GroupImporter importer;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(new GroupImportController(importer)).build();
+    }
+
+    @Test
+    void importGroups_ShouldTakeFormatFromContentTypeAndReturnReport() throws Exception {
+        when(importer.importGroups(any(), eq(GroupImportFormat.CSV))).thenReturn(GroupImportReport.builder()
+                .rows(2)
+                .imported(1)
+                .invalid(1)
+                .errors(List.of(GroupImportError.builder().line(3).message("agency: Agency is required").build()))
+                .build());
+
+        mockMvc.perform(post("/groups/import")
+                        .contentType("text/csv")
+                        .content("groupName,agency,debutYear,members\nBTS,HYBE,2013,RM\nIVE,,2021,Yujin\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(1))
+                .andExpect(jsonPath("$.errors[0].line").value(3));
+    }
+
+    @Test
+    void importGroups_ShouldPreferFormatParameter() throws Exception {
+        when(importer.importGroups(any(), eq(GroupImportFormat.JSONL)))
+                .thenReturn(GroupImportReport.builder().errors(List.of()).build());
+
+        mockMvc.perform(post("/groups/import?format=ndjson")
+                        .contentType("text/plain")
+                        .content("{}\n"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void importGroups_WithOctetStream_ShouldImportArchive() throws Exception {
+        when(importer.importGroups(any(), eq(GroupImportFormat.ARCHIVE)))
+                .thenReturn(GroupImportReport.builder().errors(List.of()).build());
+
+        mockMvc.perform(post("/groups/import")
+                        .contentType("application/octet-stream")
+                        .content(new byte[]{0x47, 0x52, 0x50, 0x41}))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void importGroups_WithUnsupportedContentType_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(post("/groups/import")
+                        .contentType("application/xml")
+                        .content("<groups/>"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(importer);
+    }
+
+    @Test
+    void importGroups_WithBadHeader_ShouldReturnBadRequest() throws Exception {
+        when(importer.importGroups(any(), any())).thenThrow(new IllegalArgumentException("Unknown CSV columns: [fandom]"));
+
+        mockMvc.perform(post("/groups/import")
+                        .contentType("text/csv")
+                        .content("fandom\n"))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,67 @@
+package inkidatabase.groupservice.controller;
+
+import inkidatabase.groupservice.dto.GroupIndexStats;
+import inkidatabase.groupservice.index.GroupIndexRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.Collections;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+class GroupIndexControllerTest {
+
+    @Mock
+    private GroupIndexRegistry registry;
+
+    @InjectMocks
+    private GroupIndexController controller;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+    }
+
+    @Test
+    void getIndexStats_ReturnsStatsPerIndex() throws Exception {
+        when(registry.stats()).thenReturn(Collections.singletonList(
+                GroupIndexStats.builder().name("inverted").groups(2).keys(9).estimatedBytes(1024).build()));
+
+        mockMvc.perform(get("/groups/index/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].name").value("inverted"))
+                .andExpect(jsonPath("$[0].estimatedBytes").value(1024));
+    }
+
+    @Test
+    void rebuildIndexes_RebuildsAndReturnsStats() throws Exception {
+        when(registry.isEnabled()).thenReturn(true);
+        when(registry.stats()).thenReturn(Collections.emptyList());
+
+        mockMvc.perform(post("/groups/index/rebuild"))
+                .andExpect(status().isOk());
+
+        verify(registry).rebuild();
+    }
+
+    @Test
+    void rebuildIndexes_WhenDisabled_Returns409() throws Exception {
+        when(registry.isEnabled()).thenReturn(false);
+
+        mockMvc.perform(post("/groups/index/rebuild"))
+                .andExpect(status().isConflict());
+
+        verify(registry, never()).rebuild();
+    }
+}
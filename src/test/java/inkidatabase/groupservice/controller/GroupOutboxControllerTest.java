@@ -0,0 +1,46 @@
+package inkidatabase.groupservice.controller;
+
+import inkidatabase.groupservice.dto.GroupOutboxStats;
+import inkidatabase.groupservice.outbox.GroupOutboxRelay;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class GroupOutboxControllerTest {
+
+    @Mock
+    private GroupOutboxRelay relay;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(new GroupOutboxController(relay)).build();
+    }
+
+    @Test
+    void getOutboxStats_ShouldReturnRelayStats() throws Exception {
+        when(relay.stats()).thenReturn(GroupOutboxStats.builder()
+                .pending(4)
+                .delivered(1200)
+                .batches(3)
+                .lastDrainEventsPerSecond(2500.0)
+                .build());
+
+        mockMvc.perform(get("/groups/outbox/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.pending").value(4))
+                .andExpect(jsonPath("$.delivered").value(1200))
+                .andExpect(jsonPath("$.lastDrainEventsPerSecond").value(2500.0));
+    }
+}
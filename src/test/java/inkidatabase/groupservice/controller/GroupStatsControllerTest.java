@@ -0,0 +1,68 @@
+package inkidatabase.groupservice.controller;
+
+import inkidatabase.groupservice.dto.GroupStatsDTO;
+import inkidatabase.groupservice.dto.StatsReconciliationDTO;
+import inkidatabase.groupservice.service.GroupStatsService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+class GroupStatsControllerTest {
+
+    @Mock
+    private GroupStatsService statsService;
+
+    @InjectMocks
+    private GroupStatsController controller;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+    }
+
+    @Test
+    void getStats_ReturnsCounts() throws Exception {
+        when(statsService.getStats()).thenReturn(GroupStatsDTO.builder()
+                .total(2)
+                .byAgency(Map.of("HYBE", 2L))
+                .byDebutYear(Map.of("2013", 1L, "2022", 1L))
+                .byStatus(Map.of("ACTIVE", 2L))
+                .byLabel(Map.of("kpop", 2L))
+                .build());
+
+        mockMvc.perform(get("/groups/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(2))
+                .andExpect(jsonPath("$.byAgency.HYBE").value(2))
+                .andExpect(jsonPath("$.byDebutYear.2022").value(1));
+    }
+
+    @Test
+    void reconcileStats_ReturnsDifferences() throws Exception {
+        when(statsService.reconcile()).thenReturn(StatsReconciliationDTO.builder()
+                .consistent(false)
+                .differences(List.of("total: counters=1, database=2"))
+                .build());
+
+        mockMvc.perform(post("/groups/stats/reconcile"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.consistent").value(false))
+                .andExpect(jsonPath("$.differences[0]").value("total: counters=1, database=2"));
+    }
+}
@@ -0,0 +1,79 @@
+package inkidatabase.groupservice.controller;
+
+import inkidatabase.groupservice.service.ChangeCursor;
+import inkidatabase.groupservice.stream.GroupChangeStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class GroupStreamControllerTest {
+
+    @Mock
+    private GroupChangeStream stream;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(new GroupStreamController(stream)).build();
+    }
+
+    @Test
+    void streamChanges_WithoutCursor_ShouldSubscribeLive() throws Exception {
+        when(stream.subscribe(null)).thenReturn(Optional.of(new SseEmitter()));
+
+        mockMvc.perform(get("/groups/stream").accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted());
+
+        verify(stream).subscribe(null);
+    }
+
+    @Test
+    void streamChanges_ShouldPreferLastEventIdOverSince() throws Exception {
+        ChangeCursor resumeAt = new ChangeCursor(7, UUID.randomUUID());
+        when(stream.subscribe(resumeAt)).thenReturn(Optional.of(new SseEmitter()));
+
+        mockMvc.perform(get("/groups/stream")
+                        .param("since", new ChangeCursor(1, UUID.randomUUID()).encode())
+                        .header("Last-Event-ID", resumeAt.encode())
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted());
+
+        verify(stream).subscribe(resumeAt);
+    }
+
+    @Test
+    void streamChanges_WithInvalidCursor_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/groups/stream").param("since", "not-a-cursor")
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(status().isBadRequest());
+
+        verify(stream, never()).subscribe(any());
+    }
+
+    @Test
+    void streamChanges_AtSubscriberLimit_ShouldReturnServiceUnavailable() throws Exception {
+        when(stream.subscribe(null)).thenReturn(Optional.empty());
+
+        mockMvc.perform(get("/groups/stream").accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(status().isServiceUnavailable());
+    }
+}
@@ -0,0 +1,91 @@
+package inkidatabase.groupservice.controller;
+
+import inkidatabase.groupservice.dto.GroupDTO;
+import inkidatabase.groupservice.dto.GroupSummaryDTO;
+import inkidatabase.groupservice.dto.SubunitHierarchyDTO;
+import inkidatabase.groupservice.service.SubunitHierarchyService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+class GroupSubunitControllerTest {
+
+    @Mock
+    private SubunitHierarchyService subunitService;
+
+    @InjectMocks
+    private GroupSubunitController controller;
+
+    private MockMvc mockMvc;
+    private UUID groupId;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+        groupId = UUID.randomUUID();
+    }
+
+    @Test
+    void getSubunits_ReturnsFullGroupsByDefault() throws Exception {
+        GroupDTO bss = GroupDTO.builder().groupId(UUID.randomUUID()).groupName("BSS")
+                .members(List.of("Hoshi", "DK", "Seungkwan")).build();
+        when(subunitService.findSubunits(groupId)).thenReturn(Optional.of(SubunitHierarchyDTO.<GroupDTO>builder()
+                .groupId(groupId)
+                .groupName("SEVENTEEN")
+                .subunits(List.of(bss))
+                .unresolved(List.of("Hip-Hop Team"))
+                .build()));
+
+        mockMvc.perform(get("/groups/{id}/subunits", groupId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.groupName").value("SEVENTEEN"))
+                .andExpect(jsonPath("$.subunits[0].groupName").value("BSS"))
+                .andExpect(jsonPath("$.subunits[0].members[0]").value("Hoshi"))
+                .andExpect(jsonPath("$.unresolved[0]").value("Hip-Hop Team"));
+    }
+
+    @Test
+    void getSubunits_WithSummaryView_ReturnsSummaries() throws Exception {
+        when(subunitService.findSubunitSummaries(groupId)).thenReturn(Optional.of(
+                SubunitHierarchyDTO.<GroupSummaryDTO>builder()
+                        .groupId(groupId)
+                        .groupName("SEVENTEEN")
+                        .subunits(List.of(GroupSummaryDTO.builder().groupName("BSS").debutYear(2018).build()))
+                        .unresolved(List.of())
+                        .build()));
+
+        mockMvc.perform(get("/groups/{id}/subunits", groupId).param("view", "summary"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.subunits[0].debutYear").value(2018))
+                .andExpect(jsonPath("$.subunits[0].members").doesNotExist());
+        verify(subunitService, never()).findSubunits(any());
+    }
+
+    @Test
+    void getSubunits_WhenGroupMissing_Returns404() throws Exception {
+        when(subunitService.findSubunits(groupId)).thenReturn(Optional.empty());
+
+        mockMvc.perform(get("/groups/{id}/subunits", groupId))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void getSubunits_WithUnknownView_Returns400() throws Exception {
+        mockMvc.perform(get("/groups/{id}/subunits", groupId).param("view", "tree"))
+                .andExpect(status().isBadRequest());
+    }
+}
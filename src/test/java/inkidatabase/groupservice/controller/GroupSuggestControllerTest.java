@@ -0,0 +1,63 @@
+package inkidatabase.groupservice.controller;
+
+import inkidatabase.groupservice.dto.GroupSuggestionDTO;
+import inkidatabase.groupservice.index.GroupNameSuggestIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.Collections;
+import java.util.UUID;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+class GroupSuggestControllerTest {
+
+    @Mock
+    private GroupNameSuggestIndex suggestIndex;
+
+    @InjectMocks
+    private GroupSuggestController controller;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+    }
+
+    @Test
+    void suggestGroups_ReturnsSuggestions() throws Exception {
+        when(suggestIndex.isReady()).thenReturn(true);
+        when(suggestIndex.suggest("bt", 5)).thenReturn(Collections.singletonList(
+                GroupSuggestionDTO.builder().groupId(UUID.randomUUID()).groupName("BTS").build()));
+
+        mockMvc.perform(get("/groups/suggest").param("q", "bt").param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].groupName").value("BTS"));
+    }
+
+    @Test
+    void suggestGroups_WithInvalidLimit_Returns400() throws Exception {
+        when(suggestIndex.isReady()).thenReturn(true);
+
+        mockMvc.perform(get("/groups/suggest").param("q", "bt").param("limit", "0"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void suggestGroups_WhenIndexNotLoaded_Returns503() throws Exception {
+        when(suggestIndex.isReady()).thenReturn(false);
+
+        mockMvc.perform(get("/groups/suggest").param("q", "bt"))
+                .andExpect(status().isServiceUnavailable());
+    }
+}
@@ -0,0 +1,63 @@
+package inkidatabase.groupservice.id;
+
+import inkidatabase.groupservice.model.Group;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GroupIdsTest {
+
+    private final GroupIdGenerator original = GroupIds.generator();
+
+    @AfterEach
+    void restoreGenerator() {
+        GroupIds.use(original);
+    }
+
+    @Test
+    void forStrategy_ShouldResolveKnownStrategies() {
+        assertThat(GroupIds.forStrategy("v7")).isInstanceOf(TimeOrderedGroupIdGenerator.class);
+        assertThat(GroupIds.forStrategy(" V4 ")).isInstanceOf(RandomGroupIdGenerator.class);
+    }
+
+    @Test
+    void forStrategy_WithUnknownStrategy_ShouldThrow() {
+        assertThatThrownBy(() -> GroupIds.forStrategy("v1"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Unknown group id strategy: v1");
+    }
+
+    @Test
+    void entityBuilderAndConstructor_ShouldUseActiveGenerator() {
+        UUID fixed = UUID.fromString("01890a5d-ac96-774b-bcce-b302099a8057");
+        GroupIds.use(() -> fixed);
+
+        assertThat(new Group("BTS", "HYBE", 2013).getGroupId()).isEqualTo(fixed);
+        assertThat(Group.builder("BTS", "HYBE", 2013).build().getGroupId()).isEqualTo(fixed);
+    }
+
+    @Test
+    void newGroup_ShouldDefaultToTimeOrderedId() {
+        assertThat(new Group("BTS", "HYBE", 2013).getGroupId().version()).isEqualTo(7);
+    }
+
+    @Test
+    void newGroup_ShouldBeNewUntilPersisted() {
+        Group group = new Group("BTS", "HYBE", 2013);
+
+        assertThat(group.isNew()).isTrue();
+        assertThat(group.getId()).isEqualTo(group.getGroupId());
+    }
+
+    @Test
+    void groupWithAssignedId_ShouldNotBeNew() {
+        Group group = new Group("BTS", "HYBE", 2013);
+        group.setGroupId(UUID.fromString("01890a5d-ac96-774b-bcce-b302099a8057"));
+
+        assertThat(group.isNew()).isFalse();
+    }
+}
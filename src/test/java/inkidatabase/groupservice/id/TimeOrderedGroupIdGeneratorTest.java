@@ -0,0 +1,63 @@
+package inkidatabase.groupservice.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TimeOrderedGroupIdGeneratorTest {
+
+    @Test
+    void nextId_ShouldProduceVersion7WithRfcVariant() {
+        UUID id = new TimeOrderedGroupIdGenerator().nextId();
+
+        assertThat(id.version()).isEqualTo(7);
+        assertThat(id.variant()).isEqualTo(2);
+    }
+
+    @Test
+    void nextId_ShouldEmbedClockMillis() {
+        long now = 1_700_000_000_000L;
+        TimeOrderedGroupIdGenerator generator = new TimeOrderedGroupIdGenerator(() -> now, new Random(42));
+
+        assertThat(TimeOrderedGroupIdGenerator.timestampOf(generator.nextId())).isEqualTo(now);
+    }
+
+    @Test
+    void nextId_WithinSameMillisecond_ShouldBeStrictlyIncreasing() {
+        TimeOrderedGroupIdGenerator generator = new TimeOrderedGroupIdGenerator(() -> 1_700_000_000_000L, new Random(7));
+
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            ids.add(generator.nextId());
+        }
+
+        assertThat(ids).isSorted().doesNotHaveDuplicates();
+    }
+
+    @Test
+    void nextId_WhenClockMovesBackwards_ShouldStayIncreasing() {
+        AtomicLong clock = new AtomicLong(1_700_000_000_000L);
+        TimeOrderedGroupIdGenerator generator = new TimeOrderedGroupIdGenerator(clock::get, new Random(1));
+
+        UUID first = generator.nextId();
+        clock.addAndGet(-5_000);
+        UUID second = generator.nextId();
+
+        assertThat(second).isGreaterThan(first);
+    }
+
+    @Test
+    void timestampOf_WithRandomId_ShouldThrow() {
+        UUID random = UUID.randomUUID();
+
+        assertThatThrownBy(() -> TimeOrderedGroupIdGenerator.timestampOf(random))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
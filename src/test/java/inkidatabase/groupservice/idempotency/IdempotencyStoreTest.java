@@ -0,0 +1,133 @@
+package inkidatabase.groupservice.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import inkidatabase.groupservice.dto.CreateGroupRequest;
+import inkidatabase.groupservice.dto.GroupDTO;
+import inkidatabase.groupservice.repository.IdempotencyRecordRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@TestPropertySource(locations = "classpath:application-test.properties")
+@Import({JacksonAutoConfiguration.class, IdempotencyStore.class})
+class IdempotencyStoreTest {
+
+    @Autowired
+    private IdempotencyStore store;
+
+    @Autowired
+    private IdempotencyRecordRepository repository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    // The store's local cache outlives a test, so every test uses fresh keys
+    private final String key = UUID.randomUUID().toString();
+    private final AtomicInteger runs = new AtomicInteger();
+
+    private final CreateGroupRequest request = CreateGroupRequest.builder()
+            .groupName("BTS")
+            .agency("HYBE")
+            .debutYear(2013)
+            .members(List.of("RM", "Jin"))
+            .build();
+
+    @Test
+    void execute_WithSameKey_ShouldRunActionOnceAndReplayResponse() {
+        IdempotentResponse first = store.execute("POST /groups", key, request, 201, this::createGroup);
+        IdempotentResponse retry = store.execute("POST /groups", key, request, 201, this::createGroup);
+
+        assertThat(runs).hasValue(1);
+        assertThat(first.replayed()).isFalse();
+        assertThat(retry.replayed()).isTrue();
+        assertThat(retry.status()).isEqualTo(201);
+        assertThat(retry.body()).isEqualTo(first.body());
+        assertThat(new String(retry.body(), StandardCharsets.UTF_8)).contains("\"groupName\":\"BTS\"");
+        assertThat(repository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void execute_WithSameKeyInOtherScope_ShouldRunAgain() {
+        store.execute("POST /groups", key, request, 201, this::createGroup);
+        store.execute("POST /groups/batch", key, request, 201, this::createGroup);
+
+        assertThat(runs).hasValue(2);
+    }
+
+    @Test
+    void execute_WithStoredKeyAfterCacheMiss_ShouldReplayFromTable() {
+        store.execute("POST /groups", key, request, 201, this::createGroup);
+        IdempotencyStore otherReplica = new IdempotencyStore(repository, objectMapper, transactionManager,
+                Duration.ofHours(1), 10);
+
+        IdempotentResponse retry = otherReplica.execute("POST /groups", key, request, 201, this::createGroup);
+
+        assertThat(retry.replayed()).isTrue();
+        assertThat(runs).hasValue(1);
+    }
+
+    @Test
+    void execute_WithKeyReusedForDifferentRequest_ShouldBeRejected() {
+        store.execute("POST /groups", key, request, 201, this::createGroup);
+        CreateGroupRequest other = CreateGroupRequest.builder().groupName("TWICE").agency("JYP").debutYear(2015)
+                .members(List.of("Nayeon")).build();
+
+        assertThatThrownBy(() -> store.execute("POST /groups", key, other, 201, this::createGroup))
+                .isInstanceOf(IdempotencyKeyReusedException.class);
+        assertThat(runs).hasValue(1);
+    }
+
+    @Test
+    void execute_WithInvalidKey_ShouldBeRejected() {
+        assertThatThrownBy(() -> store.execute("POST /groups", " ", request, 201, this::createGroup))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> store.execute("POST /groups", "k".repeat(256), request, 201, this::createGroup))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void expiredKeys_ShouldRunAgainAndBePurged() {
+        IdempotencyStore expiring = new IdempotencyStore(repository, objectMapper, transactionManager,
+                Duration.ofSeconds(-1), 10);
+
+        expiring.execute("POST /groups", key, request, 201, this::createGroup);
+        expiring.execute("POST /groups", key, request, 201, this::createGroup);
+        assertThat(runs).hasValue(2);
+
+        expiring.purgeExpired();
+        assertThat(repository.count()).isZero();
+    }
+
+    @Test
+    void deflate_ShouldRoundTrip() {
+        byte[] json = "{\"groupName\":\"BTS\",\"members\":[\"RM\",\"Jin\",\"Suga\"]}".repeat(20)
+                .getBytes(StandardCharsets.UTF_8);
+
+        byte[] deflated = IdempotencyStore.deflate(json);
+
+        assertThat(deflated.length).isLessThan(json.length);
+        assertThat(IdempotencyStore.inflate(deflated)).isEqualTo(json);
+    }
+
+    private GroupDTO createGroup() {
+        runs.incrementAndGet();
+        return GroupDTO.builder().groupId(UUID.randomUUID()).groupName("BTS").agency("HYBE").build();
+    }
+}
@@ -0,0 +1,148 @@
+package inkidatabase.groupservice.index;
+
+import inkidatabase.groupservice.dto.FacetResultDTO;
+import inkidatabase.groupservice.dto.GroupDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GroupFacetIndexTest {
+
+    private GroupFacetIndex index;
+    private GroupDTO bts;
+    private GroupDTO blackpink;
+    private GroupDTO twoNeOne;
+
+    @BeforeEach
+    void setUp() {
+        index = new GroupFacetIndex();
+
+        bts = group("BTS", "HYBE", 2013, null, Arrays.asList("kpop", "bighit"), Arrays.asList("RM", "Jin"));
+        blackpink = group("BLACKPINK", "YG", 2016, null, Arrays.asList("kpop", "yg"), Arrays.asList("Jisoo"));
+        twoNeOne = group("2NE1", "YG", 2009, 2016, Arrays.asList("kpop", "yg"), Arrays.asList("CL"));
+        index.rebuild(List.of(bts, blackpink, twoNeOne));
+    }
+
+    @Test
+    void query_WithoutFilters_ShouldMatchEverything() {
+        FacetResultDTO result = index.query(new FacetQuery().countBy(FacetField.STATUS), 10);
+
+        assertThat(result.getTotal()).isEqualTo(3);
+        assertThat(result.getFacets().get("status")).containsEntry("ACTIVE", 2L).containsEntry("DISBANDED", 1L);
+    }
+
+    @Test
+    void query_ShouldAndAcrossFieldsAndOrWithinField() {
+        FacetQuery query = new FacetQuery()
+                .include(FacetField.LABEL, "kpop")
+                .include(FacetField.STATUS, "ACTIVE")
+                .include(FacetField.AGENCY, "HYBE")
+                .include(FacetField.AGENCY, "YG")
+                .countBy(FacetField.AGENCY);
+
+        FacetResultDTO result = index.query(query, 10);
+
+        assertThat(result.getTotal()).isEqualTo(2);
+        assertThat(result.getFacets().get("agency")).containsExactly(
+                Map.entry("HYBE", 1L), Map.entry("YG", 1L));
+        assertThat(result.getGroups()).containsExactlyInAnyOrder(bts, blackpink);
+    }
+
+    @Test
+    void query_ShouldApplyExclusions() {
+        FacetQuery query = new FacetQuery()
+                .exclude(FacetField.AGENCY, "YG")
+                .countBy(FacetField.DEBUT_YEAR);
+
+        FacetResultDTO result = index.query(query, 10);
+
+        assertThat(result.getGroups()).containsExactly(bts);
+        assertThat(result.getFacets().get("debutYear")).containsOnlyKeys("2013");
+    }
+
+    @Test
+    void query_ShouldMatchAgencyIgnoringCase() {
+        GroupDTO txt = group("TXT", "Hybe", 2019, null, Arrays.asList("kpop"), Arrays.asList("Soobin"));
+        index.put(txt);
+
+        FacetResultDTO result = index.query(new FacetQuery().include(FacetField.AGENCY, "hybe").countBy(FacetField.AGENCY), 10);
+
+        assertThat(result.getGroups()).containsExactlyInAnyOrder(bts, txt);
+        assertThat(result.getFacets().get("agency")).containsExactly(Map.entry("HYBE", 2L));
+    }
+
+    @Test
+    void query_ShouldRespectLimit() {
+        FacetResultDTO result = index.query(new FacetQuery(), 1);
+
+        assertThat(result.getTotal()).isEqualTo(3);
+        assertThat(result.getGroups()).hasSize(1);
+    }
+
+    @Test
+    void put_ShouldMoveGroupBetweenBitmaps() {
+        GroupDTO disbandedBts = group("BTS", "HYBE", 2013, 2025, Arrays.asList("kpop"), Arrays.asList("RM"));
+        disbandedBts.setGroupId(bts.getGroupId());
+
+        index.put(disbandedBts);
+
+        FacetResultDTO result = index.query(new FacetQuery().countBy(FacetField.STATUS).countBy(FacetField.LABEL), 10);
+        assertThat(result.getTotal()).isEqualTo(3);
+        assertThat(result.getFacets().get("status")).containsEntry("DISBANDED", 2L).containsEntry("ACTIVE", 1L);
+        assertThat(result.getFacets().get("label")).doesNotContainKey("bighit");
+    }
+
+    @Test
+    void remove_ShouldDropGroupFromEveryBitmap() {
+        index.remove(bts.getGroupId());
+        index.remove(bts.getGroupId());
+
+        FacetResultDTO result = index.query(new FacetQuery().countBy(FacetField.AGENCY).countBy(FacetField.LABEL), 10);
+        assertThat(result.getTotal()).isEqualTo(2);
+        assertThat(result.getGroups()).containsExactlyInAnyOrder(blackpink, twoNeOne);
+        assertThat(result.getFacets().get("agency")).containsOnlyKeys("YG");
+        assertThat(result.getFacets().get("label")).doesNotContainKey("bighit");
+        assertThat(index.stats().getGroups()).isEqualTo(2);
+    }
+
+    @Test
+    void stats_ShouldReportBitmaps() {
+        // 2 agencies + 3 labels + 2 statuses + 3 debut years
+        assertThat(index.stats().getKeys()).isEqualTo(10);
+        assertThat(index.stats().getGroups()).isEqualTo(3);
+        assertThat(index.stats().getEstimatedBytes()).isPositive();
+    }
+
+    @Test
+    void parse_ShouldReadFieldValueTerms() {
+        FacetQuery query = FacetQuery.parse(List.of("label:kpop", "status:ACTIVE"), List.of("agency:YG"), List.of("agency"));
+
+        assertThat(index.query(query, 10).getGroups()).containsExactly(bts);
+        assertThatThrownBy(() -> FacetQuery.parse(List.of("kpop"), Collections.emptyList(), null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> FacetQuery.parse(null, null, List.of("color")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Unknown facet field: color");
+    }
+
+    private static GroupDTO group(String name, String agency, int debutYear, Integer disbandYear,
+                                  List<String> labels, List<String> members) {
+        return GroupDTO.builder()
+                .groupId(UUID.randomUUID())
+                .groupName(name)
+                .agency(agency)
+                .debutYear(debutYear)
+                .disbandYear(disbandYear)
+                .labels(labels)
+                .members(members)
+                .build();
+    }
+}
@@ -0,0 +1,82 @@
+package inkidatabase.groupservice.index;
+
+import inkidatabase.groupservice.dto.GroupDTO;
+import inkidatabase.groupservice.dto.ScoredGroupDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GroupFullTextIndexTest {
+
+    private GroupFullTextIndex index;
+    private GroupDTO bts;
+    private GroupDTO seventeen;
+    private GroupDTO newJeans;
+
+    @BeforeEach
+    void setUp() {
+        index = new GroupFullTextIndex();
+        bts = group("BTS", "HYBE", List.of("Big Hit Music"), List.of("RM", "Jin"), List.of());
+        seventeen = group("SEVENTEEN", "Pledis", List.of("HYBE Labels"), List.of("S.Coups", "Hoshi"), List.of("BSS"));
+        newJeans = group("NewJeans", "ADOR", List.of("HYBE"), List.of("Minji", "Hanni"), List.of());
+        index.rebuild(List.of(bts, seventeen, newJeans, group("BSS", "Pledis", List.of(), List.of("Hoshi"), List.of())));
+    }
+
+    @Test
+    void search_ShouldMatchAcrossAllTextFields() {
+        assertThat(groups(index.search("hybe", 10))).containsExactlyInAnyOrder("BTS", "SEVENTEEN", "NewJeans");
+        assertThat(groups(index.search("hanni", 10))).containsExactly("NewJeans");
+        assertThat(groups(index.search("pledis", 10))).containsExactlyInAnyOrder("SEVENTEEN", "BSS");
+    }
+
+    @Test
+    void search_ShouldRankGroupNameAboveSubunitMention() {
+        List<ScoredGroupDTO> results = index.search("bss", 10);
+
+        assertThat(groups(results)).containsExactly("BSS", "SEVENTEEN");
+        assertThat(results.get(0).getScore()).isGreaterThan(results.get(1).getScore());
+    }
+
+    @Test
+    void search_ShouldRewardMatchingMoreTerms() {
+        assertThat(groups(index.search("hoshi seventeen", 10))).first().isEqualTo("SEVENTEEN");
+    }
+
+    @Test
+    void search_ShouldIgnoreUnknownAndEmptyQueries() {
+        assertThat(index.search("unknown", 10)).isEmpty();
+        assertThat(index.search("  ", 10)).isEmpty();
+    }
+
+    @Test
+    void put_ShouldReindexChangedFields() {
+        GroupDTO moved = group("BTS", "BIGHIT", List.of(), List.of("RM", "Jin"), List.of());
+        moved.setGroupId(bts.getGroupId());
+
+        index.put(moved);
+
+        assertThat(groups(index.search("hybe", 10))).containsExactlyInAnyOrder("SEVENTEEN", "NewJeans");
+        assertThat(groups(index.search("bighit", 10))).containsExactly("BTS");
+        assertThat(index.stats().getGroups()).isEqualTo(4);
+    }
+
+    private static List<String> groups(List<ScoredGroupDTO> results) {
+        return results.stream().map(result -> result.getGroup().getGroupName()).toList();
+    }
+
+    private static GroupDTO group(String name, String agency, List<String> labels, List<String> members,
+                                  List<String> subunits) {
+        return GroupDTO.builder()
+                .groupId(UUID.randomUUID())
+                .groupName(name)
+                .agency(agency)
+                .labels(labels)
+                .members(members)
+                .subunits(subunits)
+                .build();
+    }
+}
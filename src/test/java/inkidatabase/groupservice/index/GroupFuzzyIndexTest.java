@@ -0,0 +1,98 @@
+package inkidatabase.groupservice.index;
+
+import inkidatabase.groupservice.dto.FuzzyMatchDTO;
+import inkidatabase.groupservice.dto.GroupDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GroupFuzzyIndexTest {
+
+    private static final Set<GroupFuzzyIndex.Field> ALL = EnumSet.allOf(GroupFuzzyIndex.Field.class);
+
+    private GroupFuzzyIndex index;
+    private GroupDTO blackpink;
+    private GroupDTO twice;
+
+    @BeforeEach
+    void setUp() {
+        index = new GroupFuzzyIndex();
+        blackpink = group("BLACKPINK", Arrays.asList("Jisoo", "Jennie", "Rosé", "Lisa"), List.of());
+        twice = group("TWICE", Arrays.asList("Nayeon", "Jihyo"), List.of());
+        index.rebuild(List.of(blackpink, twice, group("Girls' Generation", List.of("Taeyeon"), List.of("Jessica"))));
+    }
+
+    @Test
+    void search_ShouldToleratePrimaryTypos() {
+        List<FuzzyMatchDTO> results = index.search("blakpink", ALL, 5);
+
+        assertThat(results).isNotEmpty();
+        assertThat(results.get(0).getMatched()).isEqualTo("BLACKPINK");
+        assertThat(results.get(0).getField()).isEqualTo("groupName");
+        assertThat(results.get(0).getScore()).isGreaterThan(0.8);
+    }
+
+    @Test
+    void search_ShouldFindMembersWithGroup() {
+        FuzzyMatchDTO best = index.search("jeni", EnumSet.of(GroupFuzzyIndex.Field.MEMBER), 5).get(0);
+
+        assertThat(best.getMatched()).isEqualTo("Jennie");
+        assertThat(best.getGroupId()).isEqualTo(blackpink.getGroupId());
+        assertThat(best.getGroupName()).isEqualTo("BLACKPINK");
+    }
+
+    @Test
+    void search_ShouldMatchRegardlessOfDiacritics() {
+        assertThat(index.search("rose", ALL, 1)).extracting(FuzzyMatchDTO::getMatched).containsExactly("Rosé");
+    }
+
+    @Test
+    void search_ShouldRestrictToRequestedFields() {
+        assertThat(index.search("jessica", EnumSet.of(GroupFuzzyIndex.Field.MEMBER), 5)).isEmpty();
+        assertThat(index.search("jessica", EnumSet.of(GroupFuzzyIndex.Field.FORMER_MEMBER), 5))
+                .extracting(FuzzyMatchDTO::getField).containsExactly("formerMember");
+    }
+
+    @Test
+    void search_ShouldIgnoreUnrelatedQueries() {
+        assertThat(index.search("zzzzqqq", ALL, 5)).isEmpty();
+        assertThat(index.search(" ", ALL, 5)).isEmpty();
+    }
+
+    @Test
+    void put_ShouldDropTermsNoLongerReferenced() {
+        GroupDTO updated = group("TWICE", List.of("Nayeon"), List.of("Jihyo"));
+        updated.setGroupId(twice.getGroupId());
+
+        index.put(updated);
+
+        assertThat(index.search("jihyo", EnumSet.of(GroupFuzzyIndex.Field.MEMBER), 5))
+                .extracting(FuzzyMatchDTO::getMatched).doesNotContain("Jihyo");
+        FuzzyMatchDTO best = index.search("jihyo", ALL, 5).get(0);
+        assertThat(best.getMatched()).isEqualTo("Jihyo");
+        assertThat(best.getField()).isEqualTo("formerMember");
+    }
+
+    @Test
+    void editDistance_ShouldCountInsertionsDeletionsAndSubstitutions() {
+        assertThat(GroupFuzzyIndex.editDistance("kitten", "sitting")).isEqualTo(3);
+        assertThat(GroupFuzzyIndex.editDistance("", "abc")).isEqualTo(3);
+        assertThat(GroupFuzzyIndex.editDistance("same", "same")).isZero();
+    }
+
+    private static GroupDTO group(String name, List<String> members, List<String> formerMembers) {
+        return GroupDTO.builder()
+                .groupId(UUID.randomUUID())
+                .groupName(name)
+                .members(members)
+                .formerMembers(formerMembers)
+                .build();
+    }
+}
@@ -0,0 +1,125 @@
+package inkidatabase.groupservice.index;
+
+import inkidatabase.groupservice.dto.GraphNodeDTO;
+import inkidatabase.groupservice.dto.GroupDTO;
+import inkidatabase.groupservice.dto.RelatedGroupDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GroupGraphIndexTest {
+
+    private GroupGraphIndex index;
+    private GroupDTO seventeen;
+    private GroupDTO bss;
+    private GroupDTO hoshiProject;
+    private GroupDTO iKon;
+    private GroupDTO loner;
+
+    @BeforeEach
+    void setUp() {
+        index = new GroupGraphIndex();
+        seventeen = group("SEVENTEEN", List.of("S.Coups", "Hoshi", "DK", "Seungkwan"), List.of(), List.of("BSS"));
+        bss = group("BSS", List.of("Hoshi", "DK", "Seungkwan"), List.of(), List.of());
+        hoshiProject = group("Hoshi Project", List.of("Hoshi", "Bobby"), List.of(), List.of());
+        iKon = group("iKON", List.of("Bobby"), List.of("B.I"), List.of());
+        loner = group("Loner", List.of("Solo"), List.of(), List.of());
+        index.rebuild(List.of(seventeen, bss, hoshiProject, iKon, loner));
+    }
+
+    @Test
+    void related_ShouldRankBySharedMembersAndSubunitLinks() {
+        List<RelatedGroupDTO> related = index.related(seventeen.getGroupId(), 10).orElseThrow();
+
+        assertThat(related).extracting(RelatedGroupDTO::getGroupName).containsExactly("BSS", "Hoshi Project");
+        assertThat(related.get(0).getWeight()).isEqualTo(4);
+        assertThat(related.get(0).isSubunitLink()).isTrue();
+        assertThat(related.get(0).getSharedMembers()).containsExactly("Hoshi", "DK", "Seungkwan");
+        assertThat(related.get(1).isSubunitLink()).isFalse();
+        assertThat(related.get(1).getSharedMembers()).containsExactly("Hoshi");
+    }
+
+    @Test
+    void related_ShouldReturnEmptyForUnknownGroupAndIsolatedGroup() {
+        assertThat(index.related(UUID.randomUUID(), 10)).isEmpty();
+        assertThat(index.related(loner.getGroupId(), 10)).hasValue(List.of());
+    }
+
+    @Test
+    void neighborhood_ShouldTraverseBreadthFirstUpToDepth() {
+        assertThat(index.neighborhood(seventeen.getGroupId(), 1, 100).orElseThrow())
+                .extracting(GraphNodeDTO::getGroupName)
+                .containsExactlyInAnyOrder("BSS", "Hoshi Project");
+
+        List<GraphNodeDTO> twoHops = index.neighborhood(seventeen.getGroupId(), 2, 100).orElseThrow();
+        GraphNodeDTO ikonNode = twoHops.get(twoHops.size() - 1);
+        assertThat(twoHops).hasSize(3);
+        assertThat(ikonNode.getGroupName()).isEqualTo("iKON");
+        assertThat(ikonNode.getDistance()).isEqualTo(2);
+        assertThat(ikonNode.getVia()).isEqualTo(hoshiProject.getGroupId());
+
+        assertThat(index.neighborhood(seventeen.getGroupId(), 3, 2).orElseThrow()).hasSize(2);
+    }
+
+    @Test
+    void put_ShouldRelinkOnlyChangedEdges() {
+        GroupDTO moved = group("Loner", List.of("Solo", "Bobby"), List.of(), List.of());
+        moved.setGroupId(loner.getGroupId());
+        index.put(moved);
+
+        assertThat(index.related(iKon.getGroupId(), 10).orElseThrow())
+                .extracting(RelatedGroupDTO::getGroupName)
+                .containsExactlyInAnyOrder("Hoshi Project", "Loner");
+
+        GroupDTO departed = group("Hoshi Project", List.of("Hoshi"), List.of(), List.of());
+        departed.setGroupId(hoshiProject.getGroupId());
+        index.put(departed);
+
+        assertThat(index.related(iKon.getGroupId(), 10).orElseThrow())
+                .extracting(RelatedGroupDTO::getGroupName)
+                .containsExactly("Loner");
+    }
+
+    @Test
+    void put_ShouldLinkNewGroupsAndBeIdempotent() {
+        GroupDTO winner = group("WINNER", List.of("Seungyoon"), List.of("Taehyun"), List.of());
+        GroupDTO soloProject = group("Taehyun Project", List.of("Taehyun"), List.of(), List.of());
+
+        index.put(winner);
+        index.put(soloProject);
+        index.put(soloProject);
+
+        assertThat(index.related(winner.getGroupId(), 10).orElseThrow())
+                .extracting(RelatedGroupDTO::getGroupName)
+                .containsExactly("Taehyun Project");
+        assertThat(index.stats().getGroups()).isEqualTo(7);
+    }
+
+    @Test
+    void remove_ShouldUnlinkGroupFromItsNeighbours() {
+        index.remove(hoshiProject.getGroupId());
+        index.remove(hoshiProject.getGroupId());
+
+        assertThat(index.related(hoshiProject.getGroupId(), 10)).isEmpty();
+        assertThat(index.related(iKon.getGroupId(), 10)).hasValue(List.of());
+        assertThat(index.neighborhood(seventeen.getGroupId(), 3, 100).orElseThrow())
+                .extracting(GraphNodeDTO::getGroupName)
+                .containsExactly("BSS");
+        assertThat(index.stats().getGroups()).isEqualTo(4);
+    }
+
+    private static GroupDTO group(String name, List<String> members, List<String> formerMembers,
+                                  List<String> subunits) {
+        return GroupDTO.builder()
+                .groupId(UUID.randomUUID())
+                .groupName(name)
+                .members(members)
+                .formerMembers(formerMembers)
+                .subunits(subunits)
+                .build();
+    }
+}
@@ -0,0 +1,182 @@
+package inkidatabase.groupservice.index;
+
+import inkidatabase.groupservice.dto.GroupDTO;
+import inkidatabase.groupservice.event.GroupChangedEvent;
+import inkidatabase.groupservice.mapper.GroupMapper;
+import inkidatabase.groupservice.model.Group;
+import inkidatabase.groupservice.repository.GroupRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GroupIndexRegistryTest {
+
+    @Mock
+    private GroupRepository repository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private GroupInvertedIndex invertedIndex;
+    private GroupMapper mapper;
+    private Group bts;
+
+    @BeforeEach
+    void setUp() {
+        invertedIndex = new GroupInvertedIndex();
+        mapper = new GroupMapper();
+        bts = new Group("BTS", "HYBE", 2013);
+        bts.setMembers(Arrays.asList("RM", "Jin"));
+    }
+
+    @Test
+    void rebuild_ShouldLoadAllIndexesFromRepository() {
+        when(repository.findAll()).thenReturn(Collections.singletonList(bts));
+        GroupIndexRegistry registry = registry(true);
+
+        registry.onApplicationReady();
+
+        assertThat(invertedIndex.isReady()).isTrue();
+        assertThat(invertedIndex.findByMember("RM")).extracting(GroupDTO::getGroupName).containsExactly("BTS");
+        assertThat(registry.stats()).extracting("name").containsExactly("inverted");
+    }
+
+    @Test
+    void onApplicationReady_WhenDisabled_ShouldNotTouchRepository() {
+        GroupIndexRegistry registry = registry(false);
+
+        registry.onApplicationReady();
+        registry.onGroupChanged(GroupChangedEvent.created(bts.getGroupId(), mapper.toSnapshot(bts)));
+
+        assertThat(invertedIndex.isReady()).isFalse();
+        assertThat(invertedIndex.stats().getGroups()).isZero();
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void onGroupChanged_ShouldApplySnapshotToIndexes() {
+        GroupIndexRegistry registry = registry(true);
+
+        registry.onGroupChanged(GroupChangedEvent.created(bts.getGroupId(), mapper.toSnapshot(bts)));
+
+        assertThat(invertedIndex.findByMember("Jin")).extracting(GroupDTO::getGroupId).containsExactly(bts.getGroupId());
+    }
+
+    @Test
+    void onGroupChanged_WhenDeleted_ShouldRemoveGroupFromIndexes() {
+        GroupIndexRegistry registry = registry(true);
+        registry.onGroupChanged(GroupChangedEvent.created(bts.getGroupId(), mapper.toSnapshot(bts)));
+
+        registry.onGroupChanged(GroupChangedEvent.deleted(bts.getGroupId(), 2));
+
+        assertThat(invertedIndex.findByMember("Jin")).isEmpty();
+        assertThat(invertedIndex.stats().getGroups()).isZero();
+    }
+
+    @Test
+    void onGroupChanged_ShouldIgnoreEventOlderThanLastApplied() {
+        GroupIndexRegistry registry = registry(true);
+        Group renamed = new Group("BTS", "HYBE", 2013);
+        renamed.setGroupId(bts.getGroupId());
+        renamed.setMembers(Arrays.asList("RM", "Jin", "SUGA"));
+
+        registry.onGroupChanged(GroupChangedEvent.updated(bts.getGroupId(), mapper.toSnapshot(renamed), 11));
+        registry.onGroupChanged(GroupChangedEvent.updated(bts.getGroupId(), mapper.toSnapshot(bts), 10));
+
+        assertThat(invertedIndex.findByMember("SUGA")).extracting(GroupDTO::getGroupId).containsExactly(bts.getGroupId());
+    }
+
+    @Test
+    void onGroupChanged_AfterDeletion_ShouldIgnoreOlderUpdate() {
+        GroupIndexRegistry registry = registry(true);
+
+        registry.onGroupChanged(GroupChangedEvent.deleted(bts.getGroupId(), 12));
+        registry.onGroupChanged(GroupChangedEvent.updated(bts.getGroupId(), mapper.toSnapshot(bts), 11));
+
+        assertThat(invertedIndex.findByMember("Jin")).isEmpty();
+    }
+
+    @Test
+    void rebuild_OfOneIndex_ShouldKeepIgnoringOlderEventsForTheOthers() {
+        GroupInvertedIndex rebuilt = new GroupInvertedIndex();
+        GroupIndexRegistry registry = new GroupIndexRegistry(List.of(invertedIndex, rebuilt), repository, mapper,
+                transactionManager, true);
+        Group renamed = new Group("BTS", "HYBE", 2013);
+        renamed.setGroupId(bts.getGroupId());
+        renamed.setMembers(Arrays.asList("RM", "Jin", "SUGA"));
+        renamed.recordChange(11);
+        when(repository.findAll()).thenReturn(Collections.singletonList(renamed));
+
+        registry.onGroupChanged(GroupChangedEvent.updated(bts.getGroupId(), mapper.toSnapshot(renamed), 11));
+        registry.rebuild(rebuilt);
+        registry.onGroupChanged(GroupChangedEvent.updated(bts.getGroupId(), mapper.toSnapshot(bts), 10));
+
+        assertThat(invertedIndex.findByMember("SUGA")).extracting(GroupDTO::getGroupId).containsExactly(bts.getGroupId());
+        assertThat(rebuilt.findByMember("SUGA")).extracting(GroupDTO::getGroupId).containsExactly(bts.getGroupId());
+    }
+
+    @Test
+    void restore_ShouldDropGroupsDeletedSinceSnapshot() {
+        Instant since = Instant.parse("2024-01-15T10:00:00Z");
+        when(repository.findByUpdatedAtAfter(since)).thenReturn(List.of());
+        when(repository.findIdsDeletedAfter(since)).thenReturn(List.of(bts.getGroupId()));
+        when(repository.count()).thenReturn(0L);
+        GroupIndexRegistry registry = registry(true);
+
+        boolean restored = registry.restore(List.of(mapper.toSnapshot(bts)), since);
+
+        assertThat(restored).isTrue();
+        assertThat(invertedIndex.findByMember("Jin")).isEmpty();
+        verify(repository, never()).findAll();
+    }
+
+    @Test
+    void restore_ShouldLoadSnapshotAndApplyLaterChanges() {
+        Group twice = new Group("TWICE", "JYP", 2015);
+        twice.setMembers(Arrays.asList("Nayeon"));
+        Instant since = Instant.parse("2024-01-15T10:00:00Z");
+        when(repository.findByUpdatedAtAfter(since)).thenReturn(List.of(twice));
+        when(repository.count()).thenReturn(2L);
+        GroupIndexRegistry registry = registry(true);
+
+        boolean restored = registry.restore(List.of(mapper.toSnapshot(bts)), since);
+        registry.onApplicationReady();
+
+        assertThat(restored).isTrue();
+        assertThat(invertedIndex.findByMember("Nayeon")).extracting(GroupDTO::getGroupName).containsExactly("TWICE");
+        assertThat(invertedIndex.findByMember("RM")).extracting(GroupDTO::getGroupName).containsExactly("BTS");
+        verify(repository, never()).findAll();
+    }
+
+    @Test
+    void restore_WhenSnapshotMissesStoredGroups_ShouldFallBackToFullScan() {
+        Instant since = Instant.parse("2024-01-15T10:00:00Z");
+        when(repository.findByUpdatedAtAfter(since)).thenReturn(List.of());
+        when(repository.count()).thenReturn(2L);
+        when(repository.findAll()).thenReturn(Collections.singletonList(bts));
+        GroupIndexRegistry registry = registry(true);
+
+        boolean restored = registry.restore(List.of(), since);
+        registry.onApplicationReady();
+
+        assertThat(restored).isFalse();
+        verify(repository).findAll();
+        assertThat(invertedIndex.findByMember("Jin")).extracting(GroupDTO::getGroupName).containsExactly("BTS");
+    }
+
+    private GroupIndexRegistry registry(boolean enabled) {
+        return new GroupIndexRegistry(List.of(invertedIndex), repository, mapper, transactionManager, enabled);
+    }
+}
@@ -0,0 +1,113 @@
+package inkidatabase.groupservice.index;
+
+import inkidatabase.groupservice.dto.GroupDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GroupInvertedIndexTest {
+
+    private GroupInvertedIndex index;
+    private GroupDTO bts;
+    private GroupDTO blackpink;
+
+    @BeforeEach
+    void setUp() {
+        index = new GroupInvertedIndex();
+
+        bts = group("BTS", "HYBE", Arrays.asList("RM", "Jin"), Arrays.asList("kpop", "bighit"));
+        blackpink = group("BLACKPINK", "YG", Arrays.asList("Jisoo", "Lisa"), Arrays.asList("kpop", "yg"));
+        index.rebuild(List.of(bts, blackpink));
+    }
+
+    @Test
+    void isReady_ShouldBeFalseUntilRebuilt() {
+        assertThat(new GroupInvertedIndex().isReady()).isFalse();
+        assertThat(index.isReady()).isTrue();
+    }
+
+    @Test
+    void lookups_ShouldReturnIndexedGroups() {
+        assertThat(index.findByMember("RM")).containsExactly(bts);
+        assertThat(index.findByLabel("kpop")).containsExactlyInAnyOrder(bts, blackpink);
+        assertThat(index.findByAgency("hybe")).containsExactly(bts);
+        assertThat(index.findByMember("Unknown")).isEmpty();
+    }
+
+    @Test
+    void put_ShouldReplacePostingsOfPreviousVersion() {
+        GroupDTO updated = group("BTS", "BIGHIT", Arrays.asList("RM", "V"), Arrays.asList("bighit"));
+        updated.setGroupId(bts.getGroupId());
+
+        index.put(updated);
+
+        assertThat(index.findByMember("Jin")).isEmpty();
+        assertThat(index.findByMember("RM")).containsExactly(updated);
+        assertThat(index.findByMember("V")).containsExactly(updated);
+        assertThat(index.findByLabel("kpop")).containsExactly(blackpink);
+        assertThat(index.findByAgency("HYBE")).isEmpty();
+        assertThat(index.findByAgency("BigHit")).containsExactly(updated);
+    }
+
+    @Test
+    void put_ShouldBeIdempotent() {
+        index.put(bts);
+        index.put(bts);
+
+        assertThat(index.findByLabel("kpop")).hasSize(2);
+        assertThat(index.stats().getGroups()).isEqualTo(2);
+    }
+
+    @Test
+    void remove_ShouldDropGroupFromEveryPosting() {
+        index.remove(bts.getGroupId());
+        index.remove(bts.getGroupId());
+
+        assertThat(index.findByMember("RM")).isEmpty();
+        assertThat(index.findByAgency("HYBE")).isEmpty();
+        assertThat(index.findByLabel("kpop")).containsExactly(blackpink);
+        assertThat(index.stats().getGroups()).isEqualTo(1);
+    }
+
+    @Test
+    void findByFormerMember_ShouldFollowFormerMemberChanges() {
+        GroupDTO updated = group("BLACKPINK", "YG", Arrays.asList("Jisoo"), Arrays.asList("kpop", "yg"));
+        updated.setGroupId(blackpink.getGroupId());
+        updated.setFormerMembers(Arrays.asList("Lisa"));
+
+        index.put(updated);
+
+        assertThat(index.findByFormerMember("Lisa")).containsExactly(updated);
+        assertThat(index.findByMember("Lisa")).isEmpty();
+
+        GroupDTO rejoined = group("BLACKPINK", "YG", Arrays.asList("Jisoo", "Lisa"), Arrays.asList("kpop", "yg"));
+        rejoined.setGroupId(blackpink.getGroupId());
+        index.put(rejoined);
+
+        assertThat(index.findByFormerMember("Lisa")).isEmpty();
+        assertThat(index.findByMember("Lisa")).containsExactly(rejoined);
+    }
+
+    @Test
+    void stats_ShouldReportKeysAndMemory() {
+        assertThat(index.stats().getName()).isEqualTo("inverted");
+        // 4 members + 3 labels + 2 agencies
+        assertThat(index.stats().getKeys()).isEqualTo(9);
+        assertThat(index.stats().getEstimatedBytes()).isPositive();
+    }
+
+    private static GroupDTO group(String name, String agency, List<String> members, List<String> labels) {
+        return GroupDTO.builder()
+                .groupId(UUID.randomUUID())
+                .groupName(name)
+                .agency(agency)
+                .members(members)
+                .labels(labels)
+                .build();
+    }
+}
@@ -0,0 +1,74 @@
+package inkidatabase.groupservice.index;
+
+import inkidatabase.groupservice.dto.GroupDTO;
+import inkidatabase.groupservice.dto.GroupSuggestionDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GroupNameSuggestIndexTest {
+
+    private GroupNameSuggestIndex index;
+    private GroupDTO girlsGeneration;
+
+    @BeforeEach
+    void setUp() {
+        index = new GroupNameSuggestIndex();
+        girlsGeneration = group("Girls' Generation");
+        index.rebuild(List.of(group("BTS"), group("BLACKPINK"), group("Big Bang"), girlsGeneration, group("Gen1es")));
+    }
+
+    @Test
+    void suggest_ShouldMatchNamePrefixCaseInsensitively() {
+        assertThat(names(index.suggest("b", 10))).containsExactly("Big Bang", "BLACKPINK", "BTS");
+        assertThat(names(index.suggest("BL", 10))).containsExactly("BLACKPINK");
+    }
+
+    @Test
+    void suggest_ShouldRankFullNameMatchesBeforeWordMatches() {
+        assertThat(names(index.suggest("gen", 10))).containsExactly("Gen1es", "Girls' Generation");
+        assertThat(names(index.suggest("ban", 10))).containsExactly("Big Bang");
+    }
+
+    @Test
+    void suggest_ShouldRespectLimitAndIgnoreBlankQueries() {
+        assertThat(index.suggest("b", 2)).hasSize(2);
+        assertThat(index.suggest("  ", 10)).isEmpty();
+        assertThat(index.suggest("zz", 10)).isEmpty();
+    }
+
+    @Test
+    void suggest_ShouldIgnoreDiacritics() {
+        index.put(group("Rosé Club"));
+
+        assertThat(names(index.suggest("rose", 10))).containsExactly("Rosé Club");
+    }
+
+    @Test
+    void put_ShouldReplaceRenamedGroup() {
+        GroupDTO renamed = group("SNSD");
+        renamed.setGroupId(girlsGeneration.getGroupId());
+
+        index.put(renamed);
+
+        assertThat(names(index.suggest("girls", 10))).isEmpty();
+        assertThat(names(index.suggest("generation", 10))).isEmpty();
+        assertThat(names(index.suggest("sn", 10))).containsExactly("SNSD");
+        assertThat(index.stats().getGroups()).isEqualTo(5);
+    }
+
+    private static List<String> names(List<GroupSuggestionDTO> suggestions) {
+        return suggestions.stream().map(GroupSuggestionDTO::getGroupName).toList();
+    }
+
+    private static GroupDTO group(String name) {
+        return GroupDTO.builder()
+                .groupId(UUID.randomUUID())
+                .groupName(name)
+                .build();
+    }
+}
@@ -0,0 +1,88 @@
+package inkidatabase.groupservice.index;
+
+import inkidatabase.groupservice.dto.GroupDTO;
+import inkidatabase.groupservice.dto.GroupStatsDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GroupStatsIndexTest {
+
+    private GroupStatsIndex index;
+    private GroupDTO bts;
+
+    @BeforeEach
+    void setUp() {
+        index = new GroupStatsIndex();
+        bts = group("BTS", "HYBE", 2013, null, List.of("RM", "Jin"), List.of("kpop", "bighit"));
+        index.rebuild(List.of(
+                bts,
+                group("NewJeans", "HYBE", 2022, null, List.of("Minji"), List.of("kpop")),
+                group("2NE1", "YG", 2009, 2016, List.of(), List.of("kpop", "kpop"))));
+    }
+
+    @Test
+    void snapshot_ShouldCountEveryDimension() {
+        GroupStatsDTO stats = index.snapshot();
+
+        assertThat(stats.getTotal()).isEqualTo(3);
+        assertThat(stats.getByAgency()).isEqualTo(Map.of("HYBE", 2L, "YG", 1L));
+        assertThat(stats.getByDebutYear()).containsOnlyKeys("2009", "2013", "2022");
+        assertThat(stats.getByStatus()).isEqualTo(Map.of("ACTIVE", 2L, "DISBANDED", 1L));
+        assertThat(stats.getByLabel()).isEqualTo(Map.of("kpop", 3L, "bighit", 1L));
+    }
+
+    @Test
+    void put_ShouldMoveCountsOfTheUpdatedGroup() {
+        GroupDTO disbanded = group("BTS", "BIGHIT", 2013, 2024, List.of("RM", "Jin"), List.of("kpop"));
+        disbanded.setGroupId(bts.getGroupId());
+
+        index.put(disbanded);
+        index.put(disbanded);
+
+        GroupStatsDTO stats = index.snapshot();
+        assertThat(stats.getTotal()).isEqualTo(3);
+        assertThat(stats.getByAgency()).isEqualTo(Map.of("HYBE", 1L, "YG", 1L, "BIGHIT", 1L));
+        assertThat(stats.getByStatus()).isEqualTo(Map.of("ACTIVE", 1L, "DISBANDED", 2L));
+        assertThat(stats.getByLabel()).isEqualTo(Map.of("kpop", 3L));
+    }
+
+    @Test
+    void put_ShouldCountNewGroups() {
+        index.put(group("ILLIT", "HYBE", 2024, null, List.of(), List.of()));
+
+        GroupStatsDTO stats = index.snapshot();
+        assertThat(stats.getTotal()).isEqualTo(4);
+        assertThat(stats.getByAgency()).containsEntry("HYBE", 3L);
+        assertThat(stats.getByStatus()).containsEntry("INACTIVE", 1L);
+    }
+
+    @Test
+    void remove_ShouldSubtractCountsOfTheDeletedGroup() {
+        index.remove(bts.getGroupId());
+        index.remove(bts.getGroupId());
+
+        GroupStatsDTO stats = index.snapshot();
+        assertThat(stats.getTotal()).isEqualTo(2);
+        assertThat(stats.getByAgency()).isEqualTo(Map.of("HYBE", 1L, "YG", 1L));
+        assertThat(stats.getByLabel()).isEqualTo(Map.of("kpop", 2L));
+    }
+
+    private static GroupDTO group(String name, String agency, int debutYear, Integer disbandYear,
+                                  List<String> members, List<String> labels) {
+        return GroupDTO.builder()
+                .groupId(UUID.randomUUID())
+                .groupName(name)
+                .agency(agency)
+                .debutYear(debutYear)
+                .disbandYear(disbandYear)
+                .members(members)
+                .labels(labels)
+                .build();
+    }
+}
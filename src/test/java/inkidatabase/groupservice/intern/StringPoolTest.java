@@ -0,0 +1,65 @@
+package inkidatabase.groupservice.intern;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StringPoolTest {
+
+    @Test
+    void canonical_ShouldReturnTheFirstInstanceForEqualValues() {
+        StringPool pool = new StringPool(100);
+        String first = new String("HYBE");
+        String second = new String("HYBE");
+
+        assertThat(pool.canonical(first)).isSameAs(first);
+        assertThat(pool.canonical(second)).isSameAs(first);
+        assertThat(pool.canonical((String) null)).isNull();
+        assertThat(pool.size()).isEqualTo(1);
+    }
+
+    @Test
+    void canonical_ShouldCanonicalizeEveryListElement() {
+        StringPool pool = new StringPool(100);
+        String kpop = new String("kpop");
+        pool.canonical(kpop);
+
+        List<String> labels = pool.canonical(Arrays.asList(new String("kpop"), "yg", null));
+
+        assertThat(labels).containsExactly("kpop", "yg", null);
+        assertThat(labels.get(0)).isSameAs(kpop);
+        assertThat(pool.canonical((List<String>) null)).isNull();
+    }
+
+    @Test
+    void canonical_WhenFull_ShouldReturnUnseenValuesUnpooled() {
+        StringPool pool = new StringPool(16);
+        for (int i = 0; i < 1_000; i++) {
+            pool.canonical("agency-" + i);
+        }
+        String unseen = new String("agency-unseen");
+
+        assertThat(pool.size()).isLessThanOrEqualTo(16);
+        assertThat(pool.canonical(unseen)).isSameAs(unseen);
+    }
+
+    @Test
+    void canonical_WithZeroEntries_ShouldDisablePooling() {
+        StringPool pool = new StringPool(0);
+        String value = new String("HYBE");
+        pool.canonical(new String("HYBE"));
+
+        assertThat(pool.canonical(value)).isSameAs(value);
+        assertThat(pool.size()).isZero();
+    }
+
+    @Test
+    void constructor_WithNegativeSize_ShouldThrow() {
+        assertThatThrownBy(() -> new StringPool(-1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
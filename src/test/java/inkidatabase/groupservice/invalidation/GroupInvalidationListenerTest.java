@@ -0,0 +1,152 @@
+package inkidatabase.groupservice.invalidation;
+
+import inkidatabase.groupservice.event.GroupChangedEvent;
+import inkidatabase.groupservice.index.GroupIndexRegistry;
+import inkidatabase.groupservice.mapper.GroupMapper;
+import inkidatabase.groupservice.model.Group;
+import inkidatabase.groupservice.repository.GroupRepository;
+import inkidatabase.groupservice.service.SubunitHierarchyService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.ArrayList;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GroupInvalidationListenerTest {
+
+    @Mock
+    private GroupRepository repository;
+
+    @Mock
+    private ApplicationEventPublisher events;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private GroupIndexRegistry registry;
+
+    @Mock
+    private SubunitHierarchyService subunitHierarchy;
+
+    private GroupInvalidationPublisher publisher;
+    private GroupInvalidationListener listener;
+    private Group bts;
+
+    @BeforeEach
+    void setUp() {
+        publisher = new GroupInvalidationPublisher(jdbcTemplate, true);
+        listener = new GroupInvalidationListener(new DataSourceProperties(), repository, new GroupMapper(), events,
+                transactionManager, publisher, registry, subunitHierarchy, true, true, Duration.ofMinutes(1));
+        bts = new Group("BTS", "HYBE", 2013);
+    }
+
+    @Test
+    void handle_ShouldReloadRemoteChangesOnceAndRepublishThem() {
+        when(repository.findAllById(List.of(bts.getGroupId()))).thenReturn(List.of(bts));
+
+        listener.handle(List.of(
+                "pod-b:CREATED:" + bts.getGroupId(),
+                "pod-b:UPDATED:" + bts.getGroupId()));
+
+        ArgumentCaptor<GroupChangedEvent> event = ArgumentCaptor.forClass(GroupChangedEvent.class);
+        verify(events).publishEvent(event.capture());
+        assertThat(event.getValue().getType()).isEqualTo(GroupChangedEvent.ChangeType.CREATED);
+        assertThat(event.getValue().getGroup().getGroupName()).isEqualTo("BTS");
+    }
+
+    @Test
+    void handle_ShouldSkipOwnAndUnrecognizedNotifications() {
+        listener.handle(List.of(
+                publisher.getInstanceId() + ":UPDATED:" + bts.getGroupId(),
+                "not a group change"));
+
+        verifyNoInteractions(repository, events);
+    }
+
+    @Test
+    void handle_WhenGroupNoLongerLoads_ShouldAnnounceDeletion() {
+        UUID missing = UUID.randomUUID();
+        when(repository.findAllById(List.of(missing))).thenReturn(List.of());
+
+        listener.handle(List.of("pod-b:UPDATED:" + missing));
+
+        verify(events).publishEvent(argThat((GroupChangedEvent e) -> e.getGroupId().equals(missing) && e.getGroup() == null
+                && e.getType() == GroupChangedEvent.ChangeType.DELETED));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void handle_WithManyChanges_ShouldLoadThemInChunks() {
+        List<String> payloads = new ArrayList<>();
+        for (int i = 0; i < 2_500; i++) {
+            payloads.add("pod-b:CREATED:" + UUID.randomUUID());
+        }
+        when(repository.findAllById(anyList())).thenReturn(List.of());
+
+        listener.handle(payloads);
+
+        ArgumentCaptor<List<UUID>> chunks = ArgumentCaptor.forClass(List.class);
+        verify(repository, times(3)).findAllById(chunks.capture());
+        assertThat(chunks.getAllValues()).extracting(List::size).containsExactly(1_000, 1_000, 500);
+        verify(events, times(2_500)).publishEvent(any(GroupChangedEvent.class));
+    }
+
+    @Test
+    void handle_WithRebuildNotification_ShouldRebuildIndexesWithoutLoadingGroups() {
+        when(registry.isEnabled()).thenReturn(true);
+
+        listener.handle(List.of("pod-b:REBUILD", publisher.getInstanceId() + ":REBUILD"));
+
+        verify(registry).rebuild();
+        verify(subunitHierarchy).invalidateAll();
+        verifyNoInteractions(repository, events);
+    }
+
+    @Test
+    void handle_WithOwnRebuildNotification_ShouldSkipIt() {
+        listener.handle(List.of(publisher.getInstanceId() + ":REBUILD"));
+
+        verifyNoInteractions(registry, subunitHierarchy, repository);
+    }
+
+    @Test
+    void resync_ShouldReplayGroupsWrittenSince() {
+        Instant since = Instant.parse("2024-01-15T10:00:00Z");
+        when(repository.findByUpdatedAtAfter(since)).thenReturn(List.of(bts));
+
+        listener.resync(since);
+
+        verify(events).publishEvent(argThat((GroupChangedEvent e) -> e.getGroupId().equals(bts.getGroupId())));
+    }
+
+    @Test
+    void resync_ShouldReplayDeletionsSince() {
+        Instant since = Instant.parse("2024-01-15T10:00:00Z");
+        UUID deleted = UUID.randomUUID();
+        when(repository.findIdsDeletedAfter(since)).thenReturn(List.of(deleted));
+
+        listener.resync(since);
+
+        verify(events).publishEvent(argThat((GroupChangedEvent e) -> e.getGroupId().equals(deleted)
+                && e.getType() == GroupChangedEvent.ChangeType.DELETED));
+    }
+}
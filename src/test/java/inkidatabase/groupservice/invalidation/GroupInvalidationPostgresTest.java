@@ -0,0 +1,84 @@
+package inkidatabase.groupservice.invalidation;
+
+import inkidatabase.groupservice.event.GroupChangedEvent;
+import inkidatabase.groupservice.index.GroupIndexRegistry;
+import inkidatabase.groupservice.mapper.GroupMapper;
+import inkidatabase.groupservice.model.Group;
+import inkidatabase.groupservice.repository.GroupRepository;
+import inkidatabase.groupservice.service.SubunitHierarchyService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+/**
+ * Round trip through a real Postgres; set GROUPS_TEST_POSTGRES_URL (plus _USER and
+ * _PASSWORD) to a local database to run it.
+ */
+@ExtendWith(MockitoExtension.class)
+@EnabledIfEnvironmentVariable(named = "GROUPS_TEST_POSTGRES_URL", matches = ".+")
+class GroupInvalidationPostgresTest {
+
+    @Mock
+    private GroupRepository repository;
+
+    @Mock
+    private ApplicationEventPublisher events;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private GroupIndexRegistry registry;
+
+    @Mock
+    private SubunitHierarchyService subunitHierarchy;
+
+    private GroupInvalidationListener listener;
+
+    @AfterEach
+    void tearDown() {
+        if (listener != null) {
+            listener.stop();
+        }
+    }
+
+    @Test
+    void notificationFromAnotherInstance_ShouldBeRepublishedLocally() {
+        DataSourceProperties properties = new DataSourceProperties();
+        properties.setUrl(System.getenv("GROUPS_TEST_POSTGRES_URL"));
+        properties.setUsername(System.getenv("GROUPS_TEST_POSTGRES_USER"));
+        properties.setPassword(System.getenv("GROUPS_TEST_POSTGRES_PASSWORD"));
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+                properties.getUrl(), properties.getUsername(), properties.getPassword()));
+
+        Group bts = new Group("BTS", "HYBE", 2013);
+        when(repository.findByUpdatedAtAfter(any())).thenReturn(List.of());
+        when(repository.findAllById(anyCollection())).thenReturn(List.of(bts));
+        GroupInvalidationPublisher local = new GroupInvalidationPublisher(jdbcTemplate, true);
+        GroupInvalidationPublisher remote = new GroupInvalidationPublisher(jdbcTemplate, true);
+        listener = new GroupInvalidationListener(properties, repository, new GroupMapper(), events,
+                transactionManager, local, registry, subunitHierarchy, true, true, Duration.ofMinutes(1));
+
+        listener.start();
+        verify(repository, timeout(5_000)).findByUpdatedAtAfter(any());
+        remote.onGroupChanged(GroupChangedEvent.updated(bts.getGroupId(), null));
+
+        verify(events, timeout(5_000)).publishEvent(
+                argThat((GroupChangedEvent e) -> e.getGroupId().equals(bts.getGroupId()) && e.getGroup() != null));
+    }
+}
@@ -0,0 +1,63 @@
+package inkidatabase.groupservice.invalidation;
+
+import inkidatabase.groupservice.dto.GroupDTO;
+import inkidatabase.groupservice.event.GroupChangedEvent;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GroupInvalidationPublisherTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void onGroupChanged_ShouldNotifyWithInstanceTypeAndId() {
+        GroupInvalidationPublisher publisher = new GroupInvalidationPublisher(jdbcTemplate, true);
+        UUID id = UUID.randomUUID();
+
+        publisher.onGroupChanged(GroupChangedEvent.updated(id, GroupDTO.builder().groupId(id).build()));
+
+        verify(jdbcTemplate).queryForList("SELECT pg_notify(?, ?)", "group_changes",
+                publisher.getInstanceId() + ":UPDATED:" + id);
+    }
+
+    @Test
+    void onGroupChanged_WhenDisabled_ShouldNotTouchDatabase() {
+        GroupInvalidationPublisher publisher = new GroupInvalidationPublisher(jdbcTemplate, false);
+
+        publisher.onGroupChanged(GroupChangedEvent.created(UUID.randomUUID(), null));
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void message_ShouldRoundTripAndRejectForeignPayloads() {
+        GroupInvalidationMessage message = new GroupInvalidationMessage("pod-a",
+                GroupChangedEvent.ChangeType.CREATED, UUID.randomUUID());
+
+        assertThat(GroupInvalidationMessage.decode(message.encode())).isEqualTo(message);
+        assertThat(GroupInvalidationMessage.decode("hello")).isNull();
+        assertThat(GroupInvalidationMessage.decode("pod-a:PURGED:" + UUID.randomUUID())).isNull();
+        assertThat(GroupInvalidationMessage.decode(null)).isNull();
+    }
+
+    @Test
+    void announceRebuild_ShouldSendOneNotification() {
+        GroupInvalidationPublisher publisher = new GroupInvalidationPublisher(jdbcTemplate, true);
+
+        publisher.announceRebuild();
+
+        verify(jdbcTemplate).queryForList("SELECT pg_notify(?, ?)", "group_changes",
+                publisher.getInstanceId() + ":REBUILD");
+        assertThat(GroupInvalidationMessage.decode(publisher.getInstanceId() + ":REBUILD").isRebuild()).isTrue();
+    }
+}
@@ -2,6 +2,7 @@ package inkidatabase.groupservice.mapper;
 
 import inkidatabase.groupservice.dto.CreateGroupRequest;
 import inkidatabase.groupservice.dto.GroupDTO;
+import inkidatabase.groupservice.dto.GroupSummaryDTO;
 import inkidatabase.groupservice.dto.UpdateGroupRequest;
 import inkidatabase.groupservice.model.Group;
 import org.junit.jupiter.api.BeforeEach;
@@ -211,4 +212,41 @@ class GroupMapperTest {
         assertThat(originalGroup.getSubunits()).isEqualTo(testGroup.getSubunits());
         assertThat(originalGroup.getSocialLinks()).isEqualTo(testGroup.getSocialLinks());
     }
+
+    @Test
+    void toSnapshot_ShouldCopyCollectionsDetachedFromEntity() {
+        GroupDTO snapshot = mapper.toSnapshot(testGroup);
+
+        testGroup.addMember("V");
+
+        assertThat(snapshot.getGroupId()).isEqualTo(testGroup.getGroupId());
+        assertThat(snapshot.getMembers()).doesNotContain("V").hasSize(7);
+        assertThat(snapshot.getLabels()).containsExactly("kpop", "bighit");
+        assertThat(snapshot.getDisbandYear()).isEqualTo(2023);
+    }
+
+    @Test
+    void toSummary_ShouldKeepOnlyIdentifyingFields() {
+        GroupSummaryDTO summary = mapper.toSummary(mapper.toDTO(testGroup));
+
+        assertThat(summary.getGroupId()).isEqualTo(testGroup.getGroupId());
+        assertThat(summary.getGroupName()).isEqualTo("BTS");
+        assertThat(summary.getAgency()).isEqualTo("HYBE");
+        assertThat(summary.getDebutYear()).isEqualTo(2013);
+        assertThat(summary.getDisbandYear()).isEqualTo(2023);
+    }
+
+    @Test
+    void toEntityAndSnapshot_ShouldShareAgencyAndLabelInstances() {
+        Group first = mapper.toEntity(CreateGroupRequest.builder()
+                .groupName("NewJeans").agency(new String("ADOR")).debutYear(2022)
+                .labels(Arrays.asList(new String("kpop"))).build());
+        Group second = mapper.toEntity(CreateGroupRequest.builder()
+                .groupName("ILLIT").agency(new String("ADOR")).debutYear(2024)
+                .labels(Arrays.asList(new String("kpop"))).build());
+
+        assertThat(second.getAgency()).isSameAs(first.getAgency());
+        assertThat(second.getLabels().get(0)).isSameAs(first.getLabels().get(0));
+        assertThat(mapper.toSnapshot(second).getAgency()).isSameAs(first.getAgency());
+    }
 }
@@ -0,0 +1,24 @@
+package inkidatabase.groupservice.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CanonicalStringConverterTest {
+
+    private final CanonicalStringConverter converter = new CanonicalStringConverter();
+
+    @Test
+    void convertToEntityAttribute_ShouldReturnPooledInstance() {
+        String first = converter.convertToEntityAttribute(new String("Pledis Entertainment"));
+        String second = converter.convertToEntityAttribute(new String("Pledis Entertainment"));
+
+        assertThat(second).isSameAs(first);
+        assertThat(converter.convertToEntityAttribute(null)).isNull();
+    }
+
+    @Test
+    void convertToDatabaseColumn_ShouldStoreValueUnchanged() {
+        assertThat(converter.convertToDatabaseColumn("HYBE")).isEqualTo("HYBE");
+    }
+}
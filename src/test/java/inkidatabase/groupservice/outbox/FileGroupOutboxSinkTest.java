@@ -0,0 +1,48 @@
+package inkidatabase.groupservice.outbox;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import inkidatabase.groupservice.event.GroupChangedEvent;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FileGroupOutboxSinkTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void deliver_ShouldAppendOneJsonLinePerChange() throws Exception {
+        Path file = dir.resolve("changes/group-changes.jsonl");
+        FileGroupOutboxSink sink = new FileGroupOutboxSink(file, objectMapper);
+        UUID groupId = UUID.randomUUID();
+
+        sink.deliver(List.of(message(1, groupId, "BTS")));
+        sink.deliver(List.of(message(2, groupId, "BTS"), message(3, UUID.randomUUID(), "TWICE")));
+
+        List<String> lines = Files.readAllLines(file);
+        assertThat(lines).hasSize(3);
+        JsonNode first = objectMapper.readTree(lines.get(0));
+        assertThat(first.get("id").asLong()).isEqualTo(1);
+        assertThat(first.get("type").asText()).isEqualTo("UPDATED");
+        assertThat(first.get("groupId").asText()).isEqualTo(groupId.toString());
+        assertThat(first.get("group").get("groupName").asText()).isEqualTo("BTS");
+        assertThat(objectMapper.readTree(lines.get(2)).get("group").get("groupName").asText()).isEqualTo("TWICE");
+    }
+
+    private static GroupOutboxMessage message(long id, UUID groupId, String name) {
+        return new GroupOutboxMessage(id, GroupChangedEvent.ChangeType.UPDATED, groupId, id, Instant.now(),
+                "{\"groupId\":\"" + groupId + "\",\"groupName\":\"" + name + "\"}");
+    }
+}
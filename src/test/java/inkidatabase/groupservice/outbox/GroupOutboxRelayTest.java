@@ -0,0 +1,102 @@
+package inkidatabase.groupservice.outbox;
+
+import inkidatabase.groupservice.dto.GroupDTO;
+import inkidatabase.groupservice.dto.GroupOutboxStats;
+import inkidatabase.groupservice.event.GroupChangedEvent;
+import inkidatabase.groupservice.repository.GroupOutboxRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@TestPropertySource(locations = "classpath:application-test.properties",
+        properties = "groups.outbox.batch-size=2")
+@Import({JacksonAutoConfiguration.class, GroupOutboxConfig.class, GroupOutbox.class, GroupOutboxRelay.class})
+class GroupOutboxRelayTest {
+
+    @Autowired
+    private GroupOutbox outbox;
+
+    @Autowired
+    private GroupOutboxRelay relay;
+
+    @Autowired
+    private GroupOutboxSink sink;
+
+    @Autowired
+    private GroupOutboxRepository repository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private List<GroupDTO> groups;
+
+    @BeforeEach
+    void setUp() {
+        ((InMemoryGroupOutboxSink) sink).clear();
+        groups = List.of(
+                GroupDTO.builder().groupId(UUID.randomUUID()).groupName("BTS").agency("HYBE").build(),
+                GroupDTO.builder().groupId(UUID.randomUUID()).groupName("TWICE").agency("JYP").build(),
+                GroupDTO.builder().groupId(UUID.randomUUID()).groupName("aespa").agency("SM").build());
+    }
+
+    @Test
+    void drain_ShouldDeliverInBatchesAndEmptyOutbox() {
+        for (int i = 0; i < groups.size(); i++) {
+            outbox.append(GroupChangedEvent.created(groups.get(i).getGroupId(), groups.get(i), i + 1));
+        }
+
+        assertThat(relay.drain()).isEqualTo(3);
+
+        InMemoryGroupOutboxSink memory = (InMemoryGroupOutboxSink) sink;
+        assertThat(memory.batchCount()).isEqualTo(2);
+        assertThat(memory.delivered()).extracting(GroupOutboxMessage::groupId)
+                .containsExactly(groups.get(0).getGroupId(), groups.get(1).getGroupId(), groups.get(2).getGroupId());
+        assertThat(memory.delivered()).extracting(GroupOutboxMessage::sequence).containsExactly(1L, 2L, 3L);
+        assertThat(memory.delivered().get(0).group()).contains("\"groupName\":\"BTS\"");
+
+        GroupOutboxStats stats = relay.stats();
+        assertThat(stats.getPending()).isZero();
+        assertThat(stats.getDelivered()).isEqualTo(3);
+        assertThat(stats.getBatches()).isEqualTo(2);
+        assertThat(stats.getLastDrainEvents()).isEqualTo(3);
+    }
+
+    @Test
+    void poll_WhenSinkFails_ShouldKeepEventsForRetry() {
+        outbox.append(GroupChangedEvent.updated(groups.get(0).getGroupId(), groups.get(0), 1));
+        GroupOutboxRelay failing = new GroupOutboxRelay(repository, batch -> {
+            throw new IOException("sink unavailable");
+        }, transactionManager, true, 2);
+
+        failing.poll();
+
+        assertThat(repository.count()).isEqualTo(1);
+        assertThat(failing.stats().getFailures()).isEqualTo(1);
+        assertThat(failing.stats().getDelivered()).isZero();
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void append_OutsideTransaction_ShouldBeRejected() {
+        GroupChangedEvent event = GroupChangedEvent.created(groups.get(0).getGroupId(), groups.get(0), 1);
+
+        assertThatThrownBy(() -> outbox.append(event)).isInstanceOf(IllegalTransactionStateException.class);
+        assertThat(repository.count()).isZero();
+    }
+}
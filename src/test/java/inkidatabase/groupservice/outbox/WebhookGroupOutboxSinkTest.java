@@ -0,0 +1,75 @@
+package inkidatabase.groupservice.outbox;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.sun.net.httpserver.HttpServer;
+import inkidatabase.groupservice.event.GroupChangedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class WebhookGroupOutboxSinkTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final AtomicReference<byte[]> received = new AtomicReference<>();
+    private final AtomicInteger status = new AtomicInteger(204);
+
+    private HttpServer server;
+    private WebhookGroupOutboxSink sink;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/changes", exchange -> {
+            received.set(exchange.getRequestBody().readAllBytes());
+            exchange.sendResponseHeaders(status.get(), -1);
+            exchange.close();
+        });
+        server.start();
+        URI url = URI.create("http://127.0.0.1:" + server.getAddress().getPort() + "/changes");
+        sink = new WebhookGroupOutboxSink(url, Duration.ofSeconds(5), objectMapper);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void deliver_ShouldPostBatchAsJsonArray() throws Exception {
+        UUID groupId = UUID.randomUUID();
+
+        sink.deliver(List.of(new GroupOutboxMessage(5, GroupChangedEvent.ChangeType.CREATED, groupId, 9,
+                Instant.now(), "{\"groupName\":\"BTS\"}")));
+
+        JsonNode body = objectMapper.readTree(received.get());
+        assertThat(body.isArray()).isTrue();
+        assertThat(body.get(0).get("id").asLong()).isEqualTo(5);
+        assertThat(body.get(0).get("sequence").asLong()).isEqualTo(9);
+        assertThat(body.get(0).get("group").get("groupName").asText()).isEqualTo("BTS");
+    }
+
+    @Test
+    void deliver_WhenWebhookFails_ShouldThrow() {
+        status.set(503);
+
+        assertThatThrownBy(() -> sink.deliver(List.of(new GroupOutboxMessage(1, GroupChangedEvent.ChangeType.UPDATED,
+                UUID.randomUUID(), 1, Instant.now(), "{}"))))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("503");
+    }
+}
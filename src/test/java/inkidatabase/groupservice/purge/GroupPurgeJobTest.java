@@ -0,0 +1,87 @@
+package inkidatabase.groupservice.purge;
+
+import inkidatabase.groupservice.model.Group;
+import inkidatabase.groupservice.repository.GroupRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@TestPropertySource(locations = "classpath:application-test.properties")
+class GroupPurgeJobTest {
+
+    private static final List<String> TABLES = List.of(
+            "groups", "group_labels", "group_members", "group_former_members", "group_subunits", "group_social_links");
+
+    @Autowired
+    private GroupRepository repository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private GroupPurgeJob job;
+    private Group live;
+
+    @BeforeEach
+    void setUp() {
+        job = new GroupPurgeJob(repository, transactionManager, true, Duration.ofDays(7), 2);
+        live = repository.save(group("BTS"));
+    }
+
+    @Test
+    void purge_ShouldHardDeleteDeletedGroupsAndTheirCollectionsInBatches() {
+        for (String name : List.of("2NE1", "Wonder Girls", "KARA")) {
+            Group group = repository.save(group(name));
+            group.markDeleted(1);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        long purged = job.purge(Instant.now().plusSeconds(1));
+
+        assertThat(purged).isEqualTo(3);
+        for (String table : TABLES) {
+            assertThat(rows(table)).as(table).isEqualTo(1);
+        }
+        assertThat(repository.findById(live.getGroupId())).isPresent();
+    }
+
+    @Test
+    void purge_ShouldKeepGroupsDeletedWithinRetention() {
+        Group deleted = repository.save(group("2NE1"));
+        deleted.markDeleted(1);
+        entityManager.flush();
+
+        assertThat(job.purge(deleted.getDeletedAt().minusSeconds(1))).isZero();
+        assertThat(rows("groups")).isEqualTo(2);
+    }
+
+    private long rows(String table) {
+        return ((Number) entityManager.getEntityManager()
+                .createNativeQuery("SELECT COUNT(*) FROM " + table)
+                .getSingleResult()).longValue();
+    }
+
+    private static Group group(String name) {
+        return Group.builder(name, "Agency", 2010)
+                .labels(List.of("kpop"))
+                .members(List.of(name + " leader"))
+                .formerMembers(List.of(name + " former"))
+                .subunits(List.of(name + " unit"))
+                .socialLinks(List.of("https://example.com/" + name))
+                .build();
+    }
+}
@@ -1,16 +1,24 @@
 package inkidatabase.groupservice.repository;
 
+import enums.GroupActiveStatus;
+import inkidatabase.groupservice.dto.GroupSearchCriteria;
 import inkidatabase.groupservice.model.Group;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.context.annotation.ComponentScan;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.context.TestPropertySource;
 
+import java.time.Instant;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -25,6 +33,9 @@ class GroupRepositoryTest {
     @Autowired
     private GroupRepository groupRepository;
 
+    @Autowired
+    private TestEntityManager entityManager;
+
     private Group btsGroup;
     private Group blackpinkGroup;
 
@@ -59,6 +70,21 @@ class GroupRepositoryTest {
         assertThat(found.get().getGroupName()).isEqualTo("BTS");
     }
 
+    @Test
+    void save_WithAssignedIdOfExistingGroup_MergesInsteadOfInserting() {
+        groupRepository.flush();
+        entityManager.clear();
+        Group detached = new Group("BTS (방탄소년단)", "HYBE", 2013);
+        detached.setGroupId(btsGroup.getGroupId());
+
+        groupRepository.saveAndFlush(detached);
+        entityManager.clear();
+
+        assertThat(groupRepository.count()).isEqualTo(2);
+        assertThat(groupRepository.findById(btsGroup.getGroupId())).get()
+                .extracting(Group::getGroupName).isEqualTo("BTS (방탄소년단)");
+    }
+
     @Test
     void findByAgency_ReturnsMatchingGroups() {
         List<Group> hybeGroups = groupRepository.findByAgencyIgnoreCase("HYBE");
@@ -110,4 +136,153 @@ class GroupRepositoryTest {
         assertThat(disbandedGroups).hasSize(1);
         assertThat(disbandedGroups.get(0).getGroupName()).isEqualTo("BTS");
     }
+
+    @Test
+    void findByDebutYearBetween_ReturnsGroupsInRangeOrdered() {
+        List<Group> groups = groupRepository.findByDebutYearBetweenOrderByDebutYearAsc(2010, 2020);
+
+        assertThat(groups).extracting("groupName").containsExactly("BTS", "BLACKPINK");
+        assertThat(groupRepository.findByDebutYearBetweenOrderByDebutYearAsc(2014, 2015)).isEmpty();
+    }
+
+    @Test
+    void findByUpperGroupNameIn_MatchesNamesCaseInsensitively() {
+        List<Group> groups = groupRepository.findByUpperGroupNameIn(List.of("BTS", "BLACKPINK", "TXT"));
+
+        assertThat(groups).extracting("groupName").containsExactlyInAnyOrder("BTS", "BLACKPINK");
+        assertThat(groupRepository.findByUpperGroupNameIn(List.of("bts"))).isEmpty();
+    }
+
+    @Test
+    void countGroupsByDimension_AggregatesPerKey() {
+        assertThat(groupRepository.countGroupsByAgency())
+                .extracting(row -> row[0] + "=" + row[1])
+                .containsExactlyInAnyOrder("HYBE=1", "YG=1");
+        assertThat(groupRepository.countGroupsByStatus())
+                .extracting(row -> row[0] + "=" + row[1])
+                .containsExactly("ACTIVE=2");
+        assertThat(groupRepository.countGroupsByLabel())
+                .extracting(row -> row[0] + "=" + row[1])
+                .containsExactlyInAnyOrder("kpop=2", "bighit=1", "yg=1");
+    }
+
+    @Test
+    void findMemberships_ReturnsCurrentAndFormerRowsTogether() {
+        blackpinkGroup.setFormerMembers(Arrays.asList("Jin"));
+        groupRepository.save(blackpinkGroup);
+
+        List<Object[]> rows = groupRepository.findMemberships("Jin");
+
+        assertThat(rows).extracting(row -> row[1] + ":" + row[4])
+                .containsExactlyInAnyOrder("BTS:CURRENT", "BLACKPINK:FORMER");
+        assertThat(groupRepository.findMemberships("Nobody")).isEmpty();
+    }
+
+    @Test
+    void findByUpdatedAtAfter_ReturnsOnlyGroupsWrittenSince() {
+        Instant cutoff = blackpinkGroup.getUpdatedAt();
+        while (!Instant.now().isAfter(cutoff.plusMillis(1))) {
+            Thread.onSpinWait();
+        }
+        btsGroup.setSocialLinks(List.of("https://twitter.com/BTS_twt"));
+        btsGroup.touch();
+        groupRepository.saveAndFlush(btsGroup);
+
+        assertThat(groupRepository.findByUpdatedAtAfter(Instant.EPOCH)).hasSize(2);
+        assertThat(groupRepository.findByUpdatedAtAfter(cutoff)).extracting("groupName").containsExactly("BTS");
+    }
+
+    @Test
+    void findChangedAfter_PagesByChangeSequenceThenId() {
+        btsGroup.recordChange(5);
+        blackpinkGroup.recordChange(3);
+        Group twice = new Group("TWICE", "JYP", 2015);
+        twice.recordChange(5);
+        groupRepository.saveAll(List.of(btsGroup, blackpinkGroup, twice));
+        groupRepository.flush();
+
+        List<Group> all = groupRepository.findChangedAfter(-1, new UUID(0, 0), PageRequest.of(0, 10));
+        Group firstAtFive = all.get(1);
+        List<Group> afterFirstAtFive = groupRepository.findChangedAfter(5, firstAtFive.getGroupId(), PageRequest.of(0, 10));
+
+        assertThat(all).extracting(Group::getChangeSeq).containsExactly(3L, 5L, 5L);
+        assertThat(afterFirstAtFive).hasSize(1).doesNotContain(firstAtFive);
+        assertThat(groupRepository.findChangedAfter(5, afterFirstAtFive.get(0).getGroupId(), PageRequest.of(0, 10))).isEmpty();
+    }
+
+    @Test
+    void softDeletedGroup_IsHiddenFromEntityQueries() {
+        btsGroup.markDeleted(8);
+        groupRepository.saveAndFlush(btsGroup);
+
+        assertThat(groupRepository.findAll()).extracting("groupName").containsExactly("BLACKPINK");
+        assertThat(groupRepository.count()).isEqualTo(1);
+        assertThat(groupRepository.findByMembersContaining("RM")).isEmpty();
+        assertThat(groupRepository.findByLabelsContaining("kpop")).extracting("groupName").containsExactly("BLACKPINK");
+        assertThat(groupRepository.findMemberships("Jin")).isEmpty();
+        assertThat(groupRepository.findByUpdatedAtAfter(Instant.EPOCH)).extracting("groupName").containsExactly("BLACKPINK");
+    }
+
+    @Test
+    void softDeletedGroup_StaysInChangeFeedAsTombstone() {
+        blackpinkGroup.recordChange(3);
+        btsGroup.markDeleted(8);
+        groupRepository.saveAllAndFlush(List.of(btsGroup, blackpinkGroup));
+
+        List<Group> changes = groupRepository.findChangedAfter(-1, new UUID(0, 0), PageRequest.of(0, 10));
+
+        assertThat(changes).extracting(Group::getChangeSeq).containsExactly(3L, 8L);
+        assertThat(changes.get(1).isDeleted()).isTrue();
+        assertThat(groupRepository.findIdsDeletedAfter(Instant.EPOCH)).containsExactly(btsGroup.getGroupId());
+        assertThat(groupRepository.findIdsDeletedAfter(btsGroup.getDeletedAt())).isEmpty();
+    }
+
+    @Test
+    void findActiveDuring_UsesDebutAndDisbandInterval() {
+        btsGroup.setDisbandYear(2015);
+        groupRepository.save(btsGroup);
+
+        assertThat(groupRepository.findActiveDuring(2012)).isEmpty();
+        assertThat(groupRepository.findActiveDuring(2015)).extracting("groupName").containsExactly("BTS");
+        assertThat(groupRepository.findActiveDuring(2016)).extracting("groupName").containsExactly("BLACKPINK");
+    }
+
+    @Test
+    void findAllWithSpecification_CombinesCriteria() {
+        GroupSearchCriteria criteria = GroupSearchCriteria.builder()
+                .agency("hybe")
+                .debutYearFrom(2010)
+                .debutYearTo(2015)
+                .status(GroupActiveStatus.ACTIVE)
+                .label("kpop")
+                .member("Jin")
+                .build();
+
+        List<Group> groups = groupRepository.findAll(GroupSpecifications.matching(criteria));
+
+        assertThat(groups).extracting("groupName").containsExactly("BTS");
+    }
+
+    @Test
+    void findAllWithSpecification_NoMatchWhenAnyCriterionFails() {
+        GroupSearchCriteria criteria = GroupSearchCriteria.builder()
+                .agency("YG")
+                .label("bighit")
+                .build();
+
+        assertThat(groupRepository.findAll(GroupSpecifications.matching(criteria))).isEmpty();
+    }
+
+    @Test
+    void findAllWithSpecification_PagesAndSortsWithoutDuplicates() {
+        GroupSearchCriteria criteria = GroupSearchCriteria.builder()
+                .label("kpop")
+                .build();
+
+        Page<Group> page = groupRepository.findAll(GroupSpecifications.matching(criteria),
+                PageRequest.of(0, 1, Sort.by("groupName")));
+
+        assertThat(page.getTotalElements()).isEqualTo(2);
+        assertThat(page.getContent()).extracting("groupName").containsExactly("BLACKPINK");
+    }
 }
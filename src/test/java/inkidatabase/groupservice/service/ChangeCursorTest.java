@@ -0,0 +1,32 @@
+package inkidatabase.groupservice.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ChangeCursorTest {
+
+    @Test
+    void decode_ShouldRestoreEncodedCursor() {
+        ChangeCursor cursor = new ChangeCursor(42, UUID.randomUUID());
+
+        assertThat(ChangeCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    void decode_WithoutToken_ShouldStartFromBeginning() {
+        assertThat(ChangeCursor.decode(null)).isEqualTo(ChangeCursor.START);
+        assertThat(ChangeCursor.decode(" ")).isEqualTo(ChangeCursor.START);
+    }
+
+    @Test
+    void decode_WithGarbage_ShouldThrow() {
+        assertThatThrownBy(() -> ChangeCursor.decode("bm90IGEgY3Vyc29y"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ChangeCursor.decode("%%%"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,48 @@
+package inkidatabase.groupservice.service;
+
+import inkidatabase.groupservice.model.GroupChangeCounter;
+import inkidatabase.groupservice.repository.GroupChangeCounterRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@TestPropertySource(locations = "classpath:application-test.properties")
+@Import(GroupChangeSequence.class)
+class GroupChangeSequenceTest {
+
+    @Autowired
+    private GroupChangeSequence changeSequence;
+
+    @Autowired
+    private GroupChangeCounterRepository counterRepository;
+
+    @Test
+    void seed_ShouldCreateCounterAtStartupAndBeIdempotent() {
+        changeSequence.seed();
+
+        assertThat(counterRepository.findAll()).singleElement()
+                .satisfies(counter -> assertThat(counter.getValue()).isZero());
+    }
+
+    @Test
+    void next_ShouldIncrementSeededCounter() {
+        assertThat(changeSequence.next()).isEqualTo(1);
+        assertThat(changeSequence.next()).isEqualTo(2);
+
+        counterRepository.flush();
+        assertThat(counterRepository.findById(GroupChangeCounter.ID))
+                .hasValueSatisfying(counter -> assertThat(counter.getValue()).isEqualTo(2));
+    }
+
+    @Test
+    void reserve_ShouldHandOutConsecutiveRange() {
+        assertThat(changeSequence.next()).isEqualTo(1);
+        assertThat(changeSequence.reserve(500)).isEqualTo(2);
+        assertThat(changeSequence.next()).isEqualTo(502);
+    }
+}
@@ -1,22 +1,38 @@
 package inkidatabase.groupservice.service;
 
+import enums.MemberRole;
 import inkidatabase.groupservice.dto.CreateGroupRequest;
+import inkidatabase.groupservice.dto.GroupChangeDTO;
+import inkidatabase.groupservice.dto.GroupChangeFeedDTO;
 import inkidatabase.groupservice.dto.GroupDTO;
+import inkidatabase.groupservice.dto.GroupSearchCriteria;
+import inkidatabase.groupservice.dto.MembershipDTO;
 import inkidatabase.groupservice.dto.UpdateGroupRequest;
+import inkidatabase.groupservice.event.GroupChangedEvent;
+import inkidatabase.groupservice.index.GroupInvertedIndex;
 import inkidatabase.groupservice.mapper.GroupMapper;
 import inkidatabase.groupservice.model.Group;
+import inkidatabase.groupservice.outbox.GroupOutbox;
 import inkidatabase.groupservice.repository.GroupRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 
 import java.util.*;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.catchThrowable;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -28,6 +44,18 @@ class GroupServiceImplTest {
     @Mock
     private GroupMapper mapper;
 
+    @Mock
+    private ApplicationEventPublisher events;
+
+    @Mock
+    private GroupInvertedIndex invertedIndex;
+
+    @Mock
+    private GroupChangeSequence changeSequence;
+
+    @Mock
+    private GroupOutbox outbox;
+
     private GroupService groupService;
     private Group testGroup;
     private GroupDTO testGroupDTO;
@@ -36,7 +64,7 @@ class GroupServiceImplTest {
 
     @BeforeEach
     void setUp() {
-        groupService = new GroupServiceImpl(repository, mapper);
+        groupService = new GroupServiceImpl(repository, mapper, events, invertedIndex, changeSequence, outbox);
 
         testGroup = new Group("BTS", "HYBE", 2013);
         testGroup.setGroupId(UUID.randomUUID());
@@ -94,6 +122,91 @@ class GroupServiceImplTest {
         verify(repository).save(any(Group.class));
     }
 
+    @Test
+    void create_ShouldPublishCreatedEventWithSnapshot() {
+        when(mapper.toEntity(createRequest)).thenReturn(testGroup);
+        when(repository.save(any(Group.class))).thenReturn(testGroup);
+        when(mapper.toSnapshot(testGroup)).thenReturn(testGroupDTO);
+        when(mapper.toDTO(testGroup)).thenReturn(testGroupDTO);
+
+        groupService.create(createRequest);
+
+        ArgumentCaptor<GroupChangedEvent> event = ArgumentCaptor.forClass(GroupChangedEvent.class);
+        verify(events).publishEvent(event.capture());
+        assertThat(event.getValue().getType()).isEqualTo(GroupChangedEvent.ChangeType.CREATED);
+        assertThat(event.getValue().getGroupId()).isEqualTo(testGroup.getGroupId());
+        assertThat(event.getValue().getGroup()).isEqualTo(testGroupDTO);
+    }
+
+    @Test
+    void update_ShouldPublishUpdatedEvent() {
+        UUID groupId = testGroup.getGroupId();
+        when(repository.findById(groupId)).thenReturn(Optional.of(testGroup));
+        when(repository.save(any(Group.class))).thenReturn(testGroup);
+
+        groupService.update(groupId, updateRequest);
+
+        ArgumentCaptor<GroupChangedEvent> event = ArgumentCaptor.forClass(GroupChangedEvent.class);
+        verify(events).publishEvent(event.capture());
+        assertThat(event.getValue().getType()).isEqualTo(GroupChangedEvent.ChangeType.UPDATED);
+        assertThat(event.getValue().getGroupId()).isEqualTo(groupId);
+    }
+
+    @Test
+    void create_ShouldAppendSameEventToOutbox() {
+        when(mapper.toEntity(createRequest)).thenReturn(testGroup);
+        when(changeSequence.next()).thenReturn(7L);
+        when(repository.save(any(Group.class))).thenReturn(testGroup);
+        when(mapper.toSnapshot(testGroup)).thenReturn(testGroupDTO);
+
+        groupService.create(createRequest);
+
+        ArgumentCaptor<GroupChangedEvent> appended = ArgumentCaptor.forClass(GroupChangedEvent.class);
+        verify(outbox).append(appended.capture());
+        verify(events).publishEvent(appended.getValue());
+        assertThat(appended.getValue().getType()).isEqualTo(GroupChangedEvent.ChangeType.CREATED);
+        assertThat(appended.getValue().getSequence()).isEqualTo(7L);
+    }
+
+    @Test
+    void updateAll_ShouldApplyUpdatesInOneSaveAndSkipUnknownGroups() {
+        UUID missingId = UUID.randomUUID();
+        Map<UUID, UpdateGroupRequest> updates = new LinkedHashMap<>();
+        updates.put(testGroup.getGroupId(), updateRequest);
+        updates.put(missingId, updateRequest);
+        when(repository.findAllById(updates.keySet())).thenReturn(List.of(testGroup));
+        when(changeSequence.next()).thenReturn(9L);
+        when(repository.saveAll(List.of(testGroup))).thenReturn(List.of(testGroup));
+        when(mapper.toDTO(testGroup)).thenReturn(testGroupDTO);
+
+        List<GroupDTO> result = groupService.updateAll(updates);
+
+        assertThat(result).containsExactly(testGroupDTO);
+        verify(mapper).updateEntityFromRequest(testGroup, updateRequest);
+        assertThat(testGroup.getChangeSeq()).isEqualTo(9L);
+        verify(outbox).append(any(GroupChangedEvent.class));
+        verify(events).publishEvent(any(GroupChangedEvent.class));
+    }
+
+    @Test
+    void createAll_ShouldSaveAllGroupsInOneCall() {
+        Group twice = new Group("TWICE", "JYP", 2015);
+        CreateGroupRequest twiceRequest = CreateGroupRequest.builder().groupName("TWICE").agency("JYP")
+                .debutYear(2015).members(List.of("Nayeon")).build();
+        when(mapper.toEntity(createRequest)).thenReturn(testGroup);
+        when(mapper.toEntity(twiceRequest)).thenReturn(twice);
+        when(changeSequence.next()).thenReturn(1L, 2L);
+        when(repository.saveAll(List.of(testGroup, twice))).thenReturn(List.of(testGroup, twice));
+        when(mapper.toDTO(testGroup)).thenReturn(testGroupDTO);
+
+        List<GroupDTO> result = groupService.createAll(List.of(createRequest, twiceRequest));
+
+        assertThat(result).hasSize(2).first().isEqualTo(testGroupDTO);
+        assertThat(twice.getChangeSeq()).isEqualTo(2L);
+        verify(repository, never()).save(any());
+        verify(outbox, times(2)).append(any(GroupChangedEvent.class));
+    }
+
     @Test
     void update_WhenGroupNotFound_ShouldThrowIllegalArgumentException() {
         UUID nonExistentId = UUID.randomUUID();
@@ -106,6 +219,39 @@ class GroupServiceImplTest {
         verify(repository, never()).save(any());
     }
 
+    @Test
+    void delete_ShouldMarkGroupDeletedAndPublishDeletedEvent() {
+        UUID groupId = testGroup.getGroupId();
+        when(repository.findById(groupId)).thenReturn(Optional.of(testGroup));
+        when(changeSequence.next()).thenReturn(9L);
+
+        groupService.delete(groupId);
+
+        assertThat(testGroup.isDeleted()).isTrue();
+        assertThat(testGroup.getChangeSeq()).isEqualTo(9L);
+        verify(repository).save(testGroup);
+        verify(repository, never()).delete(any(Group.class));
+        ArgumentCaptor<GroupChangedEvent> event = ArgumentCaptor.forClass(GroupChangedEvent.class);
+        verify(events).publishEvent(event.capture());
+        assertThat(event.getValue().getType()).isEqualTo(GroupChangedEvent.ChangeType.DELETED);
+        assertThat(event.getValue().getGroupId()).isEqualTo(groupId);
+        assertThat(event.getValue().getSequence()).isEqualTo(9L);
+        verify(outbox).append(event.getValue());
+    }
+
+    @Test
+    void delete_WhenGroupNotFound_ShouldThrowIllegalArgumentException() {
+        UUID nonExistentId = UUID.randomUUID();
+        when(repository.findById(nonExistentId)).thenReturn(Optional.empty());
+
+        assertThat(catchThrowable(() -> groupService.delete(nonExistentId)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Group not found with id: " + nonExistentId);
+
+        verify(repository, never()).save(any());
+        verifyNoInteractions(events, outbox);
+    }
+
     @Test
     void findAll_ShouldReturnAllGroupDTOs() {
         when(repository.findAll()).thenReturn(Collections.singletonList(testGroup));
@@ -129,6 +275,17 @@ class GroupServiceImplTest {
         assertThat(result.get().getGroupName()).isEqualTo("BTS");
     }
 
+    @Test
+    void findAllById_ShouldLoadAllGroupsInOneCall() {
+        List<UUID> ids = List.of(testGroup.getGroupId(), UUID.randomUUID());
+        when(repository.findAllById(ids)).thenReturn(Collections.singletonList(testGroup));
+        when(mapper.toDTO(testGroup)).thenReturn(testGroupDTO);
+
+        List<GroupDTO> result = groupService.findAllById(ids);
+
+        assertThat(result).containsExactly(testGroupDTO);
+    }
+
     @Test
     void findById_WhenNotExists_ShouldReturnEmpty() {
         UUID groupId = UUID.randomUUID();
@@ -161,6 +318,36 @@ class GroupServiceImplTest {
         assertThat(result.get(0).getDebutYear()).isEqualTo(2013);
     }
 
+    @Test
+    void findByDebutYearRange_ShouldReturnGroupDTOs() {
+        when(repository.findByDebutYearBetweenOrderByDebutYearAsc(2010, 2015)).thenReturn(Collections.singletonList(testGroup));
+        when(mapper.toDTO(testGroup)).thenReturn(testGroupDTO);
+
+        List<GroupDTO> result = groupService.findByDebutYearRange(2010, 2015);
+
+        assertThat(result).containsExactly(testGroupDTO);
+    }
+
+    @Test
+    void findActiveDuring_ShouldReturnGroupDTOs() {
+        when(repository.findActiveDuring(2015)).thenReturn(Collections.singletonList(testGroup));
+        when(mapper.toDTO(testGroup)).thenReturn(testGroupDTO);
+
+        List<GroupDTO> result = groupService.findActiveDuring(2015);
+
+        assertThat(result).containsExactly(testGroupDTO);
+    }
+
+    @Test
+    void findDisbandedAfter_ShouldReturnGroupDTOs() {
+        when(repository.findByDisbandYearGreaterThan(2015)).thenReturn(Collections.singletonList(testGroup));
+        when(mapper.toDTO(testGroup)).thenReturn(testGroupDTO);
+
+        List<GroupDTO> result = groupService.findDisbandedAfter(2015);
+
+        assertThat(result).containsExactly(testGroupDTO);
+    }
+
     @Test
     void findActiveGroups_ShouldReturnActiveGroupDTOs() {
         when(repository.findActiveGroups()).thenReturn(Collections.singletonList(testGroup));
@@ -205,6 +392,62 @@ class GroupServiceImplTest {
         assertThat(result.get(0).getMembers()).contains("RM");
     }
 
+    @Test
+    void findByMember_WhenIndexReady_ShouldNotQueryRepository() {
+        when(invertedIndex.isReady()).thenReturn(true);
+        when(invertedIndex.findByMember("RM")).thenReturn(Collections.singletonList(testGroupDTO));
+
+        List<GroupDTO> result = groupService.findByMember("RM");
+
+        assertThat(result).containsExactly(testGroupDTO);
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void findMemberships_ShouldMergeCurrentAndFormerRowsFromOneQuery() {
+        UUID formerGroupId = UUID.randomUUID();
+        when(repository.findMemberships("Jin")).thenReturn(Arrays.asList(
+                new Object[]{testGroup.getGroupId(), "BTS", 2013, 0, "CURRENT"},
+                new Object[]{formerGroupId, "Trainee Team", 2011, 2012, "FORMER"},
+                new Object[]{testGroup.getGroupId(), "BTS", 2013, 0, "FORMER"}));
+
+        List<MembershipDTO> result = groupService.findMemberships("Jin");
+
+        assertThat(result).extracting(MembershipDTO::getGroupName).containsExactly("Trainee Team", "BTS");
+        assertThat(result).extracting(MembershipDTO::getRole).containsExactly(MemberRole.FORMER, MemberRole.CURRENT);
+        assertThat(result.get(0).getDisbandYear()).isEqualTo(2012);
+    }
+
+    @Test
+    void findMemberships_WhenIndexReady_ShouldNotQueryRepository() {
+        GroupDTO formerGroup = GroupDTO.builder()
+                .groupId(UUID.randomUUID())
+                .groupName("BigBang")
+                .debutYear(2006)
+                .formerMembers(List.of("Jin"))
+                .build();
+        when(invertedIndex.isReady()).thenReturn(true);
+        when(invertedIndex.findByMember("Jin")).thenReturn(Collections.singletonList(testGroupDTO));
+        when(invertedIndex.findByFormerMember("Jin")).thenReturn(Collections.singletonList(formerGroup));
+
+        List<MembershipDTO> result = groupService.findMemberships("Jin");
+
+        assertThat(result).extracting(MembershipDTO::getGroupName).containsExactly("BigBang", "BTS");
+        assertThat(result).extracting(MembershipDTO::getRole).containsExactly(MemberRole.FORMER, MemberRole.CURRENT);
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void findByLabelAndAgency_WhenIndexReady_ShouldNotQueryRepository() {
+        when(invertedIndex.isReady()).thenReturn(true);
+        when(invertedIndex.findByLabel("kpop")).thenReturn(Collections.singletonList(testGroupDTO));
+        when(invertedIndex.findByAgency("hybe")).thenReturn(Collections.singletonList(testGroupDTO));
+
+        assertThat(groupService.findByLabel("kpop")).containsExactly(testGroupDTO);
+        assertThat(groupService.findByAgency("hybe")).containsExactly(testGroupDTO);
+        verifyNoInteractions(repository);
+    }
+
     @Test
     void findByLabel_ShouldReturnGroupDTOList() {
         when(repository.findByLabelsContaining("kpop")).thenReturn(Collections.singletonList(testGroup));
@@ -215,4 +458,60 @@ class GroupServiceImplTest {
         assertThat(result).hasSize(1);
         assertThat(result.get(0).getLabels()).contains("kpop");
     }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void search_ShouldMapMatchingPage() {
+        Pageable pageable = PageRequest.of(0, 10);
+        when(repository.findAll(any(Specification.class), eq(pageable)))
+                .thenReturn(new PageImpl<>(Collections.singletonList(testGroup), pageable, 1));
+        when(mapper.toDTO(testGroup)).thenReturn(testGroupDTO);
+
+        Page<GroupDTO> result = groupService.search(
+                GroupSearchCriteria.builder().agency("HYBE").label("kpop").build(), pageable);
+
+        assertThat(result.getTotalElements()).isEqualTo(1);
+        assertThat(result.getContent()).containsExactly(testGroupDTO);
+    }
+
+    @Test
+    void create_ShouldRecordNextChangeSequence() {
+        when(changeSequence.next()).thenReturn(42L);
+        when(mapper.toEntity(createRequest)).thenReturn(testGroup);
+        when(repository.save(any(Group.class))).thenReturn(testGroup);
+
+        groupService.create(createRequest);
+
+        assertThat(testGroup.getChangeSeq()).isEqualTo(42L);
+        assertThat(testGroup.getUpdatedAt()).isNotNull();
+    }
+
+    @Test
+    void findChanges_ShouldReturnPageAndCursorAfterLastChange() {
+        Group twice = new Group("TWICE", "JYP", 2015);
+        testGroup.recordChange(7);
+        twice.recordChange(9);
+        when(repository.findChangedAfter(-1, new UUID(0, 0), PageRequest.of(0, 2)))
+                .thenReturn(List.of(testGroup, twice));
+        when(mapper.toDTO(testGroup)).thenReturn(testGroupDTO);
+
+        GroupChangeFeedDTO feed = groupService.findChanges(ChangeCursor.START, 1);
+
+        assertThat(feed.isHasMore()).isTrue();
+        assertThat(feed.getChanges()).extracting(GroupChangeDTO::getSequence).containsExactly(7L);
+        assertThat(ChangeCursor.decode(feed.getNextCursor()))
+                .isEqualTo(new ChangeCursor(7, testGroup.getGroupId()));
+    }
+
+    @Test
+    void findChanges_WhenNothingNew_ShouldKeepCursor() {
+        ChangeCursor cursor = new ChangeCursor(12, UUID.randomUUID());
+        when(repository.findChangedAfter(eq(12L), eq(cursor.groupId()), any(Pageable.class))).thenReturn(List.of());
+
+        GroupChangeFeedDTO feed = groupService.findChanges(cursor, 100);
+
+        assertThat(feed.getChanges()).isEmpty();
+        assertThat(feed.isHasMore()).isFalse();
+        assertThat(feed.getNextCursor()).isEqualTo(cursor.encode());
+    }
 }
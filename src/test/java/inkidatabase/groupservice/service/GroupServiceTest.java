@@ -3,14 +3,17 @@ package inkidatabase.groupservice.service;
 import inkidatabase.groupservice.dto.CreateGroupRequest;
 import inkidatabase.groupservice.dto.GroupDTO;
 import inkidatabase.groupservice.dto.UpdateGroupRequest;
+import inkidatabase.groupservice.index.GroupInvertedIndex;
 import inkidatabase.groupservice.mapper.GroupMapper;
 import inkidatabase.groupservice.model.Group;
+import inkidatabase.groupservice.outbox.GroupOutbox;
 import inkidatabase.groupservice.repository.GroupRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.*;
 
@@ -27,6 +30,18 @@ class GroupServiceTest {
     @Mock
     private GroupMapper mapper;
 
+    @Mock
+    private ApplicationEventPublisher events;
+
+    @Mock
+    private GroupInvertedIndex invertedIndex;
+
+    @Mock
+    private GroupChangeSequence changeSequence;
+
+    @Mock
+    private GroupOutbox outbox;
+
     private GroupService groupService;
     private Group testGroup;
     private GroupDTO testGroupDTO;
@@ -35,7 +50,7 @@ class GroupServiceTest {
 
     @BeforeEach
     void setUp() {
-        groupService = new GroupServiceImpl(repository, mapper);
+        groupService = new GroupServiceImpl(repository, mapper, events, invertedIndex, changeSequence, outbox);
 
         testGroup = new Group("BTS", "HYBE", 2013);
         testGroup.setGroupId(UUID.randomUUID());
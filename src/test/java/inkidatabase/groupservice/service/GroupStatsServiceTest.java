@@ -0,0 +1,122 @@
+package inkidatabase.groupservice.service;
+
+import enums.GroupActiveStatus;
+import inkidatabase.groupservice.dto.GroupDTO;
+import inkidatabase.groupservice.dto.GroupStatsDTO;
+import inkidatabase.groupservice.dto.StatsReconciliationDTO;
+import inkidatabase.groupservice.index.GroupIndexRegistry;
+import inkidatabase.groupservice.index.GroupStatsIndex;
+import inkidatabase.groupservice.repository.GroupRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GroupStatsServiceTest {
+
+    @Mock
+    private GroupRepository repository;
+
+    @Mock
+    private GroupIndexRegistry registry;
+
+    private GroupStatsIndex statsIndex;
+    private GroupStatsService statsService;
+
+    @BeforeEach
+    void setUp() {
+        statsIndex = new GroupStatsIndex();
+        statsService = new GroupStatsService(repository, statsIndex, registry);
+    }
+
+    @Test
+    void getStats_WhenCountersLoaded_ShouldNotQueryDatabase() {
+        statsIndex.rebuild(List.of(bts()));
+
+        GroupStatsDTO stats = statsService.getStats();
+
+        assertThat(stats.getTotal()).isEqualTo(1);
+        assertThat(stats.getByAgency()).isEqualTo(Map.of("HYBE", 1L));
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void getStats_WhenCountersNotLoaded_ShouldAggregateInDatabase() {
+        stubDatabase(2L, "HYBE", 2L);
+
+        GroupStatsDTO stats = statsService.getStats();
+
+        assertThat(stats.getTotal()).isEqualTo(2);
+        assertThat(stats.getByAgency()).isEqualTo(Map.of("HYBE", 2L));
+        assertThat(stats.getByDebutYear()).isEqualTo(Map.of("2013", 2L));
+        assertThat(stats.getByStatus()).isEqualTo(Map.of("ACTIVE", 2L));
+        assertThat(stats.getByLabel()).isEqualTo(Map.of("kpop", 2L));
+    }
+
+    @Test
+    void reconcile_WhenCountersMatch_ShouldNotRebuild() {
+        statsIndex.rebuild(List.of(bts()));
+        stubDatabase(1L, "HYBE", 1L);
+
+        StatsReconciliationDTO result = statsService.reconcile();
+
+        assertThat(result.isConsistent()).isTrue();
+        assertThat(result.getDifferences()).isEmpty();
+        verifyNoInteractions(registry);
+    }
+
+    @Test
+    void reconcile_WhenCountersDrifted_ShouldReportAndRebuild() {
+        statsIndex.rebuild(List.of(bts()));
+        stubDatabase(1L, "BIGHIT", 1L);
+
+        StatsReconciliationDTO result = statsService.reconcile();
+
+        assertThat(result.isConsistent()).isFalse();
+        assertThat(result.getDifferences()).containsExactly(
+                "byAgency[BIGHIT]: counters=0, database=1",
+                "byAgency[HYBE]: counters=1, database=0");
+        verify(registry).rebuild(statsIndex);
+    }
+
+    @Test
+    void reconcile_WhenCountersNotLoaded_ShouldSkip() {
+        StatsReconciliationDTO result = statsService.reconcile();
+
+        assertThat(result.isConsistent()).isTrue();
+        verifyNoInteractions(repository, registry);
+    }
+
+    private void stubDatabase(long total, String agency, long count) {
+        when(repository.count()).thenReturn(total);
+        when(repository.countGroupsByAgency()).thenReturn(rows(agency, count));
+        when(repository.countGroupsByDebutYear()).thenReturn(rows(2013, count));
+        when(repository.countGroupsByStatus()).thenReturn(rows(GroupActiveStatus.ACTIVE, count));
+        when(repository.countGroupsByLabel()).thenReturn(rows("kpop", count));
+    }
+
+    private static List<Object[]> rows(Object key, long count) {
+        return Collections.singletonList(new Object[]{key, count});
+    }
+
+    private static GroupDTO bts() {
+        return GroupDTO.builder()
+                .groupId(UUID.randomUUID())
+                .groupName("BTS")
+                .agency("HYBE")
+                .debutYear(2013)
+                .members(List.of("RM"))
+                .labels(List.of("kpop"))
+                .build();
+    }
+}
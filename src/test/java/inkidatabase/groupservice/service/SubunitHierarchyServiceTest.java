@@ -0,0 +1,120 @@
+package inkidatabase.groupservice.service;
+
+import inkidatabase.groupservice.dto.GroupDTO;
+import inkidatabase.groupservice.dto.GroupSummaryDTO;
+import inkidatabase.groupservice.dto.SubunitHierarchyDTO;
+import inkidatabase.groupservice.event.GroupChangedEvent;
+import inkidatabase.groupservice.mapper.GroupMapper;
+import inkidatabase.groupservice.model.Group;
+import inkidatabase.groupservice.repository.GroupRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SubunitHierarchyServiceTest {
+
+    @Mock
+    private GroupRepository repository;
+
+    private final GroupMapper mapper = new GroupMapper();
+    private SubunitHierarchyService service;
+    private Group seventeen;
+    private Group bss;
+    private Group performanceTeam;
+
+    @BeforeEach
+    void setUp() {
+        service = new SubunitHierarchyService(repository, mapper);
+
+        seventeen = group("SEVENTEEN", "Pledis", 2015);
+        seventeen.setSubunits(Arrays.asList("BSS", "Performance Team", "Hip-Hop Team"));
+        bss = group("BSS", "Pledis", 2018);
+        performanceTeam = group("performance team", "Pledis", 2015);
+    }
+
+    @Test
+    void findSubunits_ShouldResolveAllNamesInOneQuery() {
+        when(repository.findById(seventeen.getGroupId())).thenReturn(Optional.of(seventeen));
+        when(repository.findByUpperGroupNameIn(Set.of("BSS", "PERFORMANCE TEAM", "HIP-HOP TEAM")))
+                .thenReturn(List.of(performanceTeam, bss));
+
+        SubunitHierarchyDTO<GroupDTO> hierarchy = service.findSubunits(seventeen.getGroupId()).orElseThrow();
+
+        assertThat(hierarchy.getGroupName()).isEqualTo("SEVENTEEN");
+        assertThat(hierarchy.getSubunits()).extracting(GroupDTO::getGroupName)
+                .containsExactly("BSS", "performance team");
+        assertThat(hierarchy.getUnresolved()).containsExactly("Hip-Hop Team");
+        verify(repository, times(1)).findByUpperGroupNameIn(any());
+    }
+
+    @Test
+    void findSubunitSummaries_ShouldShareTheCachedHierarchy() {
+        when(repository.findById(seventeen.getGroupId())).thenReturn(Optional.of(seventeen));
+        when(repository.findByUpperGroupNameIn(any())).thenReturn(List.of(bss));
+
+        service.findSubunits(seventeen.getGroupId());
+        SubunitHierarchyDTO<GroupSummaryDTO> summaries =
+                service.findSubunitSummaries(seventeen.getGroupId()).orElseThrow();
+
+        assertThat(summaries.getSubunits()).extracting(GroupSummaryDTO::getGroupName).containsExactly("BSS");
+        assertThat(summaries.getSubunits().get(0).getDebutYear()).isEqualTo(2018);
+        verify(repository, times(1)).findById(seventeen.getGroupId());
+        verify(repository, times(1)).findByUpperGroupNameIn(any());
+    }
+
+    @Test
+    void findSubunits_WhenGroupMissing_ReturnsEmpty() {
+        UUID unknown = UUID.randomUUID();
+        when(repository.findById(unknown)).thenReturn(Optional.empty());
+
+        assertThat(service.findSubunits(unknown)).isEmpty();
+        verify(repository, never()).findByUpperGroupNameIn(any());
+    }
+
+    @Test
+    void onGroupChanged_ShouldEvictHierarchiesReferencingTheGroupName() {
+        when(repository.findById(seventeen.getGroupId())).thenReturn(Optional.of(seventeen));
+        when(repository.findByUpperGroupNameIn(any())).thenReturn(List.of(bss));
+        service.findSubunits(seventeen.getGroupId());
+
+        Group hipHopTeam = group("Hip-Hop Team", "Pledis", 2015);
+        service.onGroupChanged(GroupChangedEvent.created(hipHopTeam.getGroupId(), mapper.toSnapshot(hipHopTeam)));
+        when(repository.findByUpperGroupNameIn(any())).thenReturn(List.of(bss, hipHopTeam));
+
+        assertThat(service.findSubunits(seventeen.getGroupId()).orElseThrow().getUnresolved())
+                .containsExactly("Performance Team");
+        verify(repository, times(2)).findByUpperGroupNameIn(any());
+    }
+
+    @Test
+    void onGroupChanged_ShouldKeepUnrelatedHierarchies() {
+        when(repository.findById(seventeen.getGroupId())).thenReturn(Optional.of(seventeen));
+        when(repository.findByUpperGroupNameIn(any())).thenReturn(List.of(bss));
+        service.findSubunits(seventeen.getGroupId());
+
+        Group unrelated = group("BTS", "HYBE", 2013);
+        service.onGroupChanged(GroupChangedEvent.updated(unrelated.getGroupId(), mapper.toSnapshot(unrelated)));
+        service.findSubunits(seventeen.getGroupId());
+
+        verify(repository, times(1)).findById(seventeen.getGroupId());
+    }
+
+    private static Group group(String name, String agency, int debutYear) {
+        Group group = new Group(name, agency, debutYear);
+        group.setGroupId(UUID.randomUUID());
+        return group;
+    }
+}
@@ -0,0 +1,76 @@
+package inkidatabase.groupservice.snapshot;
+
+import inkidatabase.groupservice.dto.GroupDTO;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GroupSnapshotFileTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void read_ShouldReturnWrittenGroupsAndCaptureTime() throws IOException {
+        Path path = dir.resolve("snapshots/groups.snapshot");
+        Instant capturedAt = Instant.parse("2024-01-15T10:00:00Z");
+        List<GroupDTO> groups = List.of(
+                GroupDTO.builder().groupId(UUID.randomUUID()).groupName("BTS").agency("HYBE")
+                        .members(List.of("RM", "Jin")).debutYear(2013).build(),
+                GroupDTO.builder().groupId(UUID.randomUUID()).groupName("BLACKPINK").agency("YG")
+                        .debutYear(2016).build());
+
+        GroupSnapshotFile.write(path, capturedAt, groups);
+        GroupSnapshot snapshot = GroupSnapshotFile.read(path);
+
+        assertThat(snapshot.capturedAt()).isEqualTo(capturedAt);
+        assertThat(snapshot.groups()).isEqualTo(groups);
+        try (var files = Files.list(path.getParent())) {
+            assertThat(files).containsExactly(path);
+        }
+    }
+
+    @Test
+    void write_ShouldReplacePreviousSnapshot() throws IOException {
+        Path path = dir.resolve("groups.snapshot");
+        GroupSnapshotFile.write(path, Instant.EPOCH, List.of(
+                GroupDTO.builder().groupId(UUID.randomUUID()).groupName("EXO").build()));
+
+        GroupSnapshotFile.write(path, Instant.EPOCH.plusSeconds(60), List.of());
+
+        GroupSnapshot snapshot = GroupSnapshotFile.read(path);
+        assertThat(snapshot.groups()).isEmpty();
+        assertThat(snapshot.capturedAt()).isEqualTo(Instant.EPOCH.plusSeconds(60));
+    }
+
+    @Test
+    void read_WhenRecordsAreCorrupt_ShouldThrow() throws IOException {
+        Path path = dir.resolve("groups.snapshot");
+        GroupSnapshotFile.write(path, Instant.EPOCH, List.of(
+                GroupDTO.builder().groupId(UUID.randomUUID()).groupName("TWICE").build()));
+        byte[] bytes = Files.readAllBytes(path);
+        bytes[30] ^= 0x5A;
+        Files.write(path, bytes);
+
+        assertThatThrownBy(() -> GroupSnapshotFile.read(path))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("checksum");
+    }
+
+    @Test
+    void read_WhenNotASnapshot_ShouldThrow() throws IOException {
+        Path path = dir.resolve("groups.snapshot");
+        Files.writeString(path, "definitely not a snapshot file");
+
+        assertThatThrownBy(() -> GroupSnapshotFile.read(path)).isInstanceOf(IOException.class);
+    }
+}
@@ -0,0 +1,151 @@
+package inkidatabase.groupservice.snapshot;
+
+import inkidatabase.groupservice.cache.GroupCache;
+import inkidatabase.groupservice.dto.GroupDTO;
+import inkidatabase.groupservice.index.GroupIndexRegistry;
+import inkidatabase.groupservice.mapper.GroupMapper;
+import inkidatabase.groupservice.model.Group;
+import inkidatabase.groupservice.repository.GroupRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GroupSnapshotServiceTest {
+
+    @Mock
+    private GroupRepository repository;
+
+    @Mock
+    private GroupIndexRegistry registry;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @TempDir
+    Path dir;
+
+    private final GroupMapper mapper = new GroupMapper();
+    private GroupCache cache;
+    private Group bts;
+    private Group twice;
+
+    @BeforeEach
+    void setUp() {
+        cache = new GroupCache(10, 1 << 20, 1 << 16);
+        bts = new Group("BTS", "HYBE", 2013);
+        twice = new Group("TWICE", "JYP", 2015);
+    }
+
+    @Test
+    void write_ThenWarmUp_ShouldRestoreIndexesAndCacheFromSnapshot() {
+        when(repository.findAll()).thenReturn(List.of(bts, twice));
+        when(repository.count()).thenReturn(2L);
+        when(registry.isEnabled()).thenReturn(true);
+        when(registry.restore(anyCollection(), any(Instant.class))).thenReturn(true);
+        GroupSnapshotService service = service(true);
+
+        service.write();
+        service.warmUp();
+
+        verify(registry).restore(argThat(groups -> groups.size() == 2), any(Instant.class));
+        assertThat(cache.offHeapSize()).isEqualTo(2);
+        assertThat(cache.get(bts.getGroupId(), id -> Optional.empty()))
+                .map(GroupDTO::getGroupName).contains("BTS");
+    }
+
+    @Test
+    void warmUp_ShouldDropCachedGroupsChangedSinceCapture() {
+        when(repository.findAll()).thenReturn(List.of(bts, twice));
+        GroupSnapshotService service = service(true);
+        service.write();
+        when(repository.findByUpdatedAtAfter(any(Instant.class))).thenReturn(List.of(twice));
+        when(repository.count()).thenReturn(2L);
+
+        service.warmUp();
+
+        assertThat(cache.offHeapSize()).isEqualTo(1);
+        assertThat(cache.get(twice.getGroupId(), id -> Optional.empty())).isEmpty();
+    }
+
+    @Test
+    void warmUp_WhenSnapshotMissesStoredGroups_ShouldNotLeaveThemCached() {
+        when(repository.findAll()).thenReturn(List.of(bts, twice));
+        GroupSnapshotService service = service(true);
+        service.write();
+        when(repository.count()).thenReturn(1L);
+
+        service.warmUp();
+
+        assertThat(cache.offHeapSize()).isZero();
+    }
+
+    @Test
+    void warmUp_WhenRegistryFindsSnapshotInconsistent_ShouldNotLeaveGroupsCached() {
+        when(repository.findAll()).thenReturn(List.of(bts, twice));
+        when(repository.count()).thenReturn(2L);
+        when(registry.isEnabled()).thenReturn(true);
+        GroupSnapshotService service = service(true);
+        service.write();
+
+        service.warmUp();
+
+        assertThat(cache.offHeapSize()).isZero();
+    }
+
+    @Test
+    void warmUp_WithSnapshotOlderThanPurgeRetention_ShouldBeIgnored() throws Exception {
+        GroupSnapshotFile.write(dir.resolve("groups.snapshot"), Instant.now().minus(Duration.ofDays(8)),
+                List.of(mapper.toSnapshot(bts)));
+
+        service(true).warmUp();
+
+        verifyNoInteractions(repository, registry);
+        assertThat(cache.offHeapSize()).isZero();
+    }
+
+    @Test
+    void warmUp_WithoutSnapshotFile_ShouldLeaveStartupToRegistry() {
+        service(true).warmUp();
+
+        verifyNoInteractions(repository, registry);
+        assertThat(cache.offHeapSize()).isZero();
+    }
+
+    @Test
+    void warmUp_WithCorruptSnapshot_ShouldBeIgnored() throws Exception {
+        Files.writeString(dir.resolve("groups.snapshot"), "garbage");
+
+        service(true).warmUp();
+
+        verifyNoInteractions(repository, registry);
+        assertThat(cache.offHeapSize()).isZero();
+    }
+
+    @Test
+    void write_WhenDisabled_ShouldNotScan() {
+        service(false).write();
+
+        verifyNoInteractions(repository);
+        assertThat(Files.exists(dir.resolve("groups.snapshot"))).isFalse();
+    }
+
+    private GroupSnapshotService service(boolean enabled) {
+        return new GroupSnapshotService(repository, mapper, registry, cache, transactionManager,
+                enabled, dir.resolve("groups.snapshot"), Duration.ofMinutes(1), Duration.ofDays(7));
+    }
+}
@@ -0,0 +1,195 @@
+package inkidatabase.groupservice.stream;
+
+import inkidatabase.groupservice.dto.GroupChangeDTO;
+import inkidatabase.groupservice.dto.GroupChangeFeedDTO;
+import inkidatabase.groupservice.dto.GroupDTO;
+import inkidatabase.groupservice.event.GroupChangedEvent;
+import inkidatabase.groupservice.service.ChangeCursor;
+import inkidatabase.groupservice.service.GroupService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class GroupChangeStreamTest {
+
+    @Mock
+    private GroupService service;
+
+    private GroupChangeStream stream;
+    private GroupDTO bts;
+
+    @BeforeEach
+    void setUp() {
+        stream = new GroupChangeStream(service, 2, 10, Duration.ofSeconds(30));
+        bts = GroupDTO.builder().groupId(UUID.randomUUID()).groupName("BTS").build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        stream.shutdown();
+    }
+
+    @Test
+    void onGroupChanged_ShouldPushEventWithCursorId() {
+        RecordingEmitter emitter = new RecordingEmitter(null);
+        stream.subscribe(null, emitter);
+
+        stream.onGroupChanged(GroupChangedEvent.updated(bts.getGroupId(), bts, 5));
+
+        awaitUntil(() -> emitter.events.size() == 1);
+        assertThat(emitter.events.get(0))
+                .contains("id:" + new ChangeCursor(5, bts.getGroupId()).encode())
+                .contains("event:updated")
+                .contains("groupName=BTS");
+    }
+
+    @Test
+    void subscribe_WithCursor_ShouldBackfillThenSkipAlreadySentChanges() {
+        ChangeCursor from = new ChangeCursor(2, UUID.randomUUID());
+        when(service.findChanges(from, 500)).thenReturn(GroupChangeFeedDTO.builder()
+                .changes(List.of(GroupChangeDTO.builder().sequence(3).group(bts).build()))
+                .nextCursor(new ChangeCursor(3, bts.getGroupId()).encode())
+                .hasMore(false)
+                .build());
+        RecordingEmitter emitter = new RecordingEmitter(null);
+
+        stream.subscribe(from, emitter);
+        stream.onGroupChanged(GroupChangedEvent.updated(bts.getGroupId(), bts, 3));
+        stream.onGroupChanged(GroupChangedEvent.updated(bts.getGroupId(), bts, 4));
+
+        awaitUntil(() -> emitter.events.size() == 2);
+        assertThat(emitter.events.get(0)).contains("id:" + new ChangeCursor(3, bts.getGroupId()).encode());
+        assertThat(emitter.events.get(1)).contains("id:" + new ChangeCursor(4, bts.getGroupId()).encode());
+    }
+
+    @Test
+    void onGroupChanged_WithRacingCommitsOutOfOrder_ShouldSendBothWithoutSkippingTheLowerCursor() {
+        GroupDTO ive = GroupDTO.builder().groupId(UUID.randomUUID()).groupName("IVE").build();
+        ChangeCursor from = new ChangeCursor(9, UUID.randomUUID());
+        when(service.findChanges(from, 500)).thenReturn(emptyPage(from));
+        RecordingEmitter emitter = new RecordingEmitter(null);
+        stream.subscribe(from, emitter);
+
+        stream.onGroupChanged(GroupChangedEvent.updated(ive.getGroupId(), ive, 11));
+        stream.onGroupChanged(GroupChangedEvent.updated(bts.getGroupId(), bts, 10));
+
+        awaitUntil(() -> emitter.events.size() == 2);
+        assertThat(emitter.events.get(0)).contains("groupName=IVE").contains("id:" + from.encode());
+        assertThat(emitter.events.get(1)).contains("groupName=BTS")
+                .contains("id:" + new ChangeCursor(11, ive.getGroupId()).encode());
+    }
+
+    @Test
+    void onGroupChanged_WhenLowerSequenceNeverArrives_ShouldFillTheGapFromTheFeed() {
+        GroupDTO ive = GroupDTO.builder().groupId(UUID.randomUUID()).groupName("IVE").build();
+        ChangeCursor from = new ChangeCursor(9, UUID.randomUUID());
+        when(service.findChanges(from, 500)).thenReturn(emptyPage(from), GroupChangeFeedDTO.builder()
+                .changes(List.of(GroupChangeDTO.builder().sequence(10).group(bts).build(),
+                        GroupChangeDTO.builder().sequence(11).group(ive).build()))
+                .nextCursor(new ChangeCursor(11, ive.getGroupId()).encode())
+                .hasMore(false)
+                .build());
+        RecordingEmitter emitter = new RecordingEmitter(null);
+        stream.subscribe(from, emitter);
+
+        stream.onGroupChanged(GroupChangedEvent.updated(ive.getGroupId(), ive, 11));
+        awaitUntil(() -> emitter.events.size() == 2);
+        stream.onGroupChanged(GroupChangedEvent.updated(bts.getGroupId(), bts, 10));
+        stream.onGroupChanged(GroupChangedEvent.updated(bts.getGroupId(), bts, 12));
+
+        awaitUntil(() -> emitter.events.size() == 3);
+        assertThat(emitter.events.get(0)).contains("groupName=IVE").contains("id:" + from.encode());
+        assertThat(emitter.events.get(1)).contains("groupName=BTS")
+                .contains("id:" + new ChangeCursor(10, bts.getGroupId()).encode());
+        assertThat(emitter.events.get(2)).contains("id:" + new ChangeCursor(12, bts.getGroupId()).encode());
+    }
+
+    @Test
+    void slowSubscriber_ShouldBeDroppedWithoutBlockingWriters() {
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingEmitter slow = new RecordingEmitter(release);
+        stream.subscribe(null, slow);
+
+        for (int seq = 1; seq <= 10; seq++) {
+            stream.onGroupChanged(GroupChangedEvent.updated(bts.getGroupId(), bts, seq));
+        }
+        assertThat(stream.droppedCount()).isEqualTo(1);
+
+        release.countDown();
+        awaitUntil(() -> slow.completed && stream.subscriberCount() == 0);
+        assertThat(slow.events.get(slow.events.size() - 1)).contains("event:overflow");
+    }
+
+    @Test
+    void subscribe_BeyondLimit_ShouldBeRefused() {
+        GroupChangeStream limited = new GroupChangeStream(service, 2, 1, Duration.ofSeconds(30));
+        try {
+            assertThat(limited.subscribe(null)).isPresent();
+            assertThat(limited.subscribe(null)).isEmpty();
+        } finally {
+            limited.shutdown();
+        }
+    }
+
+    private static GroupChangeFeedDTO emptyPage(ChangeCursor cursor) {
+        return GroupChangeFeedDTO.builder().changes(List.of()).nextCursor(cursor.encode()).hasMore(false).build();
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("Condition not met within 5 seconds");
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    private static final class RecordingEmitter extends SseEmitter {
+
+        private final List<String> events = new CopyOnWriteArrayList<>();
+        private final CountDownLatch gate;
+        private volatile boolean completed;
+
+        private RecordingEmitter(CountDownLatch gate) {
+            this.gate = gate;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (gate != null) {
+                try {
+                    gate.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException(e);
+                }
+            }
+            events.add(builder.build().stream()
+                    .map(part -> String.valueOf(part.getData()))
+                    .collect(Collectors.joining()));
+        }
+
+        @Override
+        public synchronized void complete() {
+            completed = true;
+        }
+    }
+}
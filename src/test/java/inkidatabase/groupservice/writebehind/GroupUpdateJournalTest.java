@@ -0,0 +1,77 @@
+package inkidatabase.groupservice.writebehind;
+
+import inkidatabase.groupservice.dto.UpdateGroupRequest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GroupUpdateJournalTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void replay_ShouldReturnUpdatesFromPreviousRun() throws Exception {
+        UUID groupId = UUID.randomUUID();
+        UpdateGroupRequest request = UpdateGroupRequest.builder()
+                .groupName("BTS")
+                .members(Arrays.asList("RM", null, "Jin"))
+                .debutYear(2013)
+                .socialLinks(List.of())
+                .build();
+        GroupUpdateJournal journal = new GroupUpdateJournal(dir, true);
+        journal.append(groupId, request);
+        journal.close();
+
+        List<GroupUpdateJournal.Entry> replayed = new GroupUpdateJournal(dir, true).replay();
+
+        assertThat(replayed).hasSize(1);
+        assertThat(replayed.get(0).groupId()).isEqualTo(groupId);
+        assertThat(replayed.get(0).request()).isEqualTo(request);
+        assertThat(replayed.get(0).request().getAgency()).isNull();
+        assertThat(replayed.get(0).request().getLabels()).isNull();
+    }
+
+    @Test
+    void replay_ShouldStopAtTornRecord() throws Exception {
+        GroupUpdateJournal journal = new GroupUpdateJournal(dir, false);
+        journal.append(UUID.randomUUID(), UpdateGroupRequest.builder().groupName("TWICE").build());
+        journal.append(UUID.randomUUID(), UpdateGroupRequest.builder().groupName("aespa").build());
+        journal.close();
+        Path segment = segments().get(0);
+        byte[] bytes = Files.readAllBytes(segment);
+        Files.write(segment, Arrays.copyOf(bytes, bytes.length - 3));
+
+        List<GroupUpdateJournal.Entry> replayed = new GroupUpdateJournal(dir, false).replay();
+
+        assertThat(replayed).extracting(entry -> entry.request().getGroupName()).containsExactly("TWICE");
+    }
+
+    @Test
+    void rotate_ShouldHandOffWrittenSegmentsForDeletion() throws Exception {
+        GroupUpdateJournal journal = new GroupUpdateJournal(dir, false);
+        journal.append(UUID.randomUUID(), UpdateGroupRequest.builder().agency("HYBE").build());
+
+        List<Path> handedOff = journal.rotate();
+        assertThat(handedOff).hasSize(1);
+        assertThat(journal.rotate()).isEmpty();
+
+        journal.delete(handedOff);
+        journal.close();
+        assertThat(segments()).isEmpty();
+    }
+
+    private List<Path> segments() throws Exception {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.sorted().toList();
+        }
+    }
+}
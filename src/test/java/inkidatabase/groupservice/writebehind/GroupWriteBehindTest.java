@@ -0,0 +1,196 @@
+package inkidatabase.groupservice.writebehind;
+
+import inkidatabase.groupservice.dto.UpdateGroupRequest;
+import inkidatabase.groupservice.service.GroupService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class GroupWriteBehindTest {
+
+    @Mock
+    private GroupService service;
+
+    @TempDir
+    Path dir;
+
+    private GroupWriteBehind writeBehind;
+    private UUID bts;
+    private UUID twice;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        writeBehind = new GroupWriteBehind(service, true, dir, false, 100, 3);
+        writeBehind.open();
+        bts = UUID.randomUUID();
+        twice = UUID.randomUUID();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        writeBehind.shutdown();
+    }
+
+    @Test
+    void merge_ShouldKeepLastScalarAndUnionCollections() {
+        UpdateGroupRequest earlier = UpdateGroupRequest.builder()
+                .groupName("Bangtan")
+                .agency("Big Hit")
+                .members(List.of("RM", "Jin"))
+                .build();
+        UpdateGroupRequest later = UpdateGroupRequest.builder()
+                .groupName("BTS")
+                .members(List.of("Jin", "Suga"))
+                .socialLinks(List.of("https://x.com/bts_bighit"))
+                .build();
+
+        UpdateGroupRequest merged = GroupWriteBehind.merge(earlier, later);
+
+        assertThat(merged.getGroupName()).isEqualTo("BTS");
+        assertThat(merged.getAgency()).isEqualTo("Big Hit");
+        assertThat(merged.getMembers()).containsExactly("RM", "Jin", "Suga");
+        assertThat(merged.getSocialLinks()).containsExactly("https://x.com/bts_bighit");
+        assertThat(merged.getLabels()).isNull();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void flush_ShouldApplyOneCoalescedUpdatePerGroup() {
+        writeBehind.accept(bts, UpdateGroupRequest.builder().members(List.of("RM")).build());
+        writeBehind.accept(bts, UpdateGroupRequest.builder().members(List.of("Jin")).build());
+        writeBehind.accept(twice, UpdateGroupRequest.builder().agency("JYP").build());
+        assertThat(writeBehind.pendingCount()).isEqualTo(2);
+
+        writeBehind.flush();
+
+        ArgumentCaptor<Map<UUID, UpdateGroupRequest>> batch = ArgumentCaptor.forClass(Map.class);
+        verify(service).updateAll(batch.capture());
+        assertThat(batch.getValue()).containsOnlyKeys(bts, twice);
+        assertThat(batch.getValue().get(bts).getMembers()).containsExactly("RM", "Jin");
+        assertThat(writeBehind.pendingCount()).isZero();
+        assertThat(writeBehind.acceptedCount()).isEqualTo(3);
+        assertThat(writeBehind.appliedCount()).isEqualTo(2);
+    }
+
+    @Test
+    void flush_WhenBatchFails_ShouldKeepUpdatesForNextFlush() {
+        when(service.updateAll(anyMap())).thenThrow(new IllegalStateException("database unavailable"))
+                .thenReturn(List.of());
+        writeBehind.accept(bts, UpdateGroupRequest.builder().groupName("BTS").build());
+
+        writeBehind.flush();
+        assertThat(writeBehind.pendingCount()).isEqualTo(1);
+        assertThat(writeBehind.failureCount()).isEqualTo(1);
+
+        writeBehind.flush();
+        verify(service, times(2)).updateAll(anyMap());
+        assertThat(writeBehind.pendingCount()).isZero();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void flush_WhenOneUpdateInBatchFails_ShouldStillApplyTheOthers() {
+        when(service.updateAll(anyMap())).thenAnswer(invocation -> {
+            if (((Map<UUID, UpdateGroupRequest>) invocation.getArgument(0)).containsKey(bts)) {
+                throw new IllegalArgumentException("Group name must not be blank");
+            }
+            return List.of();
+        });
+        writeBehind.accept(bts, UpdateGroupRequest.builder().groupName(" ").build());
+        writeBehind.accept(twice, UpdateGroupRequest.builder().agency("JYP").build());
+
+        writeBehind.flush();
+
+        verify(service).updateAll(Map.of(twice, UpdateGroupRequest.builder().agency("JYP").build()));
+        assertThat(writeBehind.appliedCount()).isEqualTo(1);
+        assertThat(writeBehind.pendingCount()).isEqualTo(1);
+    }
+
+    @Test
+    void flush_WhenUpdateKeepsFailing_ShouldMoveItToDeadLetters() throws Exception {
+        when(service.updateAll(anyMap())).thenThrow(new IllegalArgumentException("Group name must not be blank"));
+        writeBehind.accept(bts, UpdateGroupRequest.builder().groupName(" ").build());
+
+        writeBehind.flush();
+        writeBehind.flush();
+        assertThat(writeBehind.pendingCount()).isEqualTo(1);
+        writeBehind.flush();
+
+        assertThat(writeBehind.pendingCount()).isZero();
+        assertThat(writeBehind.deadLetteredCount()).isEqualTo(1);
+        writeBehind.flush();
+        verify(service, times(3)).updateAll(anyMap());
+
+        GroupUpdateJournal deadLetters = new GroupUpdateJournal(dir.resolve("dead-letter"), false);
+        assertThat(deadLetters.replay()).containsExactly(
+                new GroupUpdateJournal.Entry(bts, UpdateGroupRequest.builder().groupName(" ").build()));
+        deadLetters.close();
+        GroupWriteBehind restarted = new GroupWriteBehind(service, true, dir, false, 100, 3);
+        restarted.open();
+        assertThat(restarted.pendingCount()).isZero();
+        restarted.shutdown();
+    }
+
+    @Test
+    void flushGroup_ShouldApplyQueuedUpdateOnlyWhenOneIsPending() {
+        assertThat(writeBehind.flush(bts)).isTrue();
+        verify(service, never()).updateAll(anyMap());
+
+        writeBehind.accept(bts, UpdateGroupRequest.builder().agency("HYBE").build());
+
+        assertThat(writeBehind.flush(bts)).isTrue();
+        verify(service).updateAll(Map.of(bts, UpdateGroupRequest.builder().agency("HYBE").build()));
+        assertThat(writeBehind.pendingCount()).isZero();
+    }
+
+    @Test
+    void flushGroup_WhenQueuedUpdateFails_ShouldReportItStillPending() {
+        when(service.updateAll(anyMap())).thenThrow(new IllegalStateException("database unavailable"));
+        writeBehind.accept(bts, UpdateGroupRequest.builder().agency("HYBE").build());
+
+        assertThat(writeBehind.flush(bts)).isFalse();
+    }
+
+    @Test
+    void open_ShouldRecoverUpdatesJournaledBeforeCrash() throws Exception {
+        writeBehind.accept(bts, UpdateGroupRequest.builder().debutYear(2013).build());
+
+        GroupWriteBehind restarted = new GroupWriteBehind(service, true, dir, false, 100, 3);
+        restarted.open();
+
+        assertThat(restarted.pendingCount()).isEqualTo(1);
+        restarted.flush();
+        verify(service).updateAll(Map.of(bts, UpdateGroupRequest.builder().debutYear(2013).build()));
+        restarted.shutdown();
+    }
+
+    @Test
+    void accept_WhenDisabled_ShouldBeRejected() throws Exception {
+        GroupWriteBehind disabled = new GroupWriteBehind(service, false, dir, false, 100, 3);
+        disabled.open();
+
+        assertThatThrownBy(() -> disabled.accept(bts, UpdateGroupRequest.builder().build()))
+                .isInstanceOf(IllegalStateException.class);
+        disabled.flush();
+        verify(service, never()).updateAll(anyMap());
+    }
+}